@@ -105,6 +105,10 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
         if (engineJobServiceConfiguration != null) {
             engineJobServiceConfiguration.getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // External worker jobs of both engines are acquired through the same acquisition, so they share the waiting acquisitions
+            cmmnEngineConfiguration.getJobServiceConfiguration()
+                    .setExternalWorkerJobAcquireNotifier(engineJobServiceConfiguration.getExternalWorkerJobAcquireNotifier());
         }
 
 
@@ -59,6 +59,7 @@ import org.flowable.cmmn.engine.impl.DefaultCmmnHistoryCleaningManager;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaFactory;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaSessionFactory;
 import org.flowable.cmmn.engine.impl.agenda.DefaultCmmnEngineAgendaFactory;
+import org.flowable.cmmn.engine.impl.agenda.TracingAgendaOperationRunner;
 import org.flowable.cmmn.engine.impl.callback.ChildBpmnCaseInstanceStateChangeCallback;
 import org.flowable.cmmn.engine.impl.callback.ChildCaseInstanceStateChangeCallback;
 import org.flowable.cmmn.engine.impl.callback.DefaultInternalCmmnJobManager;
@@ -238,6 +239,7 @@ import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
@@ -286,6 +288,7 @@ import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndexInvalidationHook;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
@@ -445,6 +448,17 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected HistoryLevel historyLevel = HistoryLevel.AUDIT;
     protected boolean enableCaseDefinitionHistoryLevel;
 
+    /**
+     * When enabled, fetching a case instance also fetches all plan item instances (including the ended ones) and sentry part instances
+     * of that case instance in one go. Later lookups for the same case instance within the same command are then served from the entity cache.
+     */
+    protected boolean enableEagerCaseTreeFetching;
+
+    /**
+     * When enabled together with {@link #enableEagerCaseTreeFetching}, the variables of the case instance and its plan item instances are fetched as well.
+     */
+    protected boolean enableEagerCaseTreeVariableFetching;
+
     protected ExpressionManager expressionManager;
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
@@ -727,6 +741,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected boolean eventRegistryStartCaseInstanceAsync = false;
 
+    /**
+     * Whether the default {@link EventRegistryEventConsumer} should use an in-memory correlation index of the event subscriptions,
+     * so that events without a matching event subscription are discarded without querying the database.
+     * Subscriptions created by other engines of a cluster are seen through the invalidation hook, which publishes the changed event types
+     * to the other engines. Without a hook, a miss is only trusted after checking that the subscriptions of the event type did not change in the database.
+     * The verification interval (in milliseconds) is the time during which a verified miss is trusted without checking again,
+     * subscriptions created by other engines can be missed during that time. 0 checks on every miss.
+     */
+    protected boolean enableEventRegistryCorrelationIndex;
+    protected long eventRegistryCorrelationIndexVerificationInterval = EventSubscriptionServiceConfiguration.DEFAULT_CORRELATION_INDEX_VERIFICATION_INTERVAL;
+    protected EventSubscriptionCorrelationIndexInvalidationHook eventRegistryCorrelationIndexInvalidationHook;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -1044,6 +1070,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    @Override
+    protected AgendaOperationRunner createTracingAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return new TracingAgendaOperationRunner(tracer, agendaOperationRunner);
+    }
+
     @Override
     public void initSessionFactories() {
         super.initSessionFactories();
@@ -1658,6 +1689,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableCorrelationIndex(this.enableEventRegistryCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexVerificationInterval(this.eventRegistryCorrelationIndexVerificationInterval);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexInvalidationHook(this.eventRegistryCorrelationIndexInvalidationHook);
         
         this.eventSubscriptionServiceConfiguration.init();
 
@@ -1793,6 +1827,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setTracer(this.tracer);
     
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -2048,6 +2083,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Only shutdown if it was created by this configuration
             asyncHistoryTaskExecutor.shutdown();
         }
+
+        if (jobServiceConfiguration != null && jobServiceConfiguration.getExternalWorkerJobAcquireNotifier() != null) {
+            jobServiceConfiguration.getExternalWorkerJobAcquireNotifier().shutdown();
+        }
     }
 
     @Override
@@ -2730,6 +2769,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableEagerCaseTreeFetching() {
+        return enableEagerCaseTreeFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerCaseTreeFetching(boolean enableEagerCaseTreeFetching) {
+        this.enableEagerCaseTreeFetching = enableEagerCaseTreeFetching;
+        return this;
+    }
+
+    public boolean isEnableEagerCaseTreeVariableFetching() {
+        return enableEagerCaseTreeVariableFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerCaseTreeVariableFetching(boolean enableEagerCaseTreeVariableFetching) {
+        this.enableEagerCaseTreeVariableFetching = enableEagerCaseTreeVariableFetching;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3244,6 +3301,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableEventRegistryCorrelationIndex() {
+        return enableEventRegistryCorrelationIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableEventRegistryCorrelationIndex(boolean enableEventRegistryCorrelationIndex) {
+        this.enableEventRegistryCorrelationIndex = enableEventRegistryCorrelationIndex;
+        return this;
+    }
+
+    public long getEventRegistryCorrelationIndexVerificationInterval() {
+        return eventRegistryCorrelationIndexVerificationInterval;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryCorrelationIndexVerificationInterval(long eventRegistryCorrelationIndexVerificationInterval) {
+        this.eventRegistryCorrelationIndexVerificationInterval = eventRegistryCorrelationIndexVerificationInterval;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndexInvalidationHook getEventRegistryCorrelationIndexInvalidationHook() {
+        return eventRegistryCorrelationIndexInvalidationHook;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryCorrelationIndexInvalidationHook(EventSubscriptionCorrelationIndexInvalidationHook eventRegistryCorrelationIndexInvalidationHook) {
+        this.eventRegistryCorrelationIndexInvalidationHook = eventRegistryCorrelationIndexInvalidationHook;
+        return this;
+    }
+
     public AsyncJobExecutorConfiguration getAsyncExecutorConfiguration() {
         return asyncExecutorConfiguration;
     }
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.agenda;
+
+import org.flowable.cmmn.engine.impl.agenda.operation.AbstractPlanItemInstanceOperation;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.tracing.AbstractTracingAgendaOperationRunner;
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+
+/**
+ * Creates a span for every plan item instance operation, named after the plan item definition the operation is executed for.
+ */
+public class TracingAgendaOperationRunner extends AbstractTracingAgendaOperationRunner {
+
+    public static final String ATTRIBUTE_ELEMENT_ID = "flowable.element.id";
+    public static final String ATTRIBUTE_ELEMENT_NAME = "flowable.element.name";
+    public static final String ATTRIBUTE_ELEMENT_TYPE = "flowable.element.type";
+    public static final String ATTRIBUTE_OPERATION = "flowable.operation";
+    public static final String ATTRIBUTE_CASE_INSTANCE_ID = "flowable.caseInstanceId";
+    public static final String ATTRIBUTE_CASE_DEFINITION_ID = "flowable.caseDefinitionId";
+    public static final String ATTRIBUTE_PLAN_ITEM_INSTANCE_ID = "flowable.planItemInstanceId";
+
+    public TracingAgendaOperationRunner(FlowableTracer tracer, AgendaOperationRunner delegate) {
+        super(tracer, delegate);
+    }
+
+    @Override
+    protected String getSpanName(Runnable operation) {
+        if (operation instanceof AbstractPlanItemInstanceOperation) {
+            PlanItemInstanceEntity planItemInstanceEntity = ((AbstractPlanItemInstanceOperation) operation).getPlanItemInstanceEntity();
+            if (planItemInstanceEntity != null && planItemInstanceEntity.getPlanItemDefinitionId() != null) {
+                return ScopeTypes.CMMN + " " + planItemInstanceEntity.getPlanItemDefinitionId();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void addAttributes(FlowableSpan span, Runnable operation) {
+        PlanItemInstanceEntity planItemInstanceEntity = ((AbstractPlanItemInstanceOperation) operation).getPlanItemInstanceEntity();
+        span.setAttribute(ATTRIBUTE_ELEMENT_ID, planItemInstanceEntity.getPlanItemDefinitionId());
+        span.setAttribute(ATTRIBUTE_ELEMENT_NAME, planItemInstanceEntity.getName());
+        span.setAttribute(ATTRIBUTE_ELEMENT_TYPE, planItemInstanceEntity.getPlanItemDefinitionType());
+        span.setAttribute(ATTRIBUTE_OPERATION, operation.getClass().getSimpleName());
+        span.setAttribute(ATTRIBUTE_CASE_INSTANCE_ID, planItemInstanceEntity.getCaseInstanceId());
+        span.setAttribute(ATTRIBUTE_CASE_DEFINITION_ID, planItemInstanceEntity.getCaseDefinitionId());
+        span.setAttribute(ATTRIBUTE_PLAN_ITEM_INSTANCE_ID, planItemInstanceEntity.getId());
+    }
+
+}
@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -74,6 +75,8 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    protected SentryDependencyIndex sentryDependencyIndex;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -526,6 +529,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
 
+            if (!isCriterionAffected(entityWithSentryPartInstances, criterion)) {
+                continue;
+            }
+
             Sentry sentry = criterion.getSentry();
 
             // There can be zero or more on parts and zero or one if part.
@@ -640,6 +647,41 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return null;
     }
 
+    /**
+     * Uses the sentry dependency index of the case definition to determine if the given criterion needs to be evaluated.
+     * A criterion without an if-part and without any on-part matching the current lifecycle event can only be satisfied
+     * if it has multiple on-parts and some of them were satisfied before, so it is skipped otherwise.
+     */
+    protected boolean isCriterionAffected(EntityWithSentryPartInstances entityWithSentryPartInstances, Criterion criterion) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
+        if (sentryDependencyIndex == null || sentryDependencyIndex.isAffectedBy(criterion, planItemLifeCycleEvent)) {
+            return true;
+        }
+
+        if (criterion.getSentry().getOnParts().size() > 1) {
+            return hasSatisfiedSentryPartInstances(entityWithSentryPartInstances);
+        }
+
+        return false;
+    }
+
+    protected boolean hasSatisfiedSentryPartInstances(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        if (entityWithSentryPartInstances instanceof CountingPlanItemInstanceEntity
+                && ((CountingPlanItemInstanceEntity) entityWithSentryPartInstances).getSentryPartInstanceCount() == 0) {
+
+            // No persisted sentry parts: this doesn't need a query, but still returns the sentry parts satisfied in the onEvent trigger mode
+            return !entityWithSentryPartInstances.getSatisfiedSentryPartInstances().isEmpty();
+        }
+        return true;
+    }
+
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (sentryDependencyIndex == null && caseInstanceEntity != null) {
+            sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+        }
+        return sentryDependencyIndex;
+    }
+
     protected boolean evaluateAvailableCondition(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         PlanItem planItem = planItemInstanceEntity.getPlanItem();
         if (isEventListenerWithAvailableCondition(planItem)) {
@@ -12,17 +12,27 @@
  */
 package org.flowable.cmmn.engine.impl.callback;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
@@ -32,6 +42,7 @@ import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -52,6 +63,74 @@ public class DefaultInternalCmmnJobManager extends ScopeAwareInternalJobManager
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        // The ids of the scopes whose variables are visible to a job, starting with the plan item instance of the job,
+        // followed by its stages and ending with the case instance
+        Map<String, List<String>> scopeIdsByJobId = new HashMap<>();
+        Set<String> caseInstanceIds = new HashSet<>();
+        PlanItemInstanceEntityManager planItemInstanceEntityManager = cmmnEngineConfiguration.getPlanItemInstanceEntityManager();
+        for (Job job : jobs) {
+            if (job.getSubScopeId() != null) {
+                PlanItemInstanceEntity planItemInstance = planItemInstanceEntityManager.findById(job.getSubScopeId());
+                if (planItemInstance != null) {
+                    List<String> scopeIds = new ArrayList<>();
+                    scopeIds.add(planItemInstance.getId());
+                    String stageInstanceId = planItemInstance.getStageInstanceId();
+                    while (stageInstanceId != null) {
+                        scopeIds.add(stageInstanceId);
+                        PlanItemInstanceEntity stageInstance = planItemInstanceEntityManager.findById(stageInstanceId);
+                        stageInstanceId = stageInstance != null ? stageInstance.getStageInstanceId() : null;
+                    }
+                    scopeIds.add(planItemInstance.getCaseInstanceId());
+
+                    scopeIdsByJobId.put(job.getId(), scopeIds);
+                    caseInstanceIds.add(planItemInstance.getCaseInstanceId());
+                }
+            }
+        }
+
+        if (caseInstanceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // The variables of all jobs are fetched with one query
+        List<VariableInstanceEntity> variableInstances = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .scopeIds(caseInstanceIds)
+                .scopeType(ScopeTypes.CMMN)
+                .withoutTaskId()
+                .names(variableNames)
+                .list();
+
+        // Variables of a plan item instance have the plan item instance as sub scope, variables of the case instance have no sub scope
+        Map<String, List<VariableInstanceEntity>> variableInstancesByScopeId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            String scopeId = variableInstance.getSubScopeId() != null ? variableInstance.getSubScopeId() : variableInstance.getScopeId();
+            variableInstancesByScopeId.computeIfAbsent(scopeId, key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : scopeIdsByJobId.entrySet()) {
+            Map<String, Object> variables = new HashMap<>();
+
+            // Going from the case instance down to the plan item instance, so that local variables override the ones of the parent scopes
+            List<String> scopeIds = entry.getValue();
+            for (int i = scopeIds.size() - 1; i >= 0; i--) {
+                List<VariableInstanceEntity> scopeVariableInstances = variableInstancesByScopeId.get(scopeIds.get(i));
+                if (scopeVariableInstances != null) {
+                    for (VariableInstanceEntity variableInstance : scopeVariableInstances) {
+                        variables.put(variableInstance.getName(), variableInstance.getValue());
+                    }
+                }
+            }
+
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // Currently, nothing extra needed (but counting relationships can be added later here).
@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemDefinition;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Index built at deployment time, mapping each (plan item, lifecycle transition) combination to the criteria having an on-part listening to it.
+ *
+ * During criteria evaluation, this allows to skip the criteria that can't possibly be satisfied by the current lifecycle event:
+ * a criterion is only affected by an event if one of its on-parts matches it, or if it has an if-part
+ * (an if-part condition can depend on any state, so it always needs to be evaluated) or no parts at all.
+ */
+public class SentryDependencyIndex {
+
+    protected Map<String, Set<String>> criterionIdsByLifeCycleEvent = new HashMap<>();
+    protected Set<String> alwaysEvaluatedCriterionIds = new HashSet<>();
+    protected Set<String> indexedCriterionIds = new HashSet<>();
+
+    public static SentryDependencyIndex build(Case caze) {
+        SentryDependencyIndex sentryDependencyIndex = new SentryDependencyIndex();
+        if (caze != null && caze.getPlanModel() != null) {
+            sentryDependencyIndex.addCriteria(caze.getPlanModel().getExitCriteria());
+            sentryDependencyIndex.addPlanFragment(caze.getPlanModel());
+        }
+        return sentryDependencyIndex;
+    }
+
+    protected void addPlanFragment(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            addCriteria(planItem.getEntryCriteria());
+            addCriteria(planItem.getExitCriteria());
+
+            PlanItemDefinition planItemDefinition = planItem.getPlanItemDefinition();
+            if (planItemDefinition instanceof PlanFragment) {
+                addPlanFragment((PlanFragment) planItemDefinition);
+            }
+        }
+    }
+
+    protected void addCriteria(List<Criterion> criteria) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (criterion.getId() == null || sentry == null) {
+                continue;
+            }
+
+            indexedCriterionIds.add(criterion.getId());
+            if (sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty()) {
+                alwaysEvaluatedCriterionIds.add(criterion.getId());
+            }
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                criterionIdsByLifeCycleEvent
+                    .computeIfAbsent(getLifeCycleEventKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>())
+                    .add(criterion.getId());
+            }
+        }
+    }
+
+    /**
+     * @return true, if the given criterion needs to be evaluated for the given lifecycle event (which can be null, e.g. when evaluating after a variable change).
+     *          Criteria that are not part of this index are always considered to be affected.
+     */
+    public boolean isAffectedBy(Criterion criterion, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        String criterionId = criterion.getId();
+        if (criterionId == null || !indexedCriterionIds.contains(criterionId) || alwaysEvaluatedCriterionIds.contains(criterionId)) {
+            return true;
+        }
+
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return false;
+        }
+
+        return getCriterionIds(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()).contains(criterionId);
+    }
+
+    public Set<String> getCriterionIds(String planItemId, String transition) {
+        return criterionIdsByLifeCycleEvent.getOrDefault(getLifeCycleEventKey(planItemId, transition), Collections.emptySet());
+    }
+
+    protected String getLifeCycleEventKey(String planItemId, String transition) {
+        return planItemId + "#" + transition;
+    }
+
+}
@@ -32,6 +32,7 @@ import org.flowable.eventregistry.impl.constant.EventConstants;
 import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
@@ -74,6 +75,13 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
+        handleEventsWithBatchedLookup(ScopeTypes.CMMN, eventInstances,
+                (eventSubscription, eventInstance, correlationKeys) -> handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys));
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -152,6 +160,11 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected EventSubscriptionCorrelationIndex getEventSubscriptionCorrelationIndex() {
+        return cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCorrelationIndex();
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
@@ -25,12 +25,15 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -91,6 +94,12 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             throw new FlowableIllegalArgumentException("selectCaseInstanceEagerFetchPlanItemInstances needs either caseInstanceId or planItemInstanceId");
         }
 
+        // With eager case tree fetching, the ended plan item instances are fetched in the same query
+        boolean eagerCaseTreeFetching = cmmnEngineConfiguration.isEnableEagerCaseTreeFetching();
+        if (eagerCaseTreeFetching) {
+            params.put("includeEndedPlanItemInstances", true);
+        }
+
         // The case instance will be fetched and will have all plan item instances in the childPlanItemInstances property.
         // Those children need to be properly moved to the correct parent
         CaseInstanceEntityImpl caseInstanceEntity = (CaseInstanceEntityImpl) getDbSqlSession().selectOne("selectCaseInstanceEagerFetchPlanItemInstances", params);
@@ -98,12 +107,14 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         if (caseInstanceEntity != null) {
             List<PlanItemInstanceEntity> allPlanItemInstances = caseInstanceEntity.getChildPlanItemInstances();
             ArrayList<PlanItemInstanceEntity> directPlanItemInstances = new ArrayList<>();
+            ArrayList<PlanItemInstanceEntity> fetchedPlanItemInstances = new ArrayList<>(allPlanItemInstances.size());
             HashMap<String, PlanItemInstanceEntity> planItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
 
             // Map all plan item instances to its id
             for (PlanItemInstanceEntity planItemInstanceEntity : allPlanItemInstances) {
 
                 PlanItemInstanceEntity currentPlanItemInstanceEntity = planItemInstanceEntity;
+                boolean ended = planItemInstanceEntity.getEndedTime() != null;
 
                 // If it's already in the cache, it has precedence on the fetched one
                 PlanItemInstanceEntity planItemInstanceFromCache = entityCache.findInCache(PlanItemInstanceEntityImpl.class, planItemInstanceEntity.getId());
@@ -119,14 +130,18 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
 
                     // Cache
                     entityCache.put(planItemInstanceEntity, true);
+                    fetchedPlanItemInstances.add(planItemInstanceEntity);
 
                     // Always add empty list, so no check is needed later and plan items
-                    // without children have a non-null value, not triggering the fetch
-                    currentPlanItemInstanceEntity.setChildPlanItemInstances(new ArrayList<>());
+                    // without children have a non-null value, not triggering the fetch.
+                    // Ended plan item instances are not part of the runtime tree, their children are looked up from the cache when needed.
+                    if (!ended) {
+                        currentPlanItemInstanceEntity.setChildPlanItemInstances(new ArrayList<>());
+                    }
                 }
 
                 // plan items of case plan model
-                if (currentPlanItemInstanceEntity.getStageInstanceId() == null) {
+                if (!ended && currentPlanItemInstanceEntity.getStageInstanceId() == null) {
                     directPlanItemInstances.add(currentPlanItemInstanceEntity);
                 }
 
@@ -135,7 +150,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             // Add to correct parent
             if (directPlanItemInstances.size() != planItemInstanceMap.size()) {
                 for (PlanItemInstanceEntity planItemInstanceEntity : allPlanItemInstances) {
-                    if (planItemInstanceEntity.getStageInstanceId() != null) {
+                    if (planItemInstanceEntity.getEndedTime() == null && planItemInstanceEntity.getStageInstanceId() != null) {
                         PlanItemInstanceEntity parentPlanItemInstanceEntity = planItemInstanceMap.get(planItemInstanceEntity.getStageInstanceId());
 
                         // It can happen the parent plan item instance does not exist:
@@ -150,6 +165,11 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             }
 
             caseInstanceEntity.setChildPlanItemInstances(directPlanItemInstances);
+
+            if (eagerCaseTreeFetching) {
+                fetchCaseTree(caseInstanceEntity, fetchedPlanItemInstances);
+            }
+
             return caseInstanceEntity;
 
         } else {
@@ -158,6 +178,61 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    /**
+     * Fetches the remaining parts of the case instance tree (the sentry part instances and optionally the variables) with one query per entity type
+     * and hands them to the fetched entities, so they don't need to be fetched one by one later on.
+     * All plan item instances, including the ended ones, are already in the entity cache at this point.
+     */
+    protected void fetchCaseTree(CaseInstanceEntity caseInstanceEntity, List<PlanItemInstanceEntity> fetchedPlanItemInstances) {
+        String caseInstanceId = caseInstanceEntity.getId();
+
+        Map<String, List<SentryPartInstanceEntity>> sentryPartInstancesByPlanItemInstanceId = new HashMap<>();
+        List<SentryPartInstanceEntity> caseSentryPartInstances = new ArrayList<>(1);
+        for (SentryPartInstanceEntity sentryPartInstanceEntity : cmmnEngineConfiguration.getSentryPartInstanceDataManager()
+                .findSentryPartInstancesByCaseInstanceId(caseInstanceId)) {
+
+            if (sentryPartInstanceEntity.getPlanItemInstanceId() != null) {
+                sentryPartInstancesByPlanItemInstanceId.computeIfAbsent(sentryPartInstanceEntity.getPlanItemInstanceId(), key -> new ArrayList<>(1))
+                        .add(sentryPartInstanceEntity);
+            } else {
+                caseSentryPartInstances.add(sentryPartInstanceEntity);
+            }
+        }
+
+        caseInstanceEntity.setSatisfiedSentryPartInstances(caseSentryPartInstances);
+        for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstances) {
+            planItemInstanceEntity.setSatisfiedSentryPartInstances(
+                    sentryPartInstancesByPlanItemInstanceId.getOrDefault(planItemInstanceEntity.getId(), new ArrayList<>(1)));
+        }
+
+        if (cmmnEngineConfiguration.isEnableEagerCaseTreeVariableFetching()) {
+            Map<String, VariableInstanceEntity> caseVariableInstances = new HashMap<>();
+            Map<String, Map<String, VariableInstanceEntity>> variableInstancesBySubScopeId = new HashMap<>();
+            List<VariableInstanceEntity> variableInstances = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .scopeId(caseInstanceId)
+                    .scopeType(ScopeTypes.CMMN)
+                    .list();
+
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                if (variableInstance.getSubScopeId() != null) {
+                    variableInstancesBySubScopeId.computeIfAbsent(variableInstance.getSubScopeId(), key -> new HashMap<>())
+                            .put(variableInstance.getName(), variableInstance);
+                } else {
+                    caseVariableInstances.put(variableInstance.getName(), variableInstance);
+                }
+            }
+
+            ((CaseInstanceEntityImpl) caseInstanceEntity).internalSetVariableInstances(caseVariableInstances);
+            for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstances) {
+                ((PlanItemInstanceEntityImpl) planItemInstanceEntity).internalSetVariableInstances(
+                        variableInstancesBySubScopeId.getOrDefault(planItemInstanceEntity.getId(), new HashMap<>()));
+            }
+        }
+
+        CommandContextUtil.addFetchedCaseTreeCaseInstanceId(CommandContextUtil.getCommandContext(), caseInstanceId);
+    }
+
     @Override
     public List<CaseInstanceEntity> findCaseInstancesByCaseDefinitionId(String caseDefinitionId) {
         return getList("selectCaseInstancesByCaseDefinitionId", caseDefinitionId, caseInstanceByCaseDefinitionIdMatcher, true);
@@ -24,6 +24,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityIm
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.PlanItemInstanceDataManager;
 import org.flowable.cmmn.engine.impl.runtime.PlanItemInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 
@@ -83,11 +84,17 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
     
     @Override
     public List<PlanItemInstanceEntity> findByCaseInstanceId(String caseInstanceId) {
+        if (isCaseTreeFetched(caseInstanceId)) {
+            return getListFromCache(planItemInstanceByCaseInstanceIdCachedEntityMatcher, caseInstanceId);
+        }
         return getList("selectPlanItemInstancesByCaseInstanceId", caseInstanceId, planItemInstanceByCaseInstanceIdCachedEntityMatcher, true);
     }
 
     @Override
     public List<PlanItemInstanceEntity> findByStagePlanItemInstanceId(String stagePlanItemInstanceId) {
+        if (isCaseTreeFetchedForStage(stagePlanItemInstanceId)) {
+            return getListFromCache(planItemInstanceByStagePlanItemInstanceIdCachedEntityMatcher, stagePlanItemInstanceId);
+        }
         return getList("selectPlanItemInstancesByStagePlanItemInstanceId", stagePlanItemInstanceId, planItemInstanceByStagePlanItemInstanceIdCachedEntityMatcher, true);
     }
 
@@ -96,6 +103,9 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
         Map<String, Object> params = new HashMap<>();
         params.put("caseInstanceId", caseInstanceId);
         params.put("planItemId", planitemId);
+        if (isCaseTreeFetched(caseInstanceId)) {
+            return getListFromCache(planItemInstanceByCaseInstanceIdAndPlanItemIdCachedEntityMatcher, params);
+        }
         return getList("selectPlanItemInstancesByCaseInstanceIdAndPlanItemId", params, planItemInstanceByCaseInstanceIdAndPlanItemIdCachedEntityMatcher);
     }
 
@@ -104,9 +114,28 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
         Map<String, Object> params = new HashMap<>();
         params.put("stageInstanceId", stageInstanceId);
         params.put("planItemId", planItemId);
+        if (isCaseTreeFetchedForStage(stageInstanceId)) {
+            return getListFromCache(planItemInstanceByStageInstanceIdAndPlanItemIdCachedEntityMatcher, params);
+        }
         return getList("selectPlanItemInstancesByStageInstanceIdAndPlanItemId", params, planItemInstanceByStageInstanceIdAndPlanItemIdCachedEntityMatcher);
     }
 
+    /**
+     * @return true, if all plan item instances of the case instance have been fetched before in the current command (see eager case tree fetching).
+     */
+    protected boolean isCaseTreeFetched(String caseInstanceId) {
+        return cmmnEngineConfiguration.isEnableEagerCaseTreeFetching() && caseInstanceId != null
+                && CommandContextUtil.isCaseTreeFetched(CommandContextUtil.getCommandContext(), caseInstanceId);
+    }
+
+    protected boolean isCaseTreeFetchedForStage(String stagePlanItemInstanceId) {
+        if (!cmmnEngineConfiguration.isEnableEagerCaseTreeFetching() || stagePlanItemInstanceId == null) {
+            return false;
+        }
+        PlanItemInstanceEntity stagePlanItemInstance = getEntityCache().findInCache(getManagedEntityClass(), stagePlanItemInstanceId);
+        return stagePlanItemInstance != null && isCaseTreeFetched(stagePlanItemInstance.getCaseInstanceId());
+    }
+
     @Override
     public long countByCriteria(PlanItemInstanceQueryImpl planItemInstanceQuery) {
         setSafeInValueLists(planItemInstanceQuery);
@@ -75,6 +75,7 @@ import org.flowable.variable.service.VariableService;
 public class CommandContextUtil {
 
     public static final String ATTRIBUTE_INVOLVED_CASE_INSTANCE_IDS = "ctx.attribute.involvedCaseInstanceIds";
+    public static final String ATTRIBUTE_FETCHED_CASE_TREE_CASE_INSTANCE_IDS = "ctx.attribute.fetchedCaseTreeCaseInstanceIds";
 
     public static CmmnEngineConfiguration getCmmnEngineConfiguration() {
         return getCmmnEngineConfiguration(getCommandContext());
@@ -478,6 +479,22 @@ public class CommandContextUtil {
          return null;
     }
 
+    @SuppressWarnings("unchecked")
+    public static void addFetchedCaseTreeCaseInstanceId(CommandContext commandContext, String caseInstanceId) {
+        Set<String> fetchedCaseInstanceIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_FETCHED_CASE_TREE_CASE_INSTANCE_IDS);
+        if (fetchedCaseInstanceIds == null) {
+            fetchedCaseInstanceIds = new HashSet<>(1);
+            commandContext.addAttribute(ATTRIBUTE_FETCHED_CASE_TREE_CASE_INSTANCE_IDS, fetchedCaseInstanceIds);
+        }
+        fetchedCaseInstanceIds.add(caseInstanceId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static boolean isCaseTreeFetched(CommandContext commandContext, String caseInstanceId) {
+        Set<String> fetchedCaseInstanceIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_FETCHED_CASE_TREE_CASE_INSTANCE_IDS);
+        return fetchedCaseInstanceIds != null && fetchedCaseInstanceIds.contains(caseInstanceId);
+    }
+
     public static CaseInstanceHelper getCaseInstanceHelper() {
         return getCaseInstanceHelper(getCommandContext());
     }
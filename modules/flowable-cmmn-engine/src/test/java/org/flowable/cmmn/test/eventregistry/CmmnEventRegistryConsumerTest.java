@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -31,6 +33,10 @@ import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.DefaultEventSubscriptionCorrelationIndex;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.task.api.Task;
 import org.junit.After;
 import org.junit.Before;
@@ -127,6 +133,91 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testGenericEventListenerWithCorrelationIndexAndSubscriptionOfOtherEngine() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex originalCorrelationIndex = eventSubscriptionServiceConfiguration.getEventSubscriptionCorrelationIndex();
+        EventSubscriptionCorrelationIndex correlationIndex = new DefaultEventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, 0);
+        try {
+            // Loads the (empty) index for the event
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+
+            // Without the index the subscription is created like on another engine of a cluster, the index does not know about it
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(null);
+            CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("singleCorrelationCase")
+                    .variable("customerIdVar", "kermit")
+                    .start();
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(1);
+
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+            inboundEventChannelAdapter.triggerTestEvent("fozzie");
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(1);
+
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(2);
+
+            // The configuration of the subscription is changed by another engine as well
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(null);
+            EventSubscription eventSubscription = cmmnRuntimeService.createEventSubscriptionQuery().scopeId(kermitCase.getId()).singleResult();
+            String gonzoConfiguration = getEventRegistryEngineConfiguration().getEventRegistry()
+                    .generateKey(Collections.singletonMap("customerId", "gonzo"));
+            cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                EventSubscriptionEntity eventSubscriptionEntity = eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager()
+                        .findById(eventSubscription.getId());
+                eventSubscriptionEntity.setConfiguration(gonzoConfiguration);
+                return null;
+            });
+
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(3);
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(originalCorrelationIndex);
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testGenericEventListenerWithCorrelationIndexAndInvalidationHook() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex originalCorrelationIndex = eventSubscriptionServiceConfiguration.getEventSubscriptionCorrelationIndex();
+        List<String> publishedEventTypes = new ArrayList<>();
+        EventSubscriptionCorrelationIndex correlationIndex = new DefaultEventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, 0);
+        EventSubscriptionCorrelationIndex otherEngineCorrelationIndex = new DefaultEventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, 0);
+        eventSubscriptionServiceConfiguration.setCorrelationIndexInvalidationHook(publishedEventTypes::addAll);
+        try {
+            // Loads the (empty) index for the event
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+
+            // The subscription is created by another engine of a cluster, which publishes the event type once committed
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(otherEngineCorrelationIndex);
+            CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("singleCorrelationCase")
+                    .variable("customerIdVar", "kermit")
+                    .start();
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(1);
+            assertThat(publishedEventTypes).containsExactly("myEvent");
+
+            // With a hook a miss is trusted without querying the database, until the published event type is received
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(1);
+
+            publishedEventTypes.forEach(correlationIndex::invalidate);
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(2);
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setCorrelationIndexInvalidationHook(null);
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(originalCorrelationIndex);
+        }
+    }
+
     @Test
     @CmmnDeployment(resources = {
             "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerNoCorrelation.cmmn",
@@ -15,6 +15,7 @@ package org.flowable.cmmn.test.externalworker;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -206,6 +207,52 @@ public class ExternalWorkerServiceTaskTest extends FlowableCmmnTestCase {
                 );
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.cmmn")
+    public void testAcquireWithVariableNames() {
+        CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("var", "Initial 1")
+                .variable("otherVar", "Other 1")
+                .start();
+        CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("var", "Initial 2")
+                .variable("otherVar", "Other 2")
+                .start();
+
+        // Local variables of the plan item instance take precedence over the variables of the case instance
+        ExternalWorkerJob externalWorkerJob = cmmnManagementService.createExternalWorkerJobQuery().caseInstanceId(caseInstance2.getId()).singleResult();
+        cmmnRuntimeService.setLocalVariable(externalWorkerJob.getSubScopeId(), "var", "Local 2");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = cmmnManagementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Collections.singletonList("var"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getScopeId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactlyInAnyOrder(
+                        tuple(caseInstance1.getId(), Collections.singletonMap("var", "Initial 1")),
+                        tuple(caseInstance2.getId(), Collections.singletonMap("var", "Local 2"))
+                );
+
+        CaseInstance caseInstance3 = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("simpleExternalWorker")
+                .variable("var", "Initial 3")
+                .start();
+
+        acquiredJobs = cmmnManagementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .withoutVariables()
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getScopeId)
+                .containsExactly(caseInstance3.getId());
+        assertThat(acquiredJobs.get(0).getVariables()).isEmpty();
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/cmmn/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.cmmn")
     public void testExternalWorkerJobDeadLetterWithVariables() {
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.mgmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.agenda.TracingAgendaOperationRunner;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableSpan;
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableTracer;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class CmmnTracingTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    protected static InMemoryFlowableTracer tracer = new InMemoryFlowableTracer();
+
+    @Override
+    protected String getEngineName() {
+        return "cmmnEngineWithTracing";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setTracer(tracer);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testPlanItemOperationSpans() {
+        tracer.reset();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+
+        InMemoryFlowableSpan startSpan = findSpan(tracer.getFinishedSpans(), "cmmn StartCaseInstanceCmd");
+        assertThat(startSpan.getParentSpanId()).isNull();
+
+        // Every operation on the human task plan item instance gets a span as child of the command span
+        List<InMemoryFlowableSpan> taskSpans = findSpans(tracer.getFinishedSpans(startSpan.getTraceId()), "cmmn theTask");
+        assertThat(taskSpans)
+                .extracting(InMemoryFlowableSpan::getParentSpanId)
+                .containsOnly(startSpan.getSpanId());
+        assertThat(taskSpans)
+                .extracting(span -> span.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_OPERATION))
+                .contains("ActivatePlanItemInstanceOperation");
+
+        InMemoryFlowableSpan activateSpan = taskSpans.stream()
+                .filter(span -> "ActivatePlanItemInstanceOperation".equals(span.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_OPERATION)))
+                .findFirst()
+                .get();
+        assertThat(activateSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_ELEMENT_ID)).isEqualTo("theTask");
+        assertThat(activateSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_ELEMENT_NAME)).isEqualTo("The Task");
+        assertThat(activateSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_CASE_INSTANCE_ID)).isEqualTo(caseInstance.getId());
+        assertThat(activateSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_CASE_DEFINITION_ID)).isEqualTo(caseInstance.getCaseDefinitionId());
+        assertThat(activateSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_PLAN_ITEM_INSTANCE_ID)).isNotNull();
+
+        tracer.reset();
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+
+        InMemoryFlowableSpan completeSpan = findSpan(tracer.getFinishedSpans(), "cmmn CompleteTaskCmd");
+        assertThat(findSpans(tracer.getFinishedSpans(completeSpan.getTraceId()), "cmmn theTask"))
+                .filteredOn(span -> completeSpan.getSpanId().equals(span.getParentSpanId()))
+                .extracting(span -> span.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_OPERATION))
+                .contains("CompletePlanItemInstanceOperation");
+
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected InMemoryFlowableSpan findSpan(List<InMemoryFlowableSpan> spans, String name) {
+        List<InMemoryFlowableSpan> matchingSpans = findSpans(spans, name);
+        assertThat(matchingSpans).isNotEmpty();
+        return matchingSpans.get(0);
+    }
+
+    protected List<InMemoryFlowableSpan> findSpans(List<InMemoryFlowableSpan> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.common.engine.api.management.SqlStatementProfile;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class EagerCaseTreeFetchingTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return "cmmnEngineWithEagerCaseTreeFetching";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setEnableEagerCaseTreeFetching(true);
+        cmmnEngineConfiguration.setEnableEagerCaseTreeVariableFetching(true);
+        cmmnEngineConfiguration.setEnableSqlProfiler(true);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryDependencyIndexTest.testSentryDependencyIndex.cmmn")
+    public void testEagerCaseTreeFetching() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryDependencyIndex")
+                .variable("activateE", false)
+                .start();
+
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+
+        Task taskB = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("B").singleResult();
+        cmmnTaskService.setVariable(taskB.getId(), "activateE", true);
+        cmmnTaskService.complete(taskB.getId());
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list())
+                .extracting(Task::getName)
+                .containsExactly("C", "E");
+
+        cmmnEngineConfiguration.getSqlProfiler().reset();
+        cmmnEngineConfiguration.getCommandExecutor().execute(new FetchCaseTreeCmd(caseInstance.getId()));
+
+        // One query for the case instance with all its plan item instances, one for the sentry part instances and one for the variables
+        CommandSqlProfile profile = cmmnEngineConfiguration.getSqlProfiler().getCommandSqlProfile(FetchCaseTreeCmd.class.getName());
+        assertThat(profile.getStatementCount()).isEqualTo(3);
+        assertThat(profile.getStatements())
+                .extracting(statement -> statement.getStatementId().substring(statement.getStatementId().lastIndexOf('.') + 1), SqlStatementProfile::getCount)
+                .containsExactlyInAnyOrder(
+                        tuple("selectCaseInstanceEagerFetchPlanItemInstances", 1L),
+                        tuple("selectSentryPartInstanceByCaseInstanceId", 1L),
+                        tuple("selectVariablesByQuery", 1L)
+                );
+
+        assertThat(cmmnRuntimeService.getVariable(caseInstance.getId(), "activateE")).isEqualTo(true);
+    }
+
+    protected static class FetchCaseTreeCmd implements Command<Void> {
+
+        protected String caseInstanceId;
+
+        public FetchCaseTreeCmd(String caseInstanceId) {
+            this.caseInstanceId = caseInstanceId;
+        }
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstanceId);
+            assertThat(CommandContextUtil.isCaseTreeFetched(commandContext, caseInstanceId)).isTrue();
+            assertThat(caseInstanceEntity.getVariable("activateE")).isEqualTo(true);
+
+            // Ended plan item instances are served from the fetched case tree
+            List<PlanItemInstanceEntity> planItemInstances = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext)
+                    .findByCaseInstanceIdAndPlanItemId(caseInstanceId, "planItemA");
+            assertThat(planItemInstances)
+                    .extracting(PlanItemInstanceEntity::getPlanItemDefinitionId, PlanItemInstanceEntity::getState)
+                    .containsExactly(tuple("taskA", PlanItemInstanceState.COMPLETED));
+
+            // The runtime tree only contains the plan item instances that are not ended
+            assertThat(caseInstanceEntity.getChildPlanItemInstances())
+                    .extracting(PlanItemInstanceEntity::getEndedTime)
+                    .containsOnlyNulls();
+            assertThat(CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findByCaseInstanceId(caseInstanceId))
+                    .hasSizeGreaterThan(caseInstanceEntity.getChildPlanItemInstances().size());
+
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class SentryDependencyIndexTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testSentryDependencyIndex() {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("sentryDependencyIndex").singleResult();
+        SentryDependencyIndex sentryDependencyIndex = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getSentryDependencyIndex();
+
+        assertThat(sentryDependencyIndex).isNotNull();
+        assertThat(sentryDependencyIndex.getCriterionIds("planItemA", "complete")).containsOnly("entryCriterionC", "exitCriterionD");
+        assertThat(sentryDependencyIndex.getCriterionIds("planItemB", "complete")).containsOnly("entryCriterionC");
+        assertThat(sentryDependencyIndex.getCriterionIds("planItemB", "exit")).isEmpty();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryDependencyIndexTest.testSentryDependencyIndex.cmmn")
+    public void testOnPartsSatisfiedInDifferentEvaluations() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryDependencyIndex")
+                .variable("activateE", false)
+                .start();
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list())
+                .extracting(Task::getName)
+                .containsExactly("A", "B", "D");
+
+        // Completing A exits D and satisfies the first on-part of the entry criterion of C
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list())
+                .extracting(Task::getName)
+                .containsExactly("B");
+
+        // The if-part of E is evaluated on every evaluation, also when the triggering event isn't related to it
+        Task taskB = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("B").singleResult();
+        cmmnTaskService.complete(taskB.getId(), Collections.singletonMap("activateE", true));
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list())
+                .extracting(Task::getName)
+                .containsExactly("C", "E");
+    }
+
+}
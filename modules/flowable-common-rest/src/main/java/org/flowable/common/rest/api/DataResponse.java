@@ -22,6 +22,7 @@ public class DataResponse<T> {
 
     List<T> data;
     long total;
+    boolean totalApproximate;
     int start;
     String sort;
     String order;
@@ -44,6 +45,18 @@ public class DataResponse<T> {
         this.total = total;
     }
 
+    /**
+     * Whether the total is an estimate of the database instead of an exact count.
+     * This is only the case when the total was not requested and the last page was not reached yet.
+     */
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public void setTotalApproximate(boolean totalApproximate) {
+        this.totalApproximate = totalApproximate;
+    }
+
     public int getStart() {
         return start;
     }
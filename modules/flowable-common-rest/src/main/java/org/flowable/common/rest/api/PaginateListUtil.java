@@ -12,6 +12,7 @@
  */
 package org.flowable.common.rest.api;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,17 @@ import org.flowable.common.engine.api.query.QueryProperty;
  */
 public interface PaginateListUtil {
 
+    /**
+     * The total that is returned when the total was not requested and there are more results than the ones returned.
+     */
+    long UNKNOWN_TOTAL = -1;
+
+    /**
+     * The parameter value that requests the total without fetching any results, i.e. an on demand exact count
+     * for clients that paged with {@code includeTotal=false} before.
+     */
+    int COUNT_ONLY_SIZE = 0;
+
     /**
      * Uses the pagination parameters from the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
@@ -77,6 +89,10 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getIncludeTotal() == null) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", true));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
@@ -136,11 +152,36 @@ public interface PaginateListUtil {
         response.setOrder(order);
 
         // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
-            response.setTotal(list.size());
-        } else {
+        List<RES> list;
+        if (Boolean.FALSE.equals(paginateRequest.getIncludeTotal())) {
+            // One extra result is fetched to know whether this is the last page, without running a count query
+            List<REQ> results = query.listPage(start, size < Integer.MAX_VALUE ? size + 1 : size);
+            if (results.size() > size) {
+                list = listProcessor.processList(results.subList(0, size));
+                // Fall back to the estimate of the database (if it can provide one) instead of dropping the total
+                long approximateCount = query.approximateCount();
+                if (approximateCount >= 0) {
+                    response.setTotal(Math.max(approximateCount, (long) start + size + 1));
+                    response.setTotalApproximate(true);
+                } else {
+                    response.setTotal(UNKNOWN_TOTAL);
+                }
+            } else {
+                list = listProcessor.processList(results);
+                response.setTotal(start + list.size());
+            }
+
+        } else if (size == COUNT_ONLY_SIZE) {
+            list = listProcessor.processList(Collections.emptyList());
             response.setTotal(query.count());
+
+        } else {
+            list = listProcessor.processList(query.listPage(start, size));
+            if (start == 0 && list.size() < size) {
+                response.setTotal(list.size());
+            } else {
+                response.setTotal(query.count());
+            }
         }
 
         response.setSize(list.size());
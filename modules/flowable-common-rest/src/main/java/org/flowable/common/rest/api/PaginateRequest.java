@@ -29,6 +29,8 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected Boolean includeTotal;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +62,18 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public Boolean getIncludeTotal() {
+        return includeTotal;
+    }
+
+    /**
+     * When set to {@code false}, the (potentially expensive) count query for the total is not executed.
+     * The total of the response is then exact when the last page is reached. Otherwise it is the estimate of the database
+     * (flagged with {@code totalApproximate}), or {@code -1} when the database cannot estimate the query.
+     * The exact total can be requested on demand with {@code size=0}, which skips fetching the results.
+     */
+    public void setIncludeTotal(Boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
 }
@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.management;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of the SQL statistics the SQL profiler has collected for a certain command class.
+ *
+ * The execution time percentiles are calculated over the most recent executions only,
+ * all other values are totals since the profiler was started or reset.
+ * A statement with a {@link #getAverageStatementCount(String) average count} well above one per execution usually points to an N+1 query pattern.
+ */
+public class CommandSqlProfile {
+
+    protected String commandName;
+    protected long executionCount;
+    protected long failureCount;
+    protected long totalTimeMillis;
+    protected long maxTimeMillis;
+    protected long medianTimeMillis;
+    protected long percentile95TimeMillis;
+    protected long percentile99TimeMillis;
+    protected long entityCacheHits;
+    protected long entityCacheMisses;
+    protected List<SqlStatementProfile> statements = new ArrayList<>();
+
+    public CommandSqlProfile() {
+
+    }
+
+    public CommandSqlProfile(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public long getStatementCount() {
+        long statementCount = 0;
+        for (SqlStatementProfile statement : statements) {
+            statementCount += statement.getCount();
+        }
+        return statementCount;
+    }
+
+    public double getAverageStatementCount(String statementId) {
+        if (executionCount == 0) {
+            return 0;
+        }
+        for (SqlStatementProfile statement : statements) {
+            if (statement.getStatementId().equals(statementId)) {
+                return (double) statement.getCount() / executionCount;
+            }
+        }
+        return 0;
+    }
+
+    public double getEntityCacheHitRate() {
+        long lookups = entityCacheHits + entityCacheMisses;
+        return lookups > 0 ? (double) entityCacheHits / lookups : 0;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public void setExecutionCount(long executionCount) {
+        this.executionCount = executionCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(long failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public long getTotalTimeMillis() {
+        return totalTimeMillis;
+    }
+
+    public void setTotalTimeMillis(long totalTimeMillis) {
+        this.totalTimeMillis = totalTimeMillis;
+    }
+
+    public long getMaxTimeMillis() {
+        return maxTimeMillis;
+    }
+
+    public void setMaxTimeMillis(long maxTimeMillis) {
+        this.maxTimeMillis = maxTimeMillis;
+    }
+
+    public long getMedianTimeMillis() {
+        return medianTimeMillis;
+    }
+
+    public void setMedianTimeMillis(long medianTimeMillis) {
+        this.medianTimeMillis = medianTimeMillis;
+    }
+
+    public long getPercentile95TimeMillis() {
+        return percentile95TimeMillis;
+    }
+
+    public void setPercentile95TimeMillis(long percentile95TimeMillis) {
+        this.percentile95TimeMillis = percentile95TimeMillis;
+    }
+
+    public long getPercentile99TimeMillis() {
+        return percentile99TimeMillis;
+    }
+
+    public void setPercentile99TimeMillis(long percentile99TimeMillis) {
+        this.percentile99TimeMillis = percentile99TimeMillis;
+    }
+
+    public long getEntityCacheHits() {
+        return entityCacheHits;
+    }
+
+    public void setEntityCacheHits(long entityCacheHits) {
+        this.entityCacheHits = entityCacheHits;
+    }
+
+    public long getEntityCacheMisses() {
+        return entityCacheMisses;
+    }
+
+    public void setEntityCacheMisses(long entityCacheMisses) {
+        this.entityCacheMisses = entityCacheMisses;
+    }
+
+    public List<SqlStatementProfile> getStatements() {
+        return statements;
+    }
+
+    public void setStatements(List<SqlStatementProfile> statements) {
+        this.statements = statements;
+    }
+
+}
@@ -36,6 +36,15 @@ public interface NativeQuery<T extends NativeQuery<?, ?>, U extends Object> {
      */
     T parameter(String name, Object value);
 
+    /**
+     * 允许从只读数据源（数据库的只读副本）执行查询（如果配置了只读数据源）。
+     * 查询结果可能由于复制延迟而不包含最近的写入，因此只应用于可以容忍该延迟的查询。
+     */
+    @SuppressWarnings("unchecked")
+    default T readFromReplica() {
+        return (T) this;
+    }
+
     /** 执行查询并返回结果数 */
     long count();
 
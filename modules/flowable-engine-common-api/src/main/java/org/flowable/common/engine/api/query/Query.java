@@ -14,6 +14,7 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 描述查询的基本方法
@@ -22,6 +23,11 @@ import java.util.List;
  */
 public interface Query<T extends Query<?, ?>, U extends Object> {
 
+    /**
+     * 数据库无法估计查询结果数时{@link #approximateCount()}返回的值。
+     */
+    long UNKNOWN_COUNT = -1;
+
     enum NullHandlingOnOrder {
         NULLS_FIRST, NULLS_LAST
     }
@@ -40,11 +46,30 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
 
     T orderBy(QueryProperty property, NullHandlingOnOrder nullHandlingOnOrder);
 
+    /**
+     * 允许从只读数据源（数据库的只读副本）执行查询（如果配置了只读数据源）。
+     * 查询结果可能由于复制延迟而不包含最近的写入，因此只应用于可以容忍该延迟的查询。
+     * 在活动的命令上下文或事务中，或者同一线程刚执行过写操作时，查询仍然从主数据源读取。
+     */
+    @SuppressWarnings("unchecked")
+    default T readFromReplica() {
+        return (T) this;
+    }
+
     /**
      * 执行查询并返回结果数
      */
     long count();
 
+    /**
+     * 返回查询结果数的估计值，而不执行精确的count查询。
+     * 估计值来自数据库查询规划器对count查询的估计（目前支持PostgreSQL），可能与{@link #count()}的结果不同。
+     * 当数据库无法估计结果数时返回{@link #UNKNOWN_COUNT}，此时可以使用{@link #count()}获取精确的结果数。
+     */
+    default long approximateCount() {
+        return UNKNOWN_COUNT;
+    }
+
     /**
      * 执行查询并返回结果实体，如果没有实体与查询条件匹配，则返回null。
      *
@@ -61,4 +86,13 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * 执行查询并获得实体列表作为结果。
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * 执行查询并将结果逐个传递给给定的consumer，而不是一次性将所有结果保存在内存中。
+     * 支持游标的查询使用数据库游标读取结果，这些结果也不会放入实体缓存中。
+     * consumer在执行查询的命令上下文（以及事务）中被调用。
+     */
+    default void forEach(Consumer<? super U> consumer) {
+        list().forEach(consumer);
+    }
 }
@@ -35,9 +35,11 @@ public interface ScopeTypes {
     String BPMN_VARIABLE_AGGREGATION = "bpmnVariableAggregation";
     String CMMN_VARIABLE_AGGREGATION = "cmmnVariableAggregation";
 
+    String BPMN_GATEWAY_JOIN = "bpmnGatewayJoin";
+
     String CMMN_EXTERNAL_WORKER = "cmmnExternalWorker";
     String BPMN_EXTERNAL_WORKER = "bpmnExternalWorker";
 
     Collection<String> CMMN_DEPENDENT = new HashSet<>(Arrays.asList(CMMN, CMMN_EXTERNAL_WORKER, CMMN_VARIABLE_AGGREGATION));
-    Collection<String> BPMN_DEPENDENT = new HashSet<>(Arrays.asList(BPMN_EXTERNAL_WORKER, BPMN_VARIABLE_AGGREGATION));
+    Collection<String> BPMN_DEPENDENT = new HashSet<>(Arrays.asList(BPMN_EXTERNAL_WORKER, BPMN_VARIABLE_AGGREGATION, BPMN_GATEWAY_JOIN));
 }
@@ -80,10 +80,15 @@ import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.db.DefaultReadReplicaRoutingPolicy;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
+import org.flowable.common.engine.impl.db.ReadReplicaRoutingPolicy;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.db.profiler.SqlProfiler;
+import org.flowable.common.engine.impl.db.profiler.SqlProfilerCommandInterceptor;
+import org.flowable.common.engine.impl.db.profiler.SqlProfilerPlugin;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -95,6 +100,7 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.CrDbRetryInterceptor;
 import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
+import org.flowable.common.engine.impl.interceptor.ReadReplicaRoutingInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.common.engine.impl.lock.LockManager;
@@ -119,6 +125,9 @@ import org.flowable.common.engine.impl.persistence.entity.data.impl.MybatisByteA
 import org.flowable.common.engine.impl.persistence.entity.data.impl.MybatisPropertyDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.NoopFlowableTracer;
+import org.flowable.common.engine.impl.tracing.TracingCommandInterceptor;
 import org.flowable.common.engine.impl.util.DefaultClockImpl;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
@@ -173,6 +182,22 @@ public abstract class AbstractEngineConfiguration {
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
     protected DataSource dataSource;
+
+    /**
+     * 可选的只读数据源（例如数据库的只读副本）。只有选择使用只读副本的只读命令（例如调用了 readFromReplica() 的查询）会从该数据源读取数据,
+     * 在活动的命令上下文或事务中执行的命令始终从主数据源读取.
+     */
+    protected DataSource readOnlyDataSource;
+
+    /**
+     * 决定哪些只读命令类型（除了通过 {@link CommandConfig#readReplica()} 选择的命令外）可以从只读数据源读取. 默认情况下不路由任何命令.
+     */
+    protected ReadReplicaRoutingPolicy readReplicaRoutingPolicy = new DefaultReadReplicaRoutingPolicy();
+
+    /**
+     * 同一线程执行写命令之后, 只读命令在该时间段内继续从主数据源读取, 以便能读取到自己的写入（复制延迟）.
+     */
+    protected long readYourWritesPeriodInMs = 5000L;
     protected SchemaManager commonSchemaManager;
     protected SchemaManager schemaManager;
     protected Command<Void> schemaManagementCmd;
@@ -305,6 +330,12 @@ public abstract class AbstractEngineConfiguration {
      */
     protected String databaseSchema;
 
+    /**
+     * 可选的数据库模式配置（schema profile），例如 "partitioned"。设置后，创建模式时会在标准的创建脚本之后执行 flowable.[数据库类型].create.[组件].[profile].sql 脚本（如果存在），
+     * 该脚本只包含相对于标准模式的修改（例如将表转换为分区表），并保留已有的数据，因此也可以用于迁移已有的模式。
+     */
+    protected String databaseSchemaProfile;
+
     /**
      * 如果定义的databaseTablePrefix是模式名，而不是实际的表名前缀，则设置为true。这与检查是否存在Flowable表（databaseTablePrefix）有关。
      * 如果已经考虑了模式，就不会再使用-，为表检查添加前缀将导致错误的表名.
@@ -331,6 +362,28 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean enableLogSqlExecutionTime;
 
+    /**
+     * 启用SQL分析器, 按命令类统计执行的MyBatis语句、影响的行数、累计耗时和实体缓存命中率.
+     */
+    protected boolean enableSqlProfiler;
+
+    /**
+     * 收集SQL统计数据的分析器. 如果启用了SQL分析器且未设置, 则创建默认实例.
+     */
+    protected SqlProfiler sqlProfiler;
+
+    /**
+     * 用于上报链路追踪span的追踪器（例如OpenTelemetry的适配实现）. 为每个命令、BPMN/CMMN元素的议程操作和异步作业创建span.
+     * 未设置时使用不上报任何数据的 {@link NoopFlowableTracer}.
+     */
+    protected FlowableTracer tracer;
+
+    /**
+     * 使用数据库游标流式读取查询结果时（例如 {@link org.flowable.common.engine.api.query.Query#forEach}）的JDBC fetch size.
+     * 对于MySQL，需要设置为 {@link Integer#MIN_VALUE} 才能真正逐行读取.
+     */
+    protected int queryCursorFetchSize = 1000;
+
     protected Properties databaseTypeMappings = getDefaultDatabaseTypeMappings();
 
     /**
@@ -568,6 +621,8 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void initCommandExecutors() {
+        initSqlProfiler();
+        initTracer();
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
@@ -594,6 +649,29 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initSqlProfiler() {
+        if (enableSqlProfiler && sqlProfiler == null) {
+            sqlProfiler = new SqlProfiler();
+        }
+    }
+
+    public void initTracer() {
+        if (tracer == null) {
+            tracer = NoopFlowableTracer.INSTANCE;
+        }
+
+        if (tracer.isActive()) {
+            agendaOperationRunner = createTracingAgendaOperationRunner(agendaOperationRunner);
+        }
+    }
+
+    /**
+     * 用创建span的实现包装议程操作执行器. 默认不包装, 由有议程的引擎覆盖.
+     */
+    protected AgendaOperationRunner createTracingAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return agendaOperationRunner;
+    }
+
     public void initCommandInterceptors() {
         if (commandInterceptors == null) {
             commandInterceptors = new ArrayList<>();
@@ -613,10 +691,23 @@ public abstract class AbstractEngineConfiguration {
             List<CommandInterceptor> interceptors = new ArrayList<>();
             interceptors.add(new LogInterceptor());
 
+            if (tracer != null && tracer.isActive()) {
+                interceptors.add(new TracingCommandInterceptor(tracer, getEngineScopeType()));
+            }
+
+            if (sqlProfiler != null) {
+                interceptors.add(new SqlProfilerCommandInterceptor(sqlProfiler));
+            }
+
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
                 interceptors.add(new CrDbRetryInterceptor());
             }
 
+            if (readOnlyDataSource != null) {
+                // Needs to be before the transaction interceptor, so that commands routed to the read replica don't start a transaction on the primary
+                interceptors.add(new ReadReplicaRoutingInterceptor(readReplicaRoutingPolicy, readYourWritesPeriodInMs));
+            }
+
             CommandInterceptor transactionInterceptor = createTransactionInterceptor();
             if (transactionInterceptor != null) {
                 interceptors.add(transactionInterceptor);
@@ -787,7 +878,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
+        dbSqlSessionFactory.setDatabaseSchemaProfile(databaseSchemaProfile);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -856,6 +949,7 @@ public abstract class AbstractEngineConfiguration {
                 properties.put("limitAfterNativeQuery", "");
                 properties.put("blobType", "BLOB");
                 properties.put("boolValue", "TRUE");
+                properties.put("cursorFetchSize", String.valueOf(queryCursorFetchSize));
 
                 if (databaseType != null) {
                     properties.load(getResourceAsStream(pathToEngineDbProperties()));
@@ -892,6 +986,9 @@ public abstract class AbstractEngineConfiguration {
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
+        if (sqlProfiler != null) {
+            configuration.addInterceptor(new SqlProfilerPlugin());
+        }
 
         configuration = parseMybatisConfiguration(parser);
         return configuration;
@@ -1172,6 +1269,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+        return this;
+    }
+
+    public ReadReplicaRoutingPolicy getReadReplicaRoutingPolicy() {
+        return readReplicaRoutingPolicy;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaRoutingPolicy(ReadReplicaRoutingPolicy readReplicaRoutingPolicy) {
+        this.readReplicaRoutingPolicy = readReplicaRoutingPolicy;
+        return this;
+    }
+
+    public long getReadYourWritesPeriodInMs() {
+        return readYourWritesPeriodInMs;
+    }
+
+    public AbstractEngineConfiguration setReadYourWritesPeriodInMs(long readYourWritesPeriodInMs) {
+        this.readYourWritesPeriodInMs = readYourWritesPeriodInMs;
+        return this;
+    }
+
     public SchemaManager getSchemaManager() {
         return schemaManager;
     }
@@ -1684,6 +1808,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public String getDatabaseSchemaProfile() {
+        return databaseSchemaProfile;
+    }
+
+    public AbstractEngineConfiguration setDatabaseSchemaProfile(String databaseSchemaProfile) {
+        this.databaseSchemaProfile = databaseSchemaProfile;
+        return this;
+    }
+
     public boolean isTablePrefixIsSchema() {
         return tablePrefixIsSchema;
     }
@@ -1742,6 +1875,42 @@ public abstract class AbstractEngineConfiguration {
         this.enableLogSqlExecutionTime = enableLogSqlExecutionTime;
     }
 
+    public boolean isEnableSqlProfiler() {
+        return enableSqlProfiler;
+    }
+
+    public AbstractEngineConfiguration setEnableSqlProfiler(boolean enableSqlProfiler) {
+        this.enableSqlProfiler = enableSqlProfiler;
+        return this;
+    }
+
+    public SqlProfiler getSqlProfiler() {
+        return sqlProfiler;
+    }
+
+    public AbstractEngineConfiguration setSqlProfiler(SqlProfiler sqlProfiler) {
+        this.sqlProfiler = sqlProfiler;
+        return this;
+    }
+
+    public FlowableTracer getTracer() {
+        return tracer;
+    }
+
+    public AbstractEngineConfiguration setTracer(FlowableTracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
+    public int getQueryCursorFetchSize() {
+        return queryCursorFetchSize;
+    }
+
+    public AbstractEngineConfiguration setQueryCursorFetchSize(int queryCursorFetchSize) {
+        this.queryCursorFetchSize = queryCursorFetchSize;
+        return this;
+    }
+
     public Map<Class<?>, SessionFactory> getSessionFactories() {
         return sessionFactories;
     }
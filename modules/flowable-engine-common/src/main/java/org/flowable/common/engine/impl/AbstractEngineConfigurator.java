@@ -221,6 +221,7 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
         initClock(engineConfiguration, targetEngineConfiguration);
         initObjectMapper(engineConfiguration, targetEngineConfiguration);
         initVariableTypes(engineConfiguration, targetEngineConfiguration);
+        initTracer(engineConfiguration, targetEngineConfiguration);
     }
 
     protected void initEngineConfigurations(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
@@ -240,6 +241,12 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
         targetEngineConfiguration.setEventRegistryEventConsumers(engineConfiguration.getEventRegistryEventConsumers());
     }
 
+    protected void initTracer(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
+        if (targetEngineConfiguration.getTracer() == null) {
+            targetEngineConfiguration.setTracer(engineConfiguration.getTracer());
+        }
+    }
+
     protected void initCommandContextFactory(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
         targetEngineConfiguration.setCommandContextFactory(engineConfiguration.getCommandContextFactory());
     }
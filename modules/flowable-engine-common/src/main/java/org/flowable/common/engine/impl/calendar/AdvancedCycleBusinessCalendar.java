@@ -106,7 +106,7 @@ public class AdvancedCycleBusinessCalendar extends CycleBusinessCalendar {
             LOGGER.info("Base Due Date: {}", duedateDescription);
 
             Date date = resolvers.get(version == null ? getDefaultScheduleVersion() : Integer.valueOf(version)).resolve(duedateDescription, clockReader,
-                    timeZone == null ? clockReader.getCurrentTimeZone() : TimeZone.getTimeZone(timeZone));
+                    timeZone == null ? clockReader.getCurrentTimeZone() : TimeZone.getTimeZone(timeZone), expressionCache);
 
             LOGGER.info("Calculated Date: {}", date == null ? "Will Not Run Again" : date);
 
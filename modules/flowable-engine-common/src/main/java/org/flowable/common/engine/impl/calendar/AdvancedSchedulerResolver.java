@@ -37,4 +37,11 @@ public interface AdvancedSchedulerResolver {
      */
     Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone);
 
+    /**
+     * Resolves a due date using the specified time zone (if supported), using the given cache for the parsed expressions (if supported)
+     */
+    default Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone, CycleExpressionCache expressionCache) {
+        return resolve(duedateDescription, clockReader, timeZone);
+    }
+
 }
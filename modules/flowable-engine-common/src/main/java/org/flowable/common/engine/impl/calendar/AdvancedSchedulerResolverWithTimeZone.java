@@ -29,15 +29,19 @@ public class AdvancedSchedulerResolverWithTimeZone implements AdvancedSchedulerR
 
     @Override
     public Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone) {
+        return resolve(duedateDescription, clockReader, timeZone, new CycleExpressionCache(clockReader, 0));
+    }
+
+    @Override
+    public Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone, CycleExpressionCache expressionCache) {
         Calendar nextRun = null;
 
         try {
             if (duedateDescription.startsWith("R")) {
-                nextRun = new DurationHelper(duedateDescription, clockReader).getCalendarAfter(clockReader.getCurrentCalendar(timeZone));
+                nextRun = expressionCache.getDurationHelper(duedateDescription, -1).getCalendarAfter(clockReader.getCurrentCalendar(timeZone));
             } else {
-                CronExpression cronExpression = new CronExpression(duedateDescription, clockReader);
-                cronExpression.setTimeZone(timeZone);
-                Date nextRunDate = cronExpression.getTimeAfter(clockReader.getCurrentCalendar(timeZone).getTime());
+                CompiledCronExpression cronExpression = expressionCache.getCronExpression(duedateDescription);
+                Date nextRunDate = cronExpression.getTimeAfter(clockReader.getCurrentCalendar(timeZone).getTime(), timeZone);
                 nextRun = new GregorianCalendar();
                 nextRun.setTime(nextRunDate);
             }
@@ -29,4 +29,9 @@ public class AdvancedSchedulerResolverWithoutTimeZone implements AdvancedSchedul
         return new CycleBusinessCalendar(clockReader).resolveDuedate(duedateDescription);
     }
 
+    @Override
+    public Date resolve(String duedateDescription, ClockReader clockReader, TimeZone timeZone, CycleExpressionCache expressionCache) {
+        return new CycleBusinessCalendar(clockReader, expressionCache).resolveDuedate(duedateDescription);
+    }
+
 }
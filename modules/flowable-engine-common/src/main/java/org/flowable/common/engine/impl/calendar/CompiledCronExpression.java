@@ -0,0 +1,299 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.calendar;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+
+/**
+ * A {@link CronExpression} compiled to bit masks, to compute next fire times of an expression over and over again without parsing it each time.
+ * <p>
+ * The next fire time is searched on primitive date and time fields: {@code java.time} is only used to convert the start and the result
+ * from and to an instant in the requested time zone. Contrary to {@link CronExpression#getTimeAfter(Date)}, no {@link java.util.Calendar}
+ * or {@link java.util.SortedSet} views are created while searching.
+ * <p>
+ * Expressions using the 'L', 'W' or '#' special characters are delegated to {@link CronExpression}.
+ * Instances are immutable and can be shared between threads.
+ */
+public class CompiledCronExpression {
+
+    protected static final int MIN_YEAR = 1970;
+    protected static final int MAX_YEAR = Math.min(CronExpression.MAX_YEAR, 2999);
+
+    // Sakamoto's day of week offsets per month
+    private static final int[] DAY_OF_WEEK_MONTH_OFFSETS = { 0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4 };
+
+    protected final String cronExpression;
+    protected final ClockReader clockReader;
+    protected final boolean delegateToCronExpression;
+
+    protected final long seconds;
+    protected final long minutes;
+    protected final long hours;
+    protected final long daysOfMonth;
+    protected final long months;
+    protected final long daysOfWeek;
+    protected final BitSet years;
+    protected final boolean dayOfMonthRule;
+
+    public CompiledCronExpression(CronExpression expression, ClockReader clockReader) {
+        this.cronExpression = expression.getCronExpression();
+        this.clockReader = clockReader;
+        this.delegateToCronExpression = expression.lastdayOfWeek || expression.nthdayOfWeek != 0
+                || expression.lastdayOfMonth || expression.nearestWeekday;
+
+        this.seconds = toMask(expression.seconds, 0, 59);
+        this.minutes = toMask(expression.minutes, 0, 59);
+        this.hours = toMask(expression.hours, 0, 23);
+        this.daysOfMonth = toMask(expression.daysOfMonth, 1, 31);
+        this.months = toMask(expression.months, 1, 12);
+        this.daysOfWeek = toMask(expression.daysOfWeek, 1, 7);
+        this.dayOfMonthRule = !expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+
+        this.years = new BitSet();
+        for (Integer year : expression.years) {
+            if (year >= MIN_YEAR && year <= MAX_YEAR) {
+                years.set(year - MIN_YEAR);
+            }
+        }
+    }
+
+    public static CompiledCronExpression compile(String cronExpression, ClockReader clockReader) throws ParseException {
+        return new CompiledCronExpression(new CronExpression(cronExpression, clockReader), clockReader);
+    }
+
+    /**
+     * Returns the first time strictly after the given time, with a precision of a second, that satisfies the expression in the given time zone,
+     * or null if there is no such time.
+     */
+    public Date getTimeAfter(Date afterTime, TimeZone timeZone) {
+        if (delegateToCronExpression) {
+            return getTimeAfterWithCronExpression(afterTime, timeZone);
+        }
+
+        ZoneRules rules = timeZone.toZoneId().getRules();
+
+        // Move ahead one second, since we're computing the time after the given time. Milliseconds are ignored.
+        long startSecond = Math.floorDiv(afterTime.getTime(), 1000L) + 1;
+        ZoneOffset startOffset = rules.getOffset(Instant.ofEpochSecond(startSecond));
+        LocalDateTime start = LocalDateTime.ofEpochSecond(startSecond, 0, startOffset);
+
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int hour = start.getHour();
+        int minute = start.getMinute();
+        int second = start.getSecond();
+
+        while (true) {
+            if (year < MIN_YEAR) {
+                year = MIN_YEAR;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            if (year > MAX_YEAR) {
+                return null;
+            }
+
+            int nextYear = years.nextSetBit(year - MIN_YEAR);
+            if (nextYear < 0) {
+                return null;
+            }
+            nextYear += MIN_YEAR;
+            if (nextYear != year) {
+                year = nextYear;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            int nextMonth = nextSetBit(months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            int nextDay = nextDay(year, month, day);
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+
+            int nextHour = nextSetBit(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+
+            int nextMinute = nextSetBit(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            int nextSecond = nextSetBit(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = nextSecond;
+
+            long epochSecond = toEpochSecond(rules, LocalDateTime.of(year, month, day, hour, minute, second));
+            if (epochSecond >= startSecond) {
+                return new Date(epochSecond * 1000L);
+            }
+
+            // The local time does not exist because of a daylight saving time transition, search on from the next second
+            second++;
+        }
+    }
+
+    protected Date getTimeAfterWithCronExpression(Date afterTime, TimeZone timeZone) {
+        try {
+            CronExpression expression = new CronExpression(cronExpression, clockReader);
+            expression.setTimeZone(timeZone);
+            return expression.getTimeAfter(afterTime);
+
+        } catch (ParseException e) {
+            // The expression was already parsed successfully when compiling
+            throw new FlowableException("Failed to parse cron expression: " + cronExpression, e);
+        }
+    }
+
+    /**
+     * Returns the first day of the month, starting from the given day, that satisfies the day of month or day of week rule, or -1 if there is none.
+     */
+    protected int nextDay(int year, int month, int day) {
+        int lastDay = getLastDayOfMonth(year, month);
+        if (day > lastDay) {
+            return -1;
+        }
+
+        if (dayOfMonthRule) {
+            int nextDay = nextSetBit(daysOfMonth, day);
+            return nextDay <= lastDay ? nextDay : -1;
+        }
+
+        int dayOfWeek = getDayOfWeek(year, month, day);
+        for (int currentDay = day; currentDay <= lastDay; currentDay++) {
+            if ((daysOfWeek & (1L << dayOfWeek)) != 0) {
+                return currentDay;
+            }
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Converts the local date time to an epoch second, in the same way as {@link CronExpression} does: a local time in a daylight saving time
+     * overlap resolves to the later offset and a local time in a daylight saving time gap does not exist (-1 is returned).
+     */
+    protected long toEpochSecond(ZoneRules rules, LocalDateTime localDateTime) {
+        ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+        if (transition == null) {
+            return localDateTime.toEpochSecond(rules.getOffset(localDateTime));
+        } else if (transition.isGap()) {
+            return -1L;
+        } else {
+            return localDateTime.toEpochSecond(transition.getOffsetAfter());
+        }
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    @Override
+    public String toString() {
+        return cronExpression;
+    }
+
+    protected static long toMask(Set<Integer> values, int min, int max) {
+        long mask = 0L;
+        for (Integer value : values) {
+            // the set can contain the ALL_SPEC and NO_SPEC markers, which are out of range
+            if (value >= min && value <= max) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the lowest bit set in the mask starting from the given index (which is always smaller than 64), or -1 if there is none.
+     */
+    protected static int nextSetBit(long mask, int fromIndex) {
+        long remaining = mask & (-1L << fromIndex);
+        return remaining == 0L ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    protected static int getLastDayOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Returns the day of week with the same numbering as {@link java.util.Calendar#DAY_OF_WEEK}, so 1 for Sunday up to 7 for Saturday.
+     */
+    protected static int getDayOfWeek(int year, int month, int day) {
+        int y = month < 3 ? year - 1 : year;
+        return (y + y / 4 - y / 100 + y / 400 + DAY_OF_WEEK_MONTH_OFFSETS[month - 1] + day) % 7 + 1;
+    }
+
+}
@@ -21,18 +21,25 @@ public class CycleBusinessCalendar extends BusinessCalendarImpl {
 
     public static final String NAME = "cycle";
 
+    protected CycleExpressionCache expressionCache;
+
     public CycleBusinessCalendar(ClockReader clockReader) {
+        this(clockReader, new CycleExpressionCache(clockReader));
+    }
+
+    public CycleBusinessCalendar(ClockReader clockReader, CycleExpressionCache expressionCache) {
         super(clockReader);
+        this.expressionCache = expressionCache;
     }
 
     @Override
     public Date resolveDuedate(String duedateDescription, int maxIterations) {
         try {
             if (duedateDescription != null && duedateDescription.startsWith("R")) {
-                return new DurationHelper(duedateDescription, maxIterations, clockReader).getDateAfter();
+                return expressionCache.getDurationHelper(duedateDescription, maxIterations).getDateAfter();
             } else {
-                CronExpression ce = new CronExpression(duedateDescription, clockReader);
-                return ce.getTimeAfter(clockReader.getCurrentTime());
+                CompiledCronExpression ce = expressionCache.getCronExpression(duedateDescription);
+                return ce.getTimeAfter(clockReader.getCurrentTime(), clockReader.getCurrentTimeZone());
             }
 
         } catch (Exception e) {
@@ -49,7 +56,7 @@ public class CycleBusinessCalendar extends BusinessCalendarImpl {
         // end date could be part of the cron expression
         try {
             if (duedateDescription != null && duedateDescription.startsWith("R")) {
-                return new DurationHelper(duedateDescription, maxIterations, clockReader).isValidDate(newTimer);
+                return expressionCache.getDurationHelper(duedateDescription, maxIterations).isValidDate(newTimer);
             } else {
                 return true;
             }
@@ -60,4 +67,12 @@ public class CycleBusinessCalendar extends BusinessCalendarImpl {
 
     }
 
+    public CycleExpressionCache getExpressionCache() {
+        return expressionCache;
+    }
+
+    public void setExpressionCache(CycleExpressionCache expressionCache) {
+        this.expressionCache = expressionCache;
+    }
+
 }
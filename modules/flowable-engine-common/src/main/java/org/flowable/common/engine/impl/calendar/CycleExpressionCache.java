@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.calendar;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+
+/**
+ * Caches parsed cycle expressions (cron and ISO-8601 repeating intervals) by their expression string,
+ * so that rescheduling a repeating timer does not parse the expression of its definition again.
+ * <p>
+ * Both caches are bounded and evict the least recently used expression when the limit is reached.
+ */
+public class CycleExpressionCache {
+
+    public static final int DEFAULT_CACHE_LIMIT = 1000;
+
+    protected ClockReader clockReader;
+    protected Map<String, CompiledCronExpression> cronExpressions;
+    protected Map<String, DurationHelper> durationHelpers;
+
+    public CycleExpressionCache(ClockReader clockReader) {
+        this(clockReader, DEFAULT_CACHE_LIMIT);
+    }
+
+    public CycleExpressionCache(ClockReader clockReader, int limit) {
+        this.clockReader = clockReader;
+        this.cronExpressions = createCache(limit);
+        this.durationHelpers = createCache(limit);
+    }
+
+    public CompiledCronExpression getCronExpression(String cronExpression) throws ParseException {
+        CompiledCronExpression compiledCronExpression = cronExpressions.get(cronExpression);
+        if (compiledCronExpression == null) {
+            compiledCronExpression = CompiledCronExpression.compile(cronExpression, clockReader);
+            cronExpressions.put(cronExpression, compiledCronExpression);
+        }
+        return compiledCronExpression;
+    }
+
+    /**
+     * Returns a new {@link DurationHelper} for the given expression, copied from a cached parsed one.
+     * Dates in the expression without an offset are parsed in the time zone of the clock, so that time zone is part of the cache key.
+     */
+    public DurationHelper getDurationHelper(String expression, int maxIterations) throws Exception {
+        String key = expression + '|' + maxIterations + '|' + clockReader.getCurrentTimeZone().getID();
+        DurationHelper durationHelper = durationHelpers.get(key);
+        if (durationHelper == null) {
+            durationHelper = new DurationHelper(expression, maxIterations, clockReader);
+            durationHelpers.put(key, durationHelper);
+        }
+        return new DurationHelper(durationHelper);
+    }
+
+    public void clear() {
+        cronExpressions.clear();
+        durationHelpers.clear();
+    }
+
+    protected <T> Map<String, T> createCache(int limit) {
+        return Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+}
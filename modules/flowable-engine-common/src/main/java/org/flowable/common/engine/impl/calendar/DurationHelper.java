@@ -45,6 +45,7 @@ public class DurationHelper {
     private int times;
     private int maxIterations = -1;
     private boolean repeatWithNoBounds;
+    private boolean startFromClock;
 
     private DatatypeFactory datatypeFactory;
 
@@ -68,6 +69,10 @@ public class DurationHelper {
         return times;
     }
 
+    public boolean isStartFromClock() {
+        return startFromClock;
+    }
+
     protected ClockReader clockReader;
 
     public DurationHelper(String expressionS, int maxIterations, ClockReader clockReader) throws Exception {
@@ -104,10 +109,28 @@ public class DurationHelper {
         }
         if (start == null) {
             start = clockReader.getCurrentCalendar();
+            startFromClock = true;
         }
 
     }
 
+    /**
+     * Creates a copy of the given (already parsed) helper. When the start of the given helper was not part of the expression,
+     * the copy starts at the current time again, as if the expression was parsed now.
+     */
+    public DurationHelper(DurationHelper durationHelper) {
+        this.clockReader = durationHelper.clockReader;
+        this.maxIterations = durationHelper.maxIterations;
+        this.datatypeFactory = durationHelper.datatypeFactory;
+        this.start = durationHelper.startFromClock ? clockReader.getCurrentCalendar() : durationHelper.start;
+        this.startFromClock = durationHelper.startFromClock;
+        this.end = durationHelper.end;
+        this.period = durationHelper.period;
+        this.isRepeat = durationHelper.isRepeat;
+        this.times = durationHelper.times;
+        this.repeatWithNoBounds = durationHelper.repeatWithNoBounds;
+    }
+
     public DurationHelper(String expressionS, ClockReader clockReader) throws Exception {
         this(expressionS, -1, clockReader);
     }
@@ -0,0 +1,529 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg.multitenant;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TenantAwareDataSource} that is able to cope with a large number of tenants, of which typically only a part is active at the same time.
+ *
+ * - The {@link DataSource} (typically a connection pool) of a tenant that isn't registered explicitly is created lazily
+ * by the {@link TenantDataSourceFactory} the first time a connection for the tenant is requested.
+ *
+ * - A lazily created {@link DataSource} that didn't hand out a connection during {@link #getMaxIdleTime()} milliseconds is closed and removed,
+ * so idle tenants don't hold on to database connections. It is created again when the tenant becomes active.
+ * Eviction is checked (at most every {@link #getEvictionInterval()} milliseconds) when connections are requested, or by calling {@link #evictIdleDataSources()}.
+ *
+ * - With {@link #setMaxTotalConnections(int)}, the number of database connections over all tenants together is limited.
+ * A lazily created {@link DataSource} holds a part of the budget for each connection it had checked out at the same time,
+ * until it is closed: the connections it opened stay open in the pool after they are given back.
+ * This bounds the number of physical connections, provided the pools created by the factory only open connections on demand
+ * (no initial or minimum idle connections). A {@link DataSource} that is registered explicitly only holds a part of the budget
+ * while a connection is checked out, its pooled connections are managed by whoever created it.
+ * When the budget is used, the lazily created data sources without checked out connections are evicted, least recently used first
+ * and regardless of the max idle time. If there are none, requesting a connection waits (at most {@link #getConnectionWaitTimeout()} milliseconds)
+ * until one becomes available.
+ *
+ * Note that the max idle time is only reached when nothing requests connections for the tenant. Job acquisition per tenant
+ * (which is needed for tenants with their own schema, whatever the async executor) polls the database of the tenant regularly,
+ * so with an active async executor the data source of such a tenant is only evicted when the connection budget is used.
+ *
+ * To share one pool between all tenants in a schema per tenant setup, let the factory return a {@link TenantSchemaDataSource} on top of the shared pool.
+ */
+public class PoolingTenantAwareDataSource extends TenantAwareDataSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolingTenantAwareDataSource.class);
+
+    protected TenantDataSourceFactory dataSourceFactory;
+
+    protected int maxTotalConnections;
+    protected long connectionWaitTimeout = 30000L;
+    protected long maxIdleTime = 10 * 60 * 1000L;
+    protected long evictionInterval = 60 * 1000L;
+    protected long evictionRetryInterval = 100L;
+
+    protected Semaphore connectionPermits;
+    protected Map<Object, TenantDataSourceUsage> dataSourceUsages = new ConcurrentHashMap<>();
+    protected volatile long lastEvictionTime = System.currentTimeMillis();
+
+    public PoolingTenantAwareDataSource(TenantInfoHolder tenantInfoHolder) {
+        this(tenantInfoHolder, null);
+    }
+
+    public PoolingTenantAwareDataSource(TenantInfoHolder tenantInfoHolder, TenantDataSourceFactory dataSourceFactory) {
+        super(tenantInfoHolder);
+        this.dataSourceFactory = dataSourceFactory;
+    }
+
+    @Override
+    public void addDataSource(Object key, DataSource dataSource) {
+        super.addDataSource(key, dataSource);
+
+        // Connections that are requested from now on need to use the new data source
+        TenantDataSourceUsage dataSourceUsage = dataSourceUsages.remove(key);
+        if (dataSourceUsage != null) {
+            synchronized (dataSourceUsage) {
+                dataSourceUsage.removed = true;
+                releaseConnectionPermits(dataSourceUsage.reservedConnections);
+                dataSourceUsage.reservedConnections = 0;
+            }
+        }
+    }
+
+    @Override
+    public void removeDataSource(Object key) {
+        TenantDataSourceUsage dataSourceUsage = dataSourceUsages.remove(key);
+        DataSource dataSource = dataSources.remove(key);
+        if (dataSourceUsage != null) {
+            synchronized (dataSourceUsage) {
+                dataSourceUsage.removed = true;
+                releaseConnectionPermits(dataSourceUsage.reservedConnections);
+                dataSourceUsage.reservedConnections = 0;
+            }
+            if (dataSourceUsage.lazilyCreated) {
+                closeDataSource(dataSource);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null, false);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(username, password, true);
+    }
+
+    protected Connection getConnection(String username, String password, boolean withCredentials) throws SQLException {
+        evictIdleDataSourcesIfNeeded();
+
+        String tenantId = tenantInfoHolder.getCurrentTenantId();
+        TenantDataSourceUsage dataSourceUsage = checkoutDataSource(tenantId);
+        boolean permitNeeded = dataSourceUsage.reserveConnectionPermit();
+        boolean permitAcquired = false;
+        try {
+            if (permitNeeded) {
+                acquireConnectionPermit();
+                permitAcquired = true;
+            }
+
+            Connection connection = withCredentials
+                    ? dataSourceUsage.dataSource.getConnection(username, password)
+                    : dataSourceUsage.dataSource.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    new TrackedConnectionHandler(connection, dataSourceUsage));
+
+        } catch (SQLException | RuntimeException e) {
+            dataSourceUsage.connectionFailed(permitNeeded);
+            if (permitAcquired) {
+                releaseConnectionPermit();
+            }
+            throw e;
+        }
+    }
+
+    protected TenantDataSourceUsage checkoutDataSource(String tenantId) {
+        while (true) {
+            TenantDataSourceUsage dataSourceUsage = dataSourceUsages.computeIfAbsent(tenantId, key -> new TenantDataSourceUsage());
+            synchronized (dataSourceUsage) {
+                if (dataSourceUsage.removed) {
+                    // Evicted concurrently, retry with a new usage
+                    continue;
+                }
+
+                if (dataSourceUsage.dataSource == null) {
+                    DataSource dataSource = dataSources.get(tenantId);
+                    if (dataSource == null && dataSourceFactory != null) {
+                        LOGGER.debug("Creating data source for tenant {}", tenantId);
+                        dataSource = dataSourceFactory.createDataSource(tenantId);
+                        if (dataSource != null) {
+                            dataSources.put(tenantId, dataSource);
+                            dataSourceUsage.lazilyCreated = true;
+                        }
+                    }
+
+                    if (dataSource == null) {
+                        dataSourceUsages.remove(tenantId, dataSourceUsage);
+                        dataSourceUsage.removed = true;
+                        throw new FlowableException("Could not find a dataSource for tenant " + tenantId);
+                    }
+                    dataSourceUsage.dataSource = dataSource;
+                }
+
+                dataSourceUsage.activeConnections++;
+                dataSourceUsage.lastUsedTime = System.currentTimeMillis();
+                return dataSourceUsage;
+            }
+        }
+    }
+
+    protected void acquireConnectionPermit() throws SQLException {
+        if (connectionPermits == null) {
+            return;
+        }
+
+        if (connectionPermits.tryAcquire()) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + connectionWaitTimeout;
+        try {
+            while (true) {
+                // The connections of idle pools count against the budget, free those first.
+                // This is retried while waiting, as pools become idle when their connections are given back.
+                if (evictLeastRecentlyUsedDataSource()) {
+                    if (connectionPermits.tryAcquire()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                long remainingWaitTime = deadline - System.currentTimeMillis();
+                if (remainingWaitTime <= 0) {
+                    throw new SQLTransientConnectionException("Could not get a connection within " + connectionWaitTimeout
+                            + " ms, all " + maxTotalConnections + " connections are in use");
+                }
+
+                if (connectionPermits.tryAcquire(Math.min(remainingWaitTime, evictionRetryInterval), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    protected void releaseConnectionPermit() {
+        releaseConnectionPermits(1);
+    }
+
+    protected void releaseConnectionPermits(int permits) {
+        if (connectionPermits != null && permits > 0) {
+            connectionPermits.release(permits);
+        }
+    }
+
+    protected void evictIdleDataSourcesIfNeeded() {
+        if (maxIdleTime > 0 && System.currentTimeMillis() - lastEvictionTime >= evictionInterval) {
+            evictIdleDataSources();
+        }
+    }
+
+    /**
+     * Closes and removes the lazily created data sources that have no checked out connections and weren't used during the max idle time.
+     */
+    public void evictIdleDataSources() {
+        long now = System.currentTimeMillis();
+        lastEvictionTime = now;
+        if (maxIdleTime <= 0) {
+            return;
+        }
+
+        List<DataSource> evictedDataSources = new ArrayList<>();
+        for (Map.Entry<Object, TenantDataSourceUsage> entry : dataSourceUsages.entrySet()) {
+            TenantDataSourceUsage dataSourceUsage = entry.getValue();
+            synchronized (dataSourceUsage) {
+                if (dataSourceUsage.isEvictable() && now - dataSourceUsage.lastUsedTime >= maxIdleTime) {
+                    LOGGER.debug("Evicting idle data source for tenant {}", entry.getKey());
+                    evictedDataSources.add(evictDataSource(entry.getKey(), dataSourceUsage));
+                }
+            }
+        }
+
+        for (DataSource evictedDataSource : evictedDataSources) {
+            closeDataSource(evictedDataSource);
+        }
+    }
+
+    /**
+     * Closes and removes the lazily created data source without checked out connections that was used least recently,
+     * and that holds a part of the connection budget.
+     *
+     * @return whether a data source was evicted
+     */
+    protected boolean evictLeastRecentlyUsedDataSource() {
+        while (true) {
+            Map.Entry<Object, TenantDataSourceUsage> leastRecentlyUsedEntry = null;
+            for (Map.Entry<Object, TenantDataSourceUsage> entry : dataSourceUsages.entrySet()) {
+                TenantDataSourceUsage dataSourceUsage = entry.getValue();
+                synchronized (dataSourceUsage) {
+                    if (dataSourceUsage.isEvictable() && dataSourceUsage.reservedConnections > 0
+                            && (leastRecentlyUsedEntry == null || dataSourceUsage.lastUsedTime < leastRecentlyUsedEntry.getValue().lastUsedTime)) {
+                        leastRecentlyUsedEntry = entry;
+                    }
+                }
+            }
+
+            if (leastRecentlyUsedEntry == null) {
+                return false;
+            }
+
+            DataSource evictedDataSource = null;
+            TenantDataSourceUsage dataSourceUsage = leastRecentlyUsedEntry.getValue();
+            synchronized (dataSourceUsage) {
+                // It could have been checked out or evicted in the meantime, in which case another one is looked for
+                if (dataSourceUsage.isEvictable()) {
+                    LOGGER.debug("Evicting least recently used data source for tenant {} to free connections", leastRecentlyUsedEntry.getKey());
+                    evictedDataSource = evictDataSource(leastRecentlyUsedEntry.getKey(), dataSourceUsage);
+                }
+            }
+
+            if (evictedDataSource != null) {
+                closeDataSource(evictedDataSource);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the data source of the given usage and gives back the part of the connection budget it holds.
+     * Needs to be called while holding the lock of the usage, the returned data source still needs to be closed.
+     */
+    protected DataSource evictDataSource(Object key, TenantDataSourceUsage dataSourceUsage) {
+        dataSourceUsage.removed = true;
+        dataSourceUsages.remove(key, dataSourceUsage);
+        dataSources.remove(key, dataSourceUsage.dataSource);
+        releaseConnectionPermits(dataSourceUsage.reservedConnections);
+        dataSourceUsage.reservedConnections = 0;
+        return dataSourceUsage.dataSource;
+    }
+
+    /**
+     * Closes all the data sources that were created by the {@link TenantDataSourceFactory}.
+     */
+    public void close() {
+        for (Map.Entry<Object, TenantDataSourceUsage> entry : dataSourceUsages.entrySet()) {
+            TenantDataSourceUsage dataSourceUsage = entry.getValue();
+            synchronized (dataSourceUsage) {
+                dataSourceUsage.removed = true;
+                releaseConnectionPermits(dataSourceUsage.reservedConnections);
+                dataSourceUsage.reservedConnections = 0;
+            }
+            dataSourceUsages.remove(entry.getKey(), dataSourceUsage);
+            if (dataSourceUsage.lazilyCreated) {
+                dataSources.remove(entry.getKey(), dataSourceUsage.dataSource);
+                closeDataSource(dataSourceUsage.dataSource);
+            }
+        }
+    }
+
+    protected void closeDataSource(DataSource dataSource) {
+        try {
+            if (dataSource instanceof PooledDataSource) {
+                ((PooledDataSource) dataSource).forceCloseAll();
+            } else if (dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) dataSource).close();
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Could not close data source {}", dataSource, e);
+        }
+    }
+
+    public int getActiveConnections(String tenantId) {
+        TenantDataSourceUsage dataSourceUsage = dataSourceUsages.get(tenantId);
+        if (dataSourceUsage == null) {
+            return 0;
+        }
+        synchronized (dataSourceUsage) {
+            return dataSourceUsage.activeConnections;
+        }
+    }
+
+    public TenantDataSourceFactory getDataSourceFactory() {
+        return dataSourceFactory;
+    }
+
+    public void setDataSourceFactory(TenantDataSourceFactory dataSourceFactory) {
+        this.dataSourceFactory = dataSourceFactory;
+    }
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections over all tenants together, 0 (the default) means no limit.
+     * Needs to be set before connections are requested.
+     */
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+        this.connectionPermits = maxTotalConnections > 0 ? new Semaphore(maxTotalConnections, true) : null;
+    }
+
+    public long getConnectionWaitTimeout() {
+        return connectionWaitTimeout;
+    }
+
+    public void setConnectionWaitTimeout(long connectionWaitTimeout) {
+        this.connectionWaitTimeout = connectionWaitTimeout;
+    }
+
+    public long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    /**
+     * Sets the time in milliseconds after which a lazily created data source that isn't used anymore is closed, 0 disables eviction.
+     */
+    public void setMaxIdleTime(long maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public long getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(long evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+
+    public long getEvictionRetryInterval() {
+        return evictionRetryInterval;
+    }
+
+    /**
+     * Sets the interval in milliseconds at which a request waiting for the connection budget checks again for data sources to evict.
+     */
+    public void setEvictionRetryInterval(long evictionRetryInterval) {
+        this.evictionRetryInterval = evictionRetryInterval;
+    }
+
+    protected static class TenantDataSourceUsage {
+
+        protected DataSource dataSource;
+        protected boolean lazilyCreated;
+        protected boolean removed;
+        protected int activeConnections;
+
+        /**
+         * The number of connection permits held by a lazily created data source, which is the highest number of connections it had checked out at the same time.
+         */
+        protected int reservedConnections;
+        protected volatile long lastUsedTime;
+
+        /**
+         * Returns whether a connection permit is needed for the connection that was just checked out.
+         * A registered data source needs one per checked out connection, a lazily created data source only when it has more connections
+         * checked out than it reserved already (otherwise it reuses a connection of its pool).
+         */
+        protected synchronized boolean reserveConnectionPermit() {
+            if (!lazilyCreated) {
+                return true;
+
+            } else if (activeConnections > reservedConnections) {
+                reservedConnections++;
+                return true;
+            }
+            return false;
+        }
+
+        protected synchronized boolean isEvictable() {
+            return lazilyCreated && !removed && activeConnections == 0;
+        }
+
+        protected synchronized void connectionClosed() {
+            activeConnections--;
+            lastUsedTime = System.currentTimeMillis();
+        }
+
+        protected synchronized void connectionFailed(boolean permitReserved) {
+            if (permitReserved && lazilyCreated && reservedConnections > 0) {
+                reservedConnections--;
+            }
+            connectionClosed();
+        }
+    }
+
+    /**
+     * Keeps track of the checked out connection: closing it gives back the permit and marks the tenant data source as used.
+     */
+    protected class TrackedConnectionHandler implements InvocationHandler {
+
+        protected final Connection connection;
+        protected final TenantDataSourceUsage dataSourceUsage;
+        protected boolean closed;
+
+        public TrackedConnectionHandler(Connection connection, TenantDataSourceUsage dataSourceUsage) {
+            this.connection = connection;
+            this.dataSourceUsage = dataSourceUsage;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if ("close".equals(methodName) && method.getParameterCount() == 0) {
+                close();
+                return null;
+
+            } else if ("unwrap".equals(methodName) && args != null && args.length == 1 && ((Class<?>) args[0]).isInstance(connection)) {
+                return connection;
+
+            } else if ("equals".equals(methodName) && args != null && args.length == 1) {
+                return proxy == args[0];
+
+            } else if ("hashCode".equals(methodName) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        protected void close() throws SQLException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+
+            try {
+                connection.close();
+            } finally {
+                dataSourceUsage.connectionClosed();
+
+                // A lazily created data source keeps its permit for the connection that is now idle in its pool
+                if (!dataSourceUsage.lazilyCreated) {
+                    releaseConnectionPermit();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg.multitenant;
+
+import javax.sql.DataSource;
+
+/**
+ * Factory used by the {@link PoolingTenantAwareDataSource} to lazily create the {@link DataSource} of a tenant,
+ * the first time a connection is needed for that tenant.
+ */
+public interface TenantDataSourceFactory {
+
+    /**
+     * Creates the {@link DataSource} for the given tenant. Returning null means there is no {@link DataSource} for the tenant.
+     */
+    DataSource createDataSource(String tenantId);
+
+}
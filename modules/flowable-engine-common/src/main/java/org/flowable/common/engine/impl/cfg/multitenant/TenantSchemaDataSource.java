@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg.multitenant;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} for one tenant in a schema per tenant setup, that takes its connections from a pool shared by all tenants
+ * and switches each connection to the schema of the tenant when it is checked out.
+ *
+ * Registering one of these per tenant (instead of a dedicated pool per tenant) means that the number of database connections
+ * is bounded by the size of the shared pool, whatever the number of tenants.
+ * The default implementation uses {@link Connection#setSchema(String)}, override {@link #switchSchema(Connection)}
+ * for databases or drivers that use another mechanism (e.g. {@link Connection#setCatalog(String)} on MySQL).
+ */
+public class TenantSchemaDataSource implements DataSource {
+
+    protected DataSource sharedDataSource;
+    protected String schema;
+
+    public TenantSchemaDataSource(DataSource sharedDataSource, String schema) {
+        this.sharedDataSource = sharedDataSource;
+        this.schema = schema;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return switchSchema(sharedDataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return switchSchema(sharedDataSource.getConnection(username, password));
+    }
+
+    protected Connection switchSchema(Connection connection) throws SQLException {
+        try {
+            connection.setSchema(schema);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return sharedDataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        sharedDataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        sharedDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return sharedDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return sharedDataSource.getParentLogger();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return sharedDataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || sharedDataSource.isWrapperFor(iface);
+    }
+
+    public DataSource getSharedDataSource() {
+        return sharedDataSource;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+}
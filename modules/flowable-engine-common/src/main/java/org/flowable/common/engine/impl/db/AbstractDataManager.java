@@ -305,6 +305,19 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return CollectionUtil.partition(values, MAX_ENTRIES_IN_CLAUSE);
     }
 
+    /**
+     * Selects the entities matching the given values of the in() clause of the statement,
+     * with multiple queries when there are more values than a single in() clause supports.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> getListWithInClause(String selectQuery, Collection<String> values) {
+        List<T> result = new ArrayList<>();
+        for (List<String> safeValues : createSafeInValuesList(values)) {
+            result.addAll(getDbSqlSession().selectList(selectQuery, safeValues));
+        }
+        return result;
+    }
+
     protected void executeChangeWithInClause(List<EntityImpl> entities, Consumer<List<EntityImpl>> consumer) {
         // need to split into different parts due to some dbs not supporting more than MAX_ENTRIES_IN_CLAUSE for in()
         CollectionUtil.consumePartitions(entities, MAX_ENTRIES_IN_CLAUSE, consumer);
@@ -329,5 +342,9 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
     }
 
+    protected boolean isRelatedEntitiesFetched(DbSqlSession dbSqlSession, String ownerId) {
+        return dbSqlSession.isRelatedEntitiesFetched(getManagedEntityClass(), ownerId);
+    }
+
     protected abstract IdGenerator getIdGenerator();
 }
@@ -211,8 +211,16 @@ public abstract class AbstractSqlScriptBasedDbSchemaManager implements SchemaMan
     protected abstract String getResourcesRootDirectory();
     
     public void executeMandatorySchemaResource(String operation, String component) {
-        String databaseType = getDbSqlSession().getDbSqlSessionFactory().getDatabaseType();
+        DbSqlSessionFactory dbSqlSessionFactory = getDbSqlSession().getDbSqlSessionFactory();
+        String databaseType = dbSqlSessionFactory.getDatabaseType();
         executeSchemaResource(operation, component, getResourceForDbOperation(operation, operation, component, databaseType), false);
+
+        String databaseSchemaProfile = dbSqlSessionFactory.getDatabaseSchemaProfile();
+        if (StringUtils.isNotEmpty(databaseSchemaProfile)) {
+            // A schema profile script only contains the changes on top of the default script (e.g. converting tables to partitioned tables),
+            // so that the same script can also be used to migrate an existing schema
+            executeSchemaResource(operation, component, getResourceForDbOperation(operation, operation, component + "." + databaseSchemaProfile, databaseType), true);
+        }
     }
 
     public void executeSchemaResource(String operation, String component, String resourceName, boolean isOptional) {
@@ -13,7 +13,9 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,7 +25,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -53,11 +57,15 @@ public class DbSqlSession implements Session {
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
+    protected Connection ownedConnection;
+    protected boolean readOnly;
+    protected boolean estimateCounts;
 
     protected Map<Class<? extends Entity>, Map<String, Entity>> insertedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
+    protected Map<Class<?>, Set<String>> fetchedRelatedEntityOwnerIds = new HashMap<>();
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
@@ -234,6 +242,24 @@ public class DbSqlSession implements Session {
         return selectListWithRawParameter(statement, parameter, true);
     }
 
+    /**
+     * Executes the statement using a database cursor and passes every result to the given consumer as soon as it is read.
+     * The results are not stored in the entity cache, which means that only one row at a time needs to be kept in memory.
+     * The fetch size of the cursor is determined by the mapped statement.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void selectWithCursor(String statement, ListQueryParameterObject parameter, Consumer<? super T> consumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        try (Cursor<Object> cursor = sqlSession.selectCursor(statement, parameter)) {
+            for (Object result : cursor) {
+                consumer.accept((T) result);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not close cursor for statement " + statement, e);
+        }
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List queryWithRawParameter(String statement, CacheAwareQuery parameter, Class entityClass, boolean cacheLoadAndStore) {
         if (parameter.getId() != null && !parameter.getId().isEmpty()) {
@@ -278,6 +304,11 @@ public class DbSqlSession implements Session {
     
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
+        if (estimateCounts && dbSqlSessionFactory.getCountEstimator().isCountStatement(sqlSession, statement)) {
+            // See AbstractQuery#approximateCount: count statements are estimated by the query planner instead of executed
+            return dbSqlSessionFactory.getCountEstimator().estimateCount(sqlSession, statement, parameter);
+        }
+
         Object result = sqlSession.selectOne(statement, parameter);
         if (result instanceof Entity) {
             Entity loadedObject = (Entity) result;
@@ -356,6 +387,11 @@ public class DbSqlSession implements Session {
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
+        if (readOnly) {
+            skipReadOnlyFlush();
+            return;
+        }
+
         if (LOGGER.isDebugEnabled()) {
             debugFlush();
         }
@@ -421,6 +457,24 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * A read-only session is connected to the read-only data source, so nothing can be written.
+     * Inserts and deletes mean that the command should not have been executed as read-only.
+     * Updates can happen as a side effect of reading (e.g. deserialized variable values that are considered changed) and are skipped.
+     */
+    protected void skipReadOnlyFlush() {
+        boolean hasInserts = insertedObjects.values().stream().anyMatch(entities -> !entities.isEmpty());
+        boolean hasDeletes = deletedObjects.values().stream().anyMatch(entities -> !entities.isEmpty()) || !bulkDeleteOperations.isEmpty();
+        if (hasInserts || hasDeletes) {
+            throw new FlowableException("Inserts or deletes are not possible in a command that is executed as read-only");
+        }
+
+        if (!updatedObjects.isEmpty()) {
+            LOGGER.debug("Skipping {} updates of read-only session", updatedObjects.size());
+            updatedObjects.clear();
+        }
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -461,6 +515,19 @@ public class DbSqlSession implements Session {
                 && insertedObjects.get(entityClass).containsKey(entityId);
     }
 
+    /**
+     * Marks that all entities of the given class related to the given owners (e.g. all tasks of a set of executions)
+     * have been fetched into the entity cache, so later lookups by owner id can be answered from the cache alone.
+     */
+    public void addFetchedRelatedEntities(Class<?> entityClass, Collection<String> ownerIds) {
+        fetchedRelatedEntityOwnerIds.computeIfAbsent(entityClass, key -> new HashSet<>()).addAll(ownerIds);
+    }
+
+    public boolean isRelatedEntitiesFetched(Class<?> entityClass, String ownerId) {
+        Set<String> ownerIds = fetchedRelatedEntityOwnerIds.get(entityClass);
+        return ownerIds != null && ownerIds.contains(ownerId);
+    }
+
     public boolean isEntityToBeDeleted(Entity entity) {
         return (deletedObjects.containsKey(entity.getClass())
                 && deletedObjects.get(entity.getClass()).containsKey(entity.getId())) || entity.isDeleted();
@@ -650,7 +717,47 @@ public class DbSqlSession implements Session {
 
     @Override
     public void close() {
-        sqlSession.close();
+        try {
+            sqlSession.close();
+        } finally {
+            closeOwnedConnection();
+        }
+    }
+
+    protected void closeOwnedConnection() {
+        if (ownedConnection != null) {
+            try {
+                if (!ownedConnection.isClosed()) {
+                    ownedConnection.close();
+                }
+            } catch (SQLException e) {
+                LOGGER.warn("Could not close connection", e);
+            }
+        }
+    }
+
+    /**
+     * Sets a connection that was opened for this session only and needs to be closed when the session is closed,
+     * regardless of how the transactions of the MyBatis session are managed.
+     */
+    public void setOwnedConnection(Connection ownedConnection) {
+        this.ownedConnection = ownedConnection;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public boolean isEstimateCounts() {
+        return estimateCounts;
+    }
+
+    public void setEstimateCounts(boolean estimateCounts) {
+        this.estimateCounts = estimateCounts;
     }
 
     public void commit() {
@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,6 +23,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -45,6 +48,7 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     protected String databaseCatalog;
     protected String databaseSchema;
+    protected String databaseSchemaProfile;
     protected SqlSessionFactory sqlSessionFactory;
     protected Map<String, String> statementMappings;
 
@@ -66,6 +70,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    protected DataSource readOnlyDataSource;
+
+    protected QueryPlanCountEstimator countEstimator = new QueryPlanCountEstimator();
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -100,7 +108,31 @@ public class DbSqlSessionFactory implements SessionFactory {
     }
 
     protected DbSqlSession createDbSqlSession() {
-        return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
+        CommandContext commandContext = Context.getCommandContext();
+        if (isRoutedToReadOnlyDataSource(commandContext)) {
+            return createReadOnlyDbSqlSession(commandContext);
+        }
+        return new DbSqlSession(this, commandContext.getSession(EntityCache.class));
+    }
+
+    protected boolean isRoutedToReadOnlyDataSource(CommandContext commandContext) {
+        // The routing decision is made by the ReadReplicaRoutingInterceptor, before any transaction is started
+        return readOnlyDataSource != null && commandContext.isReadReplica();
+    }
+
+    protected DbSqlSession createReadOnlyDbSqlSession(CommandContext commandContext) {
+        Connection connection;
+        try {
+            connection = readOnlyDataSource.getConnection();
+            connection.setReadOnly(true);
+        } catch (SQLException e) {
+            throw new FlowableException("Could not open connection to the read-only data source", e);
+        }
+
+        DbSqlSession dbSqlSession = new DbSqlSession(this, commandContext.getSession(EntityCache.class), connection, null, null);
+        dbSqlSession.setOwnedConnection(connection);
+        dbSqlSession.setReadOnly(true);
+        return dbSqlSession;
     }
 
     // insert, update and delete statements
@@ -153,6 +185,20 @@ public class DbSqlSessionFactory implements SessionFactory {
         specificStatements.put(activitiStatement, ibatisStatement);
     }
 
+    /**
+     * Maps a statement to a variant that is only used when the given database type and schema profile are active,
+     * e.g. to add the partition key to the predicates of statements on partitioned tables.
+     * Needs to be called after the database type and schema profile are set.
+     */
+    public void addDatabaseSchemaProfileStatement(String databaseType, String databaseSchemaProfile, String statement, String profileStatement) {
+        if (databaseType.equals(this.databaseType) && databaseSchemaProfile.equals(this.databaseSchemaProfile)) {
+            // The database specific statements can be shared, so the profile statements are added to a copy
+            Map<String, String> mappings = statementMappings != null ? new HashMap<>(statementMappings) : new HashMap<>();
+            mappings.put(statement, profileStatement);
+            statementMappings = mappings;
+        }
+    }
+
     public String mapStatement(String statement) {
         if (statementMappings == null) {
             return statement;
@@ -202,6 +248,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+    }
+
+    public QueryPlanCountEstimator getCountEstimator() {
+        return countEstimator;
+    }
+
+    public void setCountEstimator(QueryPlanCountEstimator countEstimator) {
+        this.countEstimator = countEstimator;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -304,6 +366,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.databaseSchema = databaseSchema;
     }
 
+    public String getDatabaseSchemaProfile() {
+        return databaseSchemaProfile;
+    }
+
+    public void setDatabaseSchemaProfile(String databaseSchemaProfile) {
+        this.databaseSchemaProfile = databaseSchemaProfile;
+    }
+
     public void setTablePrefixIsSchema(boolean tablePrefixIsSchema) {
         this.tablePrefixIsSchema = tablePrefixIsSchema;
     }
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+
+/**
+ * Only routes the read-only commands of the registered command types to the read replica.
+ * All other read-only commands read from the primary data source, so that callers see the data they have just written.
+ *
+ * A command type matches when the command is an instance of it, so registering a command superclass
+ * also covers all its subclasses.
+ */
+public class DefaultReadReplicaRoutingPolicy implements ReadReplicaRoutingPolicy {
+
+    protected Set<Class<?>> readReplicaCommandTypes = new HashSet<>();
+
+    @Override
+    public boolean isRoutedToReadReplica(Command<?> command) {
+        for (Class<?> readReplicaCommandType : readReplicaCommandTypes) {
+            if (readReplicaCommandType.isInstance(command)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public DefaultReadReplicaRoutingPolicy addReadReplicaCommandType(Class<?> commandType) {
+        this.readReplicaCommandTypes.add(commandType);
+        return this;
+    }
+
+    public Set<Class<?>> getReadReplicaCommandTypes() {
+        return readReplicaCommandTypes;
+    }
+
+    public void setReadReplicaCommandTypes(Set<Class<?>> readReplicaCommandTypes) {
+        this.readReplicaCommandTypes = readReplicaCommandTypes;
+    }
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates the result of a count statement with the row estimate of the database query planner, instead of executing it.
+ * The estimate takes the filters of the query into account, but it is only as accurate as the table statistics of the database.
+ *
+ * Only PostgreSQL is supported: its EXPLAIN output contains the estimated number of rows that go into the count aggregate.
+ */
+public class QueryPlanCountEstimator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanCountEstimator.class);
+
+    // e.g. "  ->  Seq Scan on act_hi_procinst res  (cost=0.00..1693.00 rows=70000 width=37)"
+    protected static final Pattern CHILD_NODE_ROWS_PATTERN = Pattern.compile("^\\s*->.*\\brows=(\\d+)\\b");
+
+    public boolean isSupported(String databaseType) {
+        return AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType);
+    }
+
+    /**
+     * @return the estimated count, or {@link Query#UNKNOWN_COUNT} when the statement is not a count statement or the plan could not be read
+     */
+    public long estimateCount(SqlSession sqlSession, String statement, Object parameter) {
+        MappedStatement mappedStatement = sqlSession.getConfiguration().getMappedStatement(statement);
+        if (!isCountStatement(mappedStatement)) {
+            return Query.UNKNOWN_COUNT;
+        }
+
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        try (PreparedStatement preparedStatement = sqlSession.getConnection().prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(mappedStatement, parameter, boundSql).setParameters(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                // The first child node is the input of the count aggregate at the top of the plan
+                while (resultSet.next()) {
+                    Matcher matcher = CHILD_NODE_ROWS_PATTERN.matcher(resultSet.getString(1));
+                    if (matcher.find()) {
+                        return Long.parseLong(matcher.group(1));
+                    }
+                }
+            }
+
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.debug("Could not estimate the count of statement {}", statement, e);
+        }
+
+        return Query.UNKNOWN_COUNT;
+    }
+
+    public boolean isCountStatement(SqlSession sqlSession, String statement) {
+        return sqlSession.getConfiguration().hasStatement(statement) && isCountStatement(sqlSession.getConfiguration().getMappedStatement(statement));
+    }
+
+    protected boolean isCountStatement(MappedStatement mappedStatement) {
+        if (mappedStatement.getResultMaps().size() != 1) {
+            return false;
+        }
+        ResultMap resultMap = mappedStatement.getResultMaps().get(0);
+        return resultMap.getType() == Long.class || resultMap.getType() == long.class;
+    }
+
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+
+/**
+ * Decides whether a command that is executed with a read-only {@link org.flowable.common.engine.impl.interceptor.CommandConfig}
+ * is allowed to read from the read-only (replica) data source, or needs to read from the primary data source
+ * because it cannot tolerate the replication lag.
+ * Commands that are opted in with {@link org.flowable.common.engine.impl.interceptor.CommandConfig#readReplica()}
+ * (e.g. queries on which {@code readFromReplica()} is called) are routed without consulting the policy.
+ */
+@FunctionalInterface
+public interface ReadReplicaRoutingPolicy {
+
+    boolean isRoutedToReadReplica(Command<?> command);
+
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.profiler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.common.engine.api.management.SqlStatementProfile;
+
+/**
+ * The aggregated statistics of all profiled executions of one command class.
+ * The execution times of the most recent executions are kept in a ring buffer, from which the percentiles are calculated.
+ */
+public class CommandSqlStatistics {
+
+    protected final String commandName;
+    protected final int maxStatements;
+
+    protected long executionCount;
+    protected long failureCount;
+    protected long totalTimeNanos;
+    protected long maxTimeNanos;
+    protected long entityCacheHits;
+    protected long entityCacheMisses;
+
+    protected final long[] executionTimeWindow;
+    protected int executionTimeWindowIndex;
+
+    protected final Map<String, SqlProfilerExecution.StatementExecutions> statements = new HashMap<>();
+
+    public CommandSqlStatistics(String commandName, int executionTimeWindowSize, int maxStatements) {
+        this.commandName = commandName;
+        this.maxStatements = maxStatements;
+        this.executionTimeWindow = new long[Math.max(executionTimeWindowSize, 1)];
+    }
+
+    public synchronized void record(SqlProfilerExecution execution, long timeNanos, boolean failed) {
+        executionCount++;
+        if (failed) {
+            failureCount++;
+        }
+        totalTimeNanos += timeNanos;
+        maxTimeNanos = Math.max(maxTimeNanos, timeNanos);
+        entityCacheHits += execution.getEntityCacheHits();
+        entityCacheMisses += execution.getEntityCacheMisses();
+
+        executionTimeWindow[executionTimeWindowIndex % executionTimeWindow.length] = timeNanos;
+        executionTimeWindowIndex++;
+
+        for (Map.Entry<String, SqlProfilerExecution.StatementExecutions> entry : execution.getStatements().entrySet()) {
+            SqlProfilerExecution.StatementExecutions statementStatistics = statements.get(entry.getKey());
+            if (statementStatistics == null) {
+                if (statements.size() >= maxStatements) {
+                    continue;
+                }
+                statementStatistics = new SqlProfilerExecution.StatementExecutions();
+                statements.put(entry.getKey(), statementStatistics);
+            }
+
+            SqlProfilerExecution.StatementExecutions statementExecutions = entry.getValue();
+            statementStatistics.count += statementExecutions.count;
+            statementStatistics.rows += statementExecutions.rows;
+            statementStatistics.totalTimeNanos += statementExecutions.totalTimeNanos;
+            statementStatistics.maxTimeNanos = Math.max(statementStatistics.maxTimeNanos, statementExecutions.maxTimeNanos);
+        }
+    }
+
+    public synchronized CommandSqlProfile createProfile() {
+        CommandSqlProfile profile = new CommandSqlProfile(commandName);
+        profile.setExecutionCount(executionCount);
+        profile.setFailureCount(failureCount);
+        profile.setTotalTimeMillis(toMillis(totalTimeNanos));
+        profile.setMaxTimeMillis(toMillis(maxTimeNanos));
+        profile.setEntityCacheHits(entityCacheHits);
+        profile.setEntityCacheMisses(entityCacheMisses);
+
+        int windowSize = Math.min(executionTimeWindowIndex, executionTimeWindow.length);
+        if (windowSize > 0) {
+            long[] executionTimes = Arrays.copyOf(executionTimeWindow, windowSize);
+            Arrays.sort(executionTimes);
+            profile.setMedianTimeMillis(toMillis(percentile(executionTimes, 0.5)));
+            profile.setPercentile95TimeMillis(toMillis(percentile(executionTimes, 0.95)));
+            profile.setPercentile99TimeMillis(toMillis(percentile(executionTimes, 0.99)));
+        }
+
+        for (Map.Entry<String, SqlProfilerExecution.StatementExecutions> entry : statements.entrySet()) {
+            SqlStatementProfile statementProfile = new SqlStatementProfile(entry.getKey());
+            statementProfile.setCount(entry.getValue().count);
+            statementProfile.setRows(entry.getValue().rows);
+            statementProfile.setTotalTimeMillis(toMillis(entry.getValue().totalTimeNanos));
+            statementProfile.setMaxTimeMillis(toMillis(entry.getValue().maxTimeNanos));
+            profile.getStatements().add(statementProfile);
+        }
+
+        return profile;
+    }
+
+    protected long percentile(long[] sortedValues, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(index, 0)];
+    }
+
+    protected long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
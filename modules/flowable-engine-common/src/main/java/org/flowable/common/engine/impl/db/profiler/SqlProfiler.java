@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.profiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+
+/**
+ * Opt-in profiler collecting, per command class, the executed MyBatis statements, the number of rows they returned or affected,
+ * their cumulative execution time and the entity cache hit rate.
+ *
+ * The statements are captured by the {@link SqlProfilerPlugin} and attributed to the outermost command executing on the current thread,
+ * which is tracked by the {@link SqlProfilerCommandInterceptor}. The collected statistics are kept in memory:
+ * at most {@link #getMaxCommands()} command classes are tracked and the execution time percentiles are calculated over the last
+ * {@link #getExecutionTimeWindowSize()} executions of a command.
+ */
+public class SqlProfiler {
+
+    protected static final ThreadLocal<SqlProfilerExecution> CURRENT_EXECUTION = new ThreadLocal<>();
+
+    protected int maxCommands = 500;
+    protected int maxStatementsPerCommand = 200;
+    protected int executionTimeWindowSize = 1000;
+
+    protected ConcurrentMap<String, CommandSqlStatistics> commandStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * @return the profiled execution of the outermost command running on the current thread, or null when no command is being profiled.
+     */
+    public static SqlProfilerExecution getCurrentExecution() {
+        return CURRENT_EXECUTION.get();
+    }
+
+    /**
+     * Starts profiling the given command, unless a command is already being profiled on the current thread.
+     * In that case the statements of the (nested) command are attributed to the already running command and null is returned.
+     */
+    public SqlProfilerExecution startExecution(String commandName) {
+        if (CURRENT_EXECUTION.get() != null) {
+            return null;
+        }
+
+        SqlProfilerExecution execution = new SqlProfilerExecution(commandName);
+        CURRENT_EXECUTION.set(execution);
+        return execution;
+    }
+
+    public void endExecution(SqlProfilerExecution execution, boolean failed) {
+        CURRENT_EXECUTION.remove();
+
+        CommandSqlStatistics statistics = commandStatistics.get(execution.getCommandName());
+        if (statistics == null) {
+            if (commandStatistics.size() >= maxCommands) {
+                return;
+            }
+            statistics = commandStatistics.computeIfAbsent(execution.getCommandName(),
+                    commandName -> new CommandSqlStatistics(commandName, executionTimeWindowSize, maxStatementsPerCommand));
+        }
+        statistics.record(execution, System.nanoTime() - execution.getStartTime(), failed);
+    }
+
+    public List<CommandSqlProfile> getCommandSqlProfiles() {
+        List<CommandSqlProfile> profiles = new ArrayList<>(commandStatistics.size());
+        for (CommandSqlStatistics statistics : commandStatistics.values()) {
+            profiles.add(statistics.createProfile());
+        }
+        return profiles;
+    }
+
+    public CommandSqlProfile getCommandSqlProfile(String commandName) {
+        CommandSqlStatistics statistics = commandStatistics.get(commandName);
+        return statistics != null ? statistics.createProfile() : null;
+    }
+
+    public void reset() {
+        commandStatistics.clear();
+    }
+
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    public SqlProfiler setMaxCommands(int maxCommands) {
+        this.maxCommands = maxCommands;
+        return this;
+    }
+
+    public int getMaxStatementsPerCommand() {
+        return maxStatementsPerCommand;
+    }
+
+    public SqlProfiler setMaxStatementsPerCommand(int maxStatementsPerCommand) {
+        this.maxStatementsPerCommand = maxStatementsPerCommand;
+        return this;
+    }
+
+    public int getExecutionTimeWindowSize() {
+        return executionTimeWindowSize;
+    }
+
+    public SqlProfiler setExecutionTimeWindowSize(int executionTimeWindowSize) {
+        this.executionTimeWindowSize = executionTimeWindowSize;
+        return this;
+    }
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.profiler;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * Marks the start and end of a profiled command execution for the {@link SqlProfiler}.
+ * Needs to be placed before the command context interceptor, so that the statements executed when flushing are included.
+ */
+public class SqlProfilerCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected SqlProfiler sqlProfiler;
+
+    public SqlProfilerCommandInterceptor(SqlProfiler sqlProfiler) {
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        SqlProfilerExecution execution = sqlProfiler.startExecution(command.getClass().getName());
+        if (execution == null) {
+            return next.execute(config, command, commandExecutor);
+        }
+
+        boolean failed = true;
+        try {
+            T result = next.execute(config, command, commandExecutor);
+            failed = false;
+            return result;
+
+        } finally {
+            sqlProfiler.endExecution(execution, failed);
+        }
+    }
+
+}
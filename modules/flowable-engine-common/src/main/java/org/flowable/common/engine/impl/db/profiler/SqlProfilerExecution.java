@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.profiler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The statements executed during one (outermost) command execution. Only accessed by the thread executing the command.
+ */
+public class SqlProfilerExecution {
+
+    protected final String commandName;
+    protected final long startTime = System.nanoTime();
+    protected final Map<String, StatementExecutions> statements = new HashMap<>();
+
+    protected long entityCacheHits;
+    protected long entityCacheMisses;
+
+    public SqlProfilerExecution(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public void addStatement(String statementId, long rows, long timeNanos) {
+        StatementExecutions statementExecutions = statements.computeIfAbsent(statementId, id -> new StatementExecutions());
+        statementExecutions.count++;
+        statementExecutions.rows += rows;
+        statementExecutions.totalTimeNanos += timeNanos;
+        statementExecutions.maxTimeNanos = Math.max(statementExecutions.maxTimeNanos, timeNanos);
+    }
+
+    public void addEntityCacheStatistics(long hits, long misses) {
+        this.entityCacheHits += hits;
+        this.entityCacheMisses += misses;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public Map<String, StatementExecutions> getStatements() {
+        return statements;
+    }
+
+    public long getEntityCacheHits() {
+        return entityCacheHits;
+    }
+
+    public long getEntityCacheMisses() {
+        return entityCacheMisses;
+    }
+
+    public static class StatementExecutions {
+
+        protected long count;
+        protected long rows;
+        protected long totalTimeNanos;
+        protected long maxTimeNanos;
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getTotalTimeNanos() {
+            return totalTimeNanos;
+        }
+
+        public long getMaxTimeNanos() {
+            return maxTimeNanos;
+        }
+    }
+
+}
@@ -25,6 +25,8 @@ public class CommandConfig {
 
     private boolean contextReusePossible;
     private TransactionPropagation propagation;
+    private boolean readOnly;
+    private boolean readReplica;
 
     public CommandConfig() {
         this.contextReusePossible = true;
@@ -44,6 +46,8 @@ public class CommandConfig {
     protected CommandConfig(CommandConfig commandConfig) {
         this.contextReusePossible = commandConfig.contextReusePossible;
         this.propagation = commandConfig.propagation;
+        this.readOnly = commandConfig.readOnly;
+        this.readReplica = commandConfig.readReplica;
     }
 
     public boolean isContextReusePossible() {
@@ -54,6 +58,48 @@ public class CommandConfig {
         return propagation;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public boolean isReadReplica() {
+        return readReplica;
+    }
+
+    /**
+     * Marks the command as only reading data. Such a command is only executed against the read-only data source
+     * when it is opted in, either with {@link #readReplica()} or by the configured read replica routing policy.
+     */
+    public CommandConfig readOnly() {
+        CommandConfig config = new CommandConfig(this);
+        config.readOnly = true;
+        return config;
+    }
+
+    public CommandConfig setReadOnly(boolean readOnly) {
+        CommandConfig config = new CommandConfig(this);
+        config.readOnly = readOnly;
+        return config;
+    }
+
+    /**
+     * Marks the command as only reading data and opts it in to be executed against the read-only data source (when one is configured).
+     * The command is still executed against the primary data source when it is called from an active command context or transaction,
+     * or shortly after a write from the same thread, so that it sees its own writes.
+     */
+    public CommandConfig readReplica() {
+        CommandConfig config = new CommandConfig(this);
+        config.readOnly = true;
+        config.readReplica = true;
+        return config;
+    }
+
+    public CommandConfig setReadReplica(boolean readReplica) {
+        CommandConfig config = new CommandConfig(this);
+        config.readReplica = readReplica;
+        return config;
+    }
+
     public CommandConfig setContextReusePossible(boolean contextReusePossible) {
         CommandConfig config = new CommandConfig(this);
         config.contextReusePossible = contextReusePossible;
@@ -52,6 +52,8 @@ public class CommandContext {
     protected boolean useClassForNameClassLoading;
     protected Clock clock;
     protected ObjectMapper objectMapper;
+    protected boolean readOnly;
+    protected boolean readReplica;
     
     public CommandContext(Command<?> command) {
         this.command = command;
@@ -408,5 +410,20 @@ public class CommandContext {
     public void setResult(Object result) {
         resultStack.add(result);
     }
-    
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public boolean isReadReplica() {
+        return readReplica;
+    }
+
+    public void setReadReplica(boolean readReplica) {
+        this.readReplica = readReplica;
+    }
 }
@@ -85,6 +85,8 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
             commandContext.setUseClassForNameClassLoading(useClassForNameClassLoading);
             commandContext.setClock(clock);
             commandContext.setObjectMapper(objectMapper);
+            commandContext.setReadOnly(config.isReadOnly());
+            commandContext.setReadReplica(config.isReadReplica());
             
         } else {
             LOGGER.debug("Valid context found. Reusing it for the current command '{}'", command.getClass().getCanonicalName());
@@ -50,6 +50,16 @@ public class JtaTransactionInterceptor extends AbstractCommandInterceptor {
             return next.execute(config, command, commandExecutor);
         }
 
+        if (config.isReadReplica()) {
+            if (config.getTransactionPropagation() == TransactionPropagation.REQUIRES_NEW || !isExisting()) {
+                // The command reads from the read replica, so there is no need for a transaction on the primary data source
+                return next.execute(config, command, commandExecutor);
+            }
+
+            // The existing transaction can contain uncommitted writes that a read-only (replica) data source can't see
+            config = config.setReadReplica(false);
+        }
+
         boolean requiresNew = config.getTransactionPropagation() == TransactionPropagation.REQUIRES_NEW;
         Transaction oldTx = null;
         try {
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.ReadReplicaRoutingPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides whether a read-only command is executed against the read-only (replica) data source.
+ * This needs to happen before the transaction interceptor, so that no transaction (and connection) on the primary data source
+ * is started for a command that reads from the replica.
+ *
+ * A command reads from the replica when it is opted in, either with {@link CommandConfig#readReplica()} or by the {@link ReadReplicaRoutingPolicy}.
+ * To keep read-your-writes, it reads from the primary data source anyway when it is called from an active command context,
+ * or when the same thread executed a command that can write within the last {@link #readYourWritesPeriodInMs}.
+ */
+public class ReadReplicaRoutingInterceptor extends AbstractCommandInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadReplicaRoutingInterceptor.class);
+
+    // Shared between engines, as they can write and read the same tables
+    protected static final ThreadLocal<Long> LAST_WRITE_TIME = new ThreadLocal<>();
+
+    protected ReadReplicaRoutingPolicy readReplicaRoutingPolicy;
+    protected long readYourWritesPeriodInMs;
+
+    public ReadReplicaRoutingInterceptor(ReadReplicaRoutingPolicy readReplicaRoutingPolicy, long readYourWritesPeriodInMs) {
+        this.readReplicaRoutingPolicy = readReplicaRoutingPolicy;
+        this.readYourWritesPeriodInMs = readYourWritesPeriodInMs;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        if (isRoutedToReadReplica(config, command)) {
+            LOGGER.debug("Executing {} against the read-only data source", command.getClass().getName());
+            return next.execute(config.isReadReplica() ? config : config.setReadReplica(true), command, commandExecutor);
+        }
+
+        try {
+            return next.execute(config.isReadReplica() ? config.setReadReplica(false) : config, command, commandExecutor);
+
+        } finally {
+            if (!config.isReadOnly()) {
+                LAST_WRITE_TIME.set(System.currentTimeMillis());
+            }
+        }
+    }
+
+    protected boolean isRoutedToReadReplica(CommandConfig config, Command<?> command) {
+        if (!config.isReadOnly()) {
+            return false;
+        }
+
+        if (!config.isReadReplica() && (readReplicaRoutingPolicy == null || !readReplicaRoutingPolicy.isRoutedToReadReplica(command))) {
+            return false;
+        }
+
+        // A nested command can read uncommitted writes of the active command context
+        if (Context.getCommandContext() != null) {
+            return false;
+        }
+
+        Long lastWriteTime = LAST_WRITE_TIME.get();
+        return lastWriteTime == null || System.currentTimeMillis() - lastWriteTime >= readYourWritesPeriodInMs;
+    }
+
+    public ReadReplicaRoutingPolicy getReadReplicaRoutingPolicy() {
+        return readReplicaRoutingPolicy;
+    }
+
+    public void setReadReplicaRoutingPolicy(ReadReplicaRoutingPolicy readReplicaRoutingPolicy) {
+        this.readReplicaRoutingPolicy = readReplicaRoutingPolicy;
+    }
+
+    public long getReadYourWritesPeriodInMs() {
+        return readYourWritesPeriodInMs;
+    }
+
+    public void setReadYourWritesPeriodInMs(long readYourWritesPeriodInMs) {
+        this.readYourWritesPeriodInMs = readYourWritesPeriodInMs;
+    }
+}
@@ -16,6 +16,7 @@ package org.flowable.common.engine.impl.interceptor;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContext;
 import org.flowable.common.engine.impl.context.Context;
 
 /**
@@ -44,7 +45,7 @@ public class TransactionContextInterceptor extends AbstractCommandInterceptor {
         try {
 
             if (openTransaction) {
-                TransactionContext transactionContext = transactionContextFactory.openTransactionContext(commandContext);
+                TransactionContext transactionContext = openTransactionContext(config, commandContext);
                 Context.setTransactionContext(transactionContext);
                 isContextSet = true;
                 commandContext.addCloseListener(new TransactionCommandContextCloseListener(transactionContext));
@@ -60,6 +61,15 @@ public class TransactionContextInterceptor extends AbstractCommandInterceptor {
 
     }
 
+    protected TransactionContext openTransactionContext(CommandConfig config, CommandContext commandContext) {
+        if (config.isReadReplica()) {
+            // No (Spring or JTA) transaction is started for commands that read from the read replica,
+            // the transaction of the read replica connection is handled by the command context itself
+            return new StandaloneMybatisTransactionContext(commandContext);
+        }
+        return transactionContextFactory.openTransactionContext(commandContext);
+    }
+
     public TransactionContextFactory getTransactionContextFactory() {
         return transactionContextFactory;
     }
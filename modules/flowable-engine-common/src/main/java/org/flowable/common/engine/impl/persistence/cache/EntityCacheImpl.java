@@ -19,6 +19,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.db.profiler.SqlProfiler;
+import org.flowable.common.engine.impl.db.profiler.SqlProfilerExecution;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -27,6 +29,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
 public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
+    protected long hitCount;
+    protected long missCount;
 
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
@@ -55,9 +59,11 @@ public class EntityCacheImpl implements EntityCache {
         }
 
         if (cachedObject != null) {
+            hitCount++;
             return (T) cachedObject.getEntity();
         }
 
+        missCount++;
         return null;
     }
 
@@ -115,7 +121,10 @@ public class EntityCacheImpl implements EntityCache {
 
     @Override
     public void close() {
-
+        SqlProfilerExecution sqlProfilerExecution = SqlProfiler.getCurrentExecution();
+        if (sqlProfilerExecution != null) {
+            sqlProfilerExecution.addEntityCacheStatistics(hitCount, missCount);
+        }
     }
 
     @Override
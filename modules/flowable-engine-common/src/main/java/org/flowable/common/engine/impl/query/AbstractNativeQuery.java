@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 
@@ -33,6 +34,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
 
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
+    protected boolean readFromReplica;
 
     protected AbstractNativeQuery(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -66,7 +68,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(getCommandConfig(), this);
         }
         return executeSingleResult(Context.getCommandContext());
     }
@@ -76,7 +78,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(getCommandConfig(), this);
         }
         return executeList(Context.getCommandContext(), generateParameterMap());
     }
@@ -88,7 +90,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(getCommandConfig(), this);
         }
         return executeList(Context.getCommandContext(), generateParameterMap());
     }
@@ -97,11 +99,27 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(getCommandConfig(), this);
         }
         return executeCount(Context.getCommandContext(), generateParameterMap());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public T readFromReplica() {
+        this.readFromReplica = true;
+        return (T) this;
+    }
+
+    /**
+     * Queries only read data, but they are only routed to the read-only data source (when one is configured) when they are opted in,
+     * as the replication lag would otherwise hide data that was just written.
+     */
+    protected CommandConfig getCommandConfig() {
+        CommandConfig config = commandExecutor.getDefaultConfig().readOnly();
+        return readFromReplica ? config.readReplica() : config;
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         if (resultType == ResultType.LIST) {
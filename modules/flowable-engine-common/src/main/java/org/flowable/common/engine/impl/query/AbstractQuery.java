@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -21,8 +22,12 @@ import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.common.engine.impl.db.QueryPlanCountEstimator;
 import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 
@@ -37,6 +42,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
+    protected boolean readFromReplica;
 
     protected AbstractQuery() {
         parameter = this;
@@ -102,7 +108,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(getCommandConfig(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -114,7 +120,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(getCommandConfig(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -137,7 +143,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         }
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(getCommandConfig(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -148,13 +154,74 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(getCommandConfig(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
         return executeCount(Context.getCommandContext());
     }
 
+    @Override
+    public long approximateCount() {
+        this.resultType = ResultType.COUNT;
+        if (commandExecutor != null) {
+            return commandExecutor.execute(getCommandConfig(), this::executeApproximateCount);
+        }
+        checkQueryOk();
+        return executeApproximateCount(Context.getCommandContext());
+    }
+
+    /**
+     * Executes the count of this query with the count statements estimated by the query planner (see {@link QueryPlanCountEstimator}).
+     */
+    public long executeApproximateCount(CommandContext commandContext) {
+        checkQueryOk();
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        DbSqlSessionFactory dbSqlSessionFactory = dbSqlSession.getDbSqlSessionFactory();
+        if (!dbSqlSessionFactory.getCountEstimator().isSupported(dbSqlSessionFactory.getDatabaseType())) {
+            return UNKNOWN_COUNT;
+        }
+
+        boolean estimateCounts = dbSqlSession.isEstimateCounts();
+        dbSqlSession.setEstimateCounts(true);
+        try {
+            return executeCount(commandContext);
+        } finally {
+            dbSqlSession.setEstimateCounts(estimateCounts);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super U> consumer) {
+        this.resultType = ResultType.LIST;
+        if (commandExecutor != null) {
+            commandExecutor.execute(getCommandConfig(), commandContext -> {
+                checkQueryOk();
+                executeForEach(commandContext, consumer);
+                return null;
+            });
+        } else {
+            checkQueryOk();
+            executeForEach(Context.getCommandContext(), consumer);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T readFromReplica() {
+        this.readFromReplica = true;
+        return (T) this;
+    }
+
+    /**
+     * Queries only read data, but they are only routed to the read-only data source (when one is configured) when they are opted in,
+     * as the replication lag would otherwise hide data that was just written.
+     */
+    protected CommandConfig getCommandConfig() {
+        CommandConfig config = commandExecutor.getDefaultConfig().readOnly();
+        return readFromReplica ? config.readReplica() : config;
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
@@ -176,6 +243,14 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the actual query and passes the results one by one to the given consumer.
+     * By default the complete result list is fetched first, queries that can use a database cursor override this.
+     */
+    public void executeForEach(CommandContext commandContext, Consumer<? super U> consumer) {
+        executeList(commandContext).forEach(consumer);
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
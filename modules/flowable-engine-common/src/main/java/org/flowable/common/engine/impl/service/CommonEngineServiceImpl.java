@@ -13,6 +13,7 @@
 package org.flowable.common.engine.impl.service;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 
 /**
@@ -32,6 +33,13 @@ public abstract class CommonEngineServiceImpl<C extends AbstractEngineConfigurat
         super(configuration);
     }
 
+    /**
+     * Executes a command that only reads data, which allows it to be routed to the read-only data source when one is configured.
+     */
+    protected <T> T executeReadOnly(Command<T> command) {
+        return commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), command);
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link AgendaOperationRunner} that creates a span for the agenda operations for which {@link #getSpanName(Runnable)} returns a name.
+ * The span is a child of the span of the command that executes the agenda.
+ */
+public abstract class AbstractTracingAgendaOperationRunner implements AgendaOperationRunner {
+
+    protected FlowableTracer tracer;
+    protected AgendaOperationRunner delegate;
+
+    public AbstractTracingAgendaOperationRunner(FlowableTracer tracer, AgendaOperationRunner delegate) {
+        this.tracer = tracer;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void executeOperation(CommandContext commandContext, Runnable runnable) {
+        String spanName = TracingContext.isSuppressed() ? null : getSpanName(runnable);
+        if (spanName == null) {
+            delegate.executeOperation(commandContext, runnable);
+            return;
+        }
+
+        FlowableSpan span = tracer.startSpan(spanName, TracingContext.getCurrentSpan());
+        addAttributes(span, runnable);
+        TracingContext.pushSpan(span);
+        try {
+            delegate.executeOperation(commandContext, runnable);
+
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            throw e;
+
+        } finally {
+            TracingContext.popSpan();
+            span.end();
+        }
+    }
+
+    /**
+     * Returns the name of the span for the given operation, or null when no span needs to be created for it.
+     */
+    protected abstract String getSpanName(Runnable operation);
+
+    protected abstract void addAttributes(FlowableSpan span, Runnable operation);
+
+}
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+/**
+ * A span started by a {@link FlowableTracer}. A span needs to be ended exactly once.
+ */
+public interface FlowableSpan {
+
+    void setAttribute(String key, String value);
+
+    void recordException(Throwable exception);
+
+    /**
+     * Returns the serialized trace context of this span (e.g. a W3C traceparent header value),
+     * which can be passed to {@link FlowableTracer#startSpan(String, String)} to continue the trace. Can be null.
+     */
+    String getTraceContext();
+
+    void end();
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+/**
+ * Service provider interface used by the engines to report spans to a tracing system (e.g. OpenTelemetry).
+ *
+ * The engines create a span for every command, for every agenda operation that is executed for a BPMN or CMMN element
+ * and for every async job execution. The trace context of the current span is stored with created jobs (in the TRACE_CONTEXT_ column),
+ * so the span of the job execution continues the trace that created the job.
+ * The event registry propagates the trace context through the channels (see {@link TracingContext#TRACE_CONTEXT_HEADER}).
+ *
+ * The default implementation is {@link NoopFlowableTracer}, which does not create any spans.
+ */
+public interface FlowableTracer {
+
+    /**
+     * Starts a new span.
+     *
+     * @param name the name of the span
+     * @param parent the parent span, or null when the span is the root of a new trace
+     */
+    FlowableSpan startSpan(String name, FlowableSpan parent);
+
+    /**
+     * Starts a new span that continues a trace started in another thread or process.
+     *
+     * @param name the name of the span
+     * @param remoteTraceContext the trace context as returned by {@link FlowableSpan#getTraceContext()}, can be null
+     */
+    FlowableSpan startSpan(String name, String remoteTraceContext);
+
+    /**
+     * Whether spans are reported. When false the engines don't create spans and don't propagate trace contexts.
+     */
+    default boolean isActive() {
+        return true;
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Span created by the {@link InMemoryFlowableTracer}.
+ */
+public class InMemoryFlowableSpan implements FlowableSpan {
+
+    protected final InMemoryFlowableTracer tracer;
+    protected final String name;
+    protected final String traceId;
+    protected final String spanId;
+    protected final String parentSpanId;
+    protected final Map<String, String> attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+    protected final long startTimeNanos;
+    protected long endTimeNanos;
+    protected Throwable exception;
+    protected boolean ended;
+
+    public InMemoryFlowableSpan(InMemoryFlowableTracer tracer, String name, String traceId, String spanId, String parentSpanId) {
+        this.tracer = tracer;
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.startTimeNanos = System.nanoTime();
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+    }
+
+    @Override
+    public void recordException(Throwable exception) {
+        this.exception = exception;
+    }
+
+    @Override
+    public String getTraceContext() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    @Override
+    public synchronized void end() {
+        if (!ended) {
+            ended = true;
+            endTimeNanos = System.nanoTime();
+            tracer.spanEnded(this);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public String getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    public Throwable getException() {
+        return exception;
+    }
+
+    public long getDurationNanos() {
+        return endTimeNanos - startTimeNanos;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryFlowableSpan[name=" + name + ", traceId=" + traceId + ", spanId=" + spanId + ", parentSpanId=" + parentSpanId + "]";
+    }
+
+}
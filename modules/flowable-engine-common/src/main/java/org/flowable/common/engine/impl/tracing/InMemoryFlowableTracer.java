@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * {@link FlowableTracer} that keeps the finished spans in memory. Meant for tests and for checking the tracing instrumentation
+ * without a tracing backend.
+ *
+ * Trace contexts are serialized as W3C traceparent values ({@code 00-<trace id>-<span id>-01}).
+ */
+public class InMemoryFlowableTracer implements FlowableTracer {
+
+    protected final List<InMemoryFlowableSpan> finishedSpans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public FlowableSpan startSpan(String name, FlowableSpan parent) {
+        if (parent instanceof InMemoryFlowableSpan) {
+            InMemoryFlowableSpan parentSpan = (InMemoryFlowableSpan) parent;
+            return new InMemoryFlowableSpan(this, name, parentSpan.getTraceId(), generateId(16), parentSpan.getSpanId());
+        }
+
+        return new InMemoryFlowableSpan(this, name, generateId(32), generateId(16), null);
+    }
+
+    @Override
+    public FlowableSpan startSpan(String name, String remoteTraceContext) {
+        if (remoteTraceContext != null) {
+            String[] parts = remoteTraceContext.split("-");
+            if (parts.length == 4 && parts[1].length() == 32 && parts[2].length() == 16) {
+                return new InMemoryFlowableSpan(this, name, parts[1], generateId(16), parts[2]);
+            }
+        }
+
+        return startSpan(name, (FlowableSpan) null);
+    }
+
+    protected void spanEnded(InMemoryFlowableSpan span) {
+        finishedSpans.add(span);
+    }
+
+    public List<InMemoryFlowableSpan> getFinishedSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(finishedSpans));
+    }
+
+    public List<InMemoryFlowableSpan> getFinishedSpans(String traceId) {
+        return finishedSpans.stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        finishedSpans.clear();
+    }
+
+    protected String generateId(int length) {
+        StringBuilder id = new StringBuilder(length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (id.length() < length) {
+            String part = Long.toHexString(random.nextLong());
+            for (int i = part.length(); i < 16; i++) {
+                id.append('0');
+            }
+            id.append(part);
+        }
+        id.setLength(length);
+        return id.toString();
+    }
+
+}
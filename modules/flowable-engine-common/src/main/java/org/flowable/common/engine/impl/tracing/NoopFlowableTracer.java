@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+/**
+ * {@link FlowableTracer} that doesn't report anything. Used when no tracer is configured.
+ */
+public class NoopFlowableTracer implements FlowableTracer {
+
+    public static final NoopFlowableTracer INSTANCE = new NoopFlowableTracer();
+
+    public static final FlowableSpan NOOP_SPAN = new FlowableSpan() {
+
+        @Override
+        public void setAttribute(String key, String value) {
+        }
+
+        @Override
+        public void recordException(Throwable exception) {
+        }
+
+        @Override
+        public String getTraceContext() {
+            return null;
+        }
+
+        @Override
+        public void end() {
+        }
+    };
+
+    @Override
+    public FlowableSpan startSpan(String name, FlowableSpan parent) {
+        return NOOP_SPAN;
+    }
+
+    @Override
+    public FlowableSpan startSpan(String name, String remoteTraceContext) {
+        return NOOP_SPAN;
+    }
+
+    @Override
+    public boolean isActive() {
+        return false;
+    }
+
+}
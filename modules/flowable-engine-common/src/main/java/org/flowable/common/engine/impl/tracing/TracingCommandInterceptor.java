@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * Creates a span for every command that is executed. Nested commands get a child span of the span of the outer command.
+ */
+public class TracingCommandInterceptor extends AbstractCommandInterceptor {
+
+    public static final String ATTRIBUTE_COMMAND = "flowable.command";
+
+    protected FlowableTracer tracer;
+    protected String engineType;
+
+    public TracingCommandInterceptor(FlowableTracer tracer, String engineType) {
+        this.tracer = tracer;
+        this.engineType = engineType;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        if (TracingContext.isSuppressed()) {
+            return next.execute(config, command, commandExecutor);
+        }
+
+        String commandName = command.getClass().getSimpleName();
+        FlowableSpan span = tracer.startSpan(engineType + " " + (commandName.isEmpty() ? command.getClass().getName() : commandName),
+                TracingContext.getCurrentSpan());
+        span.setAttribute(ATTRIBUTE_COMMAND, command.getClass().getName());
+        TracingContext.pushSpan(span);
+        try {
+            return next.execute(config, command, commandExecutor);
+
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            throw e;
+
+        } finally {
+            TracingContext.popSpan();
+            span.end();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps track of the span that is currently active on this thread.
+ *
+ * Pushing {@link NoopFlowableTracer#NOOP_SPAN} suppresses the creation of spans for the nested work.
+ */
+public class TracingContext {
+
+    /**
+     * Name of the message header that is used to propagate the trace context through the event registry channels.
+     */
+    public static final String TRACE_CONTEXT_HEADER = "traceparent";
+
+    protected static final ThreadLocal<Deque<FlowableSpan>> SPAN_STACK = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public static FlowableSpan getCurrentSpan() {
+        return SPAN_STACK.get().peek();
+    }
+
+    /**
+     * Returns the trace context of the current span, or null when there is no (reported) span active on this thread.
+     */
+    public static String getCurrentTraceContext() {
+        FlowableSpan span = getCurrentSpan();
+        return span != null ? span.getTraceContext() : null;
+    }
+
+    public static boolean isSuppressed() {
+        return getCurrentSpan() == NoopFlowableTracer.NOOP_SPAN;
+    }
+
+    public static void pushSpan(FlowableSpan span) {
+        SPAN_STACK.get().push(span);
+    }
+
+    public static void popSpan() {
+        Deque<FlowableSpan> stack = SPAN_STACK.get();
+        stack.poll();
+        if (stack.isEmpty()) {
+            SPAN_STACK.remove();
+        }
+    }
+
+}
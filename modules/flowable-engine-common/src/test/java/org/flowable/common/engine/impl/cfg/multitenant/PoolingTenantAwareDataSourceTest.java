@@ -0,0 +1,274 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg.multitenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+class PoolingTenantAwareDataSourceTest {
+
+    protected SimpleTenantInfoHolder tenantInfoHolder = new SimpleTenantInfoHolder();
+    protected List<TestDataSource> createdDataSources = new ArrayList<>();
+
+    @Test
+    void dataSourceIsCreatedLazilyAndEvictedWhenIdle() throws Exception {
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder, this::createDataSource);
+        dataSource.setMaxIdleTime(1);
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        Connection connection = dataSource.getConnection();
+        assertThat(createdDataSources).hasSize(1);
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("acme");
+        assertThat(dataSource.getActiveConnections("acme")).isEqualTo(1);
+
+        // Data source with a checked out connection is never evicted
+        Thread.sleep(5);
+        dataSource.evictIdleDataSources();
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("acme");
+
+        connection.close();
+        connection.close();
+        assertThat(dataSource.getActiveConnections("acme")).isZero();
+
+        Thread.sleep(5);
+        dataSource.evictIdleDataSources();
+        assertThat(dataSource.getDataSources()).isEmpty();
+        assertThat(createdDataSources.get(0).closed).isTrue();
+
+        // Becoming active again creates a new data source
+        dataSource.getConnection().close();
+        assertThat(createdDataSources).hasSize(2);
+        assertThat(createdDataSources.get(1).closed).isFalse();
+
+        dataSource.close();
+        assertThat(createdDataSources.get(1).closed).isTrue();
+    }
+
+    @Test
+    void registeredDataSourceIsNotEvicted() throws Exception {
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder);
+        dataSource.setMaxIdleTime(1);
+        TestDataSource registeredDataSource = new TestDataSource();
+        dataSource.addDataSource("acme", registeredDataSource);
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        dataSource.getConnection().close();
+
+        Thread.sleep(5);
+        dataSource.evictIdleDataSources();
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("acme");
+        assertThat(registeredDataSource.closed).isFalse();
+    }
+
+    @Test
+    void connectionsAreLimitedOverAllTenants() throws Exception {
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder, this::createDataSource);
+        dataSource.setMaxTotalConnections(2);
+        dataSource.setConnectionWaitTimeout(10);
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        Connection acmeConnection = dataSource.getConnection();
+        tenantInfoHolder.setCurrentTenantId("flowable");
+        Connection flowableConnection = dataSource.getConnection();
+
+        tenantInfoHolder.setCurrentTenantId("starkindustries");
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        // The pool of acme keeps its connection after it is given back, so it is evicted to free the connection
+        acmeConnection.close();
+        Connection starkConnection = dataSource.getConnection();
+        assertThat(dataSource.getActiveConnections("starkindustries")).isEqualTo(1);
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("flowable", "starkindustries");
+        assertThat(createdDataSources.get(0).closed).isTrue();
+
+        starkConnection.close();
+        flowableConnection.close();
+    }
+
+    @Test
+    void idlePoolsAreEvictedLeastRecentlyUsedFirstWhenConnectionsAreLimited() throws Exception {
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder, this::createDataSource);
+        dataSource.setMaxTotalConnections(2);
+        dataSource.setConnectionWaitTimeout(10);
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        dataSource.getConnection().close();
+        Thread.sleep(2);
+        tenantInfoHolder.setCurrentTenantId("flowable");
+        dataSource.getConnection().close();
+
+        // Reusing the connection of its own pool doesn't need another part of the budget
+        tenantInfoHolder.setCurrentTenantId("acme");
+        Connection acmeConnection = dataSource.getConnection();
+        assertThat(createdDataSources).hasSize(2);
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("acme", "flowable");
+
+        // The max idle time isn't reached, but the idle pool of flowable holds the last part of the budget
+        tenantInfoHolder.setCurrentTenantId("starkindustries");
+        Connection starkConnection = dataSource.getConnection();
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("acme", "starkindustries");
+        assertThat(createdDataSources.get(1).closed).isTrue();
+
+        // A pool with a checked out connection is never evicted
+        tenantInfoHolder.setCurrentTenantId("flowable");
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(createdDataSources.get(0).closed).isFalse();
+        assertThat(createdDataSources.get(2).closed).isFalse();
+
+        acmeConnection.close();
+        starkConnection.close();
+    }
+
+    @Test
+    void poolHoldsBudgetForItsConcurrentlyCheckedOutConnections() throws Exception {
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder, this::createDataSource);
+        dataSource.setMaxTotalConnections(2);
+        dataSource.setConnectionWaitTimeout(10);
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        Connection acmeConnection1 = dataSource.getConnection();
+        Connection acmeConnection2 = dataSource.getConnection();
+        acmeConnection1.close();
+        acmeConnection2.close();
+
+        // acme could still hold 2 idle connections in its pool, so another tenant can only get a connection by evicting it
+        tenantInfoHolder.setCurrentTenantId("acme");
+        Connection acmeConnection = dataSource.getConnection();
+        tenantInfoHolder.setCurrentTenantId("flowable");
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        acmeConnection.close();
+        dataSource.getConnection().close();
+        assertThat(dataSource.getDataSources()).containsOnlyKeys("flowable");
+    }
+
+    @Test
+    void schemaIsSwitchedOnCheckout() throws Exception {
+        TestDataSource sharedDataSource = new TestDataSource();
+        PoolingTenantAwareDataSource dataSource = new PoolingTenantAwareDataSource(tenantInfoHolder,
+                tenantId -> new TenantSchemaDataSource(sharedDataSource, "tenant_" + tenantId));
+
+        tenantInfoHolder.setCurrentTenantId("acme");
+        dataSource.getConnection().close();
+        tenantInfoHolder.setCurrentTenantId("flowable");
+        dataSource.getConnection().close();
+
+        assertThat(sharedDataSource.schemas).containsExactly("tenant_acme", "tenant_flowable");
+    }
+
+    protected DataSource createDataSource(String tenantId) {
+        TestDataSource dataSource = new TestDataSource();
+        createdDataSources.add(dataSource);
+        return dataSource;
+    }
+
+    protected static class SimpleTenantInfoHolder implements TenantInfoHolder {
+
+        protected String currentTenantId;
+
+        @Override
+        public Collection<String> getAllTenants() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void setCurrentTenantId(String tenantid) {
+            this.currentTenantId = tenantid;
+        }
+
+        @Override
+        public String getCurrentTenantId() {
+            return currentTenantId;
+        }
+
+        @Override
+        public void clearCurrentTenantId() {
+            this.currentTenantId = null;
+        }
+    }
+
+    protected static class TestDataSource implements DataSource, AutoCloseable {
+
+        protected List<String> schemas = new ArrayList<>();
+        protected boolean closed;
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                if ("setSchema".equals(method.getName())) {
+                    schemas.add((String) args[0]);
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) {
+            return null;
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
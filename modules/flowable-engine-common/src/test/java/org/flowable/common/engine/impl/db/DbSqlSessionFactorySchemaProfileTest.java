@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DbSqlSessionFactorySchemaProfileTest {
+
+    @Test
+    void profileStatementIsUsedForMatchingDatabaseTypeAndProfile() {
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(true);
+        dbSqlSessionFactory.setDatabaseType("postgres");
+        dbSqlSessionFactory.setDatabaseSchemaProfile("partitioned");
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "updateEntity", "updateEntity_partitioned");
+
+        assertThat(dbSqlSessionFactory.mapStatement("updateEntity")).isEqualTo("updateEntity_partitioned");
+        assertThat(dbSqlSessionFactory.mapStatement("deleteEntity")).isEqualTo("deleteEntity");
+    }
+
+    @Test
+    void profileStatementIsIgnoredForOtherDatabaseTypeOrProfile() {
+        DbSqlSessionFactory postgresFactory = new DbSqlSessionFactory(true);
+        postgresFactory.setDatabaseType("postgres");
+        postgresFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "updateEntity", "updateEntity_partitioned");
+        assertThat(postgresFactory.mapStatement("updateEntity")).isEqualTo("updateEntity");
+
+        DbSqlSessionFactory h2Factory = new DbSqlSessionFactory(true);
+        h2Factory.setDatabaseType("h2");
+        h2Factory.setDatabaseSchemaProfile("partitioned");
+        h2Factory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "updateEntity", "updateEntity_partitioned");
+        assertThat(h2Factory.mapStatement("updateEntity")).isEqualTo("updateEntity");
+    }
+
+    @Test
+    void databaseSpecificStatementsAreNotModified() {
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(true);
+        dbSqlSessionFactory.addDatabaseSpecificStatement("postgres", "selectEntity", "selectEntity_postgres");
+        dbSqlSessionFactory.setDatabaseType("postgres");
+        dbSqlSessionFactory.setDatabaseSchemaProfile("partitioned");
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "updateEntity", "updateEntity_partitioned");
+
+        assertThat(dbSqlSessionFactory.mapStatement("selectEntity")).isEqualTo("selectEntity_postgres");
+        assertThat(dbSqlSessionFactory.mapStatement("updateEntity")).isEqualTo("updateEntity_partitioned");
+        assertThat(dbSqlSessionFactory.getDatabaseSpecificStatements().get("postgres")).doesNotContainKey("updateEntity");
+    }
+}
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.Test;
+
+class DefaultReadReplicaRoutingPolicyTest {
+
+    @Test
+    void routesNoCommandsByDefault() {
+        DefaultReadReplicaRoutingPolicy policy = new DefaultReadReplicaRoutingPolicy();
+
+        assertThat(policy.isRoutedToReadReplica(new ReadCommand())).isFalse();
+        assertThat(policy.isRoutedToReadReplica(new StaleReadCommand())).isFalse();
+    }
+
+    @Test
+    void readReplicaCommandTypesIncludeSubclasses() {
+        DefaultReadReplicaRoutingPolicy policy = new DefaultReadReplicaRoutingPolicy()
+                .addReadReplicaCommandType(StaleReadCommand.class);
+
+        assertThat(policy.isRoutedToReadReplica(new ReadCommand())).isFalse();
+        assertThat(policy.isRoutedToReadReplica(new StaleReadCommand())).isTrue();
+        assertThat(policy.isRoutedToReadReplica(new StaleReadCommand() {
+        })).isTrue();
+    }
+
+    @Test
+    void readOnlyCommandConfig() {
+        CommandConfig config = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+        assertThat(config.isReadOnly()).isFalse();
+
+        CommandConfig readOnlyConfig = config.readOnly();
+        assertThat(readOnlyConfig.isReadOnly()).isTrue();
+        assertThat(readOnlyConfig.isContextReusePossible()).isFalse();
+        assertThat(readOnlyConfig.getTransactionPropagation()).isEqualTo(TransactionPropagation.REQUIRES_NEW);
+        assertThat(config.isReadOnly()).isFalse();
+
+        assertThat(readOnlyConfig.setContextReusePossible(true).isReadOnly()).isTrue();
+        assertThat(readOnlyConfig.isReadReplica()).isFalse();
+    }
+
+    @Test
+    void readReplicaCommandConfig() {
+        CommandConfig config = new CommandConfig().readReplica();
+        assertThat(config.isReadOnly()).isTrue();
+        assertThat(config.isReadReplica()).isTrue();
+
+        CommandConfig primaryConfig = config.setReadReplica(false);
+        assertThat(primaryConfig.isReadOnly()).isTrue();
+        assertThat(primaryConfig.isReadReplica()).isFalse();
+        assertThat(config.isReadReplica()).isTrue();
+    }
+
+    static class ReadCommand implements Command<Object> {
+
+        @Override
+        public Object execute(CommandContext commandContext) {
+            return null;
+        }
+    }
+
+    static class StaleReadCommand extends ReadCommand {
+
+    }
+}
@@ -24,6 +24,7 @@ import org.flowable.batch.api.BatchPartQuery;
 import org.flowable.batch.api.BatchQuery;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.management.CommandSqlProfile;
 import org.flowable.common.engine.api.management.TableMetaData;
 import org.flowable.common.engine.api.management.TablePage;
 import org.flowable.common.engine.api.management.TablePageQuery;
@@ -426,6 +427,23 @@ public interface ManagementService {
     /** get the list of properties. */
     Map<String, String> getProperties();
 
+    /**
+     * Returns the SQL statistics collected per command class by the SQL profiler.
+     * Returns an empty list when the SQL profiler is not enabled (see {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#setEnableSqlProfiler(boolean)}).
+     */
+    List<CommandSqlProfile> getCommandSqlProfiles();
+
+    /**
+     * Returns the SQL statistics collected by the SQL profiler for the command with the given (fully qualified) class name.
+     * Returns null when the command has not been profiled or the SQL profiler is not enabled.
+     */
+    CommandSqlProfile getCommandSqlProfile(String commandName);
+
+    /**
+     * Clears all statistics collected by the SQL profiler. Does nothing when the SQL profiler is not enabled.
+     */
+    void resetSqlProfiler();
+
     /**
      * programmatic schema update on a given connection returning feedback about what happened
      */
@@ -16,6 +16,7 @@ package org.flowable.engine.impl;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -77,6 +78,11 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    public void executeForEach(CommandContext commandContext, Consumer<? super HistoricActivityInstance> consumer) {
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this, consumer);
+    }
+
     @Override
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import java.util.function.Consumer;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
@@ -977,6 +978,26 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public void executeForEach(CommandContext commandContext, Consumer<? super HistoricProcessInstance> consumer) {
+        // The variables are joined into the rows of the process instances and the interceptor expects the complete result list,
+        // so those cases can't be read through a cursor
+        if (includeProcessVariables || processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            super.executeForEach(commandContext, consumer);
+            return;
+        }
+
+        ensureVariablesInitialized();
+        boolean localize = processEngineConfiguration.getPerformanceSettings().isEnableLocalization()
+                && processEngineConfiguration.getInternalProcessLocalizationManager() != null;
+        processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesByQueryCriteria(this, processInstance -> {
+            if (localize) {
+                processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback);
+            }
+            consumer.accept(processInstance);
+        });
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -1036,7 +1057,8 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         if (commandExecutor != null) {
             CommandConfig config = new CommandConfig().transactionRequiresNew();
             commandExecutor.execute(config, new DeleteHistoricProcessInstancesCmd(this));
-            commandExecutor.execute(config, new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd());
+            // The activities of the removed process instances were started before the process instances finished
+            commandExecutor.execute(config, new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd(finishedBefore));
             commandExecutor.execute(config, new DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd());
         } else {
             throw new FlowableException("deleting historic process instances with related data requires CommandExecutor");
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl;
 
 import java.sql.Connection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,7 @@ import org.flowable.batch.service.impl.BatchPartQueryImpl;
 import org.flowable.batch.service.impl.BatchQueryImpl;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.management.CommandSqlProfile;
 import org.flowable.common.engine.api.management.TableMetaData;
 import org.flowable.common.engine.api.management.TablePageQuery;
 import org.flowable.common.engine.api.tenant.ChangeTenantIdBuilder;
@@ -37,6 +39,7 @@ import org.flowable.common.engine.impl.cmd.GetTableCountCmd;
 import org.flowable.common.engine.impl.cmd.GetTableMetaDataCmd;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.db.profiler.SqlProfiler;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -378,6 +381,26 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         return commandExecutor.execute(new GetPropertiesCmd(configuration.getEngineCfgKey()));
     }
 
+    @Override
+    public List<CommandSqlProfile> getCommandSqlProfiles() {
+        SqlProfiler sqlProfiler = configuration.getSqlProfiler();
+        return sqlProfiler != null ? sqlProfiler.getCommandSqlProfiles() : Collections.emptyList();
+    }
+
+    @Override
+    public CommandSqlProfile getCommandSqlProfile(String commandName) {
+        SqlProfiler sqlProfiler = configuration.getSqlProfiler();
+        return sqlProfiler != null ? sqlProfiler.getCommandSqlProfile(commandName) : null;
+    }
+
+    @Override
+    public void resetSqlProfiler() {
+        SqlProfiler sqlProfiler = configuration.getSqlProfiler();
+        if (sqlProfiler != null) {
+            sqlProfiler.reset();
+        }
+    }
+
     @Override
     public String databaseSchemaUpgrade(final Connection connection, final String catalog, final String schema) {
         CommandConfig config = commandExecutor.getDefaultConfig().transactionNotSupported();
@@ -15,8 +15,12 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -32,6 +36,8 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryValue;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -75,6 +81,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> processVariableNames;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -500,6 +507,16 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNames = new LinkedHashSet<>(variableNames);
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         return this;
@@ -851,10 +868,13 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
             processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (includeProcessVariables && !isTwoPhaseProcessVariablesFetch()) {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceAndVariablesByQueryCriteria(this);
         } else {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
+            if (includeProcessVariables && !processInstances.isEmpty()) {
+                fetchProcessVariables(processInstances);
+            }
         }
 
         if (processEngineConfiguration.getPerformanceSettings().isEnableLocalization() && processEngineConfiguration.getInternalProcessLocalizationManager() != null) {
@@ -870,9 +890,32 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    protected void fetchProcessVariables(List<ProcessInstance> processInstances) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (ProcessInstance processInstance : processInstances) {
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        List<VariableInstanceEntity> variables = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .findProcessVariableInstancesByProcessInstanceIds(processInstanceIds, processVariableNames);
+        for (VariableInstanceEntity variable : variables) {
+            // Byte-array values are not initialized, they are only fetched when they are read
+            VariableInitializingList.initializeJpaVariable(variable);
+            variablesByProcessInstanceId.computeIfAbsent(variable.getExecutionId(), key -> new ArrayList<>()).add(variable);
+        }
+
+        for (ProcessInstance processInstance : processInstances) {
+            List<VariableInstanceEntity> processVariables = variablesByProcessInstanceId.get(processInstance.getId());
+            if (processVariables != null) {
+                ((ExecutionEntity) processInstance).setQueryVariables(new ArrayList<>(processVariables));
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(ExecutionEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && !isTwoPhaseProcessVariablesFetch()) {
             processInstance.getQueryVariables().addAll(processEngineConfiguration.getVariableServiceConfiguration()
                     .getVariableService().findVariableInstancesByExecutionId(processInstance.getId()));
         }
@@ -1054,6 +1097,19 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getProcessVariableNames() {
+        return processVariableNames;
+    }
+
+    /**
+     * Whether the process variables are fetched in a separate query after the process instances have been fetched,
+     * instead of being joined into the process instance query.
+     */
+    public boolean isTwoPhaseProcessVariablesFetch() {
+        return includeProcessVariables && (processVariableNames != null
+                || (processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableTwoPhaseQueryVariableFetching()));
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
@@ -146,7 +146,7 @@ public class RepositoryServiceImpl extends CommonEngineServiceImpl<ProcessEngine
 
     @Override
     public InputStream getResourceAsStream(String deploymentId, String resourceName) {
-        return commandExecutor.execute(new GetDeploymentResourceCmd(deploymentId, resourceName));
+        return executeReadOnly(new GetDeploymentResourceCmd(deploymentId, resourceName));
     }
 
     @Override
@@ -224,12 +224,12 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
 
     @Override
     public Map<String, Object> getVariables(String executionId) {
-        return commandExecutor.execute(new GetExecutionVariablesCmd(executionId, null, false));
+        return executeReadOnly(new GetExecutionVariablesCmd(executionId, null, false));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstances(String executionId) {
-        return commandExecutor.execute(new GetExecutionVariableInstancesCmd(executionId, null, false));
+        return executeReadOnly(new GetExecutionVariableInstancesCmd(executionId, null, false));
     }
 
     @Override
@@ -239,42 +239,42 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
 
     @Override
     public Map<String, Object> getVariablesLocal(String executionId) {
-        return commandExecutor.execute(new GetExecutionVariablesCmd(executionId, null, true));
+        return executeReadOnly(new GetExecutionVariablesCmd(executionId, null, true));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstancesLocal(String executionId) {
-        return commandExecutor.execute(new GetExecutionVariableInstancesCmd(executionId, null, true));
+        return executeReadOnly(new GetExecutionVariableInstancesCmd(executionId, null, true));
     }
 
     @Override
     public Map<String, Object> getVariables(String executionId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetExecutionVariablesCmd(executionId, variableNames, false));
+        return executeReadOnly(new GetExecutionVariablesCmd(executionId, variableNames, false));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstances(String executionId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetExecutionVariableInstancesCmd(executionId, variableNames, false));
+        return executeReadOnly(new GetExecutionVariableInstancesCmd(executionId, variableNames, false));
     }
 
     @Override
     public Map<String, Object> getVariablesLocal(String executionId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetExecutionVariablesCmd(executionId, variableNames, true));
+        return executeReadOnly(new GetExecutionVariablesCmd(executionId, variableNames, true));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstancesLocal(String executionId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetExecutionVariableInstancesCmd(executionId, variableNames, true));
+        return executeReadOnly(new GetExecutionVariableInstancesCmd(executionId, variableNames, true));
     }
 
     @Override
     public Object getVariable(String executionId, String variableName) {
-        return commandExecutor.execute(new GetExecutionVariableCmd(executionId, variableName, false));
+        return executeReadOnly(new GetExecutionVariableCmd(executionId, variableName, false));
     }
 
     @Override
     public VariableInstance getVariableInstance(String executionId, String variableName) {
-        return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
+        return executeReadOnly(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
     }
 
     @Override
@@ -289,12 +289,12 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
 
     @Override
     public Object getVariableLocal(String executionId, String variableName) {
-        return commandExecutor.execute(new GetExecutionVariableCmd(executionId, variableName, true));
+        return executeReadOnly(new GetExecutionVariableCmd(executionId, variableName, true));
     }
 
     @Override
     public VariableInstance getVariableInstanceLocal(String executionId, String variableName) {
-        return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, true));
+        return executeReadOnly(new GetExecutionVariableInstanceCmd(executionId, variableName, true));
     }
 
     @Override
@@ -298,27 +298,27 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
 
     @Override
     public Map<String, Object> getVariables(String taskId) {
-        return commandExecutor.execute(new GetTaskVariablesCmd(taskId, null, false));
+        return executeReadOnly(new GetTaskVariablesCmd(taskId, null, false));
     }
 
     @Override
     public Map<String, Object> getVariablesLocal(String taskId) {
-        return commandExecutor.execute(new GetTaskVariablesCmd(taskId, null, true));
+        return executeReadOnly(new GetTaskVariablesCmd(taskId, null, true));
     }
 
     @Override
     public Map<String, Object> getVariables(String taskId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetTaskVariablesCmd(taskId, variableNames, false));
+        return executeReadOnly(new GetTaskVariablesCmd(taskId, variableNames, false));
     }
 
     @Override
     public Map<String, Object> getVariablesLocal(String taskId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetTaskVariablesCmd(taskId, variableNames, true));
+        return executeReadOnly(new GetTaskVariablesCmd(taskId, variableNames, true));
     }
 
     @Override
     public Object getVariable(String taskId, String variableName) {
-        return commandExecutor.execute(new GetTaskVariableCmd(taskId, variableName, false));
+        return executeReadOnly(new GetTaskVariableCmd(taskId, variableName, false));
     }
 
     @Override
@@ -333,7 +333,7 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
 
     @Override
     public Object getVariableLocal(String taskId, String variableName) {
-        return commandExecutor.execute(new GetTaskVariableCmd(taskId, variableName, true));
+        return executeReadOnly(new GetTaskVariableCmd(taskId, variableName, true));
     }
 
     @Override
@@ -519,32 +519,32 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
 
     @Override
     public VariableInstance getVariableInstance(String taskId, String variableName) {
-        return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, false));
+        return executeReadOnly(new GetTaskVariableInstanceCmd(taskId, variableName, false));
     }
 
     @Override
     public VariableInstance getVariableInstanceLocal(String taskId, String variableName) {
-        return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, true));
+        return executeReadOnly(new GetTaskVariableInstanceCmd(taskId, variableName, true));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstances(String taskId) {
-        return commandExecutor.execute(new GetTaskVariableInstancesCmd(taskId, null, false));
+        return executeReadOnly(new GetTaskVariableInstancesCmd(taskId, null, false));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstances(String taskId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetTaskVariableInstancesCmd(taskId, variableNames, false));
+        return executeReadOnly(new GetTaskVariableInstancesCmd(taskId, variableNames, false));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstancesLocal(String taskId) {
-        return commandExecutor.execute(new GetTaskVariableInstancesCmd(taskId, null, true));
+        return executeReadOnly(new GetTaskVariableInstancesCmd(taskId, null, true));
     }
 
     @Override
     public Map<String, VariableInstance> getVariableInstancesLocal(String taskId, Collection<String> variableNames) {
-        return commandExecutor.execute(new GetTaskVariableInstancesCmd(taskId, variableNames, true));
+        return executeReadOnly(new GetTaskVariableInstancesCmd(taskId, variableNames, true));
     }
 
     @Override
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.tracing.AbstractTracingAgendaOperationRunner;
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Creates a span for every {@link ContinueProcessOperation}, named after the flow element that is executed.
+ */
+public class TracingAgendaOperationRunner extends AbstractTracingAgendaOperationRunner {
+
+    public static final String ATTRIBUTE_ELEMENT_ID = "flowable.element.id";
+    public static final String ATTRIBUTE_ELEMENT_NAME = "flowable.element.name";
+    public static final String ATTRIBUTE_ELEMENT_TYPE = "flowable.element.type";
+    public static final String ATTRIBUTE_PROCESS_INSTANCE_ID = "flowable.processInstanceId";
+    public static final String ATTRIBUTE_PROCESS_DEFINITION_ID = "flowable.processDefinitionId";
+    public static final String ATTRIBUTE_EXECUTION_ID = "flowable.executionId";
+
+    public TracingAgendaOperationRunner(FlowableTracer tracer, AgendaOperationRunner delegate) {
+        super(tracer, delegate);
+    }
+
+    @Override
+    protected String getSpanName(Runnable operation) {
+        if (operation instanceof ContinueProcessOperation) {
+            FlowElement flowElement = getFlowElement((ContinueProcessOperation) operation);
+            if (flowElement != null) {
+                return ScopeTypes.BPMN + " " + flowElement.getId();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void addAttributes(FlowableSpan span, Runnable operation) {
+        ContinueProcessOperation continueProcessOperation = (ContinueProcessOperation) operation;
+        ExecutionEntity execution = continueProcessOperation.getExecution();
+        FlowElement flowElement = getFlowElement(continueProcessOperation);
+        span.setAttribute(ATTRIBUTE_ELEMENT_ID, flowElement.getId());
+        span.setAttribute(ATTRIBUTE_ELEMENT_NAME, flowElement.getName());
+        span.setAttribute(ATTRIBUTE_ELEMENT_TYPE, flowElement.getClass().getSimpleName());
+        span.setAttribute(ATTRIBUTE_PROCESS_INSTANCE_ID, execution.getProcessInstanceId());
+        span.setAttribute(ATTRIBUTE_PROCESS_DEFINITION_ID, execution.getProcessDefinitionId());
+        span.setAttribute(ATTRIBUTE_EXECUTION_ID, execution.getId());
+    }
+
+    protected FlowElement getFlowElement(ContinueProcessOperation operation) {
+        ExecutionEntity execution = operation.getExecution();
+        return execution != null ? execution.getCurrentFlowElement() : null;
+    }
+
+}
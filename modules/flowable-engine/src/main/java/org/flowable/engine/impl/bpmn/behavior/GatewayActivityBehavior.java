@@ -27,7 +27,13 @@ public abstract class GatewayActivityBehavior extends FlowNodeActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
-    protected void lockFirstParentScope(DelegateExecution execution) {
+    /**
+     * Locks the first parent scope execution of the given execution, to make sure concurrent arrivals at the gateway
+     * are serialized through optimistic locking.
+     *
+     * @return the locked parent scope execution
+     */
+    protected ExecutionEntity lockFirstParentScope(DelegateExecution execution) {
 
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
 
@@ -43,6 +49,7 @@ public abstract class GatewayActivityBehavior extends FlowNodeActivityBehavior {
         }
 
         parentScopeExecution.forceUpdate();
+        return parentScopeExecution;
     }
 
 }
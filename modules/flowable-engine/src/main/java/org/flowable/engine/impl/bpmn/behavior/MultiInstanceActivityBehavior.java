@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -463,6 +464,31 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         CommandContextUtil.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, multiInstanceRootExecution, loopCounter);
     }
 
+    /**
+     * Same as {@link #executeOriginalBehavior(DelegateExecution, ExecutionEntity, int)}, but with the collection elements resolved up front
+     * (see {@link #resolveCollectionElements(DelegateExecution)}), so that executing many instances does not resolve and iterate the collection for each instance.
+     */
+    protected void executeOriginalBehavior(DelegateExecution execution, ExecutionEntity multiInstanceRootExecution, int loopCounter, List<?> collectionElements) {
+        if (collectionElements != null) {
+            setLoopVariable(execution, collectionElementVariable, collectionElements.get(loopCounter));
+        }
+
+        execution.setCurrentFlowElement(activity);
+        CommandContextUtil.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, multiInstanceRootExecution, loopCounter);
+    }
+
+    /**
+     * Returns the elements of the collection by index, or null if no collection element variable needs to be set.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected List<?> resolveCollectionElements(DelegateExecution execution) {
+        if (usesCollection() && collectionElementVariable != null) {
+            Collection collection = resolveAndValidateCollection(execution);
+            return collection instanceof List && collection instanceof RandomAccess ? (List) collection : new ArrayList(collection);
+        }
+        return null;
+    }
+
     @SuppressWarnings("rawtypes")
     protected Collection resolveAndValidateCollection(DelegateExecution execution) {
         Object obj = resolveCollection(execution);
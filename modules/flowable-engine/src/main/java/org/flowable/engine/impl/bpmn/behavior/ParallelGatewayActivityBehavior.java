@@ -22,10 +22,16 @@ import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.ParallelGateway;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.CountingEntityUtil;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.IntegerType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,21 +74,46 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             throw new FlowableException("Programmatic error: parallel gateway behaviour can only be applied" + " to a ParallelGateway instance, but got an instance of " + flowElement);
         }
 
-        lockFirstParentScope(execution);
+        ExecutionEntity parentScopeExecution = lockFirstParentScope(execution);
 
-        DelegateExecution multiInstanceExecution = null;
-        if (hasMultiInstanceParent(parallelGateway)) {
-            multiInstanceExecution = findMultiInstanceParentExecution(execution);
-        }
+        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
+        Collection<ExecutionEntity> joinedExecutions = null;
+        int nbrOfExecutionsCurrentlyJoined;
+        if (nbrOfExecutionsToJoin > 1) {
+
+            // The number of joined executions is kept in a counter on the parent scope execution,
+            // so the inactive executions only need to be fetched when the gateway can activate.
+            VariableInstanceEntity joinCounter = findJoinCounter(parentScopeExecution, parallelGateway);
+            if (joinCounter != null) {
+                nbrOfExecutionsCurrentlyJoined = ((Number) joinCounter.getValue()).intValue() + 1;
+                if (nbrOfExecutionsCurrentlyJoined >= nbrOfExecutionsToJoin) {
+                    // The counter is out of sync when executions were moved away from the gateway (e.g. by a process instance migration)
+                    joinedExecutions = findJoinedExecutions(execution, parallelGateway);
+                    nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+                }
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+            } else {
+                // First arrival, or a process instance that was waiting in the gateway before the join counter was introduced
+                joinedExecutions = findJoinedExecutions(execution, parallelGateway);
+                nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+            }
+
+            if (nbrOfExecutionsCurrentlyJoined == nbrOfExecutionsToJoin) {
+                if (joinCounter != null) {
+                    deleteJoinCounter(joinCounter);
+                }
+            } else if (joinCounter != null) {
+                joinCounter.setValue(nbrOfExecutionsCurrentlyJoined);
+            } else {
+                createJoinCounter(parentScopeExecution, parallelGateway, nbrOfExecutionsCurrentlyJoined);
+            }
+
+        } else {
+            // Nothing to join, the gateway only forks
+            nbrOfExecutionsCurrentlyJoined = nbrOfExecutionsToJoin;
         }
 
-        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
 
         // 分叉
 
@@ -122,6 +153,48 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    protected Collection<ExecutionEntity> findJoinedExecutions(DelegateExecution execution, ParallelGateway parallelGateway) {
+        DelegateExecution multiInstanceExecution = null;
+        if (hasMultiInstanceParent(parallelGateway)) {
+            multiInstanceExecution = findMultiInstanceParentExecution(execution);
+        }
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
+        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+        if (multiInstanceExecution != null) {
+            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+        }
+        return joinedExecutions;
+    }
+
+    protected VariableInstanceEntity findJoinCounter(ExecutionEntity parentScopeExecution, ParallelGateway parallelGateway) {
+        return CommandContextUtil.getProcessEngineConfiguration().getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .subScopeId(parentScopeExecution.getId())
+                .scopeType(ScopeTypes.BPMN_GATEWAY_JOIN)
+                .name(parallelGateway.getId())
+                .singleResult();
+    }
+
+    protected void createJoinCounter(ExecutionEntity parentScopeExecution, ParallelGateway parallelGateway, int nbrOfExecutionsJoined) {
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getProcessEngineConfiguration().getVariableServiceConfiguration();
+        VariableType variableType = variableServiceConfiguration.getVariableTypes().getVariableType(IntegerType.TYPE_NAME);
+        VariableInstanceEntity joinCounter = variableServiceConfiguration.getVariableService()
+                .createVariableInstance(parallelGateway.getId(), variableType, nbrOfExecutionsJoined);
+        joinCounter.setScopeId(parentScopeExecution.getProcessInstanceId());
+        joinCounter.setSubScopeId(parentScopeExecution.getId());
+        joinCounter.setScopeType(ScopeTypes.BPMN_GATEWAY_JOIN);
+
+        // The join counter is internal bookkeeping of the engine, no events are dispatched for it
+        variableServiceConfiguration.getVariableInstanceEntityManager().insert(joinCounter, false);
+        CountingEntityUtil.handleInsertVariableInstanceEntityCount(joinCounter);
+    }
+
+    protected void deleteJoinCounter(VariableInstanceEntity joinCounter) {
+        CommandContextUtil.getProcessEngineConfiguration().getVariableServiceConfiguration().getVariableInstanceEntityManager().delete(joinCounter, false);
+        CountingEntityUtil.handleDeleteVariableInstanceEntityCount(joinCounter, false);
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -24,6 +24,7 @@ import org.flowable.bpmn.model.CompensateEventDefinition;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.Transaction;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -31,6 +32,7 @@ import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -51,6 +53,8 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    protected static final String NUMBER_OF_PENDING_INSTANCES = "nrOfPendingInstances";
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -69,10 +73,47 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, ParallelMultiInstanceLoopVariable.completed(multiInstanceRootExecution.getId()));
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, ParallelMultiInstanceLoopVariable.active(multiInstanceRootExecution.getId()));
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        int chunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        if (chunkSize > 0 && nrOfInstances > chunkSize && !isAsyncWithoutWaitStates(processEngineConfiguration)) {
+            createInstancesInChunks((ExecutionEntity) multiInstanceRootExecution, nrOfInstances, processEngineConfiguration);
+            return nrOfInstances;
+        }
+
+        List<ExecutionEntity> concurrentExecutions = createAndExecuteInstances((ExecutionEntity) multiInstanceRootExecution, 0, nrOfInstances, nrOfInstances);
+
+        // See ACT-1586: ExecutionQuery returns wrong results when using multi
+        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
+        // the execution query when using .activityId(something). Do not we cannot nullify the
+        // activityId (that would have been a better solution), as it would break boundary event behavior.
+        if (!concurrentExecutions.isEmpty()) {
+            multiInstanceRootExecution.setActive(false);
+        }
+
+        // No need to check the completed variable for backwards compatibility(like below),
+        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
+        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+
+            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
+            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+
+            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
+            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+            jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
+            jobService.insertJob(job);
+        }
+
+        return nrOfInstances;
+    }
+
+    /**
+     * Creates the child executions for the instances with a loop counter from fromLoopCounter (inclusive) until toLoopCounter (exclusive) and executes them.
+     */
+    protected List<ExecutionEntity> createAndExecuteInstances(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter, int toLoopCounter, int nrOfInstances) {
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+        for (int loopCounter = fromLoopCounter; loopCounter < toLoopCounter; loopCounter++) {
+            ExecutionEntity concurrentExecution = executionEntityManager.createChildExecution(multiInstanceRootExecution);
             concurrentExecution.setCurrentFlowElement(activity);
             concurrentExecution.setActive(true);
             concurrentExecution.setScope(false);
@@ -83,43 +124,131 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             //CommandContextUtil.getHistoryManager().recordActivityStart(concurrentExecution);
         }
 
+        if (concurrentExecutions.isEmpty()) {
+            return concurrentExecutions;
+        }
+
+        // The collection is resolved once for all instances, instead of once per instance
+        List<?> collectionElements = resolveCollectionElements(concurrentExecutions.get(0));
+        if (fromLoopCounter > 0) {
+            validateCollectionElementsOfNextInstances(multiInstanceRootExecution, collectionElements, toLoopCounter, nrOfInstances);
+        }
+
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+        for (int i = 0; i < concurrentExecutions.size(); i++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(i);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
             if (concurrentExecution.isActive() 
                     && !concurrentExecution.isEnded() 
                     && !concurrentExecution.getParent().isEnded()) {
-                executeOriginalBehavior(concurrentExecution, (ExecutionEntity) multiInstanceRootExecution, loopCounter);
+                executeOriginalBehavior(concurrentExecution, multiInstanceRootExecution, fromLoopCounter + i, collectionElements);
             } 
         }
 
-        // See ACT-1586: ExecutionQuery returns wrong results when using multi
-        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
-        // the execution query when using .activityId(something). Do not we cannot nullify the
-        // activityId (that would have been a better solution), as it would break boundary event behavior.
-        if (!concurrentExecutions.isEmpty()) {
-            multiInstanceRootExecution.setActive(false);
+        return concurrentExecutions;
+    }
+
+    /**
+     * Creates the first chunk of instances and schedules an async job that creates the next chunk (see {@link #createNextInstances(ExecutionEntity, int)}).
+     * The number of instances that are not created yet is kept in a local variable of the multi instance root execution,
+     * so they are not counted as completed instances.
+     */
+    protected void createInstancesInChunks(ExecutionEntity multiInstanceRootExecution, int nrOfInstances, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        int nrOfInstancesToCreate = Math.min(processEngineConfiguration.getParallelMultiInstanceCreationChunkSize(), nrOfInstances);
+        int maxActiveInstances = processEngineConfiguration.getParallelMultiInstanceMaxActiveInstances();
+        if (maxActiveInstances > 0) {
+            nrOfInstancesToCreate = Math.min(nrOfInstancesToCreate, maxActiveInstances);
+        }
+
+        setLoopVariable(multiInstanceRootExecution, NUMBER_OF_PENDING_INSTANCES, nrOfInstances - nrOfInstancesToCreate);
+        createAndExecuteInstances(multiInstanceRootExecution, 0, nrOfInstancesToCreate, nrOfInstances);
+        multiInstanceRootExecution.setActive(false);
+
+        scheduleCreateInstancesJob(multiInstanceRootExecution, nrOfInstancesToCreate, true, processEngineConfiguration);
+    }
+
+    /**
+     * Creates the next chunk of instances, starting with the given loop counter, and schedules a job for the chunk after that.
+     * When {@link ProcessEngineConfigurationImpl#getParallelMultiInstanceMaxActiveInstances()} instances are active already,
+     * no instances are created and the job is retried in the next acquisition cycle of the async executor.
+     * The collection is resolved again, so it must be deterministic (see {@link #validateCollectionElementsOfNextInstances}).
+     */
+    public void createNextInstances(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        if (fromLoopCounter >= nrOfInstances) {
+            return;
         }
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        // No need to check the completed variable for backwards compatibility(like below),
-        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
-        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+        int chunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        int nrOfInstancesToCreate = nrOfInstances - fromLoopCounter;
+        if (chunkSize > 0) {
+            nrOfInstancesToCreate = Math.min(nrOfInstancesToCreate, chunkSize);
+        }
 
-            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
-            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+        int maxActiveInstances = processEngineConfiguration.getParallelMultiInstanceMaxActiveInstances();
+        if (maxActiveInstances > 0) {
+            long nrOfActiveInstances = processEngineConfiguration.getExecutionEntityManager().countActiveExecutionsByParentId(multiInstanceRootExecution.getId());
+            nrOfInstancesToCreate = (int) Math.min(nrOfInstancesToCreate, maxActiveInstances - nrOfActiveInstances);
+        }
 
-            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
-            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        if (nrOfInstancesToCreate <= 0) {
+            scheduleCreateInstancesJob(multiInstanceRootExecution, fromLoopCounter, false, processEngineConfiguration);
+            return;
+        }
+
+        int nextLoopCounter = fromLoopCounter + nrOfInstancesToCreate;
+        if (nextLoopCounter < nrOfInstances) {
+            setLoopVariable(multiInstanceRootExecution, NUMBER_OF_PENDING_INSTANCES, nrOfInstances - nextLoopCounter);
+        } else {
+            multiInstanceRootExecution.removeVariableLocal(NUMBER_OF_PENDING_INSTANCES);
+        }
+
+        createAndExecuteInstances(multiInstanceRootExecution, fromLoopCounter, nextLoopCounter, nrOfInstances);
+
+        if (nextLoopCounter < nrOfInstances) {
+            scheduleCreateInstancesJob(multiInstanceRootExecution, nextLoopCounter, true, processEngineConfiguration);
+        }
+    }
+
+    /**
+     * A next chunk of instances resolves the collection again, so the elements of the earlier chunks are only correct when the collection
+     * is deterministic. A changed size means that it is not, in which case the instances are not created instead of being created
+     * for the wrong (or missing) elements.
+     */
+    protected void validateCollectionElementsOfNextInstances(ExecutionEntity multiInstanceRootExecution, List<?> collectionElements,
+            int toLoopCounter, int nrOfInstances) {
+
+        if (collectionElements == null) {
+            return;
+        }
+
+        if (loopCardinalityExpression == null ? collectionElements.size() != nrOfInstances : collectionElements.size() < toLoopCounter) {
+            throw new FlowableException("The collection of parallel multi instance activity '" + activity.getId() + "' in " + multiInstanceRootExecution
+                    + " changed to " + collectionElements.size() + " elements while creating the next instances of " + nrOfInstances
+                    + " instances. The collection of a multi instance that creates its instances in chunks must not change.");
+        }
+    }
+
+    protected void scheduleCreateInstancesJob(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter, boolean triggerAsyncExecutor,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = JobUtil.createJob(multiInstanceRootExecution, ParallelMultiInstanceCreateInstancesJobHandler.TYPE, processEngineConfiguration);
+        job.setJobHandlerConfiguration(String.valueOf(fromLoopCounter));
+
+        if (triggerAsyncExecutor) {
+            jobService.createAsyncJob(job, true);
+            jobService.scheduleAsyncJob(job);
+
+        } else {
+            // Waiting for active instances to complete: the job is picked up in the next acquisition cycle, to avoid a continuous loop
             jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
             jobService.insertJob(job);
         }
-
-        return nrOfInstances;
     }
 
     public boolean isAsyncWithoutWaitStates(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -13,11 +13,18 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Event;
@@ -49,6 +56,7 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tijs Rademakers
@@ -69,6 +77,63 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        // The ids of the executions whose variables are visible to a job, starting with the execution of the job and ending with the process instance
+        Map<String, List<String>> scopeExecutionIdsByJobId = new HashMap<>();
+        Set<String> executionIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getExecutionId() != null) {
+                List<String> scopeExecutionIds = new ArrayList<>();
+                ExecutionEntity execution = getExecutionEntityManager().findById(job.getExecutionId());
+                while (execution != null) {
+                    scopeExecutionIds.add(execution.getId());
+                    execution = execution.getParent();
+                }
+
+                scopeExecutionIdsByJobId.put(job.getId(), scopeExecutionIds);
+                executionIds.addAll(scopeExecutionIds);
+            }
+        }
+
+        if (executionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // The variables of all jobs are fetched with one query
+        List<VariableInstanceEntity> variableInstances = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .executionIds(executionIds)
+                .withoutTaskId()
+                .names(variableNames)
+                .list();
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : scopeExecutionIdsByJobId.entrySet()) {
+            Map<String, Object> variables = new HashMap<>();
+
+            // Going from the process instance down to the job execution, so that local variables override the ones of the parent scopes
+            List<String> scopeExecutionIds = entry.getValue();
+            for (int i = scopeExecutionIds.size() - 1; i >= 0; i--) {
+                List<VariableInstanceEntity> scopeVariableInstances = variableInstancesByExecutionId.get(scopeExecutionIds.get(i));
+                if (scopeVariableInstances != null) {
+                    for (VariableInstanceEntity variableInstance : scopeVariableInstances) {
+                        variables.put(variableInstance.getName(), variableInstance.getValue());
+                    }
+                }
+            }
+
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // add link to execution
@@ -28,6 +28,12 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * Determines which related entities (tasks, variables, jobs, event subscriptions, ...) are fetched together with the execution tree
+     * when <code>enableEagerExecutionTreeFetching</code> is active. By default, only the executions are fetched.
+     */
+    protected ProcessInstanceFetchPlan eagerExecutionTreeFetchPlan = new ProcessInstanceFetchPlan();
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -61,6 +67,17 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, the process variables requested through <code>includeProcessVariables()</code> on a task or process instance query
+     * are not joined into the main query anymore. Instead, the page of tasks or process instances is fetched first and the variables
+     * of the whole page are fetched afterwards with one query per 1000 process instances.
+     *
+     * This avoids the row multiplication of the join (and keeps the paging on the main query correct),
+     * at the cost of one extra roundtrip. Binary variable values are only fetched when they are actually read.
+     * Queries using <code>includeProcessVariables(Collection)</code> always use this fetch mode.
+     */
+    protected boolean enableTwoPhaseQueryVariableFetching = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -69,6 +86,14 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public ProcessInstanceFetchPlan getEagerExecutionTreeFetchPlan() {
+        return eagerExecutionTreeFetchPlan;
+    }
+
+    public void setEagerExecutionTreeFetchPlan(ProcessInstanceFetchPlan eagerExecutionTreeFetchPlan) {
+        this.eagerExecutionTreeFetchPlan = eagerExecutionTreeFetchPlan;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
@@ -109,4 +134,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableTwoPhaseQueryVariableFetching() {
+        return enableTwoPhaseQueryVariableFetching;
+    }
+
+    public void setEnableTwoPhaseQueryVariableFetching(boolean enableTwoPhaseQueryVariableFetching) {
+        this.enableTwoPhaseQueryVariableFetching = enableTwoPhaseQueryVariableFetching;
+    }
+
 }
@@ -51,6 +51,7 @@ import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
+import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
@@ -150,6 +151,7 @@ import org.flowable.engine.impl.SchemaOperationsProcessEngineBuild;
 import org.flowable.engine.impl.TaskServiceImpl;
 import org.flowable.engine.impl.agenda.AgendaSessionFactory;
 import org.flowable.engine.impl.agenda.DefaultFlowableEngineAgendaFactory;
+import org.flowable.engine.impl.agenda.TracingAgendaOperationRunner;
 import org.flowable.engine.impl.app.AppDeployer;
 import org.flowable.engine.impl.app.AppResourceConverterImpl;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
@@ -290,6 +292,7 @@ import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
@@ -376,6 +379,7 @@ import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 import org.flowable.entitylink.service.impl.db.EntityLinkDbSchemaManager;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndexInvalidationHook;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
 import org.flowable.eventsubscription.service.impl.db.EventSubscriptionDbSchemaManager;
 import org.flowable.form.api.FormFieldHandler;
@@ -789,6 +793,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean parallelMultiInstanceAsyncLeave = true;
 
+    /**
+     * Whether the async leave job of a parallel multi instance (see {@link #parallelMultiInstanceAsyncLeave}) also handles the completions
+     * of the other instances of the same multi instance that have a pending async leave job.
+     * The completion (condition) is then evaluated once for all those instances and their pending jobs are deleted,
+     * instead of each job doing the same evaluation one after the other.
+     */
+    protected boolean parallelMultiInstanceAsyncLeaveAggregation = false;
+
+    /**
+     * When larger than 0, a parallel multi instance with more instances than this number creates its instances in chunks of this size:
+     * the first chunk when the multi instance is started, each next chunk in an async exclusive job.
+     * This avoids creating all child executions (and their variables and history) of a very large collection in one transaction.
+     * Not used for parallel multi instances with the 'no wait states async leave' flag.
+     * The collection is resolved again for each chunk, so it must resolve to the same elements in the same order each time:
+     * a chunk job fails when the size of the collection changed.
+     */
+    protected int parallelMultiInstanceCreationChunkSize = 0;
+
+    /**
+     * When larger than 0 and the instances of a parallel multi instance are created in chunks (see {@link #parallelMultiInstanceCreationChunkSize}),
+     * a next chunk only creates instances as long as fewer than this number of instances are active.
+     */
+    protected int parallelMultiInstanceMaxActiveInstances = 0;
+
     protected ExpressionManager expressionManager;
     protected Collection<ELResolver> preDefaultELResolvers;
     protected Collection<ELResolver> preBeanELResolvers;
@@ -834,6 +862,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean eventRegistryStartProcessInstanceAsync = false;
 
+    /**
+     * Whether the default {@link EventRegistryEventConsumer} should use an in-memory correlation index of the event subscriptions,
+     * so that events without a matching event subscription are discarded without querying the database.
+     * Subscriptions created by other engines of a cluster are seen through the invalidation hook, which publishes the changed event types
+     * to the other engines. Without a hook, a miss is only trusted after checking that the subscriptions of the event type did not change in the database.
+     * The verification interval (in milliseconds) is the time during which a verified miss is trusted without checking again,
+     * subscriptions created by other engines can be missed during that time. 0 checks on every miss.
+     */
+    protected boolean enableEventRegistryCorrelationIndex;
+    protected long eventRegistryCorrelationIndexVerificationInterval = EventSubscriptionServiceConfiguration.DEFAULT_CORRELATION_INDEX_VERIFICATION_INTERVAL;
+    protected EventSubscriptionCorrelationIndexInvalidationHook eventRegistryCorrelationIndexInvalidationHook;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -1071,6 +1111,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    protected AgendaOperationRunner createTracingAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner) {
+        return new TracingAgendaOperationRunner(tracer, agendaOperationRunner);
+    }
+
     @Override
     public String getEngineCfgKey() {
         return EngineConfigurationConstants.KEY_PROCESS_ENGINE_CONFIG;
@@ -1437,6 +1482,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(EventLogEntryEntityImpl.class);
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(HistoricTaskLogEntryEntityImpl.class);
         }
+
+        // ACT_HI_ACTINST is partitioned on START_TIME_ in the partitioned profile, so by id and cleanup statements also need to filter on it
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "updateHistoricActivityInstance", "updateHistoricActivityInstance_partitioned");
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "deleteHistoricActivityInstance", "deleteHistoricActivityInstance_partitioned");
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "deleteHistoricActivityInstancesByProcessInstanceId",
+                "deleteHistoricActivityInstancesByProcessInstanceId_partitioned");
+        dbSqlSessionFactory.addDatabaseSchemaProfileStatement("postgres", "partitioned", "bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances",
+                "bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances_partitioned");
     }
 
     public void initAsyncHistorySessionFactory() {
@@ -1531,6 +1584,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setIdGenerator(this.idGenerator);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableCorrelationIndex(this.enableEventRegistryCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexVerificationInterval(this.eventRegistryCorrelationIndexVerificationInterval);
+        this.eventSubscriptionServiceConfiguration.setCorrelationIndexInvalidationHook(this.eventRegistryCorrelationIndexInvalidationHook);
         
         this.eventSubscriptionServiceConfiguration.init();
         
@@ -1582,6 +1638,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableTwoPhaseQueryVariableFetching(this.performanceSettings.isEnableTwoPhaseQueryVariableFetching());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
 
@@ -1607,6 +1664,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setTracer(this.tracer);
 
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -2079,6 +2137,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler parallelMultiInstanceWithNoWaitStateCompletionJobHandler = new ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler();
         jobHandlers.put(parallelMultiInstanceWithNoWaitStateCompletionJobHandler.getType(), parallelMultiInstanceWithNoWaitStateCompletionJobHandler);
 
+        ParallelMultiInstanceCreateInstancesJobHandler parallelMultiInstanceCreateInstancesJobHandler = new ParallelMultiInstanceCreateInstancesJobHandler();
+        jobHandlers.put(parallelMultiInstanceCreateInstancesJobHandler.getType(), parallelMultiInstanceCreateInstancesJobHandler);
+
         ComputeDeleteHistoricProcessInstanceIdsJobHandler computeDeleteHistoricProcessInstanceIdsJobHandler = new ComputeDeleteHistoricProcessInstanceIdsJobHandler();
         jobHandlers.put(computeDeleteHistoricProcessInstanceIdsJobHandler.getType(), computeDeleteHistoricProcessInstanceIdsJobHandler);
 
@@ -2723,6 +2784,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Only shutdown if it was created by this configuration
             asyncHistoryTaskExecutor.shutdown();
         }
+
+        if (jobServiceConfiguration != null && jobServiceConfiguration.getExternalWorkerJobAcquireNotifier() != null) {
+            jobServiceConfiguration.getExternalWorkerJobAcquireNotifier().shutdown();
+        }
     }
 
 
@@ -3281,6 +3346,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isParallelMultiInstanceAsyncLeaveAggregation() {
+        return parallelMultiInstanceAsyncLeaveAggregation;
+    }
+
+    public ProcessEngineConfigurationImpl setParallelMultiInstanceAsyncLeaveAggregation(boolean parallelMultiInstanceAsyncLeaveAggregation) {
+        this.parallelMultiInstanceAsyncLeaveAggregation = parallelMultiInstanceAsyncLeaveAggregation;
+        return this;
+    }
+
+    public int getParallelMultiInstanceCreationChunkSize() {
+        return parallelMultiInstanceCreationChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setParallelMultiInstanceCreationChunkSize(int parallelMultiInstanceCreationChunkSize) {
+        this.parallelMultiInstanceCreationChunkSize = parallelMultiInstanceCreationChunkSize;
+        return this;
+    }
+
+    public int getParallelMultiInstanceMaxActiveInstances() {
+        return parallelMultiInstanceMaxActiveInstances;
+    }
+
+    public ProcessEngineConfigurationImpl setParallelMultiInstanceMaxActiveInstances(int parallelMultiInstanceMaxActiveInstances) {
+        this.parallelMultiInstanceMaxActiveInstances = parallelMultiInstanceMaxActiveInstances;
+        return this;
+    }
+
     public Collection<ELResolver> getPreDefaultELResolvers() {
         return preDefaultELResolvers;
     }
@@ -3942,6 +4034,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableEventRegistryCorrelationIndex() {
+        return enableEventRegistryCorrelationIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableEventRegistryCorrelationIndex(boolean enableEventRegistryCorrelationIndex) {
+        this.enableEventRegistryCorrelationIndex = enableEventRegistryCorrelationIndex;
+        return this;
+    }
+
+    public long getEventRegistryCorrelationIndexVerificationInterval() {
+        return eventRegistryCorrelationIndexVerificationInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryCorrelationIndexVerificationInterval(long eventRegistryCorrelationIndexVerificationInterval) {
+        this.eventRegistryCorrelationIndexVerificationInterval = eventRegistryCorrelationIndexVerificationInterval;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndexInvalidationHook getEventRegistryCorrelationIndexInvalidationHook() {
+        return eventRegistryCorrelationIndexInvalidationHook;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryCorrelationIndexInvalidationHook(EventSubscriptionCorrelationIndexInvalidationHook eventRegistryCorrelationIndexInvalidationHook) {
+        this.eventRegistryCorrelationIndexInvalidationHook = eventRegistryCorrelationIndexInvalidationHook;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4006,6 +4125,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEagerExecutionTreeFetchPlan(ProcessInstanceFetchPlan eagerExecutionTreeFetchPlan) {
+        this.performanceSettings.setEagerExecutionTreeFetchPlan(eagerExecutionTreeFetchPlan);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -4029,6 +4153,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableTwoPhaseQueryVariableFetching(boolean enableTwoPhaseQueryVariableFetching) {
+        this.performanceSettings.setEnableTwoPhaseQueryVariableFetching(enableTwoPhaseQueryVariableFetching);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cfg;
+
+/**
+ * Determines which entities related to an execution tree are fetched together with the tree
+ * when eager execution tree fetching is enabled (see {@link PerformanceSettings#isEnableEagerExecutionTreeFetching()}).
+ *
+ * Each selected entity type is fetched with one query per process instance of the tree and put in the entity cache.
+ * Later lookups of those entities by execution (or process instance) id in the same command are then answered from the cache.
+ */
+public class ProcessInstanceFetchPlan {
+
+    protected boolean fetchTasks;
+    protected boolean fetchVariables;
+    protected boolean fetchIdentityLinks;
+    protected boolean fetchJobs;
+    protected boolean fetchTimerJobs;
+    protected boolean fetchEventSubscriptions;
+
+    /**
+     * Returns a fetch plan that fetches all supported related entity types.
+     */
+    public static ProcessInstanceFetchPlan all() {
+        return new ProcessInstanceFetchPlan()
+                .setFetchTasks(true)
+                .setFetchVariables(true)
+                .setFetchIdentityLinks(true)
+                .setFetchJobs(true)
+                .setFetchTimerJobs(true)
+                .setFetchEventSubscriptions(true);
+    }
+
+    public boolean isEmpty() {
+        return !fetchTasks && !fetchVariables && !fetchIdentityLinks && !fetchJobs && !fetchTimerJobs && !fetchEventSubscriptions;
+    }
+
+    public boolean isFetchTasks() {
+        return fetchTasks;
+    }
+
+    public ProcessInstanceFetchPlan setFetchTasks(boolean fetchTasks) {
+        this.fetchTasks = fetchTasks;
+        return this;
+    }
+
+    public boolean isFetchVariables() {
+        return fetchVariables;
+    }
+
+    public ProcessInstanceFetchPlan setFetchVariables(boolean fetchVariables) {
+        this.fetchVariables = fetchVariables;
+        return this;
+    }
+
+    public boolean isFetchIdentityLinks() {
+        return fetchIdentityLinks;
+    }
+
+    public ProcessInstanceFetchPlan setFetchIdentityLinks(boolean fetchIdentityLinks) {
+        this.fetchIdentityLinks = fetchIdentityLinks;
+        return this;
+    }
+
+    public boolean isFetchJobs() {
+        return fetchJobs;
+    }
+
+    public ProcessInstanceFetchPlan setFetchJobs(boolean fetchJobs) {
+        this.fetchJobs = fetchJobs;
+        return this;
+    }
+
+    public boolean isFetchTimerJobs() {
+        return fetchTimerJobs;
+    }
+
+    public ProcessInstanceFetchPlan setFetchTimerJobs(boolean fetchTimerJobs) {
+        this.fetchTimerJobs = fetchTimerJobs;
+        return this;
+    }
+
+    public boolean isFetchEventSubscriptions() {
+        return fetchEventSubscriptions;
+    }
+
+    public ProcessInstanceFetchPlan setFetchEventSubscriptions(boolean fetchEventSubscriptions) {
+        this.fetchEventSubscriptions = fetchEventSubscriptions;
+        return this;
+    }
+
+}
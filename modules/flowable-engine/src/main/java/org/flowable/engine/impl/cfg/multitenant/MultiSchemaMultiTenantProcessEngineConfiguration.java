@@ -16,7 +16,10 @@ import java.util.concurrent.ExecutorService;
 
 import javax.sql.DataSource;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.multitenant.PoolingTenantAwareDataSource;
 import org.flowable.common.engine.impl.cfg.multitenant.TenantAwareDataSource;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantDataSourceFactory;
 import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -32,6 +35,7 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.DeploymentBuilder;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.multitenant.SharedAcquisitionAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.SharedExecutorServiceAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.TenantAwareAsyncExecutor;
 
@@ -50,7 +54,8 @@ import org.flowable.job.service.impl.asyncexecutor.multitenant.TenantAwareAsyncE
  * - Adding tenants (also after boot!) is done using the {@link #registerTenant(String, DataSource)} operations.
  * 
  * - There are two different implementations: - The {@link ExecutorPerTenantAsyncExecutor}: creates one full {@link AsyncExecutor} for each tenant. - The {@link SharedExecutorServiceAsyncExecutor}: created acquisition threads for each tenant, but
- * the job execution is done using a process engine shared {@link ExecutorService}. The {@link AsyncExecutor} needs to be injected using the {@link #setAsyncExecutor(AsyncExecutor)} method on this
+ * the job execution is done using a process engine shared {@link ExecutorService}. - The {@link SharedAcquisitionAsyncExecutor}: creates acquisition threads for each group of tenants
+ * sharing a {@link DataSource} and schedules the job execution fairly across tenants. The {@link AsyncExecutor} needs to be injected using the {@link #setAsyncExecutor(AsyncExecutor)} method on this
  * class.
  * 
  * databasetype
@@ -83,7 +88,28 @@ public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEng
      */
     public void registerTenant(String tenantId, DataSource dataSource) {
         ((TenantAwareDataSource) super.getDataSource()).addDataSource(tenantId, dataSource);
+        initTenant(tenantId);
+    }
+
+    /**
+     * Add a new tenant to the engine, for which the {@link DataSource} is created lazily by the {@link TenantDataSourceFactory}
+     * of the {@link PoolingTenantAwareDataSource} that is used as data source of this configuration. This can be done after the engine has booted up.
+     *
+     * The tenant gets its own database (schema), so its jobs are acquired separately from the jobs of the other tenants, whatever the async executor.
+     * As the job acquisition polls the {@link DataSource} of the tenant, it is not evicted because of its max idle time while the async executor is active,
+     * only when the connection budget of the {@link PoolingTenantAwareDataSource} is used.
+     *
+     * Note that the tenant identifier must have been added to the {@link TenantInfoHolder} *prior* to calling this method.
+     */
+    public void registerTenant(String tenantId) {
+        if (!(super.getDataSource() instanceof PoolingTenantAwareDataSource)
+                || ((PoolingTenantAwareDataSource) super.getDataSource()).getDataSourceFactory() == null) {
+            throw new FlowableIllegalArgumentException("A PoolingTenantAwareDataSource with a TenantDataSourceFactory is needed to register a tenant without data source");
+        }
+        initTenant(tenantId);
+    }
 
+    protected void initTenant(String tenantId) {
         if (booted) {
             createTenantSchema(tenantId);
 
@@ -102,6 +128,16 @@ public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEng
             asyncExecutor = new ExecutorPerTenantAsyncExecutor(tenantInfoHolder);
         }
 
+        if (asyncExecutor instanceof SharedAcquisitionAsyncExecutor) {
+            SharedAcquisitionAsyncExecutor sharedAcquisitionAsyncExecutor = (SharedAcquisitionAsyncExecutor) asyncExecutor;
+            if (sharedAcquisitionAsyncExecutor.getAcquisitionGroupResolver() == null) {
+                // Tenants using the same DataSource share the database schema, so their jobs can be acquired together.
+                // A tenant of which the DataSource is created lazily (see registerTenant(String)) gets its own acquisition
+                // when its DataSource doesn't exist yet, as null is returned then.
+                sharedAcquisitionAsyncExecutor.setAcquisitionGroupResolver(tenantId -> ((TenantAwareDataSource) super.getDataSource()).getDataSources().get(tenantId));
+            }
+        }
+
         super.initAsyncExecutor();
 
         if (asyncExecutor instanceof TenantAwareAsyncExecutor) {
@@ -154,6 +190,15 @@ public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEng
         ((TenantAwareAsyncExecutor) asyncExecutor).addTenantAsyncExecutor(tenantId, isAsyncExecutorActivate() && booted);
     }
 
+    @Override
+    public void close() {
+        super.close();
+
+        if (dataSource instanceof PoolingTenantAwareDataSource) {
+            ((PoolingTenantAwareDataSource) dataSource).close();
+        }
+    }
+
     @Override
     public CommandInterceptor createTransactionInterceptor() {
         return null;
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.cmd;
 
 import java.io.Serializable;
+import java.util.Date;
 
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -24,11 +25,24 @@ public class DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd imple
 
     private static final long serialVersionUID = 1L;
 
+    protected Date activitiesStartedBefore;
+
+    public DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd() {
+    }
+
+    /**
+     * @param activitiesStartedBefore an upper bound for the start time of the activity instances of the removed process instances,
+     * e.g. the finished before time of the process instances that were removed
+     */
+    public DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd(Date activitiesStartedBefore) {
+        this.activitiesStartedBefore = activitiesStartedBefore;
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService().deleteHistoricTaskInstancesForNonExistingProcessInstances();
-        processEngineConfiguration.getHistoricActivityInstanceEntityManager().deleteHistoricActivityInstancesForNonExistingProcessInstances();
+        processEngineConfiguration.getHistoricActivityInstanceEntityManager().deleteHistoricActivityInstancesForNonExistingProcessInstances(activitiesStartedBefore);
 
         return null;
     }
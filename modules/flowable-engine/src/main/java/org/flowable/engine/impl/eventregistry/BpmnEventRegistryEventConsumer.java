@@ -36,6 +36,7 @@ import org.flowable.eventregistry.impl.constant.EventConstants;
 import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
@@ -74,6 +75,13 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
+        handleEventsWithBatchedLookup(ScopeTypes.BPMN, eventInstances,
+                (eventSubscription, eventInstance, correlationKeys) -> handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys));
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -165,6 +173,11 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected EventSubscriptionCorrelationIndex getEventSubscriptionCorrelationIndex() {
+        return processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCorrelationIndex();
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
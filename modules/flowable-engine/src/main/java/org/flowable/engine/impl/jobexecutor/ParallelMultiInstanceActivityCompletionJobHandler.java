@@ -12,15 +12,27 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.JobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -49,9 +61,68 @@ public class ParallelMultiInstanceActivityCompletionJobHandler  implements JobHa
                 Object behavior = ((Activity) currentFlowElement).getBehavior();
                 if (behavior instanceof ParallelMultiInstanceBehavior) {
                     ParallelMultiInstanceBehavior parallelMultiInstanceBehavior = (ParallelMultiInstanceBehavior) behavior;
-                    parallelMultiInstanceBehavior.leaveAsync(completingExecution);
+                    if (processEngineConfiguration.isParallelMultiInstanceAsyncLeaveAggregation()) {
+                        leaveAsyncWithAggregation(job, completingExecution, parallelMultiInstanceBehavior, processEngineConfiguration);
+                    } else {
+                        parallelMultiInstanceBehavior.leaveAsync(completingExecution);
+                    }
                 }
             }
         }
     }
+
+    protected void leaveAsyncWithAggregation(JobEntity job, ExecutionEntity completingExecution, ParallelMultiInstanceBehavior parallelMultiInstanceBehavior,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        // A pending job is created in the same transaction as the completion of its child execution.
+        // Hence, when the pending jobs are fetched before the completed instances are counted, all their completions are part of that count.
+        List<JobEntity> pendingCompletionJobs = findPendingCompletionJobs(job, completingExecution, processEngineConfiguration);
+
+        boolean multiInstanceCompleted = parallelMultiInstanceBehavior.leaveAsync(completingExecution);
+        if (!multiInstanceCompleted && !pendingCompletionJobs.isEmpty()) {
+            // The completion has been evaluated for the child executions of these jobs as well, so they are not needed anymore.
+            // When the multi instance is completed, they are deleted together with the child executions.
+            JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+            JobEntityManager jobEntityManager = jobServiceConfiguration.getJobEntityManager();
+            for (JobEntity pendingCompletionJob : pendingCompletionJobs) {
+                // A job that has been acquired by an async executor in the meantime can't be deleted, it will be executed as usual
+                if (jobEntityManager.lockJobIfUnlocked(pendingCompletionJob, job.getLockOwner(), job.getLockExpirationTime())) {
+                    jobServiceConfiguration.getJobService().deleteJob(pendingCompletionJob);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the not yet locked completion jobs of the other instances of the same multi instance.
+     */
+    protected List<JobEntity> findPendingCompletionJobs(JobEntity job, ExecutionEntity completingExecution,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        DelegateExecution multiInstanceRootExecution = ExecutionGraphUtil.getMultiInstanceRootExecution(completingExecution);
+        if (multiInstanceRootExecution == null) {
+            return Collections.emptyList();
+        }
+
+        // The completion jobs are created for the direct child executions of the multi instance root
+        Set<String> childExecutionIds = new HashSet<>();
+        for (ExecutionEntity childExecution : processEngineConfiguration.getExecutionEntityManager()
+                .findChildExecutionsByParentExecutionId(multiInstanceRootExecution.getId())) {
+            childExecutionIds.add(childExecution.getId());
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        JobQueryImpl jobQuery = new JobQueryImpl(CommandContextUtil.getCommandContext(), jobServiceConfiguration);
+        jobQuery.processInstanceId(completingExecution.getProcessInstanceId())
+                .handlerType(TYPE)
+                .unlocked();
+
+        List<JobEntity> pendingCompletionJobs = new ArrayList<>();
+        for (Job completionJob : jobServiceConfiguration.getJobEntityManager().findJobsByQueryCriteria(jobQuery)) {
+            if (!completionJob.getId().equals(job.getId()) && childExecutionIds.contains(completionJob.getExecutionId())) {
+                pendingCompletionJobs.add((JobEntity) completionJob);
+            }
+        }
+        return pendingCompletionJobs;
+    }
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -37,13 +39,26 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, Consumer<? super HistoricActivityInstance> consumer);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
+
+    /**
+     * Deletes the historic activity instances of a process instance. The activity instances are started within the (optional) start and end time
+     * of the process instance, which allows a schema that is partitioned on START_TIME_ to only scan the matching partitions.
+     */
+    void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId, Date processInstanceStartTime, Date processInstanceEndTime);
     
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    /**
+     * Deletes the historic activity instances of removed process instances, limited to the ones started before the given time (when not null).
+     */
+    void deleteHistoricActivityInstancesForNonExistingProcessInstances(Date startedBefore);
 }
\ No newline at end of file
@@ -13,8 +13,10 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -58,8 +60,13 @@ public class HistoricActivityInstanceEntityManagerImpl
 
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
+        deleteHistoricActivityInstancesByProcessInstanceId(historicProcessInstanceId, null, null);
+    }
+
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId, Date processInstanceStartTime, Date processInstanceEndTime) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
-            dataManager.deleteHistoricActivityInstancesByProcessInstanceId(historicProcessInstanceId);
+            dataManager.deleteHistoricActivityInstancesByProcessInstanceId(historicProcessInstanceId, processInstanceStartTime, processInstanceEndTime);
         }
     }
 
@@ -73,6 +80,11 @@ public class HistoricActivityInstanceEntityManagerImpl
         return dataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, Consumer<? super HistoricActivityInstance> consumer) {
+        dataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery, consumer);
+    }
+
     @Override
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricActivityInstancesByNativeQuery(parameterMap);
@@ -90,7 +102,12 @@ public class HistoricActivityInstanceEntityManagerImpl
     
     @Override
     public void deleteHistoricActivityInstancesForNonExistingProcessInstances() {
-        dataManager.deleteHistoricActivityInstancesForNonExistingProcessInstances();
+        deleteHistoricActivityInstancesForNonExistingProcessInstances(null);
+    }
+
+    @Override
+    public void deleteHistoricActivityInstancesForNonExistingProcessInstances(Date startedBefore) {
+        dataManager.deleteHistoricActivityInstancesForNonExistingProcessInstances(startedBefore);
     }
 
     protected HistoryManager getHistoryManager() {
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import java.util.function.Consumer;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -57,6 +58,13 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<? super HistoricProcessInstance> consumer) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            dataManager.findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, consumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
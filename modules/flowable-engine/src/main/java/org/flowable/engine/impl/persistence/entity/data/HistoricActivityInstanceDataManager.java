@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -36,10 +38,14 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId, Date processInstanceStartTime, Date processInstanceEndTime);
+
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, Consumer<? super HistoricActivityInstance> consumer);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
@@ -47,4 +53,6 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    void deleteHistoricActivityInstancesForNonExistingProcessInstances(Date startedBefore);
 }
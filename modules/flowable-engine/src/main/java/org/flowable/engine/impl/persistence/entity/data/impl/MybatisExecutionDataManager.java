@@ -12,19 +12,25 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.ProcessInstanceFetchPlan;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
@@ -43,6 +49,12 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubPro
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
+import org.flowable.identitylink.service.impl.persistence.entity.data.IdentityLinkDataManager;
+import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
+import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
+import org.flowable.task.service.impl.persistence.entity.data.TaskDataManager;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -123,11 +135,95 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
         
         // Fetches execution tree. This will store them in the cache and thus avoids extra database calls.
-        getList("selectExecutionsWithSameRootProcessInstanceId", executionId,
+        List<ExecutionEntity> executions = getList("selectExecutionsWithSameRootProcessInstanceId", executionId,
                 executionsWithSameRootProcessInstanceIdMatcher, true);
         
+        ProcessInstanceFetchPlan fetchPlan = performanceSettings.getEagerExecutionTreeFetchPlan();
+        if (fetchPlan != null && !fetchPlan.isEmpty()) {
+            fetchRelatedEntities(executions, fetchPlan);
+        }
+        
         return true;
     }
+    
+    /**
+     * Fetches the related entities selected in the fetch plan for all executions of the fetched execution tree, with one query per entity type
+     * for all process instances of the tree.
+     * Afterwards, the executions are marked as fetched for the related entity types, so lookups by execution id are answered from the entity cache.
+     */
+    protected void fetchRelatedEntities(List<ExecutionEntity> executions, ProcessInstanceFetchPlan fetchPlan) {
+        List<String> executionIds = new ArrayList<>(executions.size());
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (ExecutionEntity execution : executions) {
+            executionIds.add(execution.getId());
+            processInstanceIds.add(execution.getProcessInstanceId());
+        }
+        
+        if (fetchPlan.isFetchTasks()) {
+            TaskDataManager taskDataManager = processEngineConfiguration.getTaskServiceConfiguration().getTaskDataManager();
+            taskDataManager.findTasksByProcessInstanceIds(processInstanceIds);
+            addFetchedRelatedEntities(taskDataManager, executionIds);
+        }
+        
+        if (fetchPlan.isFetchIdentityLinks()) {
+            IdentityLinkDataManager identityLinkDataManager = processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkDataManager();
+            identityLinkDataManager.findIdentityLinksByProcessInstanceIds(processInstanceIds);
+            addFetchedRelatedEntities(identityLinkDataManager, executionIds);
+        }
+        
+        if (fetchPlan.isFetchJobs()) {
+            JobDataManager jobDataManager = processEngineConfiguration.getJobServiceConfiguration().getJobDataManager();
+            jobDataManager.findJobsByProcessInstanceIds(processInstanceIds);
+            addFetchedRelatedEntities(jobDataManager, executionIds);
+        }
+        
+        if (fetchPlan.isFetchTimerJobs()) {
+            TimerJobDataManager timerJobDataManager = processEngineConfiguration.getJobServiceConfiguration().getTimerJobDataManager();
+            timerJobDataManager.findJobsByProcessInstanceIds(processInstanceIds);
+            addFetchedRelatedEntities(timerJobDataManager, executionIds);
+        }
+        
+        if (fetchPlan.isFetchEventSubscriptions()) {
+            EventSubscriptionDataManager eventSubscriptionDataManager = processEngineConfiguration.getEventSubscriptionServiceConfiguration()
+                    .getEventSubscriptionDataManager();
+            eventSubscriptionDataManager.findEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+            addFetchedRelatedEntities(eventSubscriptionDataManager, executionIds);
+        }
+        
+        if (fetchPlan.isFetchVariables()) {
+            fetchVariables(executions, executionIds);
+        }
+    }
+    
+    protected void fetchVariables(List<ExecutionEntity> executions, List<String> executionIds) {
+        List<VariableInstanceEntity> variableInstances = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .executionIds(executionIds)
+                .withoutTaskId()
+                .list();
+        
+        Map<String, Map<String, VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new HashMap<>())
+                    .put(variableInstance.getName(), variableInstance);
+        }
+        
+        for (ExecutionEntity execution : executions) {
+            ExecutionEntityImpl executionEntity = (ExecutionEntityImpl) execution;
+            
+            // Executions that were in the cache already could have changed variables which must not be overwritten
+            if (!executionEntity.isVariableInstancesInitialized()) {
+                executionEntity.internalSetVariableInstances(variableInstancesByExecutionId.getOrDefault(execution.getId(), new HashMap<>()));
+            }
+        }
+    }
+    
+    protected void addFetchedRelatedEntities(DataManager<?> dataManager, Collection<String> executionIds) {
+        // Custom data managers can't be assumed to answer lookups from the cache, so only the default ones are marked
+        if (dataManager instanceof AbstractDataManager) {
+            getDbSqlSession().addFetchedRelatedEntities(((AbstractDataManager<?>) dataManager).getManagedEntityClass(), executionIds);
+        }
+    }
 
     @Override
     public ExecutionEntity findSubProcessInstanceBySuperExecutionId(final String superExecutionId) {
@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -87,7 +89,16 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
 
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
-        getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
+        deleteHistoricActivityInstancesByProcessInstanceId(historicProcessInstanceId, null, null);
+    }
+
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId, Date processInstanceStartTime, Date processInstanceEndTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceId", historicProcessInstanceId);
+        params.put("processInstanceStartTime", processInstanceStartTime);
+        params.put("processInstanceEndTime", processInstanceEndTime);
+        getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", params, HistoricActivityInstanceEntityImpl.class);
     }
 
     @Override
@@ -101,6 +112,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getDbSqlSession().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
     }
 
+    @Override
+    public void findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery, Consumer<? super HistoricActivityInstance> consumer) {
+        getDbSqlSession().selectWithCursor("selectHistoricActivityInstancesByQueryCriteriaWithCursor", historicActivityInstanceQuery, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -119,7 +135,14 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
     
     @Override
     public void deleteHistoricActivityInstancesForNonExistingProcessInstances() {
-        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", null, HistoricActivityInstanceEntityImpl.class);
+        deleteHistoricActivityInstancesForNonExistingProcessInstances(null);
+    }
+
+    @Override
+    public void deleteHistoricActivityInstancesForNonExistingProcessInstances(Date startedBefore) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("startedBefore", startedBefore);
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", params, HistoricActivityInstanceEntityImpl.class);
     }
 
 }
@@ -13,6 +13,7 @@
 package org.flowable.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -357,6 +358,14 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include only the process variables with the given names in the process query result.
+     * The process instances are fetched first, and the variables of all the returned process instances are fetched afterwards in a separate query.
+     *
+     * @param variableNames cannot be null or empty.
+     */
+    ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      * @deprecated no longer needed, this is a noop
@@ -0,0 +1,25 @@
+-- Converts ACT_HI_ACTINST into a table that is range partitioned on START_TIME_.
+-- It is executed after flowable.postgres.create.history.sql when the "partitioned" database schema profile is used.
+-- The rows are copied, so the script can also be used to migrate an existing schema.
+-- The startedBefore/startedAfter query criteria and the history cleanup statements of the profile filter on START_TIME_,
+-- and old partitions can be detached and dropped instead of deleting the rows.
+-- Range partitions (e.g. one per month) should be created ahead of time, for example:
+-- create table ACT_HI_ACTINST_2024_01 partition of ACT_HI_ACTINST for values from ('2024-01-01') to ('2024-02-01');
+-- When migrating an existing schema, create the partitions for the existing rows right after the partitioned table and before the rows are copied,
+-- a partition can't be created for a range that already has rows in the default partition.
+
+alter table ACT_HI_ACTINST rename to ACT_HI_ACTINST_UNPARTITIONED;
+
+create table ACT_HI_ACTINST (like ACT_HI_ACTINST_UNPARTITIONED including defaults) partition by range (START_TIME_);
+create table ACT_HI_ACTINST_DEFAULT partition of ACT_HI_ACTINST default;
+
+insert into ACT_HI_ACTINST select * from ACT_HI_ACTINST_UNPARTITIONED;
+drop table ACT_HI_ACTINST_UNPARTITIONED;
+
+-- The primary key and indexes of the unpartitioned table were dropped together with it
+alter table ACT_HI_ACTINST add primary key (ID_, START_TIME_);
+
+create index ACT_IDX_HI_ACT_INST_START on ACT_HI_ACTINST(START_TIME_);
+create index ACT_IDX_HI_ACT_INST_END on ACT_HI_ACTINST(END_TIME_);
+create index ACT_IDX_HI_ACT_INST_PROCINST on ACT_HI_ACTINST(PROC_INST_ID_, ACT_ID_);
+create index ACT_IDX_HI_ACT_INST_EXEC on ACT_HI_ACTINST(EXECUTION_ID_, ACT_ID_);
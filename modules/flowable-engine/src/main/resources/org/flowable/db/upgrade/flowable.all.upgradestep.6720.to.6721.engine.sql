@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '6.7.2.1' where NAME_ = 'schema.version';
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.mgmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.common.engine.api.management.SqlStatementProfile;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.CompleteTaskCmd;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SqlProfilerTest {
+
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("sqlProfilerTest");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-sql-profiler-test;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setEnableSqlProfiler(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testCommandSqlProfiles() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+
+        ManagementService managementService = processEngine.getManagementService();
+        managementService.resetSqlProfiler();
+
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        processEngine.getTaskService().complete(task.getId());
+
+        CommandSqlProfile profile = managementService.getCommandSqlProfile(CompleteTaskCmd.class.getName());
+        assertThat(profile).isNotNull();
+        assertThat(profile.getExecutionCount()).isEqualTo(1);
+        assertThat(profile.getFailureCount()).isZero();
+        assertThat(profile.getStatementCount()).isPositive();
+        assertThat(profile.getEntityCacheHits() + profile.getEntityCacheMisses()).isPositive();
+
+        // The delete of the task is executed when flushing the command context
+        assertThat(profile.getStatements())
+                .filteredOn(statement -> statement.getStatementId().endsWith(".deleteTask"))
+                .extracting(SqlStatementProfile::getCount, SqlStatementProfile::getRows)
+                .containsExactly(tuple(1L, 1L));
+
+        assertThat(managementService.getCommandSqlProfiles())
+                .extracting(CommandSqlProfile::getCommandName)
+                .contains(CompleteTaskCmd.class.getName());
+
+        managementService.resetSqlProfiler();
+        assertThat(managementService.getCommandSqlProfiles()).isEmpty();
+    }
+
+}
@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.mgmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableSpan;
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableTracer;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.agenda.TracingAgendaOperationRunner;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TracingTest {
+
+    protected ProcessEngine processEngine;
+    protected InMemoryFlowableTracer tracer;
+
+    @BeforeEach
+    public void setUp() {
+        tracer = new InMemoryFlowableTracer();
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("tracingTest");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-tracing-test;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setTracer(tracer);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testAsyncJobContinuesTrace() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/mgmt/TracingTest.testAsyncJobContinuesTrace.bpmn20.xml")
+                .deploy();
+        tracer.reset();
+
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("tracing");
+
+        InMemoryFlowableSpan startSpan = findSpan(tracer.getFinishedSpans(), "bpmn StartProcessInstanceCmd");
+        assertThat(startSpan.getParentSpanId()).isNull();
+
+        InMemoryFlowableSpan startEventSpan = findSpan(tracer.getFinishedSpans(startSpan.getTraceId()), "bpmn theStart");
+        assertThat(startEventSpan.getParentSpanId()).isEqualTo(startSpan.getSpanId());
+        assertThat(startEventSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_ELEMENT_TYPE)).isEqualTo("StartEvent");
+        assertThat(startEventSpan.getAttribute(TracingAgendaOperationRunner.ATTRIBUTE_PROCESS_INSTANCE_ID)).isEqualTo(processInstance.getId());
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000, 200);
+
+        // The execution of the async job continues the trace, with the span that created the job as parent
+        InMemoryFlowableSpan jobSpan = findSpan(tracer.getFinishedSpans(), "job async-continuation");
+        assertThat(jobSpan.getTraceId()).isEqualTo(startSpan.getTraceId());
+        assertThat(jobSpan.getAttribute("flowable.element.id")).isEqualTo("asyncTask");
+        assertThat(jobSpan.getAttribute("flowable.processInstanceId")).isEqualTo(processInstance.getId());
+
+        InMemoryFlowableSpan creatingSpan = tracer.getFinishedSpans(startSpan.getTraceId()).stream()
+                .filter(span -> span.getSpanId().equals(jobSpan.getParentSpanId()))
+                .findFirst()
+                .get();
+        assertThat(creatingSpan.getName()).isEqualTo("bpmn asyncTask");
+        assertThat(creatingSpan.getParentSpanId()).isEqualTo(startSpan.getSpanId());
+
+        List<InMemoryFlowableSpan> jobTraceSpans = tracer.getFinishedSpans(jobSpan.getTraceId());
+        InMemoryFlowableSpan jobCommandSpan = findSpan(jobTraceSpans, "bpmn ExecuteAsyncRunnableJobCmd");
+        assertThat(jobCommandSpan.getParentSpanId()).isEqualTo(jobSpan.getSpanId());
+
+        assertThat(jobTraceSpans)
+                .filteredOn(span -> span.getParentSpanId() != null && span.getParentSpanId().equals(jobCommandSpan.getSpanId()))
+                .extracting(InMemoryFlowableSpan::getName)
+                .contains("bpmn asyncTask");
+
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName())
+                .isEqualTo("my task");
+    }
+
+    protected InMemoryFlowableSpan findSpan(List<InMemoryFlowableSpan> spans, String name) {
+        assertThat(spans).extracting(InMemoryFlowableSpan::getName).contains(name);
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().get();
+    }
+
+}
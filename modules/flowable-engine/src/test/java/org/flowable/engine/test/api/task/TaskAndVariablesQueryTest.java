@@ -18,6 +18,8 @@ import static org.assertj.core.api.Assertions.entry;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -171,6 +173,57 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertThat(new String((byte[]) task.getProcessVariables().get("binaryVariable"))).isEqualTo("This is a binary process variable");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithProcessVariableNames() {
+        Map<String, Object> startMap = new HashMap<>();
+        startMap.put("processVar", true);
+        startMap.put("anotherProcessVar", 123);
+        startMap.put("binaryVariable", "This is a binary process variable".getBytes());
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+        Task task = taskService.createTaskQuery().includeProcessVariables(Arrays.asList("processVar", "binaryVariable"))
+                .processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskLocalVariables()).isEmpty();
+        assertThat(task.getProcessVariables())
+                .hasSize(2)
+                .containsEntry("processVar", true)
+                .doesNotContainKey("anotherProcessVar");
+        assertThat(new String((byte[]) task.getProcessVariables().get("binaryVariable"))).isEqualTo("This is a binary process variable");
+
+        // The variable names are copied when the query is built
+        List<String> variableNames = new ArrayList<>(Collections.singleton("processVar"));
+        TaskQuery taskQuery = taskService.createTaskQuery().includeProcessVariables(variableNames).processInstanceId(processInstance.getId());
+        variableNames.add("anotherProcessVar");
+        assertThat(taskQuery.singleResult().getProcessVariables()).containsOnly(entry("processVar", true));
+
+        taskService.setVariableLocal(task.getId(), "localVar", "test");
+        task = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables(Collections.singleton("anotherProcessVar"))
+                .processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskLocalVariables())
+                .containsOnly(
+                        entry("localVar", "test")
+                );
+        assertThat(task.getProcessVariables())
+                .containsOnly(
+                        entry("anotherProcessVar", 123)
+                );
+
+        List<Task> tasks = taskService.createTaskQuery().includeProcessVariables(Collections.singleton("processVar")).orderByTaskName().asc().list();
+        assertThat(tasks).hasSize(4);
+        for (Task queriedTask : tasks) {
+            if (processInstance.getId().equals(queriedTask.getProcessInstanceId())) {
+                assertThat(queriedTask.getProcessVariables()).containsOnly(entry("processVar", true));
+            } else {
+                assertThat(queriedTask.getProcessVariables()).isEmpty();
+            }
+        }
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables(Collections.emptyList()))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("Variable names is null or empty");
+    }
+
     @Test
     @Deployment
     public void testVariableExistsQuery() {
@@ -14,15 +14,19 @@
 package org.flowable.engine.test.bpmn.gateway;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
 
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -30,6 +34,7 @@ import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -120,6 +125,55 @@ public class ParallelGatewayTest extends PluggableFlowableTestCase {
                 .containsExactly("Task C");
     }
 
+    @Test
+    @Deployment
+    public void testJoinCounter() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("joinCounter")
+                .variable("again", true)
+                .start();
+
+        for (int i = 0; i < 2; i++) {
+            TaskQuery query = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc();
+            List<Task> tasks = query.list();
+            assertThat(tasks)
+                    .extracting(Task::getName)
+                    .containsExactly("Task A", "Task B", "Task C");
+            assertThat(getJoinCounters(processInstance.getId())).isEmpty();
+
+            // Arrivals at the join are counted on the process instance execution
+            taskService.complete(tasks.get(0).getId());
+            assertThat(getJoinCounters(processInstance.getId()))
+                    .extracting(VariableInstanceEntity::getName, VariableInstanceEntity::getValue)
+                    .containsExactly(tuple("join", 1));
+
+            taskService.complete(tasks.get(1).getId());
+            assertThat(getJoinCounters(processInstance.getId()))
+                    .extracting(VariableInstanceEntity::getName, VariableInstanceEntity::getValue)
+                    .containsExactly(tuple("join", 2));
+
+            // The counter is removed when the join activates, so the join can be passed again
+            taskService.complete(tasks.get(2).getId());
+            assertThat(getJoinCounters(processInstance.getId())).isEmpty();
+            assertThat(query.list())
+                    .extracting(Task::getName)
+                    .containsExactly("After join");
+
+            taskService.complete(query.singleResult().getId(), CollectionUtil.singletonMap("again", i == 0));
+        }
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected List<VariableInstanceEntity> getJoinCounters(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .scopeId(processInstanceId)
+                .scopeType(ScopeTypes.BPMN_GATEWAY_JOIN)
+                .list());
+    }
+
     /**
      * https://activiti.atlassian.net/browse/ACT-1222
      */
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -47,6 +48,9 @@ import org.flowable.engine.delegate.event.FlowableMultiInstanceActivityEvent;
 import org.flowable.engine.delegate.event.FlowableProcessStartedEvent;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -294,6 +298,105 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml" })
+    public void testParallelUserTasksCreatedInChunks() {
+        int originalChunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        int originalMaxActiveInstances = processEngineConfiguration.getParallelMultiInstanceMaxActiveInstances();
+        processEngineConfiguration.setParallelMultiInstanceCreationChunkSize(3);
+        processEngineConfiguration.setParallelMultiInstanceMaxActiveInstances(5);
+        try {
+            List<String> assigneeList = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                assigneeList.add("user" + i);
+            }
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection", CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+
+            // Only the first chunk is created when starting the multi instance
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).list())
+                    .extracting(Task::getAssignee)
+                    .containsExactlyInAnyOrder("user0", "user1", "user2");
+            assertThat(runtimeService.getVariable(procId, "assigneeList")).isEqualTo(assigneeList);
+
+            // The next chunk is limited by the maximum number of active instances
+            executeCreateInstancesJob(procId);
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isEqualTo(5);
+
+            // No instances are created as long as 5 instances are active
+            executeCreateInstancesJob(procId);
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isEqualTo(5);
+
+            // Instances that are not created yet are not counted as completed, so the completion condition (60% completed) is not met
+            List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).orderByTaskAssignee().asc().list();
+            for (int i = 0; i < 4; i++) {
+                taskService.complete(tasks.get(i).getId());
+            }
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).list())
+                    .extracting(Task::getAssignee)
+                    .containsExactly("user4");
+
+            executeCreateInstancesJob(procId);
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).list())
+                    .extracting(Task::getAssignee)
+                    .containsExactlyInAnyOrder("user4", "user5", "user6", "user7");
+
+            executeCreateInstancesJob(procId);
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).list())
+                    .extracting(Task::getAssignee)
+                    .containsExactlyInAnyOrder("user4", "user5", "user6", "user7", "user8");
+
+            taskService.complete(taskService.createTaskQuery().processInstanceId(procId).taskAssignee("user4").singleResult().getId());
+            executeCreateInstancesJob(procId);
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).list())
+                    .extracting(Task::getAssignee)
+                    .containsExactlyInAnyOrder("user5", "user6", "user7", "user8", "user9");
+            assertThat(managementService.createJobQuery().processInstanceId(procId).handlerType(ParallelMultiInstanceCreateInstancesJobHandler.TYPE).count()).isZero();
+
+            // Completing 6 instances in total triggers the completion condition
+            taskService.complete(taskService.createTaskQuery().processInstanceId(procId).taskAssignee("user5").singleResult().getId());
+            assertProcessEnded(procId);
+        } finally {
+            processEngineConfiguration.setParallelMultiInstanceCreationChunkSize(originalChunkSize);
+            processEngineConfiguration.setParallelMultiInstanceMaxActiveInstances(originalMaxActiveInstances);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml" })
+    public void testParallelUserTasksCreatedInChunksWithChangedCollection() {
+        int originalChunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        processEngineConfiguration.setParallelMultiInstanceCreationChunkSize(3);
+        try {
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection",
+                    CollectionUtil.singletonMap("assigneeList", Arrays.asList("user0", "user1", "user2", "user3", "user4"))).getId();
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isEqualTo(3);
+
+            // The next chunk resolves the collection again, which must not have changed
+            runtimeService.setVariable(procId, "assigneeList", Arrays.asList("user0", "user1", "user2", "user3"));
+            Job job = managementService.createJobQuery()
+                    .processInstanceId(procId)
+                    .handlerType(ParallelMultiInstanceCreateInstancesJobHandler.TYPE)
+                    .singleResult();
+            assertThatThrownBy(() -> managementService.executeJob(job.getId()))
+                    .isInstanceOf(FlowableException.class)
+                    .getRootCause()
+                    .isExactlyInstanceOf(FlowableException.class)
+                    .hasMessageContaining("changed to 4 elements while creating the next instances of 5 instances");
+            assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isEqualTo(3);
+        } finally {
+            processEngineConfiguration.setParallelMultiInstanceCreationChunkSize(originalChunkSize);
+        }
+    }
+
+    protected void executeCreateInstancesJob(String processInstanceId) {
+        Job job = managementService.createJobQuery()
+                .processInstanceId(processInstanceId)
+                .handlerType(ParallelMultiInstanceCreateInstancesJobHandler.TYPE)
+                .singleResult();
+        assertThat(job).isNotNull();
+        managementService.executeJob(job.getId());
+    }
+
     @Test
     @Deployment
     public void testParallelUserTasksCustomCollectionStringExtension() {
@@ -740,6 +843,48 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelAsyncScriptTasks.bpmn20.xml")
+    public void testParallelAsyncScriptTasksWithAsyncLeaveAggregation() {
+        boolean originalAsyncLeaveAggregation = processEngineConfiguration.isParallelMultiInstanceAsyncLeaveAggregation();
+        processEngineConfiguration.setParallelMultiInstanceAsyncLeaveAggregation(true);
+        try {
+
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("miParallelAsyncScriptTask")
+                    .variable("nrOfLoops", 10)
+                    .start();
+            List<Job> scriptTaskJobs = managementService.createJobQuery().handlerType(AsyncContinuationJobHandler.TYPE).list();
+            assertThat(scriptTaskJobs).hasSize(10);
+
+            // Each completed instance creates a completion job
+            for (int i = 0; i < 5; i++) {
+                managementService.executeJob(scriptTaskJobs.get(i).getId());
+            }
+            List<Job> completionJobs = managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).list();
+            assertThat(completionJobs).hasSize(5);
+
+            // The first completion job evaluates the completion of all completed instances, the other completion jobs are not needed anymore
+            managementService.executeJob(completionJobs.get(0).getId());
+            assertThat(managementService.createJobQuery().handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).count()).isZero();
+            assertThat(managementService.createJobQuery().handlerType(AsyncContinuationJobHandler.TYPE).count()).isEqualTo(5);
+
+            waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(10000L, 200);
+            assertThat(managementService.createJobQuery().list()).isEmpty();
+            assertThat(managementService.createTimerJobQuery().list()).isEmpty();
+            assertThat(managementService.createDeadLetterJobQuery().list()).isEmpty();
+
+            Execution waitStateExecution = runtimeService.createExecutionQuery()
+                    .processInstanceId(processInstance.getId())
+                    .activityId("waitState")
+                    .singleResult();
+            assertThat(waitStateExecution).isNotNull();
+            assertThat(runtimeService.getVariable(processInstance.getId(), "nrOfLoops")).isEqualTo(10);
+        } finally {
+            processEngineConfiguration.setParallelMultiInstanceAsyncLeaveAggregation(originalAsyncLeaveAggregation);
+        }
+    }
+
     @Test
     @Deployment
     public void testParallelScriptTasksCompletionCondition() {
@@ -0,0 +1,218 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DefaultReadReplicaRoutingPolicy;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.ReadReplicaRoutingInterceptor;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadOnlyDataSourceTest {
+
+    protected static final String JDBC_URL = "jdbc:h2:mem:flowable-read-only-data-source-test;DB_CLOSE_DELAY=1000";
+
+    protected List<Connection> readOnlyConnections = new ArrayList<>();
+    protected List<Connection> closedReadOnlyConnections = new ArrayList<>();
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        // The read-only data source points to the same database, but keeps track of the connections it hands out
+        JdbcDataSource replicaDataSource = new JdbcDataSource();
+        replicaDataSource.setURL(JDBC_URL);
+        replicaDataSource.setUser("sa");
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("readOnlyDataSourceTest");
+        processEngineConfiguration.setJdbcUrl(JDBC_URL);
+        processEngineConfiguration.setReadOnlyDataSource(createTrackingDataSource(replicaDataSource));
+        processEngineConfiguration.setReadYourWritesPeriodInMs(0);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        readOnlyConnections.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testQueriesAreExecutedOnPrimaryByDefault() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactly(processInstance.getId());
+        assertThat(processEngine.getTaskService().createTaskQuery().count()).isEqualTo(1);
+        assertThat(processEngine.getRuntimeService().getVariables(processInstance.getId())).isEmpty();
+
+        assertThat(readOnlyConnections).isEmpty();
+    }
+
+    @Test
+    public void testOptedInQueriesAreExecutedOnReadOnlyDataSource() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        assertThat(readOnlyConnections).isEmpty();
+
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().readFromReplica().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactly(processInstance.getId());
+        assertThat(processEngine.getTaskService().createTaskQuery().readFromReplica().count()).isEqualTo(1);
+
+        assertThat(readOnlyConnections).hasSize(2);
+        assertThat(closedReadOnlyConnections).containsExactlyElementsOf(readOnlyConnections);
+
+        // Commands that write keep using the primary data source
+        processEngine.getTaskService().complete(processEngine.getTaskService().createTaskQuery().singleResult().getId());
+        assertThat(readOnlyConnections).hasSize(2);
+    }
+
+    @Test
+    public void testCommandTypesOfRoutingPolicyAreExecutedOnReadOnlyDataSource() {
+        ((DefaultReadReplicaRoutingPolicy) processEngine.getProcessEngineConfiguration().getReadReplicaRoutingPolicy())
+                .addReadReplicaCommandType(ProcessInstanceQueryImpl.class);
+        try {
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isEqualTo(1);
+            assertThat(processEngine.getTaskService().createTaskQuery().count()).isEqualTo(1);
+            assertThat(readOnlyConnections).hasSize(1);
+
+        } finally {
+            ((DefaultReadReplicaRoutingPolicy) processEngine.getProcessEngineConfiguration().getReadReplicaRoutingPolicy())
+                    .getReadReplicaCommandTypes().clear();
+        }
+    }
+
+    @Test
+    public void testQueriesAfterWriteAreExecutedOnPrimary() throws Exception {
+        getReadReplicaRoutingInterceptor().setReadYourWritesPeriodInMs(60000);
+        try {
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            // The thread that just wrote reads its own writes from the primary data source
+            assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().readFromReplica().count()).isEqualTo(1);
+            assertThat(readOnlyConnections).isEmpty();
+
+            // Other threads can read from the read replica
+            Thread readerThread = new Thread(() -> processEngine.getRuntimeService().createProcessInstanceQuery().readFromReplica().count());
+            readerThread.start();
+            readerThread.join();
+            assertThat(readOnlyConnections).hasSize(1);
+
+        } finally {
+            getReadReplicaRoutingInterceptor().setReadYourWritesPeriodInMs(0);
+        }
+    }
+
+    @Test
+    public void testNestedQueriesAreExecutedOnPrimary() {
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+        long count = processEngine.getManagementService().executeCommand(commandContext -> processEngine.getRuntimeService()
+                .createProcessInstanceQuery().readFromReplica().count());
+        assertThat(count).isEqualTo(1);
+        assertThat(readOnlyConnections).isEmpty();
+    }
+
+    @Test
+    public void testReadOnlyConnectionIsClosedOnException() {
+        assertThatThrownBy(() -> processEngine.getRuntimeService().createNativeProcessInstanceQuery().readFromReplica().sql("select * from UNKNOWN_TABLE").list())
+                .isInstanceOf(FlowableException.class);
+
+        assertThat(readOnlyConnections).hasSize(1);
+        assertThat(closedReadOnlyConnections).containsExactlyElementsOf(readOnlyConnections);
+    }
+
+    @Test
+    public void testReadOnlyCommandCannotInsert() {
+        assertThatThrownBy(() -> processEngine.getManagementService().executeCommand(new CommandConfig().readReplica(), commandContext -> {
+            PropertyEntityManager propertyEntityManager = CommandContextUtil.getPropertyEntityManager(commandContext);
+            PropertyEntity property = propertyEntityManager.create();
+            property.setName("readOnlyTest");
+            property.setValue("value");
+            propertyEntityManager.insert(property);
+            return null;
+        }))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Inserts or deletes are not possible in a command that is executed as read-only");
+
+        assertThat(readOnlyConnections).hasSize(1);
+        assertThat(closedReadOnlyConnections).containsExactlyElementsOf(readOnlyConnections);
+        assertThat(processEngine.getManagementService().getProperties()).doesNotContainKey("readOnlyTest");
+    }
+
+    protected ReadReplicaRoutingInterceptor getReadReplicaRoutingInterceptor() {
+        return (ReadReplicaRoutingInterceptor) processEngine.getProcessEngineConfiguration().getCommandInterceptors().stream()
+                .filter(ReadReplicaRoutingInterceptor.class::isInstance)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No read replica routing interceptor"));
+    }
+
+    protected DataSource createTrackingDataSource(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            if ("getConnection".equals(method.getName())) {
+                Connection connection = (Connection) result;
+                Connection trackedConnection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                        (connectionProxy, connectionMethod, connectionArgs) -> {
+                            if ("close".equals(connectionMethod.getName()) && !connection.isClosed()) {
+                                closedReadOnlyConnections.add((Connection) connectionProxy);
+                            }
+                            return invoke(connection, connectionMethod, connectionArgs);
+                        });
+                readOnlyConnections.add(trackedConnection);
+                return trackedConnection;
+            }
+            return result;
+        });
+    }
+
+    protected Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
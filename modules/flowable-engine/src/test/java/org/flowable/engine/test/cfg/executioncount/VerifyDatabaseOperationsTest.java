@@ -25,6 +25,7 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessInstanceFetchPlan;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.Deployment;
@@ -466,6 +467,41 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testOneTaskProcessWithEagerExecutionTreeFetchPlan() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            ProcessInstanceFetchPlan oldFetchPlan = processEngineConfiguration.getPerformanceSettings().getEagerExecutionTreeFetchPlan();
+            processEngineConfiguration.getPerformanceSettings().setEagerExecutionTreeFetchPlan(ProcessInstanceFetchPlan.all());
+            try {
+                deployStartProcessInstanceAndProfile("process-usertask-01.bpmn20.xml", "process-usertask-01", false);
+                org.flowable.task.api.Task task = taskService.createTaskQuery().singleResult();
+                taskService.complete(task.getId());
+                stopProfiling();
+
+                assertExecutedCommands("StartProcessInstanceCmd", "org.flowable.task.service.impl.TaskQueryImpl", "CompleteTaskCmd");
+
+                // The related entities are fetched once for the whole tree, instead of once per execution
+                Map<String, Long> dbSelects = getStats("CompleteTaskCmd").getDbSelects();
+                assertThat(dbSelects)
+                        .containsEntry("selectExecutionsWithSameRootProcessInstanceId", 1L)
+                        .containsEntry("selectTasksByProcessInstanceIds", 1L)
+                        .containsEntry("selectIdentityLinksByProcessInstances", 1L)
+                        .containsEntry("selectEventSubscriptionsByProcessInstanceIds", 1L)
+                        .containsEntry("selectTimerJobsByProcessInstanceIds", 1L)
+                        .containsEntry("selectJobsByProcessInstanceIds", 1L)
+                        .doesNotContainKeys("selectTasksByExecutionId", "selectEventSubscriptionsByExecution",
+                                "selectTimerJobsByExecutionId", "selectJobsByExecutionId",
+                                "selectTasksByProcessInstanceId", "selectIdentityLinksByProcessInstance", "selectEventSubscriptionsByProcessInstanceId",
+                                "selectTimerJobsByProcessInstanceId", "selectJobsByProcessInstanceId");
+
+                assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+            } finally {
+                processEngineConfiguration.getPerformanceSettings().setEagerExecutionTreeFetchPlan(oldFetchPlan);
+            }
+        }
+    }
+
     @Test
     public void testOneTaskWithBoundaryTimerProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
@@ -15,6 +15,7 @@ package org.flowable.engine.test.cfg.multitenant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -22,12 +23,16 @@ import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.flowable.common.engine.impl.cfg.multitenant.PoolingTenantAwareDataSource;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.multitenant.MultiSchemaMultiTenantProcessEngineConfiguration;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.multitenant.SharedAcquisitionAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.SharedExecutorServiceAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.multitenant.TenantFairAsyncTaskExecutor;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +45,7 @@ public class MultiTenantProcessEngineTest {
 
     private DummyTenantInfoHolder tenantInfoHolder;
     private MultiSchemaMultiTenantProcessEngineConfiguration config;
+    private PoolingTenantAwareDataSource poolingDataSource;
     private ProcessEngine processEngine;
 
     @BeforeEach
@@ -71,8 +77,11 @@ public class MultiTenantProcessEngineTest {
         this.tenantInfoHolder = tenantInfoHolder;
     }
 
-    private void setupProcessEngine(boolean sharedExecutor) {
+    private void setupProcessEngine(AsyncExecutor asyncExecutor) {
         config = new MultiSchemaMultiTenantProcessEngineConfiguration(tenantInfoHolder);
+        if (poolingDataSource != null) {
+            config.setDataSource(poolingDataSource);
+        }
 
         config.setDatabaseType(MultiSchemaMultiTenantProcessEngineConfiguration.DATABASE_TYPE_H2);
         config.setDatabaseSchemaUpdate(MultiSchemaMultiTenantProcessEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE);
@@ -81,31 +90,73 @@ public class MultiTenantProcessEngineTest {
         config.setDisableIdmEngine(true);
         config.setDisableEventRegistry(true);
 
-        if (sharedExecutor) {
-            config.setAsyncExecutor(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
+        config.setAsyncExecutor(asyncExecutor);
+
+        if (poolingDataSource != null) {
+            config.registerTenant("flowable");
+            config.registerTenant("acme");
+            config.registerTenant("starkindustries");
         } else {
-            config.setAsyncExecutor(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
+            config.registerTenant("flowable", createDataSource("jdbc:h2:mem:activiti-mt-flowable;DB_CLOSE_DELAY=1000", "sa", ""));
+            config.registerTenant("acme", createDataSource("jdbc:h2:mem:activiti-mt-acme;DB_CLOSE_DELAY=1000", "sa", ""));
+            config.registerTenant("starkindustries", createDataSource("jdbc:h2:mem:activiti-mt-stark;DB_CLOSE_DELAY=1000", "sa", ""));
         }
 
-        config.registerTenant("flowable", createDataSource("jdbc:h2:mem:activiti-mt-flowable;DB_CLOSE_DELAY=1000", "sa", ""));
-        config.registerTenant("acme", createDataSource("jdbc:h2:mem:activiti-mt-acme;DB_CLOSE_DELAY=1000", "sa", ""));
-        config.registerTenant("starkindustries", createDataSource("jdbc:h2:mem:activiti-mt-stark;DB_CLOSE_DELAY=1000", "sa", ""));
-
         processEngine = config.buildProcessEngine();
     }
 
     @Test
     public void testStartProcessInstancesWithSharedExecutor() throws Exception {
-        setupProcessEngine(true);
+        setupProcessEngine(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
         runProcessInstanceTest();
     }
 
     @Test
     public void testStartProcessInstancesWithExecutorPerTenantAsyncExecutor() throws Exception {
-        setupProcessEngine(false);
+        setupProcessEngine(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
         runProcessInstanceTest();
     }
 
+    @Test
+    public void testStartProcessInstancesWithSharedAcquisitionAsyncExecutor() throws Exception {
+        SharedAcquisitionAsyncExecutor asyncExecutor = new SharedAcquisitionAsyncExecutor(tenantInfoHolder);
+        asyncExecutor.setDefaultMaxConcurrentJobsPerTenant(2);
+        asyncExecutor.setTenantWeights(Collections.singletonMap("flowable", 2));
+        setupProcessEngine(asyncExecutor);
+
+        assertThat(asyncExecutor.getTenantIds()).containsExactlyInAnyOrder("flowable", "acme", "starkindustries");
+        assertThat(asyncExecutor.getTaskExecutor()).isInstanceOf(TenantFairAsyncTaskExecutor.class);
+
+        runProcessInstanceTest();
+    }
+
+    @Test
+    public void testStartProcessInstancesWithLazilyCreatedDataSources() throws Exception {
+        poolingDataSource = new PoolingTenantAwareDataSource(tenantInfoHolder,
+                tenantId -> createDataSource("jdbc:h2:mem:activiti-mt-lazy-" + tenantId + ";DB_CLOSE_DELAY=1000", "sa", ""));
+        SharedAcquisitionAsyncExecutor asyncExecutor = new SharedAcquisitionAsyncExecutor(tenantInfoHolder);
+        setupProcessEngine(asyncExecutor);
+
+        assertThat(poolingDataSource.getDataSources()).containsOnlyKeys("flowable", "acme", "starkindustries");
+        assertThat(asyncExecutor.getTenantIds()).containsExactlyInAnyOrder("flowable", "acme", "starkindustries");
+
+        runProcessInstanceTest();
+
+        assertThat(poolingDataSource.getDataSources()).containsOnlyKeys("flowable", "acme", "starkindustries", "dailyplanet");
+        assertThat(asyncExecutor.getTenantIds()).containsExactlyInAnyOrder("flowable", "acme", "starkindustries", "dailyplanet");
+
+        // The job acquisition polls the database of each tenant, so the data sources only become idle once it is stopped
+        asyncExecutor.shutdown();
+        poolingDataSource.setMaxIdleTime(1);
+        Thread.sleep(5);
+        poolingDataSource.evictIdleDataSources();
+        assertThat(poolingDataSource.getDataSources()).isEmpty();
+
+        // The data source is created again when the tenant becomes active again
+        assertData("clark", 4, 0);
+        assertThat(poolingDataSource.getDataSources()).containsOnlyKeys("dailyplanet");
+    }
+
     protected void runProcessInstanceTest() throws InterruptedException {
         // Generate data
         startProcessInstances("joram");
@@ -126,7 +177,11 @@ public class MultiTenantProcessEngineTest {
         tenantInfoHolder.addUser("dailyplanet", "louis");
         tenantInfoHolder.addUser("dailyplanet", "clark");
 
-        config.registerTenant("dailyplanet", createDataSource("jdbc:h2:mem:activiti-mt-daily;DB_CLOSE_DELAY=1000", "sa", ""));
+        if (poolingDataSource != null) {
+            config.registerTenant("dailyplanet");
+        } else {
+            config.registerTenant("dailyplanet", createDataSource("jdbc:h2:mem:activiti-mt-daily;DB_CLOSE_DELAY=1000", "sa", ""));
+        }
 
         // Start process instance for new tenant
         startProcessInstances("clark");
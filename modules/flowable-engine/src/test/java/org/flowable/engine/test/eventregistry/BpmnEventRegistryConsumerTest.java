@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,9 @@ import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.DefaultEventSubscriptionCorrelationIndex;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -151,6 +155,72 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationInBatch() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "piggy");
+        ProcessInstance piggyProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "fozzie", "gonzo", "kermit");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(piggyProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("eventBoundary").list())
+                .extracting(EventSubscription::getProcessInstanceId)
+                .containsExactly(piggyProcessInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationIndex() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex originalCorrelationIndex = eventSubscriptionServiceConfiguration.getEventSubscriptionCorrelationIndex();
+        eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(new DefaultEventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, 0));
+        try {
+            // Loads the (empty) index for the event
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+
+            Map<String, Object> variableMap = new HashMap<>();
+            variableMap.put("customerIdVar", "kermit");
+            ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+            variableMap.clear();
+            variableMap.put("customerIdVar", "gonzo");
+            ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+            inboundEventChannelAdapter.triggerTestEvent("fozzie");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            // The subscriptions created after loading the index are added to it
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+            variableMap.clear();
+            variableMap.put("customerIdVar", "kermit");
+            ProcessInstance secondKermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(taskService.createTaskQuery().processInstanceId(secondKermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+
+            inboundEventChannelAdapter.triggerTestEvent("gonzo");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(originalCorrelationIndex);
+        }
+    }
+
     @Test
     @Deployment
     public void testBoundaryEventListenerWithPayload() {
@@ -768,6 +838,18 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEvents(String... customerIds) {
+            List<String> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId, null));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -782,7 +864,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
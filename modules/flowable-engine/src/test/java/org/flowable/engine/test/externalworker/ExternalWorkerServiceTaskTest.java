@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -198,6 +199,74 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
                 );
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariableNames() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("age", 30)
+                .start();
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "gonzo")
+                .variable("age", 40)
+                .start();
+
+        // Local variables of the job execution take precedence over the variables of the process instance
+        ExternalWorkerJob externalWorkerJob = managementService.createExternalWorkerJobQuery().processInstanceId(processInstance2.getId()).singleResult();
+        runtimeService.setVariableLocal(externalWorkerJob.getExecutionId(), "name", "fozzie");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "unknown"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getVariables)
+                .containsExactlyInAnyOrder(
+                        tuple(processInstance1.getId(), Collections.singletonMap("name", "kermit")),
+                        tuple(processInstance2.getId(), Collections.singletonMap("name", "fozzie"))
+                );
+
+        ProcessInstance processInstance3 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "piggy")
+                .start();
+
+        acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .withoutVariables()
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(processInstance3.getId());
+        assertThat(acquiredJobs.get(0).getVariables()).isEmpty();
+
+        ProcessInstance processInstance4 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "animal")
+                .variable("age", 50)
+                .start();
+
+        processEngineConfiguration.getJobServiceConfiguration()
+                .setExternalWorkerJobVariableNamesByTopic(Collections.singletonMap("simple", Collections.singletonList("age")));
+        try {
+            acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .acquireAndLock(4, "testWorker");
+
+            assertThat(acquiredJobs)
+                    .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                    .containsExactly(processInstance4.getId());
+            assertThat(acquiredJobs.get(0).getVariables()).containsOnly(entry("age", 50));
+
+        } finally {
+            processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobVariableNamesByTopic(null);
+        }
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
     void testExternalWorkerJobDeadLetterWithVariables() {
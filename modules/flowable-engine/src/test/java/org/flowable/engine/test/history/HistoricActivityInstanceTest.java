@@ -22,13 +22,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
@@ -189,6 +192,40 @@ public class HistoricActivityInstanceTest extends PluggableFlowableTestCase {
         assertThat(unfinishedActivityInstanceCount).as("One active (unfinished) User org.flowable.task.service.Task").isEqualTo(1);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/history/HistoricActivityInstanceTest.testHistoricActivityInstanceQuery.bpmn20.xml")
+    public void testHistoricActivityInstanceQueryForEach() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("noopProcess");
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        List<HistoricActivityInstance> streamedActivityInstances = new ArrayList<>();
+        historyService.createHistoricActivityInstanceQuery().activityId("nonExistingActivityId").forEach(streamedActivityInstances::add);
+        assertThat(streamedActivityInstances).isEmpty();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId())
+                    .orderByHistoricActivityInstanceStartTime().asc()
+                    .forEach(streamedActivityInstances::add);
+
+            assertThat(streamedActivityInstances)
+                    .extracting(HistoricActivityInstance::getId)
+                    .containsExactlyInAnyOrderElementsOf(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId())
+                            .orderByHistoricActivityInstanceStartTime().asc()
+                            .list().stream().map(HistoricActivityInstance::getId).collect(Collectors.toList()));
+            assertThat(streamedActivityInstances).hasSize(5);
+
+            // The streamed activity instances are read through a cursor and don't end up in the entity cache
+            managementService.executeCommand(commandContext -> {
+                List<HistoricActivityInstance> activityInstances = new ArrayList<>();
+                historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).forEach(activityInstances::add);
+                assertThat(activityInstances).hasSize(5);
+                assertThat(commandContext.getSession(EntityCache.class).findInCache(HistoricActivityInstanceEntity.class)).isEmpty();
+                return null;
+            });
+        }
+    }
+
     @Test
     @Deployment
     public void testHistoricActivityInstanceQuery() {
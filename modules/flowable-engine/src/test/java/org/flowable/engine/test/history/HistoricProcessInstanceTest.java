@@ -16,6 +16,7 @@ package org.flowable.engine.test.history;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -210,6 +211,37 @@ public class HistoricProcessInstanceTest extends PluggableFlowableTestCase {
         assertThat(historyService.createHistoricProcessInstanceQuery().involvedUser("gonzo").count()).isZero();
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testHistoricProcessInstanceQueryForEach() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "businessKey" + i).getId());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricProcessInstance> streamedProcessInstances = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("businessKey1").forEach(streamedProcessInstances::add);
+            assertThat(streamedProcessInstances)
+                    .extracting(HistoricProcessInstance::getId, HistoricProcessInstance::getProcessDefinitionKey)
+                    .containsExactly(tuple(processInstanceIds.get(1), "oneTaskProcess"));
+
+            streamedProcessInstances.clear();
+            historyService.createHistoricProcessInstanceQuery().processDefinitionKey("oneTaskProcess")
+                    .orderByProcessInstanceBusinessKey().desc()
+                    .forEach(streamedProcessInstances::add);
+            assertThat(streamedProcessInstances)
+                    .extracting(HistoricProcessInstance::getId)
+                    .containsExactly(processInstanceIds.get(2), processInstanceIds.get(1), processInstanceIds.get(0));
+
+            streamedProcessInstances.clear();
+            historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("unknown").forEach(streamedProcessInstances::add);
+            assertThat(streamedProcessInstances).isEmpty();
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
     public void testHistoricProcessInstanceOrQuery() {
@@ -15,6 +15,7 @@ package org.flowable.engine.test.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -816,4 +817,28 @@ public class HistoricVariableInstanceTest extends PluggableFlowableTestCase {
                 .extracting(HistoricVariableInstance::getProcessInstanceId)
                 .isEmpty();
     }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricVariableInstanceQueryForEach() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "test");
+        variables.put("bytesVar", "someBytes".getBytes());
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricVariableInstance> streamedVariables = new ArrayList<>();
+            historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .orderByVariableName().asc()
+                    .forEach(streamedVariables::add);
+
+            assertThat(streamedVariables)
+                    .extracting(HistoricVariableInstance::getVariableName)
+                    .containsExactly("bytesVar", "stringVar");
+            assertThat((byte[]) streamedVariables.get(0).getValue()).isEqualTo("someBytes".getBytes());
+            assertThat(streamedVariables.get(1).getValue()).isEqualTo("test");
+        }
+    }
 }
@@ -0,0 +1,175 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.common.engine.api.management.SqlStatementProfile;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.JobRetryCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
+import org.flowable.job.service.impl.cmd.ExecuteTimerJobInPlaceCmd;
+import org.flowable.job.service.impl.cmd.MoveAcquiredTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.MoveFailedTimerJobToExecutableJobCmd;
+import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DirectTimerJobExecutionTest extends JobExecutorTestCase {
+
+    protected TweetExceptionHandler tweetExceptionHandler = new TweetExceptionHandler();
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.addCustomJobHandler(tweetExceptionHandler);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setTimerJobDirectExecutionEnabled(true);
+        processEngineConfiguration.setEnableSqlProfiler(true);
+    }
+
+    @AfterEach
+    void removeExceptionHandler() {
+        processEngineConfiguration.removeJobHandler(tweetExceptionHandler.getType());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml")
+    void testTimersAreExecutedDirectly() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(createTweetTimer("timer-one", Date.from(now.plusSeconds(10))));
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(createTweetTimer("timer-two", Date.from(now.plusSeconds(10))));
+            return null;
+        });
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+        managementService.resetSqlProfiler();
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(600)));
+        waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(10000L, 200L);
+
+        assertThat(tweetHandler.getMessages()).containsExactlyInAnyOrder("timer-one", "timer-two");
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        // All timers were executed in place, without writing an executable job
+        CommandSqlProfile profile = managementService.getCommandSqlProfile(ExecuteTimerJobInPlaceCmd.class.getName());
+        assertThat(profile).isNotNull();
+        assertThat(profile.getExecutionCount()).isEqualTo(3);
+        assertThat(profile.getFailureCount()).isZero();
+        assertThat(profile.getStatements())
+                .extracting(SqlStatementProfile::getStatementId)
+                .noneMatch(DirectTimerJobExecutionTest::isExecutableJobStatement);
+        assertThat(managementService.getCommandSqlProfile(MoveTimerJobsToExecutableJobsCmd.class.getName())).isNull();
+        assertThat(managementService.getCommandSqlProfile(ExecuteAsyncRunnableJobCmd.class.getName())).isNull();
+    }
+
+    @Test
+    void testFailingTimerIsHandledAsFailedJob() {
+        tweetExceptionHandler.setExceptionsRemaining(1);
+
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer("failing", Date.from(now.plusSeconds(10)));
+            timer.setJobHandlerType(tweetExceptionHandler.getType());
+            timer.setRetries(3);
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+            return null;
+        });
+
+        managementService.resetSqlProfiler();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(600)));
+        waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(10000L, 200L);
+
+        // The failed direct execution went through the failed job command, the retried timer then succeeded
+        assertThat(tweetExceptionHandler.getExceptionsRemaining()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+        CommandSqlProfile inPlaceProfile = managementService.getCommandSqlProfile(ExecuteTimerJobInPlaceCmd.class.getName());
+        assertThat(inPlaceProfile).isNotNull();
+        assertThat(inPlaceProfile.getExecutionCount()).isEqualTo(2);
+        assertThat(inPlaceProfile.getFailureCount()).isEqualTo(1);
+
+        CommandSqlProfile moveProfile = managementService.getCommandSqlProfile(MoveFailedTimerJobToExecutableJobCmd.class.getName());
+        assertThat(moveProfile).isNotNull();
+        assertThat(moveProfile.getExecutionCount()).isEqualTo(1);
+        assertThat(moveProfile.getStatements())
+                .extracting(SqlStatementProfile::getStatementId)
+                .anyMatch(DirectTimerJobExecutionTest::isExecutableJobStatement);
+
+        CommandSqlProfile retryProfile = managementService.getCommandSqlProfile(JobRetryCmd.class.getName());
+        assertThat(retryProfile).isNotNull();
+        assertThat(retryProfile.getExecutionCount()).isEqualTo(1);
+        assertThat(managementService.getCommandSqlProfile(MoveAcquiredTimerJobsToExecutableJobsCmd.class.getName())).isNull();
+    }
+
+    @Test
+    void testFailingTimerUsesRetries() {
+        tweetExceptionHandler.setExceptionsRemaining(10);
+
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer("failing", Date.from(now.plusSeconds(10)));
+            timer.setJobHandlerType(tweetExceptionHandler.getType());
+            timer.setRetries(3);
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+            return null;
+        });
+
+        managementService.resetSqlProfiler();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(600)));
+        waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(10000L, 200L);
+
+        // Every failed direct execution decremented the retries, until the timer ended up as a dead letter job with the exception
+        assertThat(tweetExceptionHandler.getExceptionsRemaining()).isEqualTo(7);
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        Job deadLetterJob = managementService.createDeadLetterJobQuery().singleResult();
+        assertThat(deadLetterJob).isNotNull();
+        assertThat(deadLetterJob.getRetries()).isZero();
+        assertThat(deadLetterJob.getExceptionMessage()).contains("exception remaining: 7");
+        assertThat(managementService.getDeadLetterJobExceptionStacktrace(deadLetterJob.getId())).contains("exception remaining: 7");
+
+        CommandSqlProfile inPlaceProfile = managementService.getCommandSqlProfile(ExecuteTimerJobInPlaceCmd.class.getName());
+        assertThat(inPlaceProfile).isNotNull();
+        assertThat(inPlaceProfile.getExecutionCount()).isEqualTo(3);
+        assertThat(inPlaceProfile.getFailureCount()).isEqualTo(3);
+    }
+
+    protected static boolean isExecutableJobStatement(String statementId) {
+        return statementId.endsWith(".insertJob") || statementId.endsWith(".bulkInsertJob");
+    }
+
+}
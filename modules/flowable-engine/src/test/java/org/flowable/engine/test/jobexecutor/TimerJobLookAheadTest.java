@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.function.BooleanSupplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.Test;
+
+class TimerJobLookAheadTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setTimerJobLookAheadTime(Duration.ofMinutes(10));
+        processEngineConfiguration.getAsyncExecutorConfiguration().setTimerWheelTickDuration(Duration.ofMillis(100));
+        // The timer jobs are only acquired once, moving them is up to the timer wheel
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultTimerJobAcquireWaitTime(Duration.ofHours(1));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml")
+    void testCancelledTimerInTimerWheelIsSkipped() throws Exception {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        // Both timers are due at the same time, so they are moved in the same batch
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(createTweetTimer("kept", Date.from(now.plus(Duration.ofMinutes(5)))));
+            return null;
+        });
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+        assertThat(managementService.createTimerJobQuery().count()).isEqualTo(2);
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.start();
+        try {
+            waitUntil(() -> managementService.createTimerJobQuery().list().stream()
+                    .allMatch(timerJob -> ((TimerJobEntity) timerJob).getLockOwner() != null));
+
+            // The timer of the process instance is deleted while it is waiting in the timer wheel
+            runtimeService.deleteProcessInstance(processInstance.getId(), "cancelled");
+            assertThat(managementService.createTimerJobQuery().list()).extracting(Job::getJobHandlerConfiguration).containsExactly("kept");
+
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(Duration.ofMinutes(6))));
+            waitUntil(() -> tweetHandler.getMessages().contains("kept"));
+
+        } finally {
+            asyncExecutor.shutdown();
+        }
+
+        assertThat(tweetHandler.getMessages()).containsExactly("kept");
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+    }
+
+    protected void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(100L);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.flowable.common.engine.impl.calendar.CompiledCronExpression;
+import org.flowable.common.engine.impl.calendar.CronExpression;
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledCronExpressionTest {
+
+    protected Clock clock = new DefaultClockImpl();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0 0 0 1 * ?",
+            "0/5 * * * * ?",
+            "0 30 2 * * ?",
+            "0 0/15 * * * ?",
+            "0 15 10 ? * MON-FRI",
+            "0 0 0 29 2 ?",
+            "0 0 0 31 * ?",
+            "15,45 10-20/3 8-18 ? * 2,4,6",
+            "0 0 12 * * ? 2025-2027",
+            "0 0 1 ? * 1 *",
+            "30 59 23 31 12 ?",
+            "0 0 0 L * ?",
+            "0 0 0 15W * ?",
+            "0 0 0 ? * 6#3"
+    })
+    void testSameTimeAfterAsCronExpression(String expression) throws Exception {
+        CompiledCronExpression compiledCronExpression = CompiledCronExpression.compile(expression, clock);
+        Random random = new Random(expression.hashCode());
+
+        for (String timeZoneId : new String[] { "UTC", "Europe/Brussels", "America/New_York", "Australia/Lord_Howe" }) {
+            TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+            for (int i = 0; i < 500; i++) {
+                Date afterTime = new Date(1500000000000L + (long) (random.nextDouble() * 400000000000L));
+
+                CronExpression cronExpression = new CronExpression(expression, clock);
+                cronExpression.setTimeZone(timeZone);
+
+                assertThat(compiledCronExpression.getTimeAfter(afterTime, timeZone))
+                        .as("%s in %s after %s", expression, timeZoneId, afterTime.toInstant())
+                        .isEqualTo(cronExpression.getTimeAfter(afterTime));
+            }
+        }
+    }
+
+    @Test
+    void testDaylightSavingTimeTransitions() throws Exception {
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Brussels");
+
+        // 02:30 does not exist on the day of the spring transition
+        CompiledCronExpression compiledCronExpression = CompiledCronExpression.compile("0 30 2 * * ?", clock);
+        assertThat(compiledCronExpression.getTimeAfter(Date.from(Instant.parse("2024-03-30T12:00:00Z")), timeZone))
+                .isEqualTo(Date.from(Instant.parse("2024-04-01T00:30:00Z")));
+
+        // 02:30 exists twice on the day of the autumn transition, the later one is used
+        assertThat(compiledCronExpression.getTimeAfter(Date.from(Instant.parse("2024-10-26T12:00:00Z")), timeZone))
+                .isEqualTo(Date.from(Instant.parse("2024-10-27T01:30:00Z")));
+    }
+
+    @Test
+    void testNoTimeAfter() throws Exception {
+        CompiledCronExpression compiledCronExpression = CompiledCronExpression.compile("0 0 0 1 1 ? 2020", clock);
+        assertThat(compiledCronExpression.getTimeAfter(Date.from(Instant.parse("2021-01-01T00:00:00Z")), TimeZone.getTimeZone("UTC"))).isNull();
+    }
+
+}
@@ -58,4 +58,22 @@ public class CycleBusinessCalendarTest extends AbstractTestCase {
         assertThat(duedate).isEqualTo(expectedDuedate);
     }
 
+    @Test
+    public void testCachedExpressions() throws Exception {
+        Clock testingClock = new DefaultClockImpl();
+        CycleBusinessCalendar businessCalendar = new CycleBusinessCalendar(testingClock);
+
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy MM dd - HH:mm");
+        testingClock.setCurrentTime(simpleDateFormat.parse("2011 03 11 - 17:23"));
+
+        assertThat(businessCalendar.resolveDuedate("0 0 0 1 * ?")).isEqualTo(simpleDateFormat.parse("2011 04 1 - 00:00"));
+        assertThat(businessCalendar.resolveDuedate("R/PT1H")).isEqualTo(simpleDateFormat.parse("2011 03 11 - 18:23"));
+
+        // The parsed expressions are reused, but the due dates are still relative to the current time
+        testingClock.setCurrentTime(simpleDateFormat.parse("2011 04 20 - 08:10"));
+
+        assertThat(businessCalendar.resolveDuedate("0 0 0 1 * ?")).isEqualTo(simpleDateFormat.parse("2011 05 1 - 00:00"));
+        assertThat(businessCalendar.resolveDuedate("R/PT1H")).isEqualTo(simpleDateFormat.parse("2011 04 20 - 09:10"));
+    }
+
 }
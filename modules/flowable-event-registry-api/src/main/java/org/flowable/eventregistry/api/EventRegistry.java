@@ -70,12 +70,41 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Events received in adapters that carry a trace context (e.g. in a message header) should call this method to process events,
+     * so that the processing of the event continues the trace of the sender.
+     *
+     * @param traceContext the serialized trace context of the sender, can be null
+     */
+    default void eventReceived(InboundChannelModel channelModel, String event, String traceContext) {
+        eventReceived(channelModel, event);
+    }
     
+    /**
+     * Adapters that receive events in batches (e.g. one poll of a Kafka consumer) can call this method to process the events together.
+     * Events with the same correlation parameters are processed in the order of the collection.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        for (String event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    default void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            sendEventToConsumers(eventRegistryEvent);
+        }
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,24 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events. The events need to be handled in the order of the collection.
+     * Consumers can override this to handle the events of a batch with fewer queries than when handling them one by one.
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        for (EventRegistryEvent event : events) {
+            eventReceived(event);
+        }
+    }
     
     String getConsumerKey();
 }
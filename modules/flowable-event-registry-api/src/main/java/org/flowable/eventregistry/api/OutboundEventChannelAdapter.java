@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.List;
+
 /**
  * @author Joram Barrez
  */
@@ -19,4 +21,16 @@ public interface OutboundEventChannelAdapter<T> {
 
     void sendEvent(T rawEvent);
 
+    /**
+     * Sends the given raw events, in the given order.
+     * Used when outbound events are sent asynchronously, in which case the events are handed over in batches per channel.
+     * Adapters that can send several events at once (e.g. by only waiting for the acknowledgements after the last event was sent)
+     * should override this method.
+     */
+    default void sendEvents(List<T> rawEvents) {
+        for (T rawEvent : rawEvents) {
+            sendEvent(rawEvent);
+        }
+    }
+
 }
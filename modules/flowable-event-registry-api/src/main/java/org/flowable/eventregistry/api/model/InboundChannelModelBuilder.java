@@ -188,6 +188,12 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Consume the records of this Kafka adapter with a batch listener.
+         * All records of a poll are then passed to the event registry as one batch.
+         */
+        InboundKafkaChannelBuilder batchListener();
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
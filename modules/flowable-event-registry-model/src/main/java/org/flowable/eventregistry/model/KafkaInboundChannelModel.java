@@ -30,6 +30,7 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected String topicPattern;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected Boolean batchListener;
     protected List<CustomProperty> customProperties;
     
     public KafkaInboundChannelModel() {
@@ -77,6 +78,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public Boolean getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(Boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public List<CustomProperty> getCustomProperties() {
         return customProperties;
     }
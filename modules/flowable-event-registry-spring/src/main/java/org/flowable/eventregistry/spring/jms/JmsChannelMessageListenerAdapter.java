@@ -17,6 +17,7 @@ import javax.jms.Message;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.springframework.jms.listener.adapter.AbstractAdaptableMessageListener;
@@ -37,7 +38,12 @@ public class JmsChannelMessageListenerAdapter extends AbstractAdaptableMessageLi
     @Override
     public void onMessage(Message message, Session session) throws JMSException {
         if (message instanceof TextMessage) {
-            eventRegistry.eventReceived(inboundChannelModel, ((TextMessage) message).getText());
+            String traceContext = message.getStringProperty(TracingContext.TRACE_CONTEXT_HEADER);
+            if (traceContext != null) {
+                eventRegistry.eventReceived(inboundChannelModel, ((TextMessage) message).getText(), traceContext);
+            } else {
+                eventRegistry.eventReceived(inboundChannelModel, ((TextMessage) message).getText());
+            }
         } else {
             //TODO what about other message types
             throw new UnsupportedOperationException("Can only received TextMessage. Received: " + message);
@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.spring.jms;
 
+import javax.jms.Message;
+
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
 import org.springframework.jms.core.JmsOperations;
 
@@ -36,7 +39,14 @@ public class JmsOperationsOutboundEventChannelAdapter implements OutboundEventCh
 
     @Override
     public void sendEvent(String rawEvent) {
-        jmsOperations.send(destination, session -> getMessageCreator().toMessage(rawEvent, session));
+        String traceContext = TracingContext.getCurrentTraceContext();
+        jmsOperations.send(destination, session -> {
+            Message message = getMessageCreator().toMessage(rawEvent, session);
+            if (traceContext != null) {
+                message.setStringProperty(TracingContext.TRACE_CONTEXT_HEADER, traceContext);
+            }
+            return message;
+        });
     }
 
     public JmsOperations getJmsOperations() {
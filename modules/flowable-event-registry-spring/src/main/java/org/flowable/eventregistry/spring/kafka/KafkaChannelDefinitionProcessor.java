@@ -218,7 +218,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
     @SuppressWarnings("unchecked")
     protected GenericMessageListener<ConsumerRecord<Object, Object>> createMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
         @SuppressWarnings("rawtypes")
-        GenericMessageListener kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        GenericMessageListener kafkaChannelMessageListenerAdapter;
+        if (inboundChannelModel instanceof KafkaInboundChannelModel && Boolean.TRUE.equals(((KafkaInboundChannelModel) inboundChannelModel).getBatchListener())) {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        } else {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        }
         return kafkaChannelMessageListenerAdapter;
     }
 
@@ -12,7 +12,11 @@
  */
 package org.flowable.eventregistry.spring.kafka;
 
+import java.nio.charset.StandardCharsets;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.springframework.kafka.listener.MessageListener;
@@ -32,7 +36,12 @@ public class KafkaChannelMessageListenerAdapter implements MessageListener<Strin
 
     @Override
     public void onMessage(ConsumerRecord<String, String> data) {
-        eventRegistry.eventReceived(inboundChannelModel, data.value());
+        Header traceContextHeader = data.headers().lastHeader(TracingContext.TRACE_CONTEXT_HEADER);
+        if (traceContextHeader != null && traceContextHeader.value() != null) {
+            eventRegistry.eventReceived(inboundChannelModel, data.value(), new String(traceContextHeader.value(), StandardCharsets.UTF_8));
+        } else {
+            eventRegistry.eventReceived(inboundChannelModel, data.value());
+        }
     }
 
     public EventRegistry getEventRegistry() {
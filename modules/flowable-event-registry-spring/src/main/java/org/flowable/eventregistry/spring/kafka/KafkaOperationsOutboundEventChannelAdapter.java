@@ -12,9 +12,15 @@
  */
 package org.flowable.eventregistry.spring.kafka;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
 import org.springframework.kafka.core.KafkaOperations;
 
@@ -35,8 +41,36 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
 
     @Override
     public void sendEvent(String rawEvent) {
+        waitForAcknowledgement(send(rawEvent));
+    }
+
+    @Override
+    public void sendEvents(List<String> rawEvents) {
+        // Send all the events first and only then wait for the acknowledgements, so the producer can batch the records
+        List<Future<?>> futures = new ArrayList<>(rawEvents.size());
+        for (String rawEvent : rawEvents) {
+            futures.add(send(rawEvent));
+        }
+
+        for (Future<?> future : futures) {
+            waitForAcknowledgement(future);
+        }
+    }
+
+    protected Future<?> send(String rawEvent) {
+        String traceContext = TracingContext.getCurrentTraceContext();
+        if (traceContext != null) {
+            ProducerRecord<Object, Object> producerRecord = new ProducerRecord<>(topic, key, rawEvent);
+            producerRecord.headers().add(TracingContext.TRACE_CONTEXT_HEADER, traceContext.getBytes(StandardCharsets.UTF_8));
+            return kafkaOperations.send(producerRecord);
+        } else {
+            return kafkaOperations.send(topic, key, rawEvent);
+        }
+    }
+
+    protected void waitForAcknowledgement(Future<?> future) {
         try {
-            kafkaOperations.send(topic, key, rawEvent).get();
+            future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FlowableException("Sending the event was interrupted", e);
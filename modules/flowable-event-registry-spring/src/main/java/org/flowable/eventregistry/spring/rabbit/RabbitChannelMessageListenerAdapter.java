@@ -17,6 +17,7 @@ import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
 
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.springframework.amqp.core.Message;
@@ -58,7 +59,12 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
             rawEvent = Base64.getEncoder().encodeToString(body);
         }
 
-        eventRegistry.eventReceived(inboundChannelModel, rawEvent);
+        Object traceContext = messageProperties != null ? messageProperties.getHeader(TracingContext.TRACE_CONTEXT_HEADER) : null;
+        if (traceContext != null) {
+            eventRegistry.eventReceived(inboundChannelModel, rawEvent, traceContext.toString());
+        } else {
+            eventRegistry.eventReceived(inboundChannelModel, rawEvent);
+        }
     }
 
     public EventRegistry getEventRegistry() {
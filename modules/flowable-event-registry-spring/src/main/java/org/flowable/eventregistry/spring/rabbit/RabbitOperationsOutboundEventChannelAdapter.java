@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
 /**
@@ -32,7 +34,19 @@ public class RabbitOperationsOutboundEventChannelAdapter implements OutboundEven
 
     @Override
     public void sendEvent(String rawEvent) {
-        if (exchange != null) {
+        String traceContext = TracingContext.getCurrentTraceContext();
+        if (traceContext != null) {
+            MessagePostProcessor traceContextPostProcessor = message -> {
+                message.getMessageProperties().setHeader(TracingContext.TRACE_CONTEXT_HEADER, traceContext);
+                return message;
+            };
+            if (exchange != null) {
+                rabbitOperations.convertAndSend(exchange, routingKey, rawEvent, traceContextPostProcessor);
+            } else {
+                rabbitOperations.convertAndSend(routingKey, (Object) rawEvent, traceContextPostProcessor);
+            }
+
+        } else if (exchange != null) {
             rabbitOperations.convertAndSend(exchange, routingKey, rawEvent);
         } else {
             rabbitOperations.convertAndSend(routingKey, rawEvent);
@@ -0,0 +1,456 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.TracingContext;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.flowable.eventregistry.api.OutboundEventProcessor} that serializes the outbound events in the calling thread,
+ * but hands them over to the channel adapters in a background thread, once the transaction that produced them has committed.
+ * This way, the engine transaction is no longer kept open while the broker acknowledges the events.
+ *
+ * The serialized events are stored in the outbox table (FLW_EVENT_OUTBOX) in the transaction that produced them,
+ * so they are only sent when that transaction commits, and are not lost when the node stops before they are sent.
+ * After the commit, the outbox of the channel is drained by a thread of the {@link #taskExecutor}.
+ * Events that are not sent right away (e.g. because their node stopped) are picked up by a poller,
+ * that checks the outbox every {@link #pollIntervalInMs}.
+ *
+ * The events of a channel and tenant are sent by at most one node and thread at a time, in the order in which they were created,
+ * in batches of at most {@link #batchSize} events (see {@link OutboundEventChannelAdapter#sendEvents(List)}).
+ * A sender locks a batch before sending it, and deletes its events only once the channel adapter has sent them.
+ * A batch that fails is retried as a whole (i.e. events can be sent more than once) after {@link #retryWaitTimeInMs}, without blocking a thread.
+ * When it still fails after {@link #maxRetries} retries, its events are kept in the outbox as failed events,
+ * which are skipped until they are sent again with {@link #retryFailedEvents()}.
+ */
+public class AsyncOutboundEventProcessor extends DefaultOutboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncOutboundEventProcessor.class);
+
+    protected EventRegistryEngineConfiguration engineConfiguration;
+    protected AsyncTaskExecutor taskExecutor;
+    protected int batchSize;
+    protected int maxRetries;
+    protected long retryWaitTimeInMs;
+    protected long pollIntervalInMs;
+    protected long lockTimeInMs;
+
+    protected String lockOwner = UUID.randomUUID().toString();
+    protected final AtomicLong sequence = new AtomicLong();
+    protected final ConcurrentMap<ChannelKey, ChannelSender> senders = new ConcurrentHashMap<>();
+
+    protected ScheduledExecutorService scheduledExecutorService;
+    protected String threadName = "flowable-event-outbox-poller-%d";
+
+    public AsyncOutboundEventProcessor(EventRegistryEngineConfiguration engineConfiguration, AsyncTaskExecutor taskExecutor) {
+        super(engineConfiguration.getEventRepositoryService(), engineConfiguration.isFallbackToDefaultTenant());
+        this.engineConfiguration = engineConfiguration;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = engineConfiguration.getOutboundEventBatchSize();
+        this.maxRetries = engineConfiguration.getOutboundEventSendMaxRetries();
+        this.retryWaitTimeInMs = engineConfiguration.getOutboundEventSendRetryWaitTimeInMs();
+        this.pollIntervalInMs = engineConfiguration.getOutboundEventOutboxPollIntervalInMs();
+        this.lockTimeInMs = engineConfiguration.getOutboundEventOutboxLockTimeInMs();
+    }
+
+    /**
+     * Starts the poller that sends the events that are waiting in the outbox, including the ones that were left by a previous run.
+     */
+    public void start() {
+        if (scheduledExecutorService == null) {
+            scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder().namingPattern(threadName).build());
+            if (pollIntervalInMs > 0) {
+                scheduledExecutorService.scheduleWithFixedDelay(this::pollOutbox, pollIntervalInMs, pollIntervalInMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (scheduledExecutorService != null) {
+            // The delayed retries are not needed anymore, the events are picked up again by the next poller
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected void sendEvent(EventInstance eventInstance, OutboundChannelModel channelModel, OutboundEventChannelAdapter outboundEventChannelAdapter, Object rawEvent) {
+        if (!(rawEvent instanceof String)) {
+            throw new FlowableException("Could not store the outbound event for channel " + channelModel.getKey() + " in the outbox, only String events are supported but got "
+                    + (rawEvent != null ? rawEvent.getClass().getName() : null));
+        }
+
+        OutboxEventEntity outboxEvent = createOutboxEvent(channelModel.getKey(), eventInstance.getTenantId(), (String) rawEvent);
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            addToOutbox(outboxEvent);
+        } else {
+            getCommandExecutor().execute(context -> {
+                addToOutbox(outboxEvent);
+                return null;
+            });
+        }
+    }
+
+    protected OutboxEventEntity createOutboxEvent(String channelKey, String tenantId, String rawEvent) {
+        OutboxEventEntity outboxEvent = getOutboxEventEntityManager().create();
+        outboxEvent.setChannelKey(channelKey);
+        outboxEvent.setTenantId(tenantId != null ? tenantId : EventRegistryEngineConfiguration.NO_TENANT_ID);
+        outboxEvent.setEventBytes(rawEvent.getBytes(StandardCharsets.UTF_8));
+        outboxEvent.setTraceContext(TracingContext.getCurrentTraceContext());
+        outboxEvent.setCreateTime(engineConfiguration.getClock().getCurrentTime());
+        outboxEvent.setSequence(sequence.incrementAndGet());
+        outboxEvent.setRetries(maxRetries + 1);
+        return outboxEvent;
+    }
+
+    protected void addToOutbox(OutboxEventEntity outboxEvent) {
+        // Inserted in the transaction that produced the event, i.e. the event is only sent when that transaction commits
+        getOutboxEventEntityManager().insert(outboxEvent, false);
+
+        ChannelKey channelKey = new ChannelKey(outboxEvent.getChannelKey(), outboxEvent.getTenantId());
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> scheduleSend(channelKey));
+        }
+    }
+
+    protected void scheduleSend(ChannelKey channelKey) {
+        ChannelSender sender = senders.computeIfAbsent(channelKey, ChannelSender::new);
+        sender.sendRequested.set(true);
+        if (sender.sending.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(() -> send(sender));
+
+            } catch (RejectedExecutionException e) {
+                sender.sending.set(false);
+                LOGGER.debug("Could not schedule sending the outbound events of {}, they are sent by the outbox poller", channelKey);
+            }
+        }
+    }
+
+    protected void send(ChannelSender sender) {
+        try {
+            while (sender.sendRequested.getAndSet(false)) {
+                while (sendNextBatch(sender.channelKey)) {
+                    // Continue with the next batch, until the outbox of the channel is empty or a batch could not be sent
+                }
+            }
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to send the outbound events of {}, they are sent by the outbox poller", sender.channelKey, e);
+
+        } finally {
+            sender.sending.set(false);
+        }
+
+        // A send could have been requested after the last batch, but before the sending flag was reset
+        if (sender.sendRequested.get()) {
+            scheduleSend(sender.channelKey);
+        }
+    }
+
+    /**
+     * @return true when a batch was sent, false when there was nothing to send or the batch could not be sent
+     */
+    protected boolean sendNextBatch(ChannelKey channelKey) {
+        List<OutboxEventEntity> batch;
+        try {
+            batch = getCommandExecutor().execute(commandContext -> lockNextBatch(channelKey));
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("The outbound events of {} are being sent by another sender", channelKey);
+            return false;
+        }
+
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        List<String> outboxEventIds = new ArrayList<>(batch.size());
+        List<Object> rawEvents = new ArrayList<>(batch.size());
+        for (OutboxEventEntity outboxEvent : batch) {
+            outboxEventIds.add(outboxEvent.getId());
+            rawEvents.add(new String(outboxEvent.getEventBytes(), StandardCharsets.UTF_8));
+        }
+
+        try {
+            sendBatch(channelKey, batch.get(0).getTraceContext(), rawEvents);
+
+        } catch (RuntimeException e) {
+            handleFailedBatch(channelKey, batch, outboxEventIds, e);
+            return false;
+        }
+
+        // Only deleted once sent, a sender that crashes before this point leaves its events locked until the lock expires
+        getCommandExecutor().execute(commandContext -> {
+            getOutboxEventEntityManager().deleteSentOutboxEvents(outboxEventIds, lockOwner);
+            return null;
+        });
+        return true;
+    }
+
+    protected List<OutboxEventEntity> lockNextBatch(ChannelKey channelKey) {
+        OutboxEventEntityManager outboxEventEntityManager = getOutboxEventEntityManager();
+        Date now = engineConfiguration.getClock().getCurrentTime();
+
+        // The batch stops at the first event that cannot be sent yet, so that the events are sent in order
+        List<OutboxEventEntity> batch = new ArrayList<>();
+        for (OutboxEventEntity outboxEvent : outboxEventEntityManager.findOutboxEventsToSend(channelKey.channelKey, channelKey.tenantId, batchSize)) {
+            if (!isReadyToSend(outboxEvent, now)) {
+                break;
+            }
+            batch.add(outboxEvent);
+        }
+
+        if (batch.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> outboxEventIds = new ArrayList<>(batch.size());
+        for (OutboxEventEntity outboxEvent : batch) {
+            outboxEventIds.add(outboxEvent.getId());
+        }
+
+        Date lockExpirationTime = new Date(now.getTime() + lockTimeInMs);
+        int lockedCount = outboxEventEntityManager.lockOutboxEvents(outboxEventIds, lockOwner, lockExpirationTime, now);
+        if (lockedCount != outboxEventIds.size()) {
+            throw new FlowableOptimisticLockingException("Could not lock " + outboxEventIds.size() + " outbox events of " + channelKey + ", another sender locked them first");
+        }
+
+        return batch;
+    }
+
+    protected boolean isReadyToSend(OutboxEventEntity outboxEvent, Date now) {
+        if (outboxEvent.getLockExpirationTime() != null && !outboxEvent.getLockExpirationTime().before(now)) {
+            return false;
+        }
+        return outboxEvent.getNextAttemptTime() == null || !outboxEvent.getNextAttemptTime().after(now);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void sendBatch(ChannelKey channelKey, String traceContext, List<Object> rawEvents) {
+        // The channel adapter is looked up for every batch, so that a redeployed channel is used for the events that are still in the outbox
+        ChannelModel channelModel = eventRepositoryService.getChannelModelByKey(channelKey.channelKey, channelKey.tenantId);
+        OutboundEventChannelAdapter channelAdapter = channelModel instanceof OutboundChannelModel
+                ? (OutboundEventChannelAdapter) ((OutboundChannelModel) channelModel).getOutboundEventChannelAdapter() : null;
+        if (channelAdapter == null) {
+            throw new FlowableException("Could not find an outbound channel adapter for channel " + channelKey.channelKey);
+        }
+
+        runInSpan(channelKey.channelKey, traceContext, rawEvents.size(), () -> channelAdapter.sendEvents(rawEvents));
+    }
+
+    protected void handleFailedBatch(ChannelKey channelKey, List<OutboxEventEntity> batch, List<String> outboxEventIds, RuntimeException exception) {
+        int attempt = maxRetries + 2 - batch.get(0).getRetries();
+        if (batch.get(0).getRetries() <= 1) {
+            LOGGER.error("Failed to send {} outbound event(s) to {} after {} attempts, the events are kept as failed events", batch.size(), channelKey, attempt, exception);
+        } else {
+            LOGGER.warn("Failed to send {} outbound event(s) to {} (attempt {}), retrying in {} ms", batch.size(), channelKey, attempt, retryWaitTimeInMs, exception);
+        }
+
+        Date nextAttemptTime = new Date(engineConfiguration.getClock().getCurrentTime().getTime() + retryWaitTimeInMs);
+        String exceptionMessage = StringUtils.abbreviate(exception.getMessage(), OutboxEventEntityImpl.MAX_EXCEPTION_MESSAGE_LENGTH);
+        getCommandExecutor().execute(commandContext -> {
+            getOutboxEventEntityManager().updateUnsentOutboxEvents(outboxEventIds, lockOwner, nextAttemptTime, exceptionMessage);
+            return null;
+        });
+
+        if (batch.get(0).getRetries() > 1) {
+            scheduleRetry(channelKey);
+        }
+    }
+
+    protected void scheduleRetry(ChannelKey channelKey) {
+        ScheduledExecutorService executorService = scheduledExecutorService;
+        if (executorService != null && !executorService.isShutdown()) {
+            try {
+                executorService.schedule(() -> scheduleSend(channelKey), retryWaitTimeInMs, TimeUnit.MILLISECONDS);
+
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Could not schedule the retry of the outbound events of {}, they are sent by the outbox poller", channelKey);
+            }
+        }
+    }
+
+    /**
+     * Schedules sending the events of every channel that has events in the outbox that can be sent.
+     */
+    public void pollOutbox() {
+        try {
+            List<OutboxEventEntity> channelHeads = getCommandExecutor().execute(commandContext -> getOutboxEventEntityManager().findOutboxChannelHeads());
+            Date now = engineConfiguration.getClock().getCurrentTime();
+            for (OutboxEventEntity channelHead : channelHeads) {
+                if (isReadyToSend(channelHead, now)) {
+                    scheduleSend(new ChannelKey(channelHead.getChannelKey(), channelHead.getTenantId()));
+                }
+            }
+
+        } catch (RuntimeException e) {
+            // Not rethrown, that would cancel the next polls
+            LOGGER.warn("Failed to poll the outbound event outbox", e);
+        }
+    }
+
+    protected void runInSpan(String channelKey, String traceContext, int eventCount, Runnable runnable) {
+        FlowableTracer tracer = engineConfiguration.getTracer();
+        if (tracer == null || !tracer.isActive() || traceContext == null) {
+            runnable.run();
+            return;
+        }
+
+        // The span continues the trace of the first event of the batch, the channel adapters propagate it to the broker
+        FlowableSpan span = tracer.startSpan("eventRegistry send batch " + channelKey, traceContext);
+        span.setAttribute(DefaultEventRegistry.ATTRIBUTE_CHANNEL_KEY, channelKey);
+        span.setAttribute(DefaultEventRegistry.ATTRIBUTE_BATCH_SIZE, String.valueOf(eventCount));
+        TracingContext.pushSpan(span);
+        try {
+            runnable.run();
+
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            throw e;
+
+        } finally {
+            TracingContext.popSpan();
+            span.end();
+        }
+    }
+
+    /**
+     * @return the number of events in the outbox that are waiting to be sent
+     */
+    public long getPendingEventCount() {
+        return getCommandExecutor().execute(commandContext -> getOutboxEventEntityManager().countOutboxEvents(false));
+    }
+
+    /**
+     * Sends the events that failed after all retries again, before the other events of their channel.
+     */
+    public void retryFailedEvents() {
+        int resetCount = getCommandExecutor().execute(commandContext -> getOutboxEventEntityManager().resetFailedOutboxEvents(maxRetries + 1));
+        if (resetCount > 0) {
+            pollOutbox();
+        }
+    }
+
+    /**
+     * @return the number of events in the outbox that could not be sent after all retries
+     */
+    public long getFailedEventCount() {
+        return getCommandExecutor().execute(commandContext -> getOutboxEventEntityManager().countOutboxEvents(true));
+    }
+
+    protected CommandExecutor getCommandExecutor() {
+        return engineConfiguration.getCommandExecutor();
+    }
+
+    protected OutboxEventEntityManager getOutboxEventEntityManager() {
+        return engineConfiguration.getOutboxEventEntityManager();
+    }
+
+    public ScheduledExecutorService getScheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    protected static class ChannelKey {
+
+        protected final String channelKey;
+        protected final String tenantId;
+
+        protected ChannelKey(String channelKey, String tenantId) {
+            this.channelKey = channelKey;
+            // Some databases store the empty tenant as null
+            this.tenantId = tenantId != null ? tenantId : EventRegistryEngineConfiguration.NO_TENANT_ID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChannelKey that = (ChannelKey) o;
+            return channelKey.equals(that.channelKey) && tenantId.equals(that.tenantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(channelKey, tenantId);
+        }
+
+        @Override
+        public String toString() {
+            return StringUtils.isEmpty(tenantId) ? "channel " + channelKey : "channel " + channelKey + " of tenant " + tenantId;
+        }
+    }
+
+    protected static class ChannelSender {
+
+        protected final ChannelKey channelKey;
+        protected final AtomicBoolean sending = new AtomicBoolean(false);
+        protected final AtomicBoolean sendRequested = new AtomicBoolean(false);
+
+        protected ChannelSender(ChannelKey channelKey) {
+            this.channelKey = channelKey;
+        }
+    }
+
+}
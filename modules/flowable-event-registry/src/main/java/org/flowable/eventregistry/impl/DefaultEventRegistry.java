@@ -16,6 +16,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -31,6 +34,10 @@ import org.flowable.eventregistry.model.InboundChannelModel;
  */
 public class DefaultEventRegistry implements EventRegistry {
 
+    public static final String ATTRIBUTE_CHANNEL_KEY = "flowable.channelKey";
+    public static final String ATTRIBUTE_EVENT_KEY = "flowable.eventKey";
+    public static final String ATTRIBUTE_BATCH_SIZE = "flowable.batchSize";
+
     protected EventRegistryEngineConfiguration engineConfiguration;
 
     protected CorrelationKeyGenerator<Map<String, Object>> correlationKeyGenerator;
@@ -66,9 +73,37 @@ public class DefaultEventRegistry implements EventRegistry {
 
     @Override
     public void eventReceived(InboundChannelModel channelModel, String event) {
-        inboundEventProcessor.eventReceived(channelModel, event);
+        eventReceived(channelModel, event, null);
+    }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, String event, String traceContext) {
+        FlowableTracer tracer = engineConfiguration.getTracer();
+        if (tracer == null || !tracer.isActive() || TracingContext.isSuppressed()) {
+            inboundEventProcessor.eventReceived(channelModel, event);
+            return;
+        }
+
+        String spanName = "eventRegistry receive " + channelModel.getKey();
+        FlowableSpan span = traceContext != null ? tracer.startSpan(spanName, traceContext) : tracer.startSpan(spanName, TracingContext.getCurrentSpan());
+        span.setAttribute(ATTRIBUTE_CHANNEL_KEY, channelModel.getKey());
+        runInSpan(span, () -> inboundEventProcessor.eventReceived(channelModel, event));
     }
     
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        FlowableTracer tracer = engineConfiguration.getTracer();
+        if (tracer == null || !tracer.isActive() || TracingContext.isSuppressed()) {
+            inboundEventProcessor.eventsReceived(channelModel, events);
+            return;
+        }
+
+        FlowableSpan span = tracer.startSpan("eventRegistry receive " + channelModel.getKey(), TracingContext.getCurrentSpan());
+        span.setAttribute(ATTRIBUTE_CHANNEL_KEY, channelModel.getKey());
+        span.setAttribute(ATTRIBUTE_BATCH_SIZE, String.valueOf(events.size()));
+        runInSpan(span, () -> inboundEventProcessor.eventsReceived(channelModel, events));
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -77,6 +112,14 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendSystemEventOutbound(EventInstance eventInstance) {
         systemOutboundEventProcessor.sendEvent(eventInstance, Collections.emptyList());
@@ -84,7 +127,31 @@ public class DefaultEventRegistry implements EventRegistry {
 
     @Override
     public void sendEventOutbound(EventInstance eventInstance, Collection<ChannelModel> channelModels) {
-        outboundEventProcessor.sendEvent(eventInstance, channelModels);
+        FlowableTracer tracer = engineConfiguration.getTracer();
+        if (tracer == null || !tracer.isActive() || TracingContext.isSuppressed()) {
+            outboundEventProcessor.sendEvent(eventInstance, channelModels);
+            return;
+        }
+
+        // The outbound channel adapters propagate the trace context of this span (see TracingContext#getCurrentTraceContext())
+        FlowableSpan span = tracer.startSpan("eventRegistry send " + eventInstance.getEventKey(), TracingContext.getCurrentSpan());
+        span.setAttribute(ATTRIBUTE_EVENT_KEY, eventInstance.getEventKey());
+        runInSpan(span, () -> outboundEventProcessor.sendEvent(eventInstance, channelModels));
+    }
+
+    protected void runInSpan(FlowableSpan span, Runnable runnable) {
+        TracingContext.pushSpan(span);
+        try {
+            runnable.run();
+
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            throw e;
+
+        } finally {
+            TracingContext.popSpan();
+            span.end();
+        }
     }
 
     @Override
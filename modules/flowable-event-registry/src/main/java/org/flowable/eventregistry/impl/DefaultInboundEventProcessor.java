@@ -12,12 +12,20 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
+import org.flowable.eventregistry.impl.util.EventInstanceUtil;
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -28,10 +36,19 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     protected EventRegistry eventRegistry;
 
+    protected AsyncTaskExecutor batchTaskExecutor;
+    protected int batchParallelism = 1;
+
     public DefaultInboundEventProcessor(EventRegistry eventRegistry) {
         this.eventRegistry = eventRegistry;
     }
 
+    public DefaultInboundEventProcessor(EventRegistry eventRegistry, AsyncTaskExecutor batchTaskExecutor, int batchParallelism) {
+        this.eventRegistry = eventRegistry;
+        this.batchTaskExecutor = batchTaskExecutor;
+        this.batchParallelism = batchParallelism;
+    }
+
     @Override
     public void eventReceived(InboundChannelModel channelModel, String event) {
 
@@ -44,4 +61,107 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (String event : events) {
+            eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), event));
+        }
+
+        if (eventRegistryEvents.isEmpty()) {
+            return;
+        }
+
+        List<List<EventRegistryEvent>> partitions = partition(eventRegistryEvents);
+        if (partitions.size() == 1) {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+            return;
+        }
+
+        // The partitions are independent of each other, the events within one partition are sent in order.
+        // The current thread handles the first partition itself.
+        FlowableSpan currentSpan = TracingContext.getCurrentSpan();
+        List<CompletableFuture<?>> futures = new ArrayList<>(partitions.size() - 1);
+        for (List<EventRegistryEvent> partition : partitions.subList(1, partitions.size())) {
+            futures.add(batchTaskExecutor.submit(() -> sendEventsToConsumers(partition, currentSpan)));
+        }
+
+        RuntimeException exception = null;
+        try {
+            eventRegistry.sendEventsToConsumers(partitions.get(0));
+        } catch (RuntimeException e) {
+            exception = e;
+        }
+
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (exception == null) {
+                    exception = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Splits the events in partitions that can be processed in parallel.
+     * All events with the same correlation parameter values end up in the same partition, in the order in which they were received.
+     */
+    protected List<List<EventRegistryEvent>> partition(List<EventRegistryEvent> eventRegistryEvents) {
+        if (batchTaskExecutor == null || batchParallelism <= 1 || eventRegistryEvents.size() == 1) {
+            List<List<EventRegistryEvent>> partitions = new ArrayList<>(1);
+            partitions.add(eventRegistryEvents);
+            return partitions;
+        }
+
+        List<List<EventRegistryEvent>> partitions = new ArrayList<>(batchParallelism);
+        for (int i = 0; i < batchParallelism; i++) {
+            partitions.add(new ArrayList<>());
+        }
+
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            int partitionIndex = Math.floorMod(EventInstanceUtil.getOrderingKey(eventRegistryEvent).hashCode(), batchParallelism);
+            partitions.get(partitionIndex).add(eventRegistryEvent);
+        }
+
+        partitions.removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    protected void sendEventsToConsumers(List<EventRegistryEvent> eventRegistryEvents, FlowableSpan parentSpan) {
+        if (parentSpan == null) {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+            return;
+        }
+
+        TracingContext.pushSpan(parentSpan);
+        try {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        } finally {
+            TracingContext.popSpan();
+        }
+    }
+
+    public AsyncTaskExecutor getBatchTaskExecutor() {
+        return batchTaskExecutor;
+    }
+
+    public void setBatchTaskExecutor(AsyncTaskExecutor batchTaskExecutor) {
+        this.batchTaskExecutor = batchTaskExecutor;
+    }
+
+    public int getBatchParallelism() {
+        return batchParallelism;
+    }
+
+    public void setBatchParallelism(int batchParallelism) {
+        this.batchParallelism = batchParallelism;
+    }
+
 }
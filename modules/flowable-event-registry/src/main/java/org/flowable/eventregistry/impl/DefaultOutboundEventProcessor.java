@@ -53,9 +53,19 @@ public class DefaultOutboundEventProcessor implements OutboundEventProcessor {
             if (outboundEventChannelAdapter == null) {
                 throw new FlowableException("Could not find an outbound channel adapter for channel " + channelModel.getKey());
             }
-            
-            outboundEventChannelAdapter.sendEvent(rawEvent);
+
+            sendEvent(eventInstance, outboundChannelModel, outboundEventChannelAdapter, rawEvent);
         }
     }
 
+    @SuppressWarnings("rawtypes")
+    protected void sendEvent(EventInstance eventInstance, OutboundChannelModel channelModel, OutboundEventChannelAdapter outboundEventChannelAdapter, Object rawEvent) {
+        sendEvent(channelModel, outboundEventChannelAdapter, rawEvent);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void sendEvent(OutboundChannelModel channelModel, OutboundEventChannelAdapter outboundEventChannelAdapter, Object rawEvent) {
+        outboundEventChannelAdapter.sendEvent(rawEvent);
+    }
+
 }
@@ -17,9 +17,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
@@ -66,14 +68,18 @@ import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityM
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManagerImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.data.ChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisOutboxEventDataManager;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionInboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionOutboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.InMemoryOutboundEventChannelAdapter;
@@ -108,12 +114,14 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected EventDefinitionDataManager eventDefinitionDataManager;
     protected ChannelDefinitionDataManager channelDefinitionDataManager;
     protected EventResourceDataManager resourceDataManager;
+    protected OutboxEventDataManager outboxEventDataManager;
 
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected EventDeploymentEntityManager deploymentEntityManager;
     protected EventDefinitionEntityManager eventDefinitionEntityManager;
     protected ChannelDefinitionEntityManager channelDefinitionEntityManager;
     protected EventResourceEntityManager resourceEntityManager;
+    protected OutboxEventEntityManager outboxEventEntityManager;
 
     protected ExpressionManager expressionManager;
     protected Collection<ELResolver> preDefaultELResolvers;
@@ -150,6 +158,30 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected OutboundEventProcessor outboundEventProcessor;
     protected OutboundEventProcessor systemOutboundEventProcessor;
 
+    // Inbound event batches (see EventRegistry#eventsReceived)
+    // The events of a batch are split by their correlation parameter values in this number of partitions, which are processed in parallel
+    protected int inboundEventBatchParallelism = 1;
+    protected AsyncTaskExecutor inboundEventBatchTaskExecutor;
+    protected boolean shutdownInboundEventBatchTaskExecutor;
+
+    // Json and xml channels read the raw events with a streaming parser, only materializing the declared payload, key and tenant fields
+    protected boolean enableStreamingInboundEventProcessing;
+
+    // Outbound events are stored in the outbox table in the transaction that produced them,
+    // and sent in the background after that transaction has committed (see AsyncOutboundEventProcessor)
+    protected boolean enableAsyncOutboundEventSending;
+    protected int outboundEventBatchSize = 100;
+    protected int outboundEventSendMaxRetries = 3;
+    protected long outboundEventSendRetryWaitTimeInMs = 500L;
+    // The outbox is polled for events that were not sent right after their transaction committed (e.g. events of another node that stopped)
+    protected long outboundEventOutboxPollIntervalInMs = 5000L;
+    // The time after which events that are being sent by a node are considered abandoned and can be sent by another node
+    protected long outboundEventOutboxLockTimeInMs = 300000L;
+    // The events of one channel are always sent by one thread at a time, this is the number of channels that can send in parallel
+    protected int outboundEventSendParallelism = 2;
+    protected AsyncTaskExecutor outboundEventTaskExecutor;
+    protected boolean shutdownOutboundEventTaskExecutor;
+
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
     protected long eventRegistryChangeDetectionInitialDelayInMs = 10000L;
@@ -203,6 +235,10 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             }
         }
 
+        if (outboundEventProcessor instanceof AsyncOutboundEventProcessor) {
+            ((AsyncOutboundEventProcessor) outboundEventProcessor).start();
+        }
+
         return eventRegistryEngine;
     }
 
@@ -243,7 +279,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         initDataManagers();
         initEntityManagers();
         initEventRegistry();
+        initInboundEventBatchTaskExecutor();
         initInboundEventProcessor();
+        initOutboundEventTaskExecutor();
         initOutboundEventProcessor();
         initSystemOutboundEventProcessor();
         initChannelDefinitionProcessors();
@@ -298,6 +336,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisEventResourceDataManager(this);
         }
+        if (outboxEventDataManager == null) {
+            outboxEventDataManager = new MybatisOutboxEventDataManager(this);
+        }
     }
 
     @Override
@@ -315,6 +356,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceEntityManager == null) {
             resourceEntityManager = new EventResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (outboxEventEntityManager == null) {
+            outboxEventEntityManager = new OutboxEventEntityManagerImpl(this, outboxEventDataManager);
+        }
     }
 
     // data model ///////////////////////////////////////////////////////////////
@@ -511,16 +555,47 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
     }
 
+    public void initInboundEventBatchTaskExecutor() {
+        if (this.inboundEventBatchTaskExecutor == null && inboundEventBatchParallelism > 1) {
+            DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
+            // The thread that receives the batch processes one of the partitions itself
+            defaultAsyncTaskExecutor.setCorePoolSize(inboundEventBatchParallelism - 1);
+            defaultAsyncTaskExecutor.setMaxPoolSize(inboundEventBatchParallelism - 1);
+            defaultAsyncTaskExecutor.setThreadPoolNamingPattern("flowable-event-batch-%d");
+            defaultAsyncTaskExecutor.start();
+
+            this.inboundEventBatchTaskExecutor = defaultAsyncTaskExecutor;
+            this.shutdownInboundEventBatchTaskExecutor = true;
+        }
+    }
+
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry, inboundEventBatchTaskExecutor, inboundEventBatchParallelism);
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
 
+    public void initOutboundEventTaskExecutor() {
+        if (this.outboundEventTaskExecutor == null && enableAsyncOutboundEventSending) {
+            DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
+            defaultAsyncTaskExecutor.setCorePoolSize(outboundEventSendParallelism);
+            defaultAsyncTaskExecutor.setMaxPoolSize(outboundEventSendParallelism);
+            defaultAsyncTaskExecutor.setThreadPoolNamingPattern("flowable-event-outbound-%d");
+            defaultAsyncTaskExecutor.start();
+
+            this.outboundEventTaskExecutor = defaultAsyncTaskExecutor;
+            this.shutdownOutboundEventTaskExecutor = true;
+        }
+    }
+
     public void initOutboundEventProcessor() {
         if (this.outboundEventProcessor == null) {
-            this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            if (enableAsyncOutboundEventSending) {
+                this.outboundEventProcessor = new AsyncOutboundEventProcessor(this, outboundEventTaskExecutor);
+            } else {
+                this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            }
         }
         this.eventRegistry.setOutboundEventProcessor(outboundEventProcessor);
     }
@@ -538,7 +613,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     public void initChannelDefinitionProcessors() {
         channelModelProcessors.add(new DelegateExpressionInboundChannelModelProcessor(this));
         channelModelProcessors.add(new DelegateExpressionOutboundChannelModelProcessor(this));
-        channelModelProcessors.add(new InboundChannelModelProcessor());
+        channelModelProcessors.add(new InboundChannelModelProcessor(enableStreamingInboundEventProcessing));
         channelModelProcessors.add(new OutboundChannelModelProcessor());
     }
 
@@ -555,6 +630,26 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
     }
 
+    @Override
+    public void close() {
+        super.close();
+
+        if (inboundEventBatchTaskExecutor != null && shutdownInboundEventBatchTaskExecutor) {
+            // Only shutdown if it was created by this configuration
+            inboundEventBatchTaskExecutor.shutdown();
+        }
+
+        if (outboundEventProcessor instanceof AsyncOutboundEventProcessor) {
+            // The events that are still in the outbox are sent when the engine is started again, or by another node
+            ((AsyncOutboundEventProcessor) outboundEventProcessor).shutdown();
+        }
+
+        if (outboundEventTaskExecutor != null && shutdownOutboundEventTaskExecutor) {
+            // Waits for the events that are already handed over to the executor to be sent
+            outboundEventTaskExecutor.shutdown();
+        }
+    }
+
     // myBatis SqlSessionFactory
     // ////////////////////////////////////////////////
 
@@ -763,6 +858,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public OutboxEventDataManager getOutboxEventDataManager() {
+        return outboxEventDataManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboxEventDataManager(OutboxEventDataManager outboxEventDataManager) {
+        this.outboxEventDataManager = outboxEventDataManager;
+        return this;
+    }
+
     public EventResourceDataManager getResourceDataManager() {
         return resourceDataManager;
     }
@@ -799,6 +903,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public OutboxEventEntityManager getOutboxEventEntityManager() {
+        return outboxEventEntityManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboxEventEntityManager(OutboxEventEntityManager outboxEventEntityManager) {
+        this.outboxEventEntityManager = outboxEventEntityManager;
+        return this;
+    }
+
     public EventResourceEntityManager getResourceEntityManager() {
         return resourceEntityManager;
     }
@@ -897,6 +1010,105 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public int getInboundEventBatchParallelism() {
+        return inboundEventBatchParallelism;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchParallelism(int inboundEventBatchParallelism) {
+        this.inboundEventBatchParallelism = inboundEventBatchParallelism;
+        return this;
+    }
+
+    public AsyncTaskExecutor getInboundEventBatchTaskExecutor() {
+        return inboundEventBatchTaskExecutor;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchTaskExecutor(AsyncTaskExecutor inboundEventBatchTaskExecutor) {
+        this.inboundEventBatchTaskExecutor = inboundEventBatchTaskExecutor;
+        return this;
+    }
+
+    public boolean isEnableStreamingInboundEventProcessing() {
+        return enableStreamingInboundEventProcessing;
+    }
+
+    public EventRegistryEngineConfiguration setEnableStreamingInboundEventProcessing(boolean enableStreamingInboundEventProcessing) {
+        this.enableStreamingInboundEventProcessing = enableStreamingInboundEventProcessing;
+        return this;
+    }
+
+    public boolean isEnableAsyncOutboundEventSending() {
+        return enableAsyncOutboundEventSending;
+    }
+
+    public EventRegistryEngineConfiguration setEnableAsyncOutboundEventSending(boolean enableAsyncOutboundEventSending) {
+        this.enableAsyncOutboundEventSending = enableAsyncOutboundEventSending;
+        return this;
+    }
+
+    public int getOutboundEventBatchSize() {
+        return outboundEventBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventBatchSize(int outboundEventBatchSize) {
+        this.outboundEventBatchSize = outboundEventBatchSize;
+        return this;
+    }
+
+    public int getOutboundEventSendMaxRetries() {
+        return outboundEventSendMaxRetries;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventSendMaxRetries(int outboundEventSendMaxRetries) {
+        this.outboundEventSendMaxRetries = outboundEventSendMaxRetries;
+        return this;
+    }
+
+    public long getOutboundEventSendRetryWaitTimeInMs() {
+        return outboundEventSendRetryWaitTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventSendRetryWaitTimeInMs(long outboundEventSendRetryWaitTimeInMs) {
+        this.outboundEventSendRetryWaitTimeInMs = outboundEventSendRetryWaitTimeInMs;
+        return this;
+    }
+
+    public long getOutboundEventOutboxPollIntervalInMs() {
+        return outboundEventOutboxPollIntervalInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxPollIntervalInMs(long outboundEventOutboxPollIntervalInMs) {
+        this.outboundEventOutboxPollIntervalInMs = outboundEventOutboxPollIntervalInMs;
+        return this;
+    }
+
+    public long getOutboundEventOutboxLockTimeInMs() {
+        return outboundEventOutboxLockTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxLockTimeInMs(long outboundEventOutboxLockTimeInMs) {
+        this.outboundEventOutboxLockTimeInMs = outboundEventOutboxLockTimeInMs;
+        return this;
+    }
+
+    public int getOutboundEventSendParallelism() {
+        return outboundEventSendParallelism;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventSendParallelism(int outboundEventSendParallelism) {
+        this.outboundEventSendParallelism = outboundEventSendParallelism;
+        return this;
+    }
+
+    public AsyncTaskExecutor getOutboundEventTaskExecutor() {
+        return outboundEventTaskExecutor;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventTaskExecutor(AsyncTaskExecutor outboundEventTaskExecutor) {
+        this.outboundEventTaskExecutor = outboundEventTaskExecutor;
+        return this;
+    }
+
     public boolean isEnableEventRegistryChangeDetectionAfterEngineCreate() {
         return enableEventRegistryChangeDetectionAfterEngineCreate;
     }
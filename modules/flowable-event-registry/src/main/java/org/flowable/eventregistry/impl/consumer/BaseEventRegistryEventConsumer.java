@@ -18,6 +18,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,7 +36,9 @@ import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
+import org.flowable.eventregistry.impl.util.EventInstanceUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
 
 /**
@@ -46,6 +50,11 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * The maximum number of events of a batch for which the event subscriptions are looked up together.
+     */
+    protected int batchLookupSize = 100;
+
     public BaseEventRegistryEventConsumer(AbstractEngineConfiguration engingeConfiguration) {
         this.engingeConfiguration = engingeConfiguration;
         this.commandExecutor = engingeConfiguration.getCommandExecutor();
@@ -53,8 +62,26 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+
+        if (eventInstances.size() == 1) {
+            eventReceived(eventInstances.get(0));
+        } else {
+            eventsReceived(eventInstances);
+        }
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,6 +93,89 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of events in order. By default the events are handled one by one,
+     * consumers can use {@link #handleEventsWithBatchedLookup(String, List, EventSubscriptionHandler)} to look up the event subscriptions of several events at once.
+     */
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        for (EventInstance eventInstance : eventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    /**
+     * Handles the given events in order, looking up the event subscriptions of consecutive events with one command.
+     *
+     * A lookup never spans two events with the same correlation parameter values (see {@link EventInstanceUtil#getOrderingKey(EventInstance)}),
+     * so an event always sees the subscriptions as they are after handling the previous event with the same values.
+     * When an event matches a subscription of a process or case instance that was already triggered by an earlier event of the same lookup,
+     * the subscriptions are looked up again for that event.
+     */
+    protected void handleEventsWithBatchedLookup(String scopeType, List<EventInstance> eventInstances, EventSubscriptionHandler eventSubscriptionHandler) {
+        int index = 0;
+        while (index < eventInstances.size()) {
+            List<EventInstance> lookupEventInstances = getLookupEventInstances(eventInstances, index);
+
+            Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance = new IdentityHashMap<>();
+            for (EventInstance eventInstance : lookupEventInstances) {
+                correlationKeysByEventInstance.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+            }
+
+            Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = findEventSubscriptions(scopeType, lookupEventInstances,
+                    correlationKeysByEventInstance);
+
+            Set<String> triggeredInstanceIds = new HashSet<>();
+            int handledEventInstances = 0;
+            for (EventInstance eventInstance : lookupEventInstances) {
+                List<EventSubscription> eventSubscriptions = eventSubscriptionsByEventInstance.get(eventInstance);
+                if (handledEventInstances > 0 && isInstanceTriggered(eventSubscriptions, triggeredInstanceIds)) {
+                    break;
+                }
+
+                Collection<CorrelationKey> correlationKeys = correlationKeysByEventInstance.get(eventInstance);
+                for (EventSubscription eventSubscription : eventSubscriptions) {
+                    eventSubscriptionHandler.handleEventSubscription(eventSubscription, eventInstance, correlationKeys);
+
+                    String instanceId = getInstanceId(eventSubscription);
+                    if (instanceId != null) {
+                        triggeredInstanceIds.add(instanceId);
+                    }
+                }
+
+                handledEventInstances++;
+            }
+
+            index += handledEventInstances;
+        }
+    }
+
+    protected List<EventInstance> getLookupEventInstances(List<EventInstance> eventInstances, int fromIndex) {
+        List<EventInstance> lookupEventInstances = new ArrayList<>();
+        Set<String> orderingKeys = new HashSet<>();
+        for (int i = fromIndex; i < eventInstances.size() && lookupEventInstances.size() < batchLookupSize; i++) {
+            EventInstance eventInstance = eventInstances.get(i);
+            if (!orderingKeys.add(EventInstanceUtil.getOrderingKey(eventInstance)) && !lookupEventInstances.isEmpty()) {
+                break;
+            }
+            lookupEventInstances.add(eventInstance);
+        }
+        return lookupEventInstances;
+    }
+
+    protected boolean isInstanceTriggered(List<EventSubscription> eventSubscriptions, Set<String> triggeredInstanceIds) {
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            String instanceId = getInstanceId(eventSubscription);
+            if (instanceId != null && triggeredInstanceIds.contains(instanceId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected String getInstanceId(EventSubscription eventSubscription) {
+        return eventSubscription.getProcessInstanceId() != null ? eventSubscription.getProcessInstanceId() : eventSubscription.getScopeId();
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -117,13 +227,16 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
         return commandExecutor.execute(commandContext -> {
 
+            Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            if (!hasPossibleEventSubscriptions(scopeType, eventInstance.getEventKey(), allCorrelationKeyValues)) {
+                return Collections.emptyList();
+            }
+
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
                 .eventType(eventInstance.getEventKey())
                 .scopeType(scopeType);
 
-            if (!correlationKeys.isEmpty()) {
-
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            if (!allCorrelationKeyValues.isEmpty()) {
 
                 eventSubscriptionQuery.or()
                     .withoutConfiguration()
@@ -135,38 +248,148 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
             }
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            applyTenantCriteria(eventSubscriptionQuery, scopeType, eventInstance);
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+            return eventSubscriptionQuery.list();
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+        });
+    }
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+    /**
+     * Restricts the query to the event subscriptions of the tenant of the event. Needs to be called within a command context.
+     */
+    protected void applyTenantCriteria(EventSubscriptionQuery eventSubscriptionQuery, String scopeType, EventInstance eventInstance) {
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
 
-                    }
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+
             }
 
-            return eventSubscriptionQuery.list();
+        }
+    }
+
+    /**
+     * Finds the event subscriptions for several events with one command.
+     * One query is executed for all events with the same event definition key and tenant.
+     */
+    protected Map<EventInstance, List<EventSubscription>> findEventSubscriptions(String scopeType, List<EventInstance> eventInstances,
+            Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance) {
+
+        Map<String, List<EventInstance>> eventInstancesByEventKeyAndTenant = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            eventInstancesByEventKeyAndTenant.computeIfAbsent(eventInstance.getEventKey() + '|' + eventInstance.getTenantId(), key -> new ArrayList<>())
+                    .add(eventInstance);
+        }
+
+        return commandExecutor.execute(commandContext -> {
+            Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = new IdentityHashMap<>();
+            for (List<EventInstance> eventInstancesWithSameKey : eventInstancesByEventKeyAndTenant.values()) {
+                Map<EventInstance, Set<String>> correlationKeyValuesByEventInstance = new IdentityHashMap<>();
+                List<EventInstance> groupedEventInstances = new ArrayList<>(eventInstancesWithSameKey.size());
+                Set<String> allCorrelationKeyValues = new HashSet<>();
+                for (EventInstance eventInstance : eventInstancesWithSameKey) {
+                    Set<String> correlationKeyValues = correlationKeysByEventInstance.get(eventInstance).stream()
+                        .map(CorrelationKey::getValue)
+                        .collect(Collectors.toSet());
+
+                    if (hasPossibleEventSubscriptions(scopeType, eventInstance.getEventKey(), correlationKeyValues)) {
+                        correlationKeyValuesByEventInstance.put(eventInstance, correlationKeyValues);
+                        groupedEventInstances.add(eventInstance);
+                        allCorrelationKeyValues.addAll(correlationKeyValues);
+                    } else {
+                        eventSubscriptionsByEventInstance.put(eventInstance, Collections.emptyList());
+                    }
+                }
+
+                if (groupedEventInstances.isEmpty()) {
+                    continue;
+                }
+
+                EventInstance firstEventInstance = groupedEventInstances.get(0);
+
+                EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+                    .eventType(firstEventInstance.getEventKey())
+                    .scopeType(scopeType);
+
+                if (!allCorrelationKeyValues.isEmpty()) {
+                    eventSubscriptionQuery.or()
+                        .withoutConfiguration()
+                        .configurations(allCorrelationKeyValues)
+                        .endOr();
+                } else {
+                    eventSubscriptionQuery.withoutConfiguration();
+                }
+
+                applyTenantCriteria(eventSubscriptionQuery, scopeType, firstEventInstance);
 
+                List<EventSubscription> eventSubscriptions = eventSubscriptionQuery.list();
+                for (EventInstance eventInstance : groupedEventInstances) {
+                    Set<String> correlationKeyValues = correlationKeyValuesByEventInstance.get(eventInstance);
+
+                    List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+                    for (EventSubscription eventSubscription : eventSubscriptions) {
+                        if (eventSubscription.getConfiguration() == null || correlationKeyValues.contains(eventSubscription.getConfiguration())) {
+                            matchingEventSubscriptions.add(eventSubscription);
+                        }
+                    }
+                    eventSubscriptionsByEventInstance.put(eventInstance, matchingEventSubscriptions);
+                }
+            }
+
+            return eventSubscriptionsByEventInstance;
         });
     }
 
+    /**
+     * Returns false when the correlation index (if any) shows that there is no event subscription for the event and correlation keys.
+     * Needs to be called within a command context.
+     */
+    protected boolean hasPossibleEventSubscriptions(String scopeType, String eventKey, Collection<String> correlationKeyValues) {
+        EventSubscriptionCorrelationIndex correlationIndex = getEventSubscriptionCorrelationIndex();
+        return correlationIndex == null || correlationIndex.hasPossibleEventSubscriptions(eventKey, scopeType, correlationKeyValues);
+    }
+
+    /**
+     * Returns the correlation index of the event subscriptions, or null when the event subscriptions are always queried.
+     */
+    protected EventSubscriptionCorrelationIndex getEventSubscriptionCorrelationIndex() {
+        return null;
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
+    public int getBatchLookupSize() {
+        return batchLookupSize;
+    }
+
+    public void setBatchLookupSize(int batchLookupSize) {
+        this.batchLookupSize = batchLookupSize;
+    }
+
+    @FunctionalInterface
+    protected interface EventSubscriptionHandler {
+
+        void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys);
+
+    }
+
 }
@@ -20,6 +20,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
 
 /**
  * @author Filip Hrisafov
@@ -33,6 +34,7 @@ public class EntityToTableMap {
         entityToTableNameMap.put(EventResourceEntity.class, "FLW_EVENT_RESOURCE");
         entityToTableNameMap.put(EventDefinitionEntity.class, "FLW_EVENT_DEFINITION");
         entityToTableNameMap.put(ChannelDefinitionEntity.class, "FLW_CHANNEL_DEFINITION");
+        entityToTableNameMap.put(OutboxEventEntity.class, "FLW_EVENT_OUTBOX");
     }
 
 }
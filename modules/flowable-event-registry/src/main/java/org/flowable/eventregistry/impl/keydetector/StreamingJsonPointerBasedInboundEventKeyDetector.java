@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.keydetector;
+
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+import org.flowable.eventregistry.impl.util.JsonStreamingUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Detects the event key in a raw json event with a streaming parser. Parsing stops as soon as the value is found.
+ */
+public class StreamingJsonPointerBasedInboundEventKeyDetector implements InboundEventKeyDetector<String> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingJsonPointerBasedInboundEventKeyDetector.class);
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    protected String jsonPointerValue;
+    protected JsonPointer jsonPointerExpression;
+    protected boolean lenient;
+
+    /**
+     * @param lenient when true, any value is returned as text and a missing value results in an empty key,
+     *                as with the {@link JsonFieldBasedInboundEventKeyDetector}
+     */
+    public StreamingJsonPointerBasedInboundEventKeyDetector(String jsonPointerExpression, boolean lenient) {
+        this.jsonPointerValue = jsonPointerExpression;
+        this.jsonPointerExpression = JsonPointer.compile(jsonPointerExpression);
+        this.lenient = lenient;
+    }
+
+    public static StreamingJsonPointerBasedInboundEventKeyDetector forJsonField(String field) {
+        return new StreamingJsonPointerBasedInboundEventKeyDetector(JsonPointer.SEPARATOR + field.replace("~", "~0").replace("/", "~1"), true);
+    }
+
+    @Override
+    public String detectEventDefinitionKey(String event) {
+        JsonNode result = JsonStreamingUtil.findValue(objectMapper, event, jsonPointerExpression);
+        if (lenient) {
+            return result != null ? result.asText() : "";
+        }
+
+        if (result == null || result.isMissingNode() || result.isNull()) {
+            LOGGER.warn("JsonPointer expression {} did not detect event key", jsonPointerExpression);
+            return null;
+        }
+
+        if (result.isTextual()) {
+            return result.asText();
+        }
+
+        return null;
+    }
+
+    public String getJsonPointerValue() {
+        return jsonPointerValue;
+    }
+}
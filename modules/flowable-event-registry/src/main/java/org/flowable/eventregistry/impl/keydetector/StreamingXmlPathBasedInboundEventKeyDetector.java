@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.keydetector;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+import org.flowable.eventregistry.impl.util.XmlStreamingUtil;
+
+/**
+ * Detects the event key in a raw xml event with a StAX parser. Only absolute element paths (e.g. /order/type) are supported,
+ * parsing stops as soon as the element is found.
+ */
+public class StreamingXmlPathBasedInboundEventKeyDetector implements InboundEventKeyDetector<String> {
+
+    protected String xpathExpression;
+    protected List<String> pathElements;
+
+    public StreamingXmlPathBasedInboundEventKeyDetector(String xpathExpression) {
+        if (!XmlStreamingUtil.isSimplePath(xpathExpression)) {
+            throw new FlowableIllegalArgumentException("Only absolute element paths are supported for streaming key detection, got " + xpathExpression);
+        }
+        this.xpathExpression = xpathExpression;
+        this.pathElements = XmlStreamingUtil.getPathElements(xpathExpression);
+    }
+
+    @Override
+    public String detectEventDefinitionKey(String event) {
+        return XmlStreamingUtil.findElementText(event, pathElements);
+    }
+
+    public String getXpathExpression() {
+        return xpathExpression;
+    }
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.payload;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming variant of the {@link JsonFieldToMapPayloadExtractor}: the top level fields of the raw json event are read in one pass
+ * and only the fields that are declared in the event model (payload and correlation parameters) are materialized, all other content is skipped.
+ */
+public class StreamingJsonFieldToMapPayloadExtractor implements InboundEventPayloadExtractor<String> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingJsonFieldToMapPayloadExtractor.class);
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public Collection<EventPayloadInstance> extractPayload(EventModel eventDefinition, String event) {
+        Map<String, EventPayload> payloadDefinitions = new HashMap<>();
+        for (EventPayload payloadDefinition : eventDefinition.getPayload()) {
+            payloadDefinitions.put(payloadDefinition.getName(), payloadDefinition);
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(event)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    parser.nextToken();
+
+                    EventPayload payloadDefinition = payloadDefinitions.get(fieldName);
+                    if (payloadDefinition != null) {
+                        JsonNode parameterNode = objectMapper.readTree(parser);
+                        values.put(fieldName, getPayloadValue(parameterNode, payloadDefinition.getType()));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not read json event", e);
+        }
+
+        // Keep the order of the event model, as the tree based extractor does
+        List<EventPayloadInstance> payloadInstances = new ArrayList<>(values.size());
+        for (EventPayload payloadDefinition : eventDefinition.getPayload()) {
+            if (values.containsKey(payloadDefinition.getName())) {
+                payloadInstances.add(new EventPayloadInstanceImpl(payloadDefinition, values.get(payloadDefinition.getName())));
+            }
+        }
+        return payloadInstances;
+    }
+
+    protected Object getPayloadValue(JsonNode parameterNode, String definitionType) {
+        Object value = null;
+
+        if (EventPayloadTypes.STRING.equals(definitionType)) {
+            value = parameterNode.asText();
+
+        } else if (EventPayloadTypes.BOOLEAN.equals(definitionType)) {
+            value = parameterNode.booleanValue();
+
+        } else if (EventPayloadTypes.INTEGER.equals(definitionType)) {
+            value = parameterNode.intValue();
+
+        } else if (EventPayloadTypes.DOUBLE.equals(definitionType)) {
+            value = parameterNode.doubleValue();
+
+        } else if (EventPayloadTypes.LONG.equals(definitionType)) {
+            value = parameterNode.longValue();
+
+        } else if (EventPayloadTypes.JSON.equals(definitionType)) {
+            value = parameterNode;
+
+        } else {
+            LOGGER.warn("Unsupported payload type: {} ", definitionType);
+            value = parameterNode.asText();
+
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.payload;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.impl.util.XmlStreamingUtil;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming variant of the {@link XmlElementsToMapPayloadExtractor}: the child elements of the root element are read in one pass with a StAX parser
+ * and only the text of the elements that are declared in the event model (payload and correlation parameters) is kept.
+ */
+public class StreamingXmlElementsToMapPayloadExtractor implements InboundEventPayloadExtractor<String> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingXmlElementsToMapPayloadExtractor.class);
+
+    @Override
+    public Collection<EventPayloadInstance> extractPayload(EventModel eventDefinition, String event) {
+        Map<String, EventPayload> payloadDefinitions = new HashMap<>();
+        for (EventPayload payloadDefinition : eventDefinition.getPayload()) {
+            payloadDefinitions.put(payloadDefinition.getName(), payloadDefinition);
+        }
+
+        Map<String, String> textContents = new HashMap<>();
+        XMLStreamReader reader = XmlStreamingUtil.createReader(event);
+        try {
+            int depth = 0;
+            while (reader.hasNext()) {
+                int xmlEvent = reader.next();
+                if (xmlEvent == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2) {
+                        String elementName = XmlStreamingUtil.getElementName(reader);
+                        // The first element with a name is used, as the dom based extractor does
+                        if (payloadDefinitions.containsKey(elementName) && !textContents.containsKey(elementName)) {
+                            textContents.put(elementName, XmlStreamingUtil.readTextContent(reader));
+                        } else {
+                            XmlStreamingUtil.skipElement(reader);
+                        }
+                        depth--;
+                    }
+
+                } else if (xmlEvent == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+
+        } catch (XMLStreamException e) {
+            throw new FlowableException("Could not read xml event", e);
+
+        } finally {
+            XmlStreamingUtil.closeReader(reader);
+        }
+
+        List<EventPayloadInstance> payloadInstances = new ArrayList<>(textContents.size());
+        for (EventPayload payloadDefinition : eventDefinition.getPayload()) {
+            String textContent = textContents.get(payloadDefinition.getName());
+            if (textContent != null) {
+                payloadInstances.add(new EventPayloadInstanceImpl(payloadDefinition, getPayloadValue(textContent, payloadDefinition.getType())));
+            }
+        }
+        return payloadInstances;
+    }
+
+    protected Object getPayloadValue(String textContent, String definitionType) {
+        if (EventPayloadTypes.STRING.equals(definitionType)) {
+            return textContent;
+
+        } else if (EventPayloadTypes.BOOLEAN.equals(definitionType)) {
+            return Boolean.valueOf(textContent);
+
+        } else if (EventPayloadTypes.INTEGER.equals(definitionType)) {
+            return Integer.valueOf(textContent);
+
+        } else if (EventPayloadTypes.DOUBLE.equals(definitionType)) {
+            return Double.valueOf(textContent);
+
+        } else if (EventPayloadTypes.LONG.equals(definitionType)) {
+            return Long.valueOf(textContent);
+
+        } else {
+            LOGGER.warn("Unsupported payload type: {} ", definitionType);
+            return textContent;
+
+        }
+    }
+
+}
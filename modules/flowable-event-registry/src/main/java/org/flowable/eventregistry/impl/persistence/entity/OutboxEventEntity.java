@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An outbound event that is waiting in the outbox to be sent to its channel.
+ * It is inserted in the transaction that produced the event, and deleted once the event has been sent.
+ */
+public interface OutboxEventEntity extends Entity {
+
+    String getChannelKey();
+
+    void setChannelKey(String channelKey);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+    byte[] getEventBytes();
+
+    void setEventBytes(byte[] eventBytes);
+
+    String getTraceContext();
+
+    void setTraceContext(String traceContext);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    /**
+     * @return orders the events that were created in the same millisecond
+     */
+    long getSequence();
+
+    void setSequence(long sequence);
+
+    /**
+     * @return the number of attempts that are left to send the event, 0 when the event has failed
+     */
+    int getRetries();
+
+    void setRetries(int retries);
+
+    Date getNextAttemptTime();
+
+    void setNextAttemptTime(Date nextAttemptTime);
+
+    String getLockOwner();
+
+    void setLockOwner(String lockOwner);
+
+    Date getLockExpirationTime();
+
+    void setLockExpirationTime(Date lockExpirationTime);
+
+    String getExceptionMessage();
+
+    void setExceptionMessage(String exceptionMessage);
+
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+
+public class OutboxEventEntityImpl extends AbstractEventRegistryNoRevisionEntity implements OutboxEventEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_EXCEPTION_MESSAGE_LENGTH = 4000;
+
+    protected String channelKey;
+    protected String tenantId = EventRegistryEngineConfiguration.NO_TENANT_ID;
+    protected byte[] eventBytes;
+    protected String traceContext;
+    protected Date createTime;
+    protected long sequence;
+    protected int retries;
+    protected Date nextAttemptTime;
+    protected String lockOwner;
+    protected Date lockExpirationTime;
+    protected String exceptionMessage;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("retries", retries);
+        persistentState.put("nextAttemptTime", nextAttemptTime);
+        persistentState.put("lockOwner", lockOwner);
+        persistentState.put("lockExpirationTime", lockExpirationTime);
+        persistentState.put("exceptionMessage", exceptionMessage);
+        return persistentState;
+    }
+
+    @Override
+    public String getChannelKey() {
+        return channelKey;
+    }
+
+    @Override
+    public void setChannelKey(String channelKey) {
+        this.channelKey = channelKey;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public byte[] getEventBytes() {
+        return eventBytes;
+    }
+
+    @Override
+    public void setEventBytes(byte[] eventBytes) {
+        this.eventBytes = eventBytes;
+    }
+
+    @Override
+    public String getTraceContext() {
+        return traceContext;
+    }
+
+    @Override
+    public void setTraceContext(String traceContext) {
+        this.traceContext = traceContext;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public int getRetries() {
+        return retries;
+    }
+
+    @Override
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    @Override
+    public Date getNextAttemptTime() {
+        return nextAttemptTime;
+    }
+
+    @Override
+    public void setNextAttemptTime(Date nextAttemptTime) {
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    @Override
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    @Override
+    public void setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    @Override
+    public Date getLockExpirationTime() {
+        return lockExpirationTime;
+    }
+
+    @Override
+    public void setLockExpirationTime(Date lockExpirationTime) {
+        this.lockExpirationTime = lockExpirationTime;
+    }
+
+    @Override
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    @Override
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEventEntity[id=" + id + ", channelKey=" + channelKey + ", tenantId=" + tenantId + ", retries=" + retries + "]";
+    }
+}
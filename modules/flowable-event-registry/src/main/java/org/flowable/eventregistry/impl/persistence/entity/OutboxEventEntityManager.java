@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface OutboxEventEntityManager extends EntityManager<OutboxEventEntity> {
+
+    /**
+     * @return the oldest event that can still be sent of every channel and tenant that has events in the outbox
+     */
+    List<OutboxEventEntity> findOutboxChannelHeads();
+
+    /**
+     * @return the oldest events of the channel and tenant that can still be sent, in the order in which they need to be sent
+     */
+    List<OutboxEventEntity> findOutboxEventsToSend(String channelKey, String tenantId, int maxResults);
+
+    /**
+     * @return the number of events that were locked, which is less than the number of given events when another sender locked one of them first
+     */
+    int lockOutboxEvents(List<String> outboxEventIds, String lockOwner, Date lockExpirationTime, Date currentTime);
+
+    void deleteSentOutboxEvents(List<String> outboxEventIds, String lockOwner);
+
+    void updateUnsentOutboxEvents(List<String> outboxEventIds, String lockOwner, Date nextAttemptTime, String exceptionMessage);
+
+    int resetFailedOutboxEvents(int retries);
+
+    long countOutboxEvents(boolean failed);
+
+}
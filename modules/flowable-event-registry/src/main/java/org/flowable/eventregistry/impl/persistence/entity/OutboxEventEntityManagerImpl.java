@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
+
+public class OutboxEventEntityManagerImpl
+        extends AbstractEngineEntityManager<EventRegistryEngineConfiguration, OutboxEventEntity, OutboxEventDataManager>
+        implements OutboxEventEntityManager {
+
+    public OutboxEventEntityManagerImpl(EventRegistryEngineConfiguration eventRegistryConfiguration, OutboxEventDataManager outboxEventDataManager) {
+        super(eventRegistryConfiguration, outboxEventDataManager);
+    }
+
+    @Override
+    public List<OutboxEventEntity> findOutboxChannelHeads() {
+        return dataManager.findOutboxChannelHeads();
+    }
+
+    @Override
+    public List<OutboxEventEntity> findOutboxEventsToSend(String channelKey, String tenantId, int maxResults) {
+        return dataManager.findOutboxEventsToSend(channelKey, tenantId, maxResults);
+    }
+
+    @Override
+    public int lockOutboxEvents(List<String> outboxEventIds, String lockOwner, Date lockExpirationTime, Date currentTime) {
+        return dataManager.lockOutboxEvents(outboxEventIds, lockOwner, lockExpirationTime, currentTime);
+    }
+
+    @Override
+    public void deleteSentOutboxEvents(List<String> outboxEventIds, String lockOwner) {
+        dataManager.deleteSentOutboxEvents(outboxEventIds, lockOwner);
+    }
+
+    @Override
+    public void updateUnsentOutboxEvents(List<String> outboxEventIds, String lockOwner, Date nextAttemptTime, String exceptionMessage) {
+        dataManager.updateUnsentOutboxEvents(outboxEventIds, lockOwner, nextAttemptTime, exceptionMessage);
+    }
+
+    @Override
+    public int resetFailedOutboxEvents(int retries) {
+        return dataManager.resetFailedOutboxEvents(retries);
+    }
+
+    @Override
+    public long countOutboxEvents(boolean failed) {
+        return dataManager.countOutboxEvents(failed);
+    }
+
+}
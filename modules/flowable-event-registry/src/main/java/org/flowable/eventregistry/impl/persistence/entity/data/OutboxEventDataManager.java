@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+
+public interface OutboxEventDataManager extends DataManager<OutboxEventEntity> {
+
+    List<OutboxEventEntity> findOutboxChannelHeads();
+
+    List<OutboxEventEntity> findOutboxEventsToSend(String channelKey, String tenantId, int maxResults);
+
+    int lockOutboxEvents(List<String> outboxEventIds, String lockOwner, Date lockExpirationTime, Date currentTime);
+
+    void deleteSentOutboxEvents(List<String> outboxEventIds, String lockOwner);
+
+    void updateUnsentOutboxEvents(List<String> outboxEventIds, String lockOwner, Date nextAttemptTime, String exceptionMessage);
+
+    int resetFailedOutboxEvents(int retries);
+
+    long countOutboxEvents(boolean failed);
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data.impl;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.data.AbstractEventDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
+
+public class MybatisOutboxEventDataManager extends AbstractEventDataManager<OutboxEventEntity> implements OutboxEventDataManager {
+
+    public MybatisOutboxEventDataManager(EventRegistryEngineConfiguration eventRegistryConfiguration) {
+        super(eventRegistryConfiguration);
+    }
+
+    @Override
+    public Class<? extends OutboxEventEntity> getManagedEntityClass() {
+        return OutboxEventEntityImpl.class;
+    }
+
+    @Override
+    public OutboxEventEntity create() {
+        return new OutboxEventEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutboxEventEntity> findOutboxChannelHeads() {
+        // Not cached: the rows are locked and deleted with bulk statements, which bypass the entity cache
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectOutboxChannelHeads", new ListQueryParameterObject());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutboxEventEntity> findOutboxEventsToSend(String channelKey, String tenantId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("channelKey", channelKey);
+        params.put("tenantId", tenantId);
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, 0, maxResults);
+        // The events of a channel are sent in the order in which they were created
+        parameterObject.addOrder("RES.CREATE_TIME_", ListQueryParameterObject.SORTORDER_ASC, null);
+        parameterObject.addOrder("RES.SEQ_", ListQueryParameterObject.SORTORDER_ASC, null);
+        parameterObject.addOrder("RES.ID_", ListQueryParameterObject.SORTORDER_ASC, null);
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectOutboxEventsToSend", parameterObject);
+    }
+
+    @Override
+    public int lockOutboxEvents(List<String> outboxEventIds, String lockOwner, Date lockExpirationTime, Date currentTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", outboxEventIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("now", currentTime);
+        return getDbSqlSession().update("lockOutboxEvents", params);
+    }
+
+    @Override
+    public void deleteSentOutboxEvents(List<String> outboxEventIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", outboxEventIds);
+        params.put("lockOwner", lockOwner);
+        getDbSqlSession().delete("deleteSentOutboxEvents", params, getManagedEntityClass());
+    }
+
+    @Override
+    public void updateUnsentOutboxEvents(List<String> outboxEventIds, String lockOwner, Date nextAttemptTime, String exceptionMessage) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", outboxEventIds);
+        params.put("lockOwner", lockOwner);
+        params.put("nextAttemptTime", nextAttemptTime);
+        params.put("exceptionMessage", exceptionMessage);
+        getDbSqlSession().update("updateUnsentOutboxEvents", params);
+    }
+
+    @Override
+    public int resetFailedOutboxEvents(int retries) {
+        return getDbSqlSession().update("resetFailedOutboxEvents", retries);
+    }
+
+    @Override
+    public long countOutboxEvents(boolean failed) {
+        return (Long) getDbSqlSession().selectOne("selectOutboxEventCount", failed);
+    }
+
+}
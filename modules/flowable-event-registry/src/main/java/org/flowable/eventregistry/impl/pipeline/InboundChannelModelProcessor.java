@@ -29,16 +29,24 @@ import org.flowable.eventregistry.api.InboundEventTransformer;
 import org.flowable.eventregistry.impl.keydetector.InboundEventStaticKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonPointerBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.StreamingJsonPointerBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.StreamingXmlPathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.XpathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.payload.StreamingJsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.payload.StreamingXmlElementsToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.serialization.RawStringInboundEventDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToXmlDocumentDeserializer;
 import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.JsonPointerBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.impl.tenantdetector.StreamingJsonPointerBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.impl.tenantdetector.StreamingXmlPathBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.XpathBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.transformer.DefaultInboundEventTransformer;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
+import org.flowable.eventregistry.impl.util.XmlStreamingUtil;
 import org.flowable.eventregistry.model.ChannelEventKeyDetection;
 import org.flowable.eventregistry.model.ChannelEventTenantIdDetection;
 import org.flowable.eventregistry.model.ChannelModel;
@@ -52,6 +60,20 @@ import com.fasterxml.jackson.databind.JsonNode;
  */
 public class InboundChannelModelProcessor implements ChannelModelProcessor {
 
+    /**
+     * Whether json and xml channels use the streaming pipeline when their configuration allows it.
+     * The streaming pipeline reads the raw event with a streaming parser instead of building a complete tree or DOM first.
+     */
+    protected boolean streamingEnabled;
+
+    public InboundChannelModelProcessor() {
+        this(false);
+    }
+
+    public InboundChannelModelProcessor(boolean streamingEnabled) {
+        this.streamingEnabled = streamingEnabled;
+    }
+
     @Override
     public boolean canProcess(ChannelModel channelModel) {
         return channelModel instanceof InboundChannelModel;
@@ -96,6 +118,10 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
 
     protected InboundEventProcessingPipeline createJsonEventProcessingPipeline(InboundChannelModel channelModel,
         EventRepositoryService eventRepositoryService) {
+        if (streamingEnabled && supportsStreamingJsonPipeline(channelModel)) {
+            return createStreamingJsonEventProcessingPipeline(channelModel, eventRepositoryService);
+        }
+
         InboundEventDeserializer<JsonNode> eventDeserializer;
         if (StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())) {
             eventDeserializer = new StringToJsonDeserializer();
@@ -164,6 +190,10 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
     }
 
     protected InboundEventProcessingPipeline createXmlEventProcessingPipeline(InboundChannelModel channelModel, EventRepositoryService eventRepositoryService) {
+        if (streamingEnabled && supportsStreamingXmlPipeline(channelModel)) {
+            return createStreamingXmlEventProcessingPipeline(channelModel, eventRepositoryService);
+        }
+
         InboundEventDeserializer<Document> eventDeserializer;
         if (StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())) {
             eventDeserializer = new StringToXmlDocumentDeserializer();
@@ -229,6 +259,97 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
     }
 
+    protected boolean supportsStreamingJsonPipeline(InboundChannelModel channelModel) {
+        if (StringUtils.isNotEmpty(channelModel.getDeserializerDelegateExpression()) || StringUtils.isNotEmpty(channelModel.getPayloadExtractorDelegateExpression())) {
+            return false;
+        }
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        if (keyDetection == null || (StringUtils.isEmpty(keyDetection.getFixedValue()) && StringUtils.isEmpty(keyDetection.getJsonField())
+                && StringUtils.isEmpty(keyDetection.getJsonPointerExpression()))) {
+            return false;
+        }
+
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        return tenantIdDetection == null || StringUtils.isNotEmpty(tenantIdDetection.getFixedValue())
+                || StringUtils.isNotEmpty(tenantIdDetection.getJsonPointerExpression());
+    }
+
+    protected InboundEventProcessingPipeline createStreamingJsonEventProcessingPipeline(InboundChannelModel channelModel,
+        EventRepositoryService eventRepositoryService) {
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        InboundEventKeyDetector<String> eventKeyDetector;
+        if (StringUtils.isNotEmpty(keyDetection.getFixedValue())) {
+            eventKeyDetector = new InboundEventStaticKeyDetector<>(keyDetection.getFixedValue());
+        } else if (StringUtils.isNotEmpty(keyDetection.getJsonField())) {
+            eventKeyDetector = StreamingJsonPointerBasedInboundEventKeyDetector.forJsonField(keyDetection.getJsonField());
+        } else {
+            eventKeyDetector = new StreamingJsonPointerBasedInboundEventKeyDetector(keyDetection.getJsonPointerExpression(), false);
+        }
+
+        InboundEventTenantDetector<String> eventTenantDetector = null;
+        ChannelEventTenantIdDetection channelEventTenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        if (channelEventTenantIdDetection != null) {
+            if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getFixedValue())) {
+                eventTenantDetector = new InboundEventStaticTenantDetector<>(channelEventTenantIdDetection.getFixedValue());
+            } else {
+                eventTenantDetector = new StreamingJsonPointerBasedInboundEventTenantDetector(channelEventTenantIdDetection.getJsonPointerExpression());
+            }
+        }
+
+        return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, new RawStringInboundEventDeserializer(),
+            eventKeyDetector, eventTenantDetector, new StreamingJsonFieldToMapPayloadExtractor(), createEventTransformer(channelModel));
+    }
+
+    protected boolean supportsStreamingXmlPipeline(InboundChannelModel channelModel) {
+        if (StringUtils.isNotEmpty(channelModel.getDeserializerDelegateExpression()) || StringUtils.isNotEmpty(channelModel.getPayloadExtractorDelegateExpression())) {
+            return false;
+        }
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        if (keyDetection == null || (StringUtils.isEmpty(keyDetection.getFixedValue()) && !XmlStreamingUtil.isSimplePath(keyDetection.getXmlXPathExpression()))) {
+            return false;
+        }
+
+        ChannelEventTenantIdDetection tenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        return tenantIdDetection == null || StringUtils.isNotEmpty(tenantIdDetection.getFixedValue())
+                || XmlStreamingUtil.isSimplePath(tenantIdDetection.getxPathExpression());
+    }
+
+    protected InboundEventProcessingPipeline createStreamingXmlEventProcessingPipeline(InboundChannelModel channelModel,
+        EventRepositoryService eventRepositoryService) {
+
+        ChannelEventKeyDetection keyDetection = channelModel.getChannelEventKeyDetection();
+        InboundEventKeyDetector<String> eventKeyDetector;
+        if (StringUtils.isNotEmpty(keyDetection.getFixedValue())) {
+            eventKeyDetector = new InboundEventStaticKeyDetector<>(keyDetection.getFixedValue());
+        } else {
+            eventKeyDetector = new StreamingXmlPathBasedInboundEventKeyDetector(keyDetection.getXmlXPathExpression());
+        }
+
+        InboundEventTenantDetector<String> eventTenantDetector = null;
+        ChannelEventTenantIdDetection channelEventTenantIdDetection = channelModel.getChannelEventTenantIdDetection();
+        if (channelEventTenantIdDetection != null) {
+            if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getFixedValue())) {
+                eventTenantDetector = new InboundEventStaticTenantDetector<>(channelEventTenantIdDetection.getFixedValue());
+            } else {
+                eventTenantDetector = new StreamingXmlPathBasedInboundEventTenantDetector(channelEventTenantIdDetection.getxPathExpression());
+            }
+        }
+
+        return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, new RawStringInboundEventDeserializer(),
+            eventKeyDetector, eventTenantDetector, new StreamingXmlElementsToMapPayloadExtractor(), createEventTransformer(channelModel));
+    }
+
+    protected InboundEventTransformer createEventTransformer(InboundChannelModel channelModel) {
+        if (StringUtils.isEmpty(channelModel.getEventTransformerDelegateExpression())) {
+            return new DefaultInboundEventTransformer();
+        } else {
+            return resolveExpression(channelModel.getEventTransformerDelegateExpression(), InboundEventTransformer.class);
+        }
+    }
+
     protected InboundEventProcessingPipeline createExpressionEventProcessingPipeline(InboundChannelModel channelModel,
         EventRepositoryService eventRepositoryService) {
         InboundEventDeserializer<?> eventDeserializer;
@@ -320,4 +441,12 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         // nothing to do
     }
+
+    public boolean isStreamingEnabled() {
+        return streamingEnabled;
+    }
+
+    public void setStreamingEnabled(boolean streamingEnabled) {
+        this.streamingEnabled = streamingEnabled;
+    }
 }
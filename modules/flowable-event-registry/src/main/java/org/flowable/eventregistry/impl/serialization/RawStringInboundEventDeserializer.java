@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import org.flowable.eventregistry.api.InboundEventDeserializer;
+
+/**
+ * Passes the raw event on as is. Used by the streaming pipelines, where the key detector, tenant detector and payload extractor
+ * each read only the parts of the raw event they need.
+ */
+public class RawStringInboundEventDeserializer implements InboundEventDeserializer<String> {
+
+    @Override
+    public String deserialize(String rawEvent) {
+        return rawEvent;
+    }
+
+}
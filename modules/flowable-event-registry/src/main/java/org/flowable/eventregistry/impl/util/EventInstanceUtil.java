@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+
+public class EventInstanceUtil {
+
+    /**
+     * Returns the key that determines the order in which inbound events need to be processed:
+     * events with the same correlation parameter values need to be processed in the order they were received,
+     * independent of their event definition key (e.g. an 'order created' event has to be handled before an 'order paid' event for the same order).
+     *
+     * All events without correlation parameters share the same (empty) key.
+     */
+    public static String getOrderingKey(EventInstance eventInstance) {
+        if (eventInstance.getCorrelationParameterInstances() == null || eventInstance.getCorrelationParameterInstances().isEmpty()) {
+            return "";
+        }
+
+        Map<String, Object> correlationValues = new TreeMap<>();
+        for (EventPayloadInstance correlationParameterInstance : eventInstance.getCorrelationParameterInstances()) {
+            correlationValues.put(correlationParameterInstance.getDefinitionName(), correlationParameterInstance.getValue());
+        }
+        return correlationValues.toString();
+    }
+
+    public static String getOrderingKey(EventRegistryEvent eventRegistryEvent) {
+        if (eventRegistryEvent.getEventObject() instanceof EventInstance) {
+            return getOrderingKey((EventInstance) eventRegistryEvent.getEventObject());
+        }
+        return "";
+    }
+
+}
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.util;
+
+import java.io.IOException;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Helper methods to read values from raw json events with a streaming parser, without building a tree for the complete event.
+ */
+public class JsonStreamingUtil {
+
+    /**
+     * Returns the value the pointer refers to or null when there is no such value.
+     * Only the value itself is read as a tree, all other content before it is skipped.
+     */
+    public static JsonNode findValue(ObjectMapper objectMapper, String json, JsonPointer pointer) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return findValue(objectMapper, parser, pointer);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not read json event", e);
+        }
+    }
+
+    protected static JsonNode findValue(ObjectMapper objectMapper, JsonParser parser, JsonPointer pointer) throws IOException {
+        if (pointer.matches()) {
+            return objectMapper.readTree(parser);
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                JsonPointer tail = pointer.matchProperty(fieldName);
+                if (tail != null) {
+                    return findValue(objectMapper, parser, tail);
+                }
+                parser.skipChildren();
+            }
+
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonPointer tail = pointer.matchElement(index++);
+                if (tail != null) {
+                    return findValue(objectMapper, parser, tail);
+                }
+                parser.skipChildren();
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Helper methods to read element values from raw xml events with a StAX parser, without building a DOM for the complete event.
+ */
+public class XmlStreamingUtil {
+
+    protected static final Pattern SIMPLE_PATH_PATTERN = Pattern.compile("(/[A-Za-z_][\\w.\\-]*(:[A-Za-z_][\\w.\\-]*)?)+");
+
+    protected static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * Returns whether the given xpath expression is an absolute path of element names (e.g. /order/customer/id),
+     * which is the only kind of expression that can be evaluated while streaming.
+     */
+    public static boolean isSimplePath(String xpathExpression) {
+        return xpathExpression != null && SIMPLE_PATH_PATTERN.matcher(xpathExpression).matches();
+    }
+
+    public static List<String> getPathElements(String simplePath) {
+        return Collections.unmodifiableList(Arrays.asList(simplePath.substring(1).split("/")));
+    }
+
+    /**
+     * Returns the text content of the first element on the given path or null if there is no such element.
+     */
+    public static String findElementText(String xml, List<String> pathElements) {
+        XMLStreamReader reader = createReader(xml);
+        try {
+            List<String> currentPath = new ArrayList<>();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String elementName = getElementName(reader);
+                    int depth = currentPath.size();
+                    if (depth < pathElements.size() && pathElements.get(depth).equals(elementName)) {
+                        if (depth == pathElements.size() - 1) {
+                            return readTextContent(reader);
+                        }
+                        currentPath.add(elementName);
+
+                    } else {
+                        skipElement(reader);
+                    }
+
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    currentPath.remove(currentPath.size() - 1);
+                }
+            }
+            return null;
+
+        } catch (XMLStreamException e) {
+            throw new FlowableException("Could not read xml event", e);
+
+        } finally {
+            closeReader(reader);
+        }
+    }
+
+    public static XMLStreamReader createReader(String xml) {
+        try {
+            return XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        } catch (XMLStreamException e) {
+            throw new FlowableException("Could not read xml event", e);
+        }
+    }
+
+    public static void closeReader(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Returns the qualified name of the current element, the same name a DOM that is not namespace aware uses.
+     */
+    public static String getElementName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        if (prefix != null && !prefix.isEmpty()) {
+            return prefix + ':' + reader.getLocalName();
+        }
+        return reader.getLocalName();
+    }
+
+    /**
+     * Reads the text of the current element including the text of all nested elements and moves the reader to the end of the element.
+     */
+    public static String readTextContent(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                text.append(reader.getText());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Moves the reader to the end of the current element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    protected static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+}
@@ -0,0 +1,255 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.OutboundEventProcessingPipeline;
+import org.flowable.eventregistry.impl.AsyncOutboundEventProcessor;
+import org.flowable.eventregistry.impl.EventRegistryEngine;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncOutboundEventProcessorTest {
+
+    protected EventRegistryEngine eventRegistryEngine;
+    protected EventRegistryEngineConfiguration engineConfiguration;
+    protected AsyncOutboundEventProcessor processor;
+    protected TestOutboundEventChannelAdapter channelAdapter;
+    protected OutboundChannelModel channelModel;
+
+    @BeforeEach
+    void setUp() {
+        engineConfiguration = EventRegistryEngineConfiguration.createStandaloneInMemEventRegistryEngineConfiguration()
+                .setEnableAsyncOutboundEventSending(true)
+                .setOutboundEventBatchSize(3)
+                .setOutboundEventSendMaxRetries(2)
+                .setOutboundEventSendRetryWaitTimeInMs(10)
+                // The tests trigger the poller themselves
+                .setOutboundEventOutboxPollIntervalInMs(0)
+                .setEnableEventRegistryChangeDetection(false)
+                .setEngineName("asyncOutboundEventProcessorTest");
+        engineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-outbox");
+        engineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+
+        channelAdapter = new TestOutboundEventChannelAdapter();
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("testOutboundChannelAdapter", channelAdapter);
+        beans.put("testOutboundEventProcessingPipeline", (OutboundEventProcessingPipeline<String>) eventInstance -> eventInstance.getEventKey());
+        engineConfiguration.setBeans(beans);
+
+        eventRegistryEngine = engineConfiguration.buildEventRegistryEngine();
+        processor = (AsyncOutboundEventProcessor) engineConfiguration.getOutboundEventProcessor();
+
+        eventRegistryEngine.getEventRepositoryService().createOutboundChannelModelBuilder()
+                .key("orders")
+                .resourceName("orders.channel")
+                .channelAdapter("${testOutboundChannelAdapter}")
+                .eventProcessingPipeline("${testOutboundEventProcessingPipeline}")
+                .deploy();
+        channelModel = (OutboundChannelModel) eventRegistryEngine.getEventRepositoryService().getChannelModelByKey("orders");
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRegistryEngine.close();
+    }
+
+    @Test
+    void testEventsAreSentInBatchesInOrder() throws Exception {
+        // The first event blocks the sender, the other events are stored in the outbox in the meantime
+        channelAdapter.blockFirstBatch();
+        sendEvent("order1");
+        assertThat(channelAdapter.firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 2; i <= 8; i++) {
+            sendEvent("order" + i);
+        }
+        channelAdapter.releaseFirstBatch();
+
+        channelAdapter.awaitEvents(8);
+        assertThat(channelAdapter.getBatches()).containsExactly(
+                Collections.singletonList("order1"),
+                Arrays.asList("order2", "order3", "order4"),
+                Arrays.asList("order5", "order6", "order7"),
+                Arrays.asList("order8")
+        );
+        awaitEmptyOutbox();
+    }
+
+    @Test
+    void testEventsOfRolledBackTransactionAreNotSent() {
+        assertThatThrownBy(() -> engineConfiguration.getCommandExecutor().execute(commandContext -> {
+            sendEvent("order1");
+            throw new FlowableException("Rollback");
+        })).hasMessage("Rollback");
+
+        assertThat(processor.getPendingEventCount()).isZero();
+        assertThat(channelAdapter.getAttempts()).isZero();
+    }
+
+    @Test
+    void testEventsLeftInOutboxAreSentByPoller() throws Exception {
+        // Events that were stored by a node that stopped before it could send them
+        engineConfiguration.getCommandExecutor().execute(commandContext -> {
+            OutboxEventEntityManager outboxEventEntityManager = engineConfiguration.getOutboxEventEntityManager();
+            for (int i = 1; i <= 2; i++) {
+                OutboxEventEntity outboxEvent = outboxEventEntityManager.create();
+                outboxEvent.setChannelKey("orders");
+                outboxEvent.setEventBytes(("order" + i).getBytes(StandardCharsets.UTF_8));
+                outboxEvent.setCreateTime(engineConfiguration.getClock().getCurrentTime());
+                outboxEvent.setSequence(i);
+                outboxEvent.setRetries(3);
+                outboxEventEntityManager.insert(outboxEvent);
+            }
+            return null;
+        });
+        assertThat(processor.getPendingEventCount()).isEqualTo(2);
+
+        processor.pollOutbox();
+
+        channelAdapter.awaitEvents(2);
+        assertThat(channelAdapter.getBatches()).containsExactly(Arrays.asList("order1", "order2"));
+        awaitEmptyOutbox();
+    }
+
+    @Test
+    void testFailedBatchIsRetried() throws Exception {
+        channelAdapter.failuresLeft = 2;
+
+        sendEvent("order1");
+
+        channelAdapter.awaitEvents(1);
+        assertThat(channelAdapter.getBatches()).containsExactly(Collections.singletonList("order1"));
+        assertThat(channelAdapter.getAttempts()).isEqualTo(3);
+        awaitEmptyOutbox();
+    }
+
+    @Test
+    void testBatchFailingAfterRetriesIsKeptAndCanBeRetried() throws Exception {
+        channelAdapter.failuresLeft = 5;
+
+        sendEvent("order1");
+
+        long end = System.currentTimeMillis() + 10000;
+        while (processor.getFailedEventCount() == 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertThat(processor.getFailedEventCount()).isEqualTo(1);
+        assertThat(processor.getPendingEventCount()).isZero();
+        assertThat(channelAdapter.getBatches()).isEmpty();
+        assertThat(channelAdapter.getAttempts()).isEqualTo(3);
+
+        processor.retryFailedEvents();
+
+        channelAdapter.awaitEvents(1);
+        assertThat(channelAdapter.getBatches()).containsExactly(Collections.singletonList("order1"));
+        assertThat(channelAdapter.getAttempts()).isEqualTo(6);
+        assertThat(processor.getFailedEventCount()).isZero();
+        awaitEmptyOutbox();
+    }
+
+    protected void sendEvent(String event) {
+        processor.sendEvent(new EventInstanceImpl(event, Collections.emptyList()), Collections.singletonList(channelModel));
+    }
+
+    protected void awaitEmptyOutbox() throws InterruptedException {
+        // The events are deleted from the outbox right after they have been sent
+        long end = System.currentTimeMillis() + 10000;
+        while (processor.getPendingEventCount() > 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertThat(processor.getPendingEventCount()).isZero();
+    }
+
+    protected static class TestOutboundEventChannelAdapter implements OutboundEventChannelAdapter<String> {
+
+        protected final List<List<String>> batches = new ArrayList<>();
+        protected final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        protected volatile CountDownLatch firstBatchRelease;
+        protected int failuresLeft;
+        protected int attempts;
+
+        public void blockFirstBatch() {
+            firstBatchRelease = new CountDownLatch(1);
+        }
+
+        public void releaseFirstBatch() {
+            firstBatchRelease.countDown();
+        }
+
+        @Override
+        public void sendEvent(String rawEvent) {
+            sendEvents(Collections.singletonList(rawEvent));
+        }
+
+        @Override
+        public void sendEvents(List<String> rawEvents) {
+            firstBatchStarted.countDown();
+            CountDownLatch release = firstBatchRelease;
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                firstBatchRelease = null;
+            }
+
+            synchronized (this) {
+                attempts++;
+                if (failuresLeft > 0) {
+                    failuresLeft--;
+                    throw new FlowableException("Broker not available");
+                }
+                batches.add(new ArrayList<>(rawEvents));
+                notifyAll();
+            }
+        }
+
+        public synchronized int getAttempts() {
+            return attempts;
+        }
+
+        public synchronized List<List<String>> getBatches() {
+            return new ArrayList<>(batches);
+        }
+
+        public synchronized void awaitEvents(int count) throws InterruptedException {
+            long end = System.currentTimeMillis() + 10000;
+            while (batches.stream().mapToInt(List::size).sum() < count && System.currentTimeMillis() < end) {
+                wait(100);
+            }
+        }
+    }
+
+}
@@ -19,10 +19,16 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableSpan;
+import org.flowable.common.engine.impl.tracing.InMemoryFlowableTracer;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -30,16 +36,21 @@ import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.OutboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultEventRegistry;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
 import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
 import org.flowable.eventregistry.model.EventModel;
 import org.flowable.eventregistry.model.EventPayload;
 import org.flowable.eventregistry.model.InboundChannelModel;
+import org.flowable.eventregistry.model.OutboundChannelModel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -149,6 +160,68 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
 
+    @Test
+    public void testInboundEventContinuesTraceOfSender() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        FlowableTracer originalTracer = eventEngineConfiguration.getTracer();
+        InMemoryFlowableTracer tracer = new InMemoryFlowableTracer();
+        eventEngineConfiguration.setTracer(tracer);
+        try {
+            // The span of the sender, e.g. on another node, of which the trace context is received in a message header
+            FlowableSpan senderSpan = tracer.startSpan("sender", (FlowableSpan) null);
+            senderSpan.end();
+
+            inboundEventChannelAdapter.triggerTestEvent(senderSpan.getTraceContext());
+
+            assertThat(testEventConsumer.eventsReceived).hasSize(1);
+            InMemoryFlowableSpan receiveSpan = tracer.getFinishedSpans().stream()
+                    .filter(span -> span.getName().equals("eventRegistry receive test-channel"))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No receive span"));
+            assertThat(receiveSpan.getTraceId()).isEqualTo(((InMemoryFlowableSpan) senderSpan).getTraceId());
+            assertThat(receiveSpan.getParentSpanId()).isEqualTo(((InMemoryFlowableSpan) senderSpan).getSpanId());
+            assertThat(receiveSpan.getAttribute(DefaultEventRegistry.ATTRIBUTE_CHANNEL_KEY)).isEqualTo("test-channel");
+
+        } finally {
+            eventEngineConfiguration.setTracer(originalTracer);
+        }
+    }
+
+    @Test
+    public void testOutboundEventPropagatesTraceContext() {
+        List<String> sentTraceContexts = new ArrayList<>();
+        OutboundChannelModel channelModel = new OutboundChannelModel();
+        channelModel.setKey("test-outbound-channel");
+        channelModel.setOutboundEventProcessingPipeline((OutboundEventProcessingPipeline<String>) eventInstance -> eventInstance.getEventKey());
+        // Channel adapters put the current trace context in a message header, e.g. TracingContext.TRACE_CONTEXT_HEADER
+        channelModel.setOutboundEventChannelAdapter((OutboundEventChannelAdapter<String>) rawEvent -> sentTraceContexts.add(TracingContext.getCurrentTraceContext()));
+
+        FlowableTracer originalTracer = eventEngineConfiguration.getTracer();
+        InMemoryFlowableTracer tracer = new InMemoryFlowableTracer();
+        eventEngineConfiguration.setTracer(tracer);
+        try {
+            eventRegistry.sendEventOutbound(new EventInstanceImpl("myEvent", Collections.emptyList()), Collections.singletonList(channelModel));
+
+            assertThat(tracer.getFinishedSpans())
+                    .extracting(InMemoryFlowableSpan::getName, span -> span.getAttribute(DefaultEventRegistry.ATTRIBUTE_EVENT_KEY))
+                    .containsExactly(tuple("eventRegistry send myEvent", "myEvent"));
+            assertThat(sentTraceContexts).containsExactly(tracer.getFinishedSpans().get(0).getTraceContext());
+            assertThat(TracingContext.getCurrentSpan()).isNull();
+
+        } finally {
+            eventEngineConfiguration.setTracer(originalTracer);
+        }
+    }
+
     protected TestInboundEventChannelAdapter setupTestChannel() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
         eventEngineConfiguration.getExpressionManager().getBeans()
@@ -258,6 +331,10 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         }
 
         public void triggerTestEvent() {
+            triggerTestEvent(null);
+        }
+
+        public void triggerTestEvent(String traceContext) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -266,7 +343,7 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             json.put("payload1", "Hello World");
             json.put("payload2", 123);
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json), traceContext);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.keydetector.StreamingJsonPointerBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.StreamingXmlPathBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.payload.StreamingJsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.payload.StreamingXmlElementsToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.tenantdetector.StreamingJsonPointerBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.impl.tenantdetector.StreamingXmlPathBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.model.EventModel;
+import org.junit.jupiter.api.Test;
+
+class StreamingInboundEventProcessingTest {
+
+    private static final String JSON_EVENT = "{\"ignored\": {\"nested\": [1, 2, {\"type\": \"wrong\"}]}, \"meta\": {\"type\": \"orderCreated\", \"tenant\": \"acme\"},"
+            + " \"customerId\": \"kermit\", \"amount\": 42, \"details\": {\"priority\": \"high\"}, \"flag\": true}";
+
+    private static final String XML_EVENT = "<order><meta><type>orderCreated</type><tenant>acme</tenant></meta><ignored><customerId>wrong</customerId></ignored>"
+            + "<customerId>kermit</customerId><amount>42</amount><flag>true</flag><customerId>second</customerId></order>";
+
+    @Test
+    void testJsonKeyAndTenantDetection() {
+        assertThat(new StreamingJsonPointerBasedInboundEventKeyDetector("/meta/type", false).detectEventDefinitionKey(JSON_EVENT)).isEqualTo("orderCreated");
+        assertThat(new StreamingJsonPointerBasedInboundEventKeyDetector("/meta/missing", false).detectEventDefinitionKey(JSON_EVENT)).isNull();
+        assertThat(new StreamingJsonPointerBasedInboundEventKeyDetector("/ignored/nested/2/type", false).detectEventDefinitionKey(JSON_EVENT)).isEqualTo("wrong");
+        assertThat(StreamingJsonPointerBasedInboundEventKeyDetector.forJsonField("amount").detectEventDefinitionKey(JSON_EVENT)).isEqualTo("42");
+        assertThat(StreamingJsonPointerBasedInboundEventKeyDetector.forJsonField("missing").detectEventDefinitionKey(JSON_EVENT)).isEmpty();
+
+        assertThat(new StreamingJsonPointerBasedInboundEventTenantDetector("/meta/tenant").detectTenantId(JSON_EVENT)).isEqualTo("acme");
+    }
+
+    @Test
+    void testJsonPayloadExtraction() {
+        EventModel eventModel = new EventModel();
+        eventModel.setKey("orderCreated");
+        eventModel.addCorrelation("customerId", EventPayloadTypes.STRING);
+        eventModel.addPayload("flag", EventPayloadTypes.BOOLEAN);
+        eventModel.addPayload("amount", EventPayloadTypes.INTEGER);
+        eventModel.addPayload("details", EventPayloadTypes.JSON);
+        eventModel.addPayload("missing", EventPayloadTypes.STRING);
+
+        assertThat(new StreamingJsonFieldToMapPayloadExtractor().extractPayload(eventModel, JSON_EVENT))
+                .extracting(EventPayloadInstance::getDefinitionName, payloadInstance -> payloadInstance.getValue().toString())
+                .containsExactly(
+                        tuple("customerId", "kermit"),
+                        tuple("flag", "true"),
+                        tuple("amount", "42"),
+                        tuple("details", "{\"priority\":\"high\"}")
+                );
+    }
+
+    @Test
+    void testXmlKeyAndTenantDetection() {
+        assertThat(new StreamingXmlPathBasedInboundEventKeyDetector("/order/meta/type").detectEventDefinitionKey(XML_EVENT)).isEqualTo("orderCreated");
+        assertThat(new StreamingXmlPathBasedInboundEventKeyDetector("/order/meta/missing").detectEventDefinitionKey(XML_EVENT)).isNull();
+
+        assertThat(new StreamingXmlPathBasedInboundEventTenantDetector("/order/meta/tenant").detectTenantId(XML_EVENT)).isEqualTo("acme");
+    }
+
+    @Test
+    void testXmlPayloadExtraction() {
+        EventModel eventModel = new EventModel();
+        eventModel.setKey("orderCreated");
+        eventModel.addCorrelation("customerId", EventPayloadTypes.STRING);
+        eventModel.addPayload("flag", EventPayloadTypes.BOOLEAN);
+        eventModel.addPayload("amount", EventPayloadTypes.INTEGER);
+        eventModel.addPayload("missing", EventPayloadTypes.STRING);
+
+        assertThat(new StreamingXmlElementsToMapPayloadExtractor().extractPayload(eventModel, XML_EVENT))
+                .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+                .containsExactly(
+                        tuple("customerId", "kermit"),
+                        tuple("flag", true),
+                        tuple("amount", 42)
+                );
+    }
+
+}
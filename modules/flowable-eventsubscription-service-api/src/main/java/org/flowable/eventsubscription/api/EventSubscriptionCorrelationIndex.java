@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.api;
+
+import java.util.Collection;
+
+/**
+ * An in-memory index of the event subscriptions per event type, scope type and configuration (the correlation key for event registry subscriptions).
+ * It is used to discard events for which no event subscription can exist without querying the database.
+ *
+ * The index is kept up to date for the event subscriptions created and deleted by this engine.
+ * Implementations need to make sure that subscriptions created by other engines of a cluster are not missed,
+ * for example by verifying a miss against the database or through an {@link EventSubscriptionCorrelationIndexInvalidationHook}.
+ */
+public interface EventSubscriptionCorrelationIndex {
+
+    /**
+     * Returns false when there is certainly no event subscription for the given event type and scope type
+     * without a configuration or with one of the given configurations. Needs to be called within a command context.
+     */
+    boolean hasPossibleEventSubscriptions(String eventType, String scopeType, Collection<String> configurations);
+
+    /**
+     * Removes the indexed subscriptions of the given event type, they will be loaded again on the next lookup.
+     */
+    void invalidate(String eventType);
+
+    /**
+     * Removes all indexed subscriptions, they will be loaded again on the next lookup.
+     */
+    void invalidateAll();
+
+}
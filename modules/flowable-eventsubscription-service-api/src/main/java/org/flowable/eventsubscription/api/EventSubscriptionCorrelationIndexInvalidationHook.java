@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.api;
+
+import java.util.Collection;
+
+/**
+ * Hook to keep the {@link EventSubscriptionCorrelationIndex} of the other engines of a cluster up to date.
+ *
+ * It is called after a transaction that created or changed event subscriptions has been committed.
+ * Implementations publish the event types to the other engines, for example through a message broker or a cache invalidation channel,
+ * and the other engines call {@link EventSubscriptionCorrelationIndex#invalidate(String)} for every event type they receive.
+ *
+ * When a hook is configured, a miss of the index is trusted without verifying it against the database.
+ */
+public interface EventSubscriptionCorrelationIndexInvalidationHook {
+
+    /**
+     * Called with the event types of the event subscriptions that were created or changed in a committed transaction.
+     */
+    void eventSubscriptionsChanged(Collection<String> eventTypes);
+
+}
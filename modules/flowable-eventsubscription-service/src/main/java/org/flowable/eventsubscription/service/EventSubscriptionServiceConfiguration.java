@@ -13,6 +13,9 @@
 package org.flowable.eventsubscription.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndexInvalidationHook;
+import org.flowable.eventsubscription.service.impl.DefaultEventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -40,6 +43,15 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     protected EventSubscriptionEntityManager eventSubscriptionEntityManager;
     
     protected ObjectMapper objectMapper;
+
+    // CORRELATION INDEX ///////////////////////////////////////////////
+
+    public static final long DEFAULT_CORRELATION_INDEX_VERIFICATION_INTERVAL = 1000L;
+
+    protected boolean enableCorrelationIndex;
+    protected long correlationIndexVerificationInterval = DEFAULT_CORRELATION_INDEX_VERIFICATION_INTERVAL;
+    protected EventSubscriptionCorrelationIndexInvalidationHook correlationIndexInvalidationHook;
+    protected EventSubscriptionCorrelationIndex eventSubscriptionCorrelationIndex;
     
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
@@ -51,6 +63,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     public void init() {
         initDataManagers();
         initEntityManagers();
+        initCorrelationIndex();
     }
 
     // Data managers
@@ -68,6 +81,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initCorrelationIndex() {
+        if (eventSubscriptionCorrelationIndex == null && enableCorrelationIndex) {
+            eventSubscriptionCorrelationIndex = new DefaultEventSubscriptionCorrelationIndex(this, correlationIndexVerificationInterval);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -102,6 +121,42 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
     
+    public boolean isEnableCorrelationIndex() {
+        return enableCorrelationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEnableCorrelationIndex(boolean enableCorrelationIndex) {
+        this.enableCorrelationIndex = enableCorrelationIndex;
+        return this;
+    }
+
+    public long getCorrelationIndexVerificationInterval() {
+        return correlationIndexVerificationInterval;
+    }
+
+    public EventSubscriptionServiceConfiguration setCorrelationIndexVerificationInterval(long correlationIndexVerificationInterval) {
+        this.correlationIndexVerificationInterval = correlationIndexVerificationInterval;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndexInvalidationHook getCorrelationIndexInvalidationHook() {
+        return correlationIndexInvalidationHook;
+    }
+
+    public EventSubscriptionServiceConfiguration setCorrelationIndexInvalidationHook(EventSubscriptionCorrelationIndexInvalidationHook correlationIndexInvalidationHook) {
+        this.correlationIndexInvalidationHook = correlationIndexInvalidationHook;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndex getEventSubscriptionCorrelationIndex() {
+        return eventSubscriptionCorrelationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionCorrelationIndex(EventSubscriptionCorrelationIndex eventSubscriptionCorrelationIndex) {
+        this.eventSubscriptionCorrelationIndex = eventSubscriptionCorrelationIndex;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
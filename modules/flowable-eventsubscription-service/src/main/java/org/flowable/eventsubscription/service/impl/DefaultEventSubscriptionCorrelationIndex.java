@@ -0,0 +1,354 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndexInvalidationHook;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+
+/**
+ * Default {@link EventSubscriptionCorrelationIndex} that keeps the configurations of the event subscriptions per event type and scope type.
+ *
+ * The subscriptions of an event type and scope type are loaded with one query on the first lookup.
+ * Subscriptions inserted by this engine are added right away. Deleted subscriptions stay in the index, as other subscriptions
+ * can have the same configuration, which only means that the database is queried for them. Once more subscriptions have been deleted
+ * than there are configurations in the index, the subscriptions are loaded again on the next lookup.
+ * An event type and scope type with more than {@link #maxConfigurations} configurations is not indexed, every lookup queries the database.
+ *
+ * Subscriptions created or changed by other engines of a cluster are seen in one of two ways:
+ * <ul>
+ * <li>With an {@link EventSubscriptionCorrelationIndexInvalidationHook}, the other engines invalidate the event type after their transaction is committed,
+ * and a miss is trusted without querying the database.</li>
+ * <li>Without a hook, a miss is only trusted when the version of the subscriptions in the database (their count, latest creation time and revisions)
+ * is still the one from when they were loaded, otherwise they are loaded again. The verification is skipped for the verification interval
+ * after the last one, at the cost of missing subscriptions created by other engines during that time.</li>
+ * </ul>
+ */
+public class DefaultEventSubscriptionCorrelationIndex implements EventSubscriptionCorrelationIndex {
+
+    public static final int DEFAULT_MAX_CONFIGURATIONS = 10000;
+
+    protected static final String CHANGED_EVENT_TYPES_ATTRIBUTE = "eventSubscriptionCorrelationIndex.changedEventTypes";
+
+    protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+
+    /**
+     * The number of milliseconds after a verification of the subscriptions of an event type during which a miss is trusted without verifying it again.
+     * 0 means that every miss is verified, a negative value means that a miss is never verified, which is only correct with a single engine.
+     * Not used when an {@link EventSubscriptionCorrelationIndexInvalidationHook} is configured.
+     */
+    protected long verificationInterval;
+
+    protected int maxConfigurations = DEFAULT_MAX_CONFIGURATIONS;
+
+    protected Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+    protected Map<String, IndexEntry> loadingEntries = new ConcurrentHashMap<>();
+
+    public DefaultEventSubscriptionCorrelationIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration, long verificationInterval) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+        this.verificationInterval = verificationInterval;
+    }
+
+    @Override
+    public boolean hasPossibleEventSubscriptions(String eventType, String scopeType, Collection<String> configurations) {
+        String key = getKey(eventType, scopeType);
+        IndexEntry entry = entries.get(key);
+        if (entry == null) {
+            entry = loadEntry(key, eventType, scopeType);
+            if (entry == null) {
+                // Another thread is loading the subscriptions, so the database needs to be queried
+                return true;
+            }
+            return entry.hasEventSubscriptions(configurations);
+        }
+
+        if (entry.hasEventSubscriptions(configurations)) {
+            return true;
+
+        } else if (isVerified(entry)) {
+            return false;
+        }
+
+        // The subscriptions could have been changed by another engine since they were loaded
+        String version = findVersion(eventType, scopeType);
+        if (Objects.equals(version, entry.getVersion())) {
+            entry.setVerificationTime(getCurrentTime());
+            return false;
+        }
+
+        IndexEntry loadedEntry = loadEntry(key, eventType, scopeType);
+        return loadedEntry == null || loadedEntry.hasEventSubscriptions(configurations);
+    }
+
+    @Override
+    public void invalidate(String eventType) {
+        String keyPrefix = eventType + '|';
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public void eventSubscriptionInserted(EventSubscriptionEntity eventSubscription) {
+        if (eventSubscription.getScopeType() == null) {
+            return;
+        }
+
+        String key = getKey(eventSubscription.getEventType(), eventSubscription.getScopeType());
+        addEventSubscription(key, eventSubscription);
+
+        // The subscriptions could be loaded again before the transaction is committed, in which case the new subscription would not be part of them
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> addEventSubscription(key, eventSubscription));
+        }
+
+        notifyInvalidationHook(eventSubscription.getEventType());
+    }
+
+    public void eventSubscriptionUpdated(EventSubscriptionEntity eventSubscription) {
+        if (eventSubscription.getScopeType() == null) {
+            return;
+        }
+
+        // The configuration could have been changed, which is not known anymore at this point
+        String key = getKey(eventSubscription.getEventType(), eventSubscription.getScopeType());
+        entries.remove(key);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> entries.remove(key));
+        }
+
+        notifyInvalidationHook(eventSubscription.getEventType());
+    }
+
+    public void eventSubscriptionDeleted(EventSubscriptionEntity eventSubscription) {
+        if (eventSubscription.getScopeType() == null) {
+            return;
+        }
+
+        String key = getKey(eventSubscription.getEventType(), eventSubscription.getScopeType());
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> removeEventSubscription(key));
+        } else {
+            removeEventSubscription(key);
+        }
+    }
+
+    protected void addEventSubscription(String key, EventSubscriptionEntity eventSubscription) {
+        IndexEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.add(eventSubscription.getConfiguration());
+        }
+
+        IndexEntry loadingEntry = loadingEntries.get(key);
+        if (loadingEntry != null) {
+            loadingEntry.add(eventSubscription.getConfiguration());
+        }
+    }
+
+    protected void removeEventSubscription(String key) {
+        IndexEntry entry = entries.get(key);
+        if (entry != null && entry.removed()) {
+            // Too many configurations could belong to deleted subscriptions, they are loaded again on the next lookup
+            entries.remove(key, entry);
+        }
+
+        IndexEntry loadingEntry = loadingEntries.get(key);
+        if (loadingEntry != null) {
+            loadingEntry.removed();
+        }
+    }
+
+    /**
+     * Collects the event types changed in the current transaction and passes them to the invalidation hook once it is committed.
+     */
+    protected void notifyInvalidationHook(String eventType) {
+        EventSubscriptionCorrelationIndexInvalidationHook invalidationHook = eventSubscriptionServiceConfiguration.getCorrelationIndexInvalidationHook();
+        if (invalidationHook == null) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            invalidationHook.eventSubscriptionsChanged(Collections.singleton(eventType));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> changedEventTypes = (Set<String>) commandContext.getAttribute(CHANGED_EVENT_TYPES_ATTRIBUTE);
+        if (changedEventTypes == null) {
+            Set<String> eventTypes = new LinkedHashSet<>();
+            commandContext.addAttribute(CHANGED_EVENT_TYPES_ATTRIBUTE, eventTypes);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, committedCommandContext -> invalidationHook.eventSubscriptionsChanged(eventTypes));
+            changedEventTypes = eventTypes;
+        }
+        changedEventTypes.add(eventType);
+    }
+
+    /**
+     * Loads the subscriptions of the given event type and scope type.
+     * Returns null when another thread is already loading them.
+     */
+    protected IndexEntry loadEntry(String key, String eventType, String scopeType) {
+        IndexEntry entry = new IndexEntry(getCurrentTime(), maxConfigurations);
+        if (loadingEntries.putIfAbsent(key, entry) != null) {
+            return null;
+        }
+
+        try {
+            // The version is fetched first, a subscription inserted in between only leads to loading the subscriptions again
+            if (!hasInvalidationHook()) {
+                entry.setVersion(findVersion(eventType, scopeType));
+            }
+
+            // Subscriptions inserted or deleted while loading are applied to the loading entry as well
+            List<EventSubscriptionEntity> eventSubscriptions = eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager()
+                    .findEventSubscriptionCorrelationsByEventTypeAndScopeType(eventType, scopeType);
+            for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+                entry.add(eventSubscription.getConfiguration());
+            }
+
+            entries.put(key, entry);
+            return entry;
+
+        } finally {
+            loadingEntries.remove(key, entry);
+        }
+    }
+
+    protected String findVersion(String eventType, String scopeType) {
+        return eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager().findEventSubscriptionCorrelationVersion(eventType, scopeType);
+    }
+
+    protected boolean isVerified(IndexEntry entry) {
+        if (hasInvalidationHook()) {
+            return true;
+        }
+        return verificationInterval < 0 || (verificationInterval > 0 && getCurrentTime() - entry.getVerificationTime() <= verificationInterval);
+    }
+
+    protected boolean hasInvalidationHook() {
+        return eventSubscriptionServiceConfiguration.getCorrelationIndexInvalidationHook() != null;
+    }
+
+    protected long getCurrentTime() {
+        return eventSubscriptionServiceConfiguration.getClock().getCurrentTime().getTime();
+    }
+
+    protected String getKey(String eventType, String scopeType) {
+        return eventType + '|' + scopeType;
+    }
+
+    public long getVerificationInterval() {
+        return verificationInterval;
+    }
+
+    public void setVerificationInterval(long verificationInterval) {
+        this.verificationInterval = verificationInterval;
+    }
+
+    public int getMaxConfigurations() {
+        return maxConfigurations;
+    }
+
+    public void setMaxConfigurations(int maxConfigurations) {
+        this.maxConfigurations = maxConfigurations;
+    }
+
+    protected static class IndexEntry {
+
+        protected final int maxConfigurations;
+        protected volatile String version;
+        protected volatile long verificationTime;
+        protected volatile boolean hasSubscriptionsWithoutConfiguration;
+        protected volatile boolean overflowed;
+        protected final Set<String> configurations = ConcurrentHashMap.newKeySet();
+        protected final AtomicInteger removedCount = new AtomicInteger();
+
+        public IndexEntry(long loadTime, int maxConfigurations) {
+            this.verificationTime = loadTime;
+            this.maxConfigurations = maxConfigurations;
+        }
+
+        public void add(String configuration) {
+            if (configuration == null) {
+                hasSubscriptionsWithoutConfiguration = true;
+
+            } else if (!overflowed && configurations.add(configuration) && configurations.size() > maxConfigurations) {
+                overflowed = true;
+                configurations.clear();
+            }
+        }
+
+        /**
+         * Records that a subscription was deleted and returns true when the entry should be loaded again.
+         */
+        public boolean removed() {
+            return removedCount.incrementAndGet() > Math.max(100, configurations.size());
+        }
+
+        public boolean hasEventSubscriptions(Collection<String> configurations) {
+            if (overflowed || hasSubscriptionsWithoutConfiguration) {
+                return true;
+            }
+
+            if (configurations != null) {
+                for (String configuration : configurations) {
+                    if (this.configurations.contains(configuration)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public void setVersion(String version) {
+            this.version = version;
+        }
+
+        public long getVerificationTime() {
+            return verificationTime;
+        }
+
+        public void setVerificationTime(long verificationTime) {
+            this.verificationTime = verificationTime;
+        }
+    }
+
+}
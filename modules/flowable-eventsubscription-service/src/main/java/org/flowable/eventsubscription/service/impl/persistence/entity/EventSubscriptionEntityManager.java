@@ -92,6 +92,18 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId);
 
+    /* Find (correlation index) */
+
+    /**
+     * Returns the event subscriptions of the given event type and scope type with only the id, event type, scope type and configuration set.
+     */
+    List<EventSubscriptionEntity> findEventSubscriptionCorrelationsByEventTypeAndScopeType(String eventType, String scopeType);
+
+    /**
+     * Returns a value that changes when an event subscription of the given event type and scope type is inserted, updated or deleted.
+     */
+    String findEventSubscriptionCorrelationVersion(String eventType, String scopeType);
+
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
     /* Find (compensation) */
@@ -21,7 +21,9 @@ import org.flowable.bpmn.model.Signal;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
+import org.flowable.eventsubscription.api.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.DefaultEventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -39,6 +41,38 @@ public class EventSubscriptionEntityManagerImpl
         super(eventSubscriptionServiceConfiguration, eventSubscriptionServiceConfiguration.getEngineName(), eventSubscriptionDataManager);
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        DefaultEventSubscriptionCorrelationIndex correlationIndex = getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.eventSubscriptionInserted(entity);
+        }
+    }
+
+    @Override
+    public EventSubscriptionEntity update(EventSubscriptionEntity entity, boolean fireUpdateEvent) {
+        EventSubscriptionEntity updatedEntity = super.update(entity, fireUpdateEvent);
+
+        DefaultEventSubscriptionCorrelationIndex correlationIndex = getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.eventSubscriptionUpdated(entity);
+        }
+
+        return updatedEntity;
+    }
+
+    @Override
+    public void delete(EventSubscriptionEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+
+        DefaultEventSubscriptionCorrelationIndex correlationIndex = getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.eventSubscriptionDeleted(entity);
+        }
+    }
+
     @Override
     public CompensateEventSubscriptionEntity createCompensateEventSubscription() {
         return dataManager.createCompensateEventSubscription();
@@ -189,9 +223,25 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findMessageStartEventSubscriptionByName(messageName, tenantId);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionCorrelationsByEventTypeAndScopeType(String eventType, String scopeType) {
+        return dataManager.findEventSubscriptionCorrelationsByEventTypeAndScopeType(eventType, scopeType);
+    }
+
+    @Override
+    public String findEventSubscriptionCorrelationVersion(String eventType, String scopeType) {
+        return dataManager.findEventSubscriptionCorrelationVersion(eventType, scopeType);
+    }
+
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         dataManager.updateEventSubscriptionTenantId(oldTenantId, newTenantId);
+
+        // The bulk update does not change the revision of the subscriptions
+        DefaultEventSubscriptionCorrelationIndex correlationIndex = getCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.invalidateAll();
+        }
     }
 
     @Override
@@ -319,6 +369,14 @@ public class EventSubscriptionEntityManagerImpl
         return eventSubscription;
     }
 
+    protected DefaultEventSubscriptionCorrelationIndex getCorrelationIndex() {
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getEventSubscriptionCorrelationIndex();
+        if (correlationIndex instanceof DefaultEventSubscriptionCorrelationIndex) {
+            return (DefaultEventSubscriptionCorrelationIndex) correlationIndex;
+        }
+        return null;
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -54,6 +55,10 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
     
     List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndType(final String processInstanceId, final String type);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(final String processInstanceId);
+
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndActivityId(final String processInstanceId, final String activityId, final String type);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId);
@@ -70,6 +75,10 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionCorrelationsByEventTypeAndScopeType(String eventType, String scopeType);
+
+    String findEventSubscriptionCorrelationVersion(String eventType, String scopeType);
+
     void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId);
 
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
@@ -13,9 +13,11 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.DbSqlSession;
@@ -40,6 +42,7 @@ import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByNameMatcher;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcInstTypeAndActivityMatcher;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcessInstanceAndTypeMatcher;
+import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcessInstanceIdMatcher;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByScopeDefinitionIdAndTypeAndNullScopeIdMatcher;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByScopeDefinitionIdAndTypeMatcher;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByScopeIdAndTypeMatcher;
@@ -77,6 +80,8 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
     
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByProcessInstanceAndTypeMatcher = new EventSubscriptionsByProcessInstanceAndTypeMatcher();
 
+    protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByProcessInstanceIdMatcher = new EventSubscriptionsByProcessInstanceIdMatcher();
+
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByScopeDefinitionIdAndTypeMatcher = new EventSubscriptionsByScopeDefinitionIdAndTypeMatcher();
 
     protected CachedEntityMatcher<EventSubscriptionEntity> eventSubscriptionsByScopeDefinitionIdAndTypeAndNullScopeIdMatcher = new EventSubscriptionsByScopeDefinitionIdAndTypeAndNullScopeIdMatcher();
@@ -203,8 +208,24 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         Map<String, String> params = new HashMap<>();
         params.put("executionId", executionId);
         params.put("eventType", type);
+
+        // If the event subscriptions were fetched together with the execution tree before, they are all in the cache already
+        if (isRelatedEntitiesFetched(getDbSqlSession(), executionId)) {
+            return getListFromCache(eventSubscriptionsByExecutionAndTypeMatcher, params);
+        }
+
         return getList("selectEventSubscriptionsByExecutionAndType", params, eventSubscriptionsByExecutionAndTypeMatcher, true);
     }
+
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(final String processInstanceId) {
+        return getList("selectEventSubscriptionsByProcessInstanceId", processInstanceId, eventSubscriptionsByProcessInstanceIdMatcher, true);
+    }
+
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getListWithInClause("selectEventSubscriptionsByProcessInstanceIds", processInstanceIds);
+    }
     
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndType(final String processInstanceId, final String type) {
@@ -227,8 +248,9 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
     public List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
         
-        // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If the execution has been inserted in the same command execution as this query, there can't be any in the database
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isRelatedEntitiesFetched(dbSqlSession, executionId)) {
             return getListFromCache(eventSubscriptionsByExecutionIdMatcher, executionId);
         }
         
@@ -305,6 +327,32 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return entity;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionCorrelationsByEventTypeAndScopeType(String eventType, String scopeType) {
+        Map<String, String> params = new HashMap<>();
+        params.put("eventType", eventType);
+        params.put("scopeType", scopeType);
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectEventSubscriptionCorrelationsByEventTypeAndScopeType", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String findEventSubscriptionCorrelationVersion(String eventType, String scopeType) {
+        Map<String, String> params = new HashMap<>();
+        params.put("eventType", eventType);
+        params.put("scopeType", scopeType);
+        Map<String, Object> result = (Map<String, Object>) getDbSqlSession().selectOne("selectEventSubscriptionCorrelationVersionByEventTypeAndScopeType", params);
+        if (result == null) {
+            return null;
+        }
+
+        // The case of the column names depends on the database
+        Map<String, Object> sortedResult = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        sortedResult.putAll(result);
+        return sortedResult.toString();
+    }
+
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         Map<String, String> params = new HashMap<>();
@@ -13,6 +13,7 @@
 package org.flowable.external.job.rest.service.api.acquire;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -43,6 +44,16 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When no jobs are available, wait at most this duration for jobs of the topic to be created before returning (long polling). "
+                    + "ISO-8601 duration format PnDTnHnMn.nS. By default the request returns immediately.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
+    @ApiModelProperty(value = "Only return the variables with the given names for the acquired jobs. An empty list means that no variables are returned. "
+            + "By default the variables configured for the topic are returned, or all variables if there are none configured.")
+    protected List<String> variableNames;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +101,20 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public void setVariableNames(List<String> variableNames) {
+        this.variableNames = variableNames;
+    }
 }
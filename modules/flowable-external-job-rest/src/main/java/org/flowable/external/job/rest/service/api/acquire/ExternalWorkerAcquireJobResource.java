@@ -12,10 +12,12 @@
  */
 package org.flowable.external.job.rest.service.api.acquire;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -34,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -47,6 +50,8 @@ import io.swagger.annotations.ApiResponses;
 @Api(tags = { "Acquire and Execute" })
 public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResource {
 
+    protected static final long ASYNC_REQUEST_TIMEOUT_MARGIN_MILLIS = 5000;
+
     protected final ExternalJobRestResponseFactory restResponseFactory;
 
     public ExternalWorkerAcquireJobResource(ExternalJobRestResponseFactory restResponseFactory) {
@@ -60,7 +65,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public DeferredResult<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,13 +86,41 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
-        if (StringUtils.isNotEmpty(request.getWorkerId())) {
+        if (request.getVariableNames() != null) {
+            acquireBuilder.variableNames(request.getVariableNames());
+        }
+
+        if (StringUtils.isEmpty(request.getWorkerId())) {
+            throw new FlowableIllegalArgumentException("workerId is required");
+        }
+
+        Duration waitTimeout = request.getWaitTimeout();
+        if (waitTimeout == null || waitTimeout.isZero()) {
             List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
                     .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
-        } else {
-            throw new FlowableIllegalArgumentException("workerId is required");
+            DeferredResult<List<AcquiredExternalWorkerJobResponse>> result = new DeferredResult<>();
+            result.setResult(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
+            return result;
+
+        } else if (waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be negative");
         }
+
+        // The request is released from the servlet thread while waiting for jobs.
+        // The async request timeout is a bit longer than the wait timeout, so that the final acquisition attempt can still complete the request.
+        DeferredResult<List<AcquiredExternalWorkerJobResponse>> result = new DeferredResult<>(
+                waitTimeout.toMillis() + ASYNC_REQUEST_TIMEOUT_MARGIN_MILLIS, Collections.emptyList());
+        acquireBuilder.acquireAndLockAsync(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries(), waitTimeout)
+                .whenComplete((acquiredJobs, throwable) -> {
+                    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                        result.setErrorResult(throwable.getCause());
+                    } else if (throwable != null) {
+                        result.setErrorResult(throwable);
+                    } else {
+                        result.setResult(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
+                    }
+                });
+        return result;
     }
 
     @ApiOperation(value = "Complete an External Worker Jobs", code = 204, tags = { "Acquire and Execute" })
@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -204,6 +206,54 @@ class ExternalWorkerAcquireJobResourceTest {
                         + "]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWithWaitTimeout() throws Exception {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT1S");
+
+        // No jobs are created while waiting
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody()).isEqualTo("[]");
+
+        // The waiting request is woken up when the job is created
+        request.put("waitTimeout", "PT30S");
+        CompletableFuture<ResponseEntity<String>> futureResponse = CompletableFuture
+                .supplyAsync(() -> restTemplate.postForEntity("/service/acquire/jobs", request, String.class));
+
+        Thread.sleep(200);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .start();
+
+        response = futureResponse.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody())
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    elementId: 'externalWorkerTask',"
+                        + "    lockOwner: 'testWorker1'"
+                        + "  }"
+                        + "]");
+
+        request.put("waitTimeout", "-PT1S");
+        response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Bad request',"
+                + "  exception: 'waitTimeout must not be negative'"
+                + "}");
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.cmmn")
     void acquireJobsReturnsCaseVariables() {
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -28,6 +29,8 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
 
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
+    List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
     
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
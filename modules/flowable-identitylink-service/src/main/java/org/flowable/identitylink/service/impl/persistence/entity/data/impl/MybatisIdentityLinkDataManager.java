@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -81,13 +82,19 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
         
-        // If the process instance has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+        // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId) || isRelatedEntitiesFetched(dbSqlSession, processInstanceId)) {
             return getListFromCache(identityLinkByProcessInstanceMatcher, processInstanceId);
         }
         
         return getList("selectIdentityLinksByProcessInstance", processInstanceId, identityLinkByProcessInstanceMatcher, true);
     }
+
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getListWithInClause("selectIdentityLinksByProcessInstances", processInstanceIds);
+    }
     
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType) {
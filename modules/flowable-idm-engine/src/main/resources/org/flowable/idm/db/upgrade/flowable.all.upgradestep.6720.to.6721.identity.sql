@@ -0,0 +1 @@
+update ACT_ID_PROPERTY set VALUE_ = '6.7.2.1' where NAME_ = 'schema.version';
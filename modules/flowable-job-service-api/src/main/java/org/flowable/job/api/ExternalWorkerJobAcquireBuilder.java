@@ -14,7 +14,9 @@ package org.flowable.job.api;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +59,20 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Only return the variables with the given names for the acquired jobs.
+     * An empty collection means that no variables are returned.
+     * When not set, the variable names configured for the topic are used, or all variables if there are none configured.
+     */
+    ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames);
+
+    /**
+     * Do not return any variables for the acquired jobs.
+     */
+    default ExternalWorkerJobAcquireBuilder withoutVariables() {
+        return variableNames(Collections.emptyList());
+    }
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +96,20 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id.
+     * When there are no jobs available, this waits for jobs of the topic to be created for at most the given wait timeout (long polling).
+     * The returned future completes with the acquired jobs, or with an empty list when no jobs could be acquired within the wait timeout.
+     * No thread is blocked while waiting.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     * @param waitTimeout the maximum time to wait for jobs
+     */
+    default CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries,
+            Duration waitTimeout) {
+        return CompletableFuture.completedFuture(acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+    }
+
 }
@@ -13,6 +13,10 @@
 
 package org.flowable.job.service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,6 +30,23 @@ public interface InternalJobManager {
     void registerScopedInternalJobManager(String scopeType, InternalJobManager internalJobManager);
 
     VariableScope resolveVariableScope(Job job);
+
+    /**
+     * Resolves the variables with the given names for the given jobs.
+     * The variables of a job are the ones that {@link VariableScope#getVariables(Collection, boolean)} returns for the variable scope of the job.
+     *
+     * @return the resolved variables mapped by job id, jobs without a variable scope have no entry
+     */
+    default Map<String, Map<String, Object>> resolveVariables(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        for (Job job : jobs) {
+            VariableScope variableScope = resolveVariableScope(job);
+            if (variableScope != null) {
+                variablesByJobId.put(job.getId(), variableScope.getVariables(variableNames, false));
+            }
+        }
+        return variablesByJobId;
+    }
     
     boolean handleJobInsert(Job job);
     
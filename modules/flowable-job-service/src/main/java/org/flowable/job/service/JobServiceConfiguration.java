@@ -13,6 +13,7 @@
 package org.flowable.job.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +24,9 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.NoopFlowableTracer;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -107,6 +111,20 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected InternalJobCompatibilityManager internalJobCompatibilityManager;
     protected InternalJobParentStateResolver jobParentStateResolver;
 
+    /**
+     * Wakes up external worker job acquisitions that wait for jobs (long polling) when external worker jobs are created.
+     * When null, the acquisitions don't wait.
+     */
+    protected ExternalWorkerJobAcquireNotifier externalWorkerJobAcquireNotifier = new ExternalWorkerJobAcquireNotifier();
+
+    /**
+     * The names of the variables that are returned for acquired external worker jobs, per topic.
+     * Used when the acquisition does not specify the variable names. For topics without an entry, all variables are returned.
+     */
+    protected Map<String, Collection<String>> externalWorkerJobVariableNamesByTopic;
+
+    protected FlowableTracer tracer = NoopFlowableTracer.INSTANCE;
+
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
@@ -385,6 +403,32 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.internalJobManager = internalJobManager;
     }
     
+    public ExternalWorkerJobAcquireNotifier getExternalWorkerJobAcquireNotifier() {
+        return externalWorkerJobAcquireNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireNotifier(ExternalWorkerJobAcquireNotifier externalWorkerJobAcquireNotifier) {
+        this.externalWorkerJobAcquireNotifier = externalWorkerJobAcquireNotifier;
+        return this;
+    }
+
+    public Map<String, Collection<String>> getExternalWorkerJobVariableNamesByTopic() {
+        return externalWorkerJobVariableNamesByTopic;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobVariableNamesByTopic(Map<String, Collection<String>> externalWorkerJobVariableNamesByTopic) {
+        this.externalWorkerJobVariableNamesByTopic = externalWorkerJobVariableNamesByTopic;
+        return this;
+    }
+
+    public FlowableTracer getTracer() {
+        return tracer;
+    }
+
+    public void setTracer(FlowableTracer tracer) {
+        this.tracer = tracer;
+    }
+
     public InternalJobCompatibilityManager getInternalJobCompatibilityManager() {
         return internalJobCompatibilityManager;
     }
@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -40,6 +41,7 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Collection<String> variableNames;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,6 +111,16 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("variableNames is null");
+        }
+
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
@@ -123,6 +135,21 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return Collections.emptyList();
     }
 
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries,
+            Duration waitTimeout) {
+        if (waitTimeout == null || waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be null or negative");
+        }
+
+        ExternalWorkerJobAcquireNotifier notifier = jobServiceConfiguration.getExternalWorkerJobAcquireNotifier();
+        if (notifier == null) {
+            return CompletableFuture.completedFuture(acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+        }
+
+        return notifier.acquireOrWait(topic, waitTimeout, () -> acquireAndLock(numberOfTasks, workerId, numberOfRetries));
+    }
+
     public String getTopic() {
         return topic;
     }
@@ -146,4 +173,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
 }
@@ -0,0 +1,225 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of external worker job acquisitions that are waiting for jobs of a topic (long polling)
+ * and wakes them up when external worker jobs for that topic are created on this node.
+ *
+ * A waiting acquisition that is not woken up does one final acquisition attempt when its wait timeout passes,
+ * which picks up jobs that were created on other nodes.
+ *
+ * The threads that do the acquisition attempts are only created when the first acquisition starts waiting.
+ */
+public class ExternalWorkerJobAcquireNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalWorkerJobAcquireNotifier.class);
+
+    protected final Map<String, Queue<WaitingAcquisition>> waitingAcquisitionsByTopic = new ConcurrentHashMap<>();
+
+    protected int threadPoolSize = 2;
+    protected String threadNamingPattern = "flowable-external-worker-acquire-%d";
+
+    protected volatile ScheduledExecutorService executorService;
+    protected volatile boolean shutdown;
+
+    /**
+     * Acquires jobs with the given acquisition. When no jobs are acquired, the acquisition is repeated when jobs for the topic are created
+     * on this node, until jobs are acquired or the wait timeout passes.
+     *
+     * @return a future that completes with the acquired jobs, or with an empty list when no jobs were acquired within the wait timeout
+     */
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireOrWait(String topic, Duration waitTimeout,
+            Supplier<List<AcquiredExternalWorkerJob>> acquisition) {
+
+        WaitingAcquisition waitingAcquisition = new WaitingAcquisition(acquisition);
+        if (shutdown || waitTimeout.isZero() || waitTimeout.isNegative()) {
+            waitingAcquisition.acquireOrComplete();
+            return waitingAcquisition.future;
+        }
+
+        // The acquisition is registered before the first attempt, so that jobs created during the first attempt are not missed
+        Queue<WaitingAcquisition> waitingAcquisitions = waitingAcquisitionsByTopic.computeIfAbsent(topic, key -> new ConcurrentLinkedQueue<>());
+        waitingAcquisitions.add(waitingAcquisition);
+
+        if (waitingAcquisition.acquire()) {
+            waitingAcquisitions.remove(waitingAcquisition);
+            return waitingAcquisition.future;
+        }
+
+        try {
+            ScheduledFuture<?> timeoutFuture = getExecutorService().schedule(() -> {
+                waitingAcquisitions.remove(waitingAcquisition);
+                waitingAcquisition.acquireOrComplete();
+            }, waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            waitingAcquisition.future.whenComplete((acquiredJobs, throwable) -> timeoutFuture.cancel(false));
+
+        } catch (RejectedExecutionException e) {
+            // Shut down in the meantime
+            waitingAcquisitions.remove(waitingAcquisition);
+            waitingAcquisition.complete(Collections.emptyList());
+        }
+
+        return waitingAcquisition.future;
+    }
+
+    /**
+     * Wakes up the acquisitions that are waiting for jobs of the given topics.
+     *
+     * @param numberOfJobsByTopic the number of created jobs per topic, at most that number of waiting acquisitions will acquire jobs
+     */
+    public void jobsCreated(Map<String, Integer> numberOfJobsByTopic) {
+        for (Map.Entry<String, Integer> entry : numberOfJobsByTopic.entrySet()) {
+            Queue<WaitingAcquisition> waitingAcquisitions = waitingAcquisitionsByTopic.get(entry.getKey());
+            if (waitingAcquisitions != null && !waitingAcquisitions.isEmpty() && !shutdown) {
+                try {
+                    getExecutorService().execute(() -> wakeUp(waitingAcquisitions, entry.getValue()));
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("Could not wake up waiting external worker job acquisitions for topic {}", entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    protected void wakeUp(Queue<WaitingAcquisition> waitingAcquisitions, int numberOfJobs) {
+        // Acquisitions that don't get any of the new jobs (e.g. because they are for a different tenant) are put back at the end of the queue,
+        // every waiting acquisition is tried at most once
+        int remainingAttempts = waitingAcquisitions.size();
+        int remainingJobs = numberOfJobs;
+        while (remainingJobs > 0 && remainingAttempts > 0) {
+            WaitingAcquisition waitingAcquisition = waitingAcquisitions.poll();
+            if (waitingAcquisition == null) {
+                break;
+            }
+
+            remainingAttempts--;
+            if (waitingAcquisition.acquire()) {
+                remainingJobs--;
+            } else {
+                waitingAcquisitions.add(waitingAcquisition);
+            }
+        }
+    }
+
+    /**
+     * Stops the threads of this notifier. Acquisitions that are still waiting complete with an empty list.
+     */
+    public void shutdown() {
+        shutdown = true;
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+
+        for (Queue<WaitingAcquisition> waitingAcquisitions : waitingAcquisitionsByTopic.values()) {
+            WaitingAcquisition waitingAcquisition;
+            while ((waitingAcquisition = waitingAcquisitions.poll()) != null) {
+                waitingAcquisition.complete(Collections.emptyList());
+            }
+        }
+    }
+
+    protected ScheduledExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                            .namingPattern(threadNamingPattern)
+                            .daemon(true)
+                            .build();
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadPoolSize, threadFactory);
+                    executor.setRemoveOnCancelPolicy(true);
+                    executorService = executor;
+                }
+            }
+        }
+        return executorService;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+    protected static class WaitingAcquisition {
+
+        protected final Supplier<List<AcquiredExternalWorkerJob>> acquisition;
+        protected final CompletableFuture<List<AcquiredExternalWorkerJob>> future = new CompletableFuture<>();
+
+        protected WaitingAcquisition(Supplier<List<AcquiredExternalWorkerJob>> acquisition) {
+            this.acquisition = acquisition;
+        }
+
+        /**
+         * @return true if the acquisition is done (jobs were acquired or the acquisition failed), false if it should keep waiting
+         */
+        protected synchronized boolean acquire() {
+            if (future.isDone()) {
+                return true;
+            }
+
+            try {
+                List<AcquiredExternalWorkerJob> acquiredJobs = acquisition.get();
+                if (acquiredJobs != null && !acquiredJobs.isEmpty()) {
+                    future.complete(acquiredJobs);
+                    return true;
+                }
+                return false;
+
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return true;
+            }
+        }
+
+        protected synchronized void acquireOrComplete() {
+            if (!acquire()) {
+                future.complete(Collections.emptyList());
+            }
+        }
+
+        protected synchronized void complete(List<AcquiredExternalWorkerJob> acquiredJobs) {
+            future.complete(acquiredJobs);
+        }
+    }
+}
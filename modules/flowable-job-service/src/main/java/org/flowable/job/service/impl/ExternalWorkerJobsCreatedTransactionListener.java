@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * A {@link TransactionListener} that notifies the {@link ExternalWorkerJobAcquireNotifier} of the external worker jobs
+ * created in a transaction, after that transaction is committed.
+ */
+public class ExternalWorkerJobsCreatedTransactionListener implements TransactionListener {
+
+    protected final ExternalWorkerJobAcquireNotifier notifier;
+    protected final Map<String, Integer> numberOfJobsByTopic = new HashMap<>();
+
+    public ExternalWorkerJobsCreatedTransactionListener(ExternalWorkerJobAcquireNotifier notifier) {
+        this.notifier = notifier;
+    }
+
+    public void addJob(String topic) {
+        numberOfJobsByTopic.merge(topic, 1, Integer::sum);
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        notifier.jobsCreated(numberOfJobsByTopic);
+    }
+}
@@ -509,6 +509,26 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getTimerLockForceAcquireAfter();
         }
+
+        @Override
+        public Duration getLookAheadTime() {
+            return configuration.getTimerJobLookAheadTime();
+        }
+
+        @Override
+        public Duration getTimerWheelTickDuration() {
+            return configuration.getTimerWheelTickDuration();
+        }
+
+        @Override
+        public int getTimerWheelSize() {
+            return configuration.getTimerWheelSize();
+        }
+
+        @Override
+        public boolean isDirectExecutionEnabled() {
+            return configuration.isTimerJobDirectExecutionEnabled();
+        }
     }
 
     public class AcquireAsyncJobsDueRunnableConfiguration implements AcquireJobsRunnableConfiguration {
@@ -60,4 +60,26 @@ public interface AcquireJobsRunnableConfiguration {
     Duration getLockPollRate();
 
     Duration getLockForceAcquireAfter();
+
+    /**
+     * The time within which not yet due jobs are acquired as well, null when only due jobs are acquired.
+     */
+    default Duration getLookAheadTime() {
+        return null;
+    }
+
+    default Duration getTimerWheelTickDuration() {
+        return Duration.ofMillis(100);
+    }
+
+    default int getTimerWheelSize() {
+        return 64;
+    }
+
+    /**
+     * Whether acquired jobs are executed directly, without first being moved to executable jobs.
+     */
+    default boolean isDirectExecutionEnabled() {
+        return false;
+    }
 }
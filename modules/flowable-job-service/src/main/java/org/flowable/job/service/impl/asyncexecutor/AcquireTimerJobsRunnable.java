@@ -12,11 +12,15 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -24,14 +28,20 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithGlobalAcquireLockCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.ExecuteTimerJobInPlaceCmd;
+import org.flowable.job.service.impl.cmd.MoveAcquiredTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.MoveFailedTimerJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +95,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected ExecutorService moveTimerJobsExecutorService;
 
+    // Only used when a look-ahead time is configured (see AcquireJobsRunnableConfiguration#getLookAheadTime())
+    protected HierarchicalTimerWheel<TimerJobEntity> timerWheel;
+    protected ScheduledExecutorService timerWheelExecutorService;
+
     protected CommandExecutor commandExecutor;
 
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int moveExecutorPoolSize) {
@@ -114,6 +128,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         this.commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        if (configuration.getLookAheadTime() != null) {
+            createTimerWheel(threadName);
+        }
+
         long millisToWait = 0L;
         while (!isInterrupted) {
             millisToWait = executeAcquireAndMoveCycle();
@@ -124,6 +142,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         }
 
+        if (timerWheelExecutorService != null) {
+            shutdownTimerWheel();
+        }
+
         if (moveTimerJobsExecutorService != null) {
             moveTimerJobsExecutorService.shutdown();
         }
@@ -148,6 +170,76 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.moveTimerJobsExecutorService = executor;
     }
 
+    protected void createTimerWheel(String threadName) {
+        long tickDurationInMillis = configuration.getTimerWheelTickDuration().toMillis();
+        this.timerWheel = new HierarchicalTimerWheel<>(tickDurationInMillis, configuration.getTimerWheelSize(),
+            configuration.getLookAheadTime().toMillis(), getCurrentTimeInMillis());
+
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+            .namingPattern(threadName + "-wheel")
+            .build();
+        this.timerWheelExecutorService = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.timerWheelExecutorService.scheduleAtFixedRate(this::moveDueTimerJobsFromTimerWheel, tickDurationInMillis, tickDurationInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    protected void moveDueTimerJobsFromTimerWheel() {
+        try {
+            List<TimerJobEntity> dueTimerJobs = timerWheel.advance(getCurrentTimeInMillis());
+            if (!dueTimerJobs.isEmpty()) {
+                moveTimerJobsExecutorService.execute(() -> {
+                    executeMoveDueTimerJobsFromTimerWheel(dueTimerJobs);
+                });
+            }
+
+        } catch (Throwable t) {
+            // An exception would cancel the scheduled ticks
+            LOGGER.warn("exception while moving due timer jobs from the timer wheel for engine {}. Exception message: {}", getEngineName(), t.getMessage(), t);
+        }
+    }
+
+    protected void executeMoveDueTimerJobsFromTimerWheel(List<TimerJobEntity> timerJobs) {
+        // The timer jobs were acquired a while ago, they are fetched again when they are moved or executed
+        if (configuration.isDirectExecutionEnabled() && asyncExecutor.getTaskExecutor() != null) {
+            executeTimerJobsInPlace(timerJobs);
+        } else {
+            moveAcquiredTimerJobsToExecutableJobs(timerJobs);
+        }
+    }
+
+    protected void shutdownTimerWheel() {
+        timerWheelExecutorService.shutdownNow();
+        try {
+            timerWheelExecutorService.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // The timer jobs that are not due yet are unlocked, so another node (or this node after a restart) can acquire them again
+        unlockTimerJobs(timerWheel.clear());
+
+        timerWheelExecutorService = null;
+        timerWheel = null;
+    }
+
+    protected void scheduleTimerJobs(List<TimerJobEntity> timerJobs) {
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (timerJob.getDuedate() == null || !timerWheel.add(timerJob, timerJob.getDuedate().getTime())) {
+                dueTimerJobs.add(timerJob);
+            }
+        }
+
+        if (!dueTimerJobs.isEmpty()) {
+            moveTimerJobsExecutorService.execute(() -> {
+                executeMoveTimerJobsToExecutableJobs(dueTimerJobs);
+            });
+        }
+    }
+
+    protected long getCurrentTimeInMillis() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
     protected long executeAcquireAndMoveCycle() {
         lifecycleListener.startAcquiring(getEngineName(), asyncExecutor.getMaxTimerJobsPerAcquisition());
 
@@ -163,7 +255,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 // In the move phase, other nodes can already acquire timer jobs themselves (as the lock is free).
                 try {
                     timerJobs = lockManager.waitForLockRunAndRelease(configuration.getLockWaitTime(), () -> {
-                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor));
+                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor, configuration.getLookAheadTime()));
                     });
 
                 } catch (Exception e) {
@@ -175,11 +267,14 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 }
 
             } else {
-                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, configuration.getLookAheadTime()));
 
             }
 
-            if (!timerJobs.isEmpty()) {
+            if (!timerJobs.isEmpty() && timerWheel != null) {
+                scheduleTimerJobs(timerJobs);
+
+            } else if (!timerJobs.isEmpty()) {
                 List<TimerJobEntity> finalTimerJobs = timerJobs;
                 moveTimerJobsExecutorService.execute(() -> {
                     executeMoveTimerJobsToExecutableJobs(finalTimerJobs);
@@ -221,12 +316,103 @@ public class AcquireTimerJobsRunnable implements Runnable {
     }
 
     protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
-        try {
-            if (configuration.isGlobalAcquireLockEnabled()) {
-                commandExecutor.execute(new BulkMoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
-            } else {
-                commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+        if (configuration.isDirectExecutionEnabled() && asyncExecutor.getTaskExecutor() != null) {
+            executeTimerJobsInPlace(timerJobs);
+        } else {
+            moveTimerJobsToExecutableJobs(timerJobs);
+        }
+    }
+
+    protected void executeTimerJobsInPlace(List<TimerJobEntity> timerJobs) {
+        for (int i = 0; i < timerJobs.size(); i++) {
+            TimerJobEntity timerJob = timerJobs.get(i);
+            try {
+                asyncExecutor.getTaskExecutor().execute(() -> executeTimerJobInPlace(timerJob));
+
+            } catch (RejectedExecutionException e) {
+                // The async executor queue is full, the remaining timer jobs are moved to executable jobs
+                moveAcquiredTimerJobsToExecutableJobs(new ArrayList<>(timerJobs.subList(i, timerJobs.size())));
+                return;
             }
+        }
+    }
+
+    protected void executeTimerJobInPlace(TimerJobEntity timerJob) {
+        try {
+            commandExecutor.execute(new ExecuteTimerJobInPlaceCmd(timerJob.getId(), asyncExecutor.getLockOwner(), asyncExecutor.getJobServiceConfiguration()));
+
+        } catch (Throwable t) {
+            LOGGER.debug("Executing timer job {} in place failed for engine {}, handling it as a failed executable job. Exception message: {}",
+                timerJob.getId(), getEngineName(), t.getMessage());
+
+            handleFailedTimerJobInPlace(timerJob, t);
+        }
+    }
+
+    protected void handleFailedTimerJobInPlace(TimerJobEntity timerJob, Throwable exception) {
+        // The timer job is fetched again, it could have been deleted or changed since it was acquired
+        JobEntity job;
+        try {
+            job = commandExecutor.execute(new MoveFailedTimerJobToExecutableJobCmd(timerJob.getId(), asyncExecutor.getLockOwner(),
+                    asyncExecutor.getJobServiceConfiguration()));
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+            unlockTimerJobs(Collections.singletonList(timerJob));
+            return;
+
+        } catch (Throwable t) {
+            LOGGER.warn("exception during failed timer job move for engine {}. Exception message: {}", getEngineName(), t.getMessage(), t);
+            unlockTimerJobs(Collections.singletonList(timerJob));
+            return;
+        }
+
+        if (job == null) {
+            return;
+        }
+
+        // Same handling as when the executable job fails in the async executor,
+        // i.e. the failed job command decrements the retries and stores the exception
+        AsyncRunnableExecutionExceptionHandler exceptionHandler = null;
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            exceptionHandler = ((AbstractAsyncExecutor) asyncExecutor).getAsyncRunnableExecutionExceptionHandler();
+        }
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        ExecuteAsyncRunnable executeAsyncRunnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), exceptionHandler);
+        try {
+            executeAsyncRunnable.handleFailedJob(exception);
+
+        } catch (Throwable t) {
+            // The executable job stays locked until the lock expires, after which it is acquired again
+            LOGGER.warn("exception while handling the failure of timer job {} for engine {}. Exception message: {}", timerJob.getId(), getEngineName(),
+                    t.getMessage(), t);
+        }
+    }
+
+    protected void moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        if (configuration.isGlobalAcquireLockEnabled()) {
+            executeMoveTimerJobsCommand(new BulkMoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs), timerJobs);
+        } else {
+            executeMoveTimerJobsCommand(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs), timerJobs);
+        }
+    }
+
+    /**
+     * Moves timer jobs that could have been changed since they were acquired, e.g. deleted when their process instance was cancelled.
+     */
+    protected void moveAcquiredTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        List<String> timerJobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            timerJobIds.add(timerJob.getId());
+        }
+
+        executeMoveTimerJobsCommand(new MoveAcquiredTimerJobsToExecutableJobsCmd(jobManager, timerJobIds, asyncExecutor.getLockOwner(),
+                configuration.isGlobalAcquireLockEnabled(), asyncExecutor.getJobServiceConfiguration()), timerJobs);
+    }
+
+    protected void executeMoveTimerJobsCommand(Command<Void> moveCommand, List<TimerJobEntity> timerJobs) {
+        try {
+            commandExecutor.execute(moveCommand);
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             logOptimisticLockingException(optimisticLockingException);
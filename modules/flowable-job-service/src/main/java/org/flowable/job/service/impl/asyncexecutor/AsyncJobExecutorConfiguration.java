@@ -142,6 +142,37 @@ public class AsyncJobExecutorConfiguration {
      */
     private Duration timerLockForceAcquireAfter = Duration.ofMinutes(10);
 
+    /**
+     * When set, the timer job acquisition also acquires the timer jobs that become due within this time.
+     * The acquired timer jobs that are not due yet are kept in an in-memory {@link HierarchicalTimerWheel},
+     * which moves them to executable jobs when they become due (with the precision of the {@link #timerWheelTickDuration}),
+     * instead of waiting for the next acquisition cycle.
+     * Such timer jobs are locked until their due date plus the {@link #timerLockTime}, so when this node goes down,
+     * they become available for other nodes once the lock has expired.
+     * <p>
+     * The look-ahead time should be larger than the {@link #defaultTimerJobAcquireWaitTime}. By default, no look-ahead is done.
+     */
+    private Duration timerJobLookAheadTime;
+    /**
+     * The precision of the timer wheel used when a {@link #timerJobLookAheadTime} is set.
+     */
+    private Duration timerWheelTickDuration = Duration.ofMillis(100);
+    /**
+     * The number of slots per level of the timer wheel used when a {@link #timerJobLookAheadTime} is set.
+     */
+    private int timerWheelSize = 64;
+
+    /**
+     * Whether acquired timer jobs that are due are executed directly by the async executor, in the same transaction in which
+     * the timer job is removed, instead of first being moved to an executable job that needs to be acquired and locked again.
+     * This avoids the insert and delete of the executable job.
+     * <p>
+     * When such an execution fails, the timer job is moved to an executable job the regular way,
+     * which then takes care of the retries (i.e. a failing timer job is executed once more than its number of retries).
+     * The timer job is also moved the regular way when the async executor queue is full.
+     */
+    private boolean timerJobDirectExecutionEnabled;
+
     /**
      * The time the reset expired jobs thread should wait before executing the next reset logic.
      * Expired jobs are jobs that were locked (a lock owner + time was written by some executor, but the job was never completed).
@@ -382,6 +413,38 @@ public class AsyncJobExecutorConfiguration {
         this.timerLockForceAcquireAfter = timerLockForceAcquireAfter;
     }
 
+    public Duration getTimerJobLookAheadTime() {
+        return timerJobLookAheadTime;
+    }
+
+    public void setTimerJobLookAheadTime(Duration timerJobLookAheadTime) {
+        this.timerJobLookAheadTime = timerJobLookAheadTime;
+    }
+
+    public Duration getTimerWheelTickDuration() {
+        return timerWheelTickDuration;
+    }
+
+    public void setTimerWheelTickDuration(Duration timerWheelTickDuration) {
+        this.timerWheelTickDuration = timerWheelTickDuration;
+    }
+
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
+    public boolean isTimerJobDirectExecutionEnabled() {
+        return timerJobDirectExecutionEnabled;
+    }
+
+    public void setTimerJobDirectExecutionEnabled(boolean timerJobDirectExecutionEnabled) {
+        this.timerJobDirectExecutionEnabled = timerJobDirectExecutionEnabled;
+    }
+
     public Duration getResetExpiredJobsInterval() {
         return resetExpiredJobsInterval;
     }
@@ -827,6 +827,7 @@ public class DefaultJobManager implements JobManager {
         } else {
             copyToJob.setCorrelationId(jobServiceConfiguration.getIdGenerator().getNextId());
         }
+        copyToJob.setTraceContext(copyFromJob.getTraceContext());
 
         return copyToJob;
     }
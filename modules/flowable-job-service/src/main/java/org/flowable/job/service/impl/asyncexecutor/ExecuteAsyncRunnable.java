@@ -20,6 +20,9 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.tracing.FlowableSpan;
+import org.flowable.common.engine.impl.tracing.FlowableTracer;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -106,13 +109,11 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         if (job instanceof AbstractRuntimeJobEntity) {
 
-            boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
-            boolean executeJob = true;
-            if (lockingNeeded) {
-                executeJob = lockJob();
-            }
-            if (executeJob) {
-                executeJob(lockingNeeded);
+            FlowableTracer tracer = jobServiceConfiguration.getTracer();
+            if (tracer.isActive()) {
+                executeRuntimeJobWithSpan(tracer);
+            } else {
+                executeRuntimeJob();
             }
 
         } else { // history jobs
@@ -122,6 +123,43 @@ public class ExecuteAsyncRunnable implements Runnable {
 
     }
 
+    protected void executeRuntimeJob() {
+        boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+        boolean executeJob = true;
+        if (lockingNeeded) {
+            executeJob = lockJob();
+        }
+        if (executeJob) {
+            executeJob(lockingNeeded);
+        }
+    }
+
+    protected void executeRuntimeJobWithSpan(FlowableTracer tracer) {
+        AbstractRuntimeJobEntity runtimeJob = (AbstractRuntimeJobEntity) job;
+        // The job execution continues the trace of the span that created the job
+        FlowableSpan span = tracer.startSpan("job " + runtimeJob.getJobHandlerType(), runtimeJob.getTraceContext());
+        span.setAttribute("flowable.job.id", runtimeJob.getId());
+        span.setAttribute("flowable.job.handlerType", runtimeJob.getJobHandlerType());
+        span.setAttribute("flowable.element.id", runtimeJob.getElementId());
+        span.setAttribute("flowable.element.name", runtimeJob.getElementName());
+        span.setAttribute("flowable.processInstanceId", runtimeJob.getProcessInstanceId());
+        span.setAttribute("flowable.scopeId", runtimeJob.getScopeId());
+        span.setAttribute("flowable.scopeType", runtimeJob.getScopeType());
+
+        TracingContext.pushSpan(span);
+        try {
+            executeRuntimeJob();
+
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            throw e;
+
+        } finally {
+            TracingContext.popSpan();
+            span.end();
+        }
+    }
+
     protected void executeJob(final boolean unlock) {
         try {
             jobServiceConfiguration.getCommandExecutor().execute(
@@ -221,4 +259,15 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Returns the job to execute, or null if the runnable was created for a job id only.
+     */
+    public JobInfo getJob() {
+        return job;
+    }
+
 }
@@ -0,0 +1,242 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hierarchical timer wheel, used to keep timer jobs that are not due yet in memory until their due time.
+ * <p>
+ * The lowest level has {@link #wheelSize} slots of one tick each, every next level has {@link #wheelSize} slots
+ * that each span a complete rotation of the level below. An element is put in the lowest level that can hold its due time.
+ * When the wheel advances into the span of a slot of a higher level, the elements of that slot are redistributed over the lower levels.
+ * Adding an element and advancing the wheel by one tick are therefore constant time operations, regardless of the number of elements.
+ * <p>
+ * Elements are returned by {@link #advance(long)} once the time of the wheel has passed their due time,
+ * i.e. they are returned at most one tick after their due time.
+ * <p>
+ * This class is thread-safe.
+ */
+public class HierarchicalTimerWheel<T> {
+
+    protected final long tickDurationInMillis;
+    protected final int wheelSize;
+    protected final List<List<Entry<T>>>[] levels;
+    protected final long[] slotDurations;
+
+    protected long currentTime;
+    protected int size;
+
+    /**
+     * @param tickDurationInMillis the precision of the wheel
+     * @param wheelSize the number of slots of every level
+     * @param capacityInMillis the maximum time in the future (relative to the time of the wheel) the wheel needs to hold elements for,
+     *                         elements that are due later are kept in an overflow list until they fit in the wheel
+     * @param startTimeInMillis the start time of the wheel
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimerWheel(long tickDurationInMillis, int wheelSize, long capacityInMillis, long startTimeInMillis) {
+        if (tickDurationInMillis <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("The wheel size must be at least 2");
+        }
+
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.wheelSize = wheelSize;
+
+        int nrOfLevels = 1;
+        long levelCapacity = tickDurationInMillis * wheelSize;
+        while (levelCapacity < capacityInMillis && levelCapacity <= Long.MAX_VALUE / wheelSize) {
+            levelCapacity *= wheelSize;
+            nrOfLevels++;
+        }
+
+        // The extra level holds the overflow
+        this.levels = new List[nrOfLevels + 1];
+        this.slotDurations = new long[nrOfLevels];
+        long slotDuration = tickDurationInMillis;
+        for (int level = 0; level < nrOfLevels; level++) {
+            List<List<Entry<T>>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels[level] = slots;
+            slotDurations[level] = slotDuration;
+            slotDuration *= wheelSize;
+        }
+        levels[nrOfLevels] = Collections.singletonList(new ArrayList<>());
+
+        this.currentTime = startTimeInMillis - (startTimeInMillis % tickDurationInMillis);
+    }
+
+    /**
+     * Adds the element to the wheel.
+     *
+     * @return false if the element is already due (i.e. its due time is before the time of the wheel), in which case it is not added
+     */
+    public synchronized boolean add(T element, long dueTimeInMillis) {
+        if (dueTimeInMillis < currentTime) {
+            return false;
+        }
+
+        addEntry(new Entry<>(element, dueTimeInMillis));
+        size++;
+        return true;
+    }
+
+    protected void addEntry(Entry<T> entry) {
+        for (int level = 0; level < slotDurations.length; level++) {
+            long dueSlot = entry.dueTime / slotDurations[level];
+            long currentSlot = currentTime / slotDurations[level];
+            if (dueSlot - currentSlot < wheelSize) {
+                levels[level].get((int) (dueSlot % wheelSize)).add(entry);
+                return;
+            }
+        }
+
+        levels[slotDurations.length].get(0).add(entry);
+    }
+
+    /**
+     * Advances the wheel up to the given time.
+     *
+     * @return the elements that became due, ordered by the tick in which they became due
+     */
+    public synchronized List<T> advance(long timeInMillis) {
+        if (timeInMillis < currentTime + tickDurationInMillis) {
+            return Collections.emptyList();
+        }
+
+        List<T> dueElements = new ArrayList<>();
+        long targetTime = timeInMillis - (timeInMillis % tickDurationInMillis);
+        long highestSlotDuration = slotDurations[slotDurations.length - 1];
+
+        if (size == 0 || (targetTime - currentTime) / highestSlotDuration >= wheelSize) {
+            // Nothing to do or the time jumped past everything the wheel can hold (e.g. a changed clock): no need to advance tick by tick
+            for (List<List<Entry<T>>> slots : levels) {
+                for (List<Entry<T>> slot : slots) {
+                    removeDueEntries(slot, targetTime, dueElements);
+                }
+            }
+            currentTime = targetTime;
+            redistributeOverflow(dueElements);
+            return dueElements;
+        }
+
+        while (currentTime < targetTime) {
+            // Everything in the slot of the current tick is due once the time moves past that tick
+            List<Entry<T>> currentSlot = levels[0].get((int) ((currentTime / tickDurationInMillis) % wheelSize));
+            removeDueEntries(currentSlot, Long.MAX_VALUE, dueElements);
+
+            currentTime += tickDurationInMillis;
+
+            for (int level = slotDurations.length - 1; level > 0; level--) {
+                if (currentTime % slotDurations[level] == 0) {
+                    List<Entry<T>> slot = levels[level].get((int) ((currentTime / slotDurations[level]) % wheelSize));
+                    if (!slot.isEmpty()) {
+                        List<Entry<T>> entries = new ArrayList<>(slot);
+                        slot.clear();
+                        for (Entry<T> entry : entries) {
+                            addEntry(entry);
+                        }
+                    }
+                }
+            }
+
+            if (currentTime % highestSlotDuration == 0) {
+                redistributeOverflow(dueElements);
+            }
+        }
+
+        return dueElements;
+    }
+
+    protected void removeDueEntries(List<Entry<T>> slot, long dueBefore, List<T> dueElements) {
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        List<Entry<T>> remaining = new ArrayList<>();
+        for (Entry<T> entry : slot) {
+            if (entry.dueTime < dueBefore) {
+                dueElements.add(entry.element);
+                size--;
+            } else {
+                remaining.add(entry);
+            }
+        }
+        slot.clear();
+        slot.addAll(remaining);
+    }
+
+    protected void redistributeOverflow(List<T> dueElements) {
+        List<Entry<T>> overflow = levels[slotDurations.length].get(0);
+        if (overflow.isEmpty()) {
+            return;
+        }
+
+        List<Entry<T>> entries = new ArrayList<>(overflow);
+        overflow.clear();
+        for (Entry<T> entry : entries) {
+            if (entry.dueTime < currentTime) {
+                dueElements.add(entry.element);
+                size--;
+            } else {
+                addEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the wheel.
+     *
+     * @return the removed elements
+     */
+    public synchronized List<T> clear() {
+        List<T> elements = new ArrayList<>(size);
+        for (List<List<Entry<T>>> slots : levels) {
+            for (List<Entry<T>> slot : slots) {
+                for (Entry<T> entry : slot) {
+                    elements.add(entry.element);
+                }
+                slot.clear();
+            }
+        }
+        size = 0;
+        return elements;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getCurrentTime() {
+        return currentTime;
+    }
+
+    protected static class Entry<T> {
+
+        protected final T element;
+        protected final long dueTime;
+
+        protected Entry(T element, long dueTime) {
+            this.element = element;
+            this.dueTime = dueTime;
+        }
+    }
+
+}
@@ -0,0 +1,440 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi tenant {@link AsyncExecutor} that shares job acquisition between tenants and schedules the job execution fairly across tenants.
+ *
+ * Tenants are grouped using a {@link TenantAcquisitionGroupResolver} (typically by DataSource). For each group there is only one set of
+ * acquire threads, running in the context of one of the tenants of the group. As the acquire queries don't filter on tenant,
+ * they pick up the jobs of all the tenants stored in the same database schema. The acquired jobs are executed in the context of their own tenant.
+ *
+ * Acquired jobs are not handed to the thread pool directly, but go through a {@link TenantFairAsyncTaskExecutor}:
+ * jobs are queued per tenant and dispatched using weighted fair queuing, with a cap on the number of concurrently executing jobs per tenant.
+ * That way, a tenant with a lot of jobs can't starve the other tenants. Unless configured otherwise, the number of jobs handed to the thread pool
+ * at the same time is the max pool size of the {@link DefaultAsyncTaskExecutor}. Jobs that are rejected by the thread pool after being queued,
+ * or that are still queued when the executor is shut down, are unacquired so they can be acquired again.
+ */
+public class SharedAcquisitionAsyncExecutor extends DefaultAsyncJobExecutor implements TenantAwareAsyncExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedAcquisitionAsyncExecutor.class);
+
+    protected TenantInfoHolder tenantInfoHolder;
+    protected TenantAcquisitionGroupResolver acquisitionGroupResolver;
+
+    protected Map<String, Object> tenantAcquisitionGroups = new ConcurrentHashMap<>();
+    protected Map<Object, AcquisitionGroup> acquisitionGroups = new HashMap<>();
+
+    protected Map<String, Integer> tenantWeights = new HashMap<>();
+    protected int defaultTenantWeight = 1;
+    protected Map<String, Integer> tenantMaxConcurrentJobs = new HashMap<>();
+    protected int defaultMaxConcurrentJobsPerTenant = 4;
+    /**
+     * The maximum number of jobs handed to the task executor at the same time.
+     * 0 means the max pool size of the task executor, which needs to be a {@link DefaultAsyncTaskExecutor} in that case.
+     */
+    protected int maxConcurrentJobs = 0;
+    protected int maxQueuedJobsPerTenant = 50;
+    protected int queueSize = 100;
+
+    protected boolean unwrapTaskExecutorOnStop;
+
+    public SharedAcquisitionAsyncExecutor(TenantInfoHolder tenantInfoHolder) {
+        this(tenantInfoHolder, null);
+    }
+
+    public SharedAcquisitionAsyncExecutor(TenantInfoHolder tenantInfoHolder, TenantAcquisitionGroupResolver acquisitionGroupResolver) {
+        this.tenantInfoHolder = tenantInfoHolder;
+        this.acquisitionGroupResolver = acquisitionGroupResolver;
+
+        setExecuteAsyncRunnableFactory(new ExecuteAsyncRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(JobInfo job, JobServiceConfiguration jobServiceConfiguration) {
+
+                // The runnable is created by the acquire thread of the group, which has set the tenant of the group.
+                // The job itself can belong to another tenant of the same group, in which case it is executed for that tenant.
+
+                return new TenantAwareExecuteAsyncRunnable(job, jobServiceConfiguration,
+                        SharedAcquisitionAsyncExecutor.this.tenantInfoHolder,
+                        resolveExecutionTenantId(job, SharedAcquisitionAsyncExecutor.this.tenantInfoHolder.getCurrentTenantId()));
+            }
+
+        });
+    }
+
+    protected String resolveExecutionTenantId(JobInfo job, String currentTenantId) {
+        String jobTenantId = job.getTenantId();
+        if (jobTenantId != null && !jobTenantId.equals(currentTenantId)) {
+            Object jobAcquisitionGroup = tenantAcquisitionGroups.get(jobTenantId);
+            if (jobAcquisitionGroup != null && currentTenantId != null && jobAcquisitionGroup.equals(tenantAcquisitionGroups.get(currentTenantId))) {
+                return jobTenantId;
+            }
+        }
+        return currentTenantId;
+    }
+
+    @Override
+    protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+        if (!(taskExecutor instanceof TenantFairAsyncTaskExecutor)) {
+            return super.executeAsyncJob(job, runnable);
+        }
+
+        String tenantId = runnable instanceof TenantAwareExecuteAsyncRunnable ? ((TenantAwareExecuteAsyncRunnable) runnable).getTenantId() : job.getTenantId();
+        try {
+            ((TenantFairAsyncTaskExecutor) taskExecutor).execute(tenantId, runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            sendRejectedEvent(job);
+            unacquireJobAfterRejection(job);
+
+            // Queue of the tenant (or the overall queue) is full, returning false so the acquiring is throttled
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> getTenantIds() {
+        return tenantAcquisitionGroups.keySet();
+    }
+
+    @Override
+    public synchronized void addTenantAsyncExecutor(String tenantId, boolean startExecutor) {
+        Object acquisitionGroupKey = resolveAcquisitionGroup(tenantId);
+        tenantAcquisitionGroups.put(tenantId, acquisitionGroupKey);
+
+        AcquisitionGroup acquisitionGroup = acquisitionGroups.get(acquisitionGroupKey);
+        if (acquisitionGroup == null) {
+            acquisitionGroup = new AcquisitionGroup();
+            acquisitionGroups.put(acquisitionGroupKey, acquisitionGroup);
+        }
+        acquisitionGroup.tenantIds.add(tenantId);
+
+        if (acquisitionGroup.acquiringTenantId == null) {
+            initAcquisitionThreads(acquisitionGroup, tenantId);
+            if (startExecutor) {
+                startAcquisitionThreads(acquisitionGroup);
+            }
+
+        } else {
+            LOGGER.debug("Tenant {} shares job acquisition with tenant {}", tenantId, acquisitionGroup.acquiringTenantId);
+        }
+    }
+
+    protected Object resolveAcquisitionGroup(String tenantId) {
+        Object acquisitionGroup = acquisitionGroupResolver != null ? acquisitionGroupResolver.resolveAcquisitionGroup(tenantId) : null;
+        return acquisitionGroup != null ? acquisitionGroup : tenantId;
+    }
+
+    @Override
+    public AsyncExecutor getTenantAsyncExecutor(String tenantId) {
+        return this;
+    }
+
+    @Override
+    public synchronized void removeTenantAsyncExecutor(String tenantId) {
+        Object acquisitionGroupKey = tenantAcquisitionGroups.remove(tenantId);
+        if (acquisitionGroupKey == null) {
+            return;
+        }
+
+        AcquisitionGroup acquisitionGroup = acquisitionGroups.get(acquisitionGroupKey);
+        acquisitionGroup.tenantIds.remove(tenantId);
+
+        if (tenantId.equals(acquisitionGroup.acquiringTenantId)) {
+            stopAcquisitionThreads(acquisitionGroup);
+            acquisitionGroup.acquiringTenantId = null;
+
+            // Another tenant of the group takes over the acquisition
+            if (!acquisitionGroup.tenantIds.isEmpty()) {
+                initAcquisitionThreads(acquisitionGroup, acquisitionGroup.tenantIds.iterator().next());
+                if (isActive) {
+                    startAcquisitionThreads(acquisitionGroup);
+                }
+            }
+        }
+
+        if (acquisitionGroup.tenantIds.isEmpty()) {
+            acquisitionGroups.remove(acquisitionGroupKey);
+        }
+    }
+
+    protected void initAcquisitionThreads(AcquisitionGroup acquisitionGroup, String tenantId) {
+        acquisitionGroup.acquiringTenantId = tenantId;
+
+        acquisitionGroup.timerJobAcquisitionRunnable = new TenantAwareAcquireTimerJobsRunnable(this, tenantInfoHolder, tenantId,
+            timerLifecycleListener, new AcquireTimerRunnableConfiguration(), configuration.getMoveTimerExecutorPoolSize());
+        acquisitionGroup.timerJobAcquisitionThread = new Thread(acquisitionGroup.timerJobAcquisitionRunnable);
+
+        acquisitionGroup.asyncJobAcquisitionRunnable = new TenantAwareAcquireAsyncJobsDueRunnable(this, tenantInfoHolder, tenantId,
+            asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+        acquisitionGroup.asyncJobAcquisitionThread = new Thread(acquisitionGroup.asyncJobAcquisitionRunnable);
+
+        acquisitionGroup.resetExpiredJobsRunnable = new TenantAwareResetExpiredJobsRunnable(this, tenantInfoHolder, tenantId);
+        acquisitionGroup.resetExpiredJobsThread = new Thread(acquisitionGroup.resetExpiredJobsRunnable);
+    }
+
+    protected void startAcquisitionThreads(AcquisitionGroup acquisitionGroup) {
+        acquisitionGroup.timerJobAcquisitionThread.start();
+        acquisitionGroup.asyncJobAcquisitionThread.start();
+        acquisitionGroup.resetExpiredJobsThread.start();
+    }
+
+    protected void stopAcquisitionThreads(AcquisitionGroup acquisitionGroup) {
+        acquisitionGroup.timerJobAcquisitionRunnable.stop();
+        acquisitionGroup.asyncJobAcquisitionRunnable.stop();
+        acquisitionGroup.resetExpiredJobsRunnable.stop();
+
+        try {
+            acquisitionGroup.timerJobAcquisitionThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the timer job acquisition thread to terminate", e);
+        }
+
+        try {
+            acquisitionGroup.asyncJobAcquisitionThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the async job acquisition thread to terminate", e);
+        }
+
+        try {
+            acquisitionGroup.resetExpiredJobsThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the reset expired jobs thread to terminate", e);
+        }
+    }
+
+    @Override
+    protected void unlockOwnedJobs() {
+        for (String tenantId : tenantAcquisitionGroups.keySet()) {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+            jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(configuration.getLockOwner(), tenantId, jobServiceConfiguration));
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isActive) {
+            return;
+        }
+
+        isActive = true;
+
+        initializeJobEntityManager();
+        if (configuration.isUnlockOwnedJobs()) {
+            unlockOwnedJobs();
+        }
+        initAsyncJobExecutionThreadPool();
+
+        for (AcquisitionGroup acquisitionGroup : acquisitionGroups.values()) {
+            startAcquisitionThreads(acquisitionGroup);
+        }
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        super.initAsyncJobExecutionThreadPool();
+
+        if (!(taskExecutor instanceof TenantFairAsyncTaskExecutor)) {
+            taskExecutor = createTenantFairTaskExecutor(taskExecutor);
+            unwrapTaskExecutorOnStop = true;
+        }
+    }
+
+    protected TenantFairAsyncTaskExecutor createTenantFairTaskExecutor(AsyncTaskExecutor delegate) {
+        TenantFairAsyncTaskExecutor tenantFairTaskExecutor = new TenantFairAsyncTaskExecutor(delegate);
+        tenantFairTaskExecutor.setTenantWeights(tenantWeights);
+        tenantFairTaskExecutor.setDefaultTenantWeight(defaultTenantWeight);
+        tenantFairTaskExecutor.setTenantMaxConcurrentTasks(tenantMaxConcurrentJobs);
+        tenantFairTaskExecutor.setDefaultMaxConcurrentTasksPerTenant(defaultMaxConcurrentJobsPerTenant);
+        tenantFairTaskExecutor.setMaxConcurrentTasks(resolveMaxConcurrentJobs(delegate));
+        tenantFairTaskExecutor.setMaxQueuedTasksPerTenant(maxQueuedJobsPerTenant);
+        tenantFairTaskExecutor.setQueueSize(queueSize);
+        tenantFairTaskExecutor.setRejectedTaskHandler(this::handleRejectedJob);
+        return tenantFairTaskExecutor;
+    }
+
+    protected int resolveMaxConcurrentJobs(AsyncTaskExecutor delegate) {
+        if (maxConcurrentJobs > 0) {
+            return maxConcurrentJobs;
+
+        } else if (delegate instanceof DefaultAsyncTaskExecutor) {
+            return ((DefaultAsyncTaskExecutor) delegate).getMaxPoolSize();
+
+        } else {
+            throw new FlowableIllegalArgumentException("maxConcurrentJobs needs to be set when the task executor is not a DefaultAsyncTaskExecutor, but "
+                    + delegate.getClass().getName());
+        }
+    }
+
+    /**
+     * Called for a job that was queued in the {@link TenantFairAsyncTaskExecutor}, but that is not executed
+     * (because the delegate task executor rejected it or because the executor is shut down). The job is unacquired, in the context of its own tenant.
+     */
+    protected void handleRejectedJob(Runnable runnable) {
+        JobInfo job = runnable instanceof ExecuteAsyncRunnable ? ((ExecuteAsyncRunnable) runnable).getJob() : null;
+        if (job == null) {
+            LOGGER.warn("Rejected runnable {} has no job to unacquire, the job is only acquired again once its lock has expired", runnable);
+            return;
+        }
+
+        String tenantId = runnable instanceof TenantAwareExecuteAsyncRunnable ? ((TenantAwareExecuteAsyncRunnable) runnable).getTenantId() : null;
+        String currentTenantId = tenantInfoHolder.getCurrentTenantId();
+        if (tenantId != null) {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+        }
+
+        try {
+            sendRejectedEvent(job);
+            unacquireJobAfterRejection(job);
+
+        } finally {
+            // The rejection can happen on the acquire thread of another acquisition group, which has its own tenant set
+            if (currentTenantId != null) {
+                tenantInfoHolder.setCurrentTenantId(currentTenantId);
+            } else {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+        }
+    }
+
+    @Override
+    protected void stopExecutingAsyncJobs() {
+        if (taskExecutor instanceof TenantFairAsyncTaskExecutor) {
+            // The task executor is only shut down when it was created by this executor, the queued jobs need to be unacquired in any case
+            for (Runnable runnable : ((TenantFairAsyncTaskExecutor) taskExecutor).drainQueuedTasks()) {
+                handleRejectedJob(runnable);
+            }
+        }
+
+        super.stopExecutingAsyncJobs();
+
+        // Restore the task executor that was configured, it gets wrapped again when starting
+        if (unwrapTaskExecutorOnStop && taskExecutor != null) {
+            taskExecutor = ((TenantFairAsyncTaskExecutor) taskExecutor).getDelegate();
+        }
+        unwrapTaskExecutorOnStop = false;
+    }
+
+    @Override
+    protected synchronized void stopJobAcquisitionThread() {
+        for (AcquisitionGroup acquisitionGroup : acquisitionGroups.values()) {
+            stopAcquisitionThreads(acquisitionGroup);
+
+            // Threads can't be restarted, so new ones are needed when the executor is started again
+            initAcquisitionThreads(acquisitionGroup, acquisitionGroup.acquiringTenantId);
+        }
+    }
+
+    public TenantAcquisitionGroupResolver getAcquisitionGroupResolver() {
+        return acquisitionGroupResolver;
+    }
+
+    public void setAcquisitionGroupResolver(TenantAcquisitionGroupResolver acquisitionGroupResolver) {
+        this.acquisitionGroupResolver = acquisitionGroupResolver;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public int getDefaultTenantWeight() {
+        return defaultTenantWeight;
+    }
+
+    public void setDefaultTenantWeight(int defaultTenantWeight) {
+        this.defaultTenantWeight = defaultTenantWeight;
+    }
+
+    public Map<String, Integer> getTenantMaxConcurrentJobs() {
+        return tenantMaxConcurrentJobs;
+    }
+
+    public void setTenantMaxConcurrentJobs(Map<String, Integer> tenantMaxConcurrentJobs) {
+        this.tenantMaxConcurrentJobs = tenantMaxConcurrentJobs;
+    }
+
+    public int getDefaultMaxConcurrentJobsPerTenant() {
+        return defaultMaxConcurrentJobsPerTenant;
+    }
+
+    public void setDefaultMaxConcurrentJobsPerTenant(int defaultMaxConcurrentJobsPerTenant) {
+        this.defaultMaxConcurrentJobsPerTenant = defaultMaxConcurrentJobsPerTenant;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getMaxQueuedJobsPerTenant() {
+        return maxQueuedJobsPerTenant;
+    }
+
+    public void setMaxQueuedJobsPerTenant(int maxQueuedJobsPerTenant) {
+        this.maxQueuedJobsPerTenant = maxQueuedJobsPerTenant;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    protected static class AcquisitionGroup {
+
+        protected final Set<String> tenantIds = new LinkedHashSet<>();
+        protected String acquiringTenantId;
+
+        protected TenantAwareAcquireTimerJobsRunnable timerJobAcquisitionRunnable;
+        protected Thread timerJobAcquisitionThread;
+
+        protected TenantAwareAcquireAsyncJobsDueRunnable asyncJobAcquisitionRunnable;
+        protected Thread asyncJobAcquisitionThread;
+
+        protected TenantAwareResetExpiredJobsRunnable resetExpiredJobsRunnable;
+        protected Thread resetExpiredJobsThread;
+    }
+}
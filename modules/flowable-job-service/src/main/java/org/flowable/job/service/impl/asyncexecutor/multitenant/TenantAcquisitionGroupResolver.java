@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+/**
+ * Used by the {@link SharedAcquisitionAsyncExecutor} to determine which tenants can share job acquisition.
+ * Tenants for which the same (according to {@link Object#equals(Object)}) group is returned store their jobs in the same database schema,
+ * which means that the jobs of all of them can be acquired with one query. Typically the group is the DataSource of the tenant.
+ */
+public interface TenantAcquisitionGroupResolver {
+
+    /**
+     * Returns the acquisition group of the given tenant, or null if the tenant should get its own acquisition.
+     */
+    Object resolveAcquisitionGroup(String tenantId);
+
+}
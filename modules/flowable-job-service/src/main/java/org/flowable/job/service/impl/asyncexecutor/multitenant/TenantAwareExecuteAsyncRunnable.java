@@ -41,4 +41,8 @@ public class TenantAwareExecuteAsyncRunnable extends ExecuteAsyncRunnable {
         tenantInfoHolder.clearCurrentTenantId();
     }
 
+    public String getTenantId() {
+        return tenantId;
+    }
+
 }
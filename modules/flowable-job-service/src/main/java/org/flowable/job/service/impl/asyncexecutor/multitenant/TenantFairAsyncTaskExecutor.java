@@ -0,0 +1,403 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that puts a fair scheduling layer in front of another {@link AsyncTaskExecutor}.
+ *
+ * Tasks are queued per tenant and only handed to the delegate executor when there is room for them
+ * (at most {@link #getMaxConcurrentTasks()} tasks are running or waiting in the delegate at any time).
+ * The next task to hand over is picked using weighted fair queuing: each tenant has a virtual time that advances with 1 / weight
+ * for every dispatched task and the non-empty tenant queue with the lowest virtual time goes first.
+ * A tenant that becomes active again starts at the current virtual time, so it can't build up credit while being idle.
+ *
+ * A tenant can never have more than its concurrency cap of tasks running at the same time and can't queue more than
+ * {@link #getMaxQueuedTasksPerTenant()} tasks. When a tenant queue (or the overall queue) is full, the task is rejected with
+ * a {@link RejectedExecutionException}, which means that a single busy tenant only fills its own queue.
+ *
+ * Tasks are never requeued: when the delegate rejects a task, the {@link RejectedExecutionException} is thrown to the caller
+ * that queued it if that happens while queueing, otherwise the task is handed to the {@link #getRejectedTaskHandler()}.
+ * The tasks that are still queued when shutting down are handed to the rejected task handler as well.
+ */
+public class TenantFairAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantFairAsyncTaskExecutor.class);
+
+    /**
+     * Key used for the tasks that are not executed for a specific tenant.
+     */
+    protected static final String NO_TENANT_KEY = "";
+
+    protected final AsyncTaskExecutor delegate;
+
+    protected Map<String, Integer> tenantWeights = new HashMap<>();
+    protected int defaultTenantWeight = 1;
+
+    protected Map<String, Integer> tenantMaxConcurrentTasks = new HashMap<>();
+    protected int defaultMaxConcurrentTasksPerTenant = 4;
+
+    protected int maxConcurrentTasks = 8;
+    protected int maxQueuedTasksPerTenant = 50;
+    protected int queueSize = 100;
+
+    /**
+     * Handles the tasks that were queued, but that are rejected by the delegate or that are still queued when shutting down.
+     */
+    protected Consumer<Runnable> rejectedTaskHandler;
+
+    protected final Map<String, TenantQueue> tenantQueues = new HashMap<>();
+    protected double virtualTime;
+    protected int queuedTasks;
+    protected int runningTasks;
+    protected boolean isShutdown;
+
+    public TenantFairAsyncTaskExecutor(AsyncTaskExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        execute(null, task);
+    }
+
+    /**
+     * Queues the given {@code task} for the given tenant.
+     *
+     * @throws RejectedExecutionException if the queue of the tenant or the overall queue is full, or if the delegate rejects the task right away
+     */
+    public void execute(String tenantId, Runnable task) {
+        String tenantKey = tenantId != null ? tenantId : NO_TENANT_KEY;
+        synchronized (this) {
+            if (isShutdown) {
+                throw new RejectedExecutionException("Task executor is shut down");
+
+            } else if (queuedTasks >= queueSize) {
+                throw new RejectedExecutionException("Task queue is full");
+            }
+
+            TenantQueue tenantQueue = tenantQueues.get(tenantKey);
+            if (tenantQueue == null) {
+                // A tenant that (re)becomes active starts at the current virtual time
+                tenantQueue = new TenantQueue(tenantKey, getTenantWeight(tenantKey), getTenantMaxConcurrentTasks(tenantKey));
+                tenantQueue.virtualTime = virtualTime;
+                tenantQueues.put(tenantKey, tenantQueue);
+
+            } else if (tenantQueue.tasks.size() >= maxQueuedTasksPerTenant) {
+                throw new RejectedExecutionException("Task queue for tenant '" + tenantKey + "' is full");
+            }
+
+            tenantQueue.tasks.add(task);
+            queuedTasks++;
+        }
+
+        dispatch(task);
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            }
+        }, this::execute);
+    }
+
+    /**
+     * Hands over queued tasks to the delegate executor, as long as the maximum of concurrent tasks is not reached.
+     *
+     * @param callerTask the task queued by the calling thread, which gets a {@link RejectedExecutionException} when the delegate rejects it.
+     *                   A rejected task of another caller is handed to the rejected task handler instead.
+     */
+    protected void dispatch(Runnable callerTask) {
+        List<DispatchedTask> dispatchedTasks = new ArrayList<>();
+        synchronized (this) {
+            while (runningTasks < maxConcurrentTasks) {
+                TenantQueue tenantQueue = selectNextTenantQueue();
+                if (tenantQueue == null) {
+                    break;
+                }
+
+                Runnable task = tenantQueue.tasks.poll();
+                queuedTasks--;
+                tenantQueue.runningTasks++;
+                runningTasks++;
+
+                virtualTime = tenantQueue.virtualTime;
+                tenantQueue.virtualTime += 1.0 / tenantQueue.weight;
+
+                dispatchedTasks.add(new DispatchedTask(tenantQueue, task));
+            }
+        }
+
+        RejectedExecutionException callerTaskRejection = null;
+        for (DispatchedTask dispatchedTask : dispatchedTasks) {
+            try {
+                delegate.execute(dispatchedTask);
+
+            } catch (RejectedExecutionException e) {
+                // The delegate is shared or smaller than configured here. The task is not requeued, as nothing guarantees that
+                // another dispatch happens (e.g. when no tasks of this executor are running), which would leave it in the queue.
+                LOGGER.debug("Delegate task executor rejected task for tenant {}", dispatchedTask.tenantQueue.tenantId);
+                synchronized (this) {
+                    runningTasks--;
+                    dispatchedTask.tenantQueue.runningTasks--;
+                    if (dispatchedTask.tenantQueue.isIdle()) {
+                        tenantQueues.remove(dispatchedTask.tenantQueue.tenantId);
+                    }
+                }
+
+                if (dispatchedTask.task == callerTask) {
+                    callerTaskRejection = e;
+                } else {
+                    handleRejectedTask(dispatchedTask.task);
+                }
+            }
+        }
+
+        if (callerTaskRejection != null) {
+            throw callerTaskRejection;
+        }
+    }
+
+    protected void handleRejectedTask(Runnable task) {
+        if (rejectedTaskHandler != null) {
+            rejectedTaskHandler.accept(task);
+        } else {
+            LOGGER.warn("Task {} was rejected by the delegate task executor and there is no rejected task handler to handle it", task);
+        }
+    }
+
+    protected TenantQueue selectNextTenantQueue() {
+        TenantQueue selectedQueue = null;
+        for (TenantQueue tenantQueue : tenantQueues.values()) {
+            if (!tenantQueue.tasks.isEmpty() && tenantQueue.runningTasks < tenantQueue.maxConcurrentTasks
+                    && (selectedQueue == null || tenantQueue.virtualTime < selectedQueue.virtualTime)) {
+                selectedQueue = tenantQueue;
+            }
+        }
+        return selectedQueue;
+    }
+
+    protected void taskCompleted(TenantQueue tenantQueue) {
+        synchronized (this) {
+            tenantQueue.runningTasks--;
+            runningTasks--;
+
+            if (tenantQueue.isIdle()) {
+                // Idle tenants don't need to keep their state, when they become active they start at the current virtual time anyway
+                tenantQueues.remove(tenantQueue.tenantId);
+            }
+        }
+
+        dispatch(null);
+    }
+
+    protected int getTenantWeight(String tenantId) {
+        Integer weight = tenantWeights.get(tenantId);
+        return weight != null && weight > 0 ? weight : defaultTenantWeight;
+    }
+
+    protected int getTenantMaxConcurrentTasks(String tenantId) {
+        Integer maxConcurrent = tenantMaxConcurrentTasks.get(tenantId);
+        return maxConcurrent != null && maxConcurrent > 0 ? maxConcurrent : defaultMaxConcurrentTasksPerTenant;
+    }
+
+    @Override
+    public void shutdown() {
+        List<Runnable> drainedTasks;
+        synchronized (this) {
+            isShutdown = true;
+            drainedTasks = drainQueuedTasks();
+        }
+        delegate.shutdown();
+        for (Runnable task : drainedTasks) {
+            handleRejectedTask(task);
+        }
+    }
+
+    /**
+     * Removes the tasks that are queued, but not yet handed to the delegate, from the queues.
+     * The tasks that are running in the delegate are not affected and new tasks are still accepted afterwards.
+     *
+     * @return the tasks that were queued
+     */
+    public synchronized List<Runnable> drainQueuedTasks() {
+        List<Runnable> drainedTasks = new ArrayList<>(queuedTasks);
+        for (TenantQueue tenantQueue : tenantQueues.values()) {
+            drainedTasks.addAll(tenantQueue.tasks);
+            tenantQueue.tasks.clear();
+        }
+        tenantQueues.values().removeIf(TenantQueue::isIdle);
+        queuedTasks = 0;
+        return drainedTasks;
+    }
+
+    @Override
+    public synchronized int getRemainingCapacity() {
+        return Math.max(0, queueSize - queuedTasks);
+    }
+
+    public synchronized int getQueuedTasks() {
+        return queuedTasks;
+    }
+
+    public synchronized int getRunningTasks() {
+        return runningTasks;
+    }
+
+    public AsyncTaskExecutor getDelegate() {
+        return delegate;
+    }
+
+    public Consumer<Runnable> getRejectedTaskHandler() {
+        return rejectedTaskHandler;
+    }
+
+    /**
+     * Sets the handler for the tasks that are rejected by the delegate after they were queued, or that are still queued when shutting down.
+     * Such a task is not executed, so the handler needs to make sure that the work is not lost.
+     */
+    public void setRejectedTaskHandler(Consumer<Runnable> rejectedTaskHandler) {
+        this.rejectedTaskHandler = rejectedTaskHandler;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    /**
+     * Sets the weight per tenant. A tenant with weight 2 gets twice as many tasks dispatched as a tenant with weight 1
+     * when both have tasks queued. Tenants that are not in the map get the {@link #getDefaultTenantWeight()}.
+     */
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public int getDefaultTenantWeight() {
+        return defaultTenantWeight;
+    }
+
+    public void setDefaultTenantWeight(int defaultTenantWeight) {
+        this.defaultTenantWeight = defaultTenantWeight;
+    }
+
+    public Map<String, Integer> getTenantMaxConcurrentTasks() {
+        return tenantMaxConcurrentTasks;
+    }
+
+    /**
+     * Sets the concurrency cap per tenant. Tenants that are not in the map get the {@link #getDefaultMaxConcurrentTasksPerTenant()}.
+     */
+    public void setTenantMaxConcurrentTasks(Map<String, Integer> tenantMaxConcurrentTasks) {
+        this.tenantMaxConcurrentTasks = tenantMaxConcurrentTasks;
+    }
+
+    public int getDefaultMaxConcurrentTasksPerTenant() {
+        return defaultMaxConcurrentTasksPerTenant;
+    }
+
+    public void setDefaultMaxConcurrentTasksPerTenant(int defaultMaxConcurrentTasksPerTenant) {
+        this.defaultMaxConcurrentTasksPerTenant = defaultMaxConcurrentTasksPerTenant;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Sets the maximum number of tasks that are handed over to the delegate at the same time.
+     * This should typically be the number of threads of the delegate executor, so that tasks wait in the fair queues and not in the queue of the delegate.
+     */
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    public int getMaxQueuedTasksPerTenant() {
+        return maxQueuedTasksPerTenant;
+    }
+
+    public void setMaxQueuedTasksPerTenant(int maxQueuedTasksPerTenant) {
+        this.maxQueuedTasksPerTenant = maxQueuedTasksPerTenant;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    protected static class TenantQueue {
+
+        protected final String tenantId;
+        protected final int weight;
+        protected final int maxConcurrentTasks;
+        protected final Deque<Runnable> tasks = new ArrayDeque<>();
+        protected int runningTasks;
+        protected double virtualTime;
+
+        public TenantQueue(String tenantId, int weight, int maxConcurrentTasks) {
+            this.tenantId = tenantId;
+            this.weight = weight;
+            this.maxConcurrentTasks = maxConcurrentTasks;
+        }
+
+        public boolean isIdle() {
+            return tasks.isEmpty() && runningTasks == 0;
+        }
+    }
+
+    protected class DispatchedTask implements Runnable {
+
+        protected final TenantQueue tenantQueue;
+        protected final Runnable task;
+
+        public DispatchedTask(TenantQueue tenantQueue, Runnable task) {
+            this.tenantQueue = tenantQueue;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                taskCompleted(tenantQueue);
+            }
+        }
+    }
+}
@@ -14,6 +14,8 @@ package org.flowable.job.service.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
@@ -74,18 +76,28 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
         int lockTimeInMillis = (int) builder.getLockDuration().abs().toMillis();
         List<AcquiredExternalWorkerJob> acquiredJobs = new ArrayList<>(jobs.size());
 
+        Collection<String> variableNames = resolveVariableNames(topic);
+        Map<String, Map<String, Object>> variablesByJobId = null;
+        if (internalJobManager != null && variableNames != null && !variableNames.isEmpty() && !jobs.isEmpty()) {
+            // The requested variables of all jobs are resolved at once, instead of fetching all variables of each job
+            variablesByJobId = internalJobManager.resolveVariables(jobs, variableNames);
+        }
+
         for (ExternalWorkerJobEntity job : jobs) {
             lockJob(commandContext, job, lockTimeInMillis);
             Map<String, Object> variables = null;
-            if (internalJobManager != null) {
+            if (variableNames != null) {
+                variables = variablesByJobId != null ? variablesByJobId.getOrDefault(job.getId(), Collections.emptyMap()) : Collections.emptyMap();
+
+            } else if (internalJobManager != null) {
                 VariableScope variableScope = internalJobManager.resolveVariableScope(job);
                 if (variableScope != null) {
                     variables = variableScope.getVariables();
                 }
+            }
 
-                if (job.isExclusive()) {
-                    internalJobManager.lockJobScope(job);
-                }
+            if (internalJobManager != null && job.isExclusive()) {
+                internalJobManager.lockJobScope(job);
             }
 
             acquiredJobs.add(new AcquiredExternalWorkerJobImpl(job, variables));
@@ -94,6 +106,19 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
         return acquiredJobs;
     }
 
+    protected Collection<String> resolveVariableNames(String topic) {
+        if (builder.getVariableNames() != null) {
+            return builder.getVariableNames();
+        }
+
+        Map<String, Collection<String>> variableNamesByTopic = jobServiceConfiguration.getExternalWorkerJobVariableNamesByTopic();
+        if (variableNamesByTopic != null) {
+            return variableNamesByTopic.get(topic);
+        }
+
+        return null;
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
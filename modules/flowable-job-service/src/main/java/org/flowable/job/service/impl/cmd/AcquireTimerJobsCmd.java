@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.time.Duration;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,17 +32,33 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
 
     protected AsyncExecutor asyncExecutor;
+    protected Duration lookAheadTime;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, null);
+    }
+
+    /**
+     * @param lookAheadTime when not null, the timer jobs that become due within this time are acquired as well.
+     *                      They are locked until their due date plus the timer lock time.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, Duration lookAheadTime) {
         this.asyncExecutor = asyncExecutor;
+        this.lookAheadTime = lookAheadTime;
     }
 
     @Override
     public List<TimerJobEntity> execute(CommandContext commandContext) {
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-            .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        Page page = new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        List<TimerJobEntity> timerJobs;
+        if (lookAheadTime != null) {
+            Date dueBefore = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + lookAheadTime.toMillis());
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecuteDueBefore(enabledCategories, dueBefore, page);
+        } else {
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, page);
+        }
 
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
@@ -56,6 +74,11 @@ public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
         // try to lock, as the revision will not match.
 
         GregorianCalendar jobExpirationTime = calculateLockExpirationTime(lockTimeInMillis, jobServiceConfiguration);
+        if (lookAheadTime != null && job.getDuedate() != null && job.getDuedate().after(jobServiceConfiguration.getClock().getCurrentTime())) {
+            // A timer job that is not due yet is kept in memory until its due date, the lock needs to cover that period
+            jobExpirationTime.setTime(job.getDuedate());
+            jobExpirationTime.add(Calendar.MILLISECOND, lockTimeInMillis);
+        }
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(jobExpirationTime.getTime());
     }
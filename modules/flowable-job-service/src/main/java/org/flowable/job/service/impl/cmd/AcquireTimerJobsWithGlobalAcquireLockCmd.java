@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.time.Duration;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -31,17 +33,33 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsWithGlobalAcquireLockCmd implements Command<List<TimerJobEntity>> {
 
     protected AsyncExecutor asyncExecutor;
+    protected Duration lookAheadTime;
 
     public AcquireTimerJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, null);
+    }
+
+    /**
+     * @param lookAheadTime when not null, the timer jobs that become due within this time are acquired as well.
+     *                      All jobs are then locked until the end of the look-ahead time plus the timer lock time.
+     */
+    public AcquireTimerJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor, Duration lookAheadTime) {
         this.asyncExecutor = asyncExecutor;
+        this.lookAheadTime = lookAheadTime;
     }
 
     @Override
     public List<TimerJobEntity> execute(CommandContext commandContext) {
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-            .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        Page page = new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        List<TimerJobEntity> timerJobs;
+        if (lookAheadTime != null) {
+            Date dueBefore = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + lookAheadTime.toMillis());
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecuteDueBefore(enabledCategories, dueBefore, page);
+        } else {
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, page);
+        }
 
         if (!timerJobs.isEmpty()) {
 
@@ -49,6 +67,9 @@ public class AcquireTimerJobsWithGlobalAcquireLockCmd implements Command<List<Ti
             // as at most one node will be acquiring at any given time.
 
             GregorianCalendar jobExpirationTime = calculateLockExpirationTime(asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
+            if (lookAheadTime != null) {
+                jobExpirationTime.add(Calendar.MILLISECOND, (int) lookAheadTime.toMillis());
+            }
             jobServiceConfiguration.getTimerJobEntityManager()
                 .bulkUpdateJobLockWithoutRevisionCheck(timerJobs, asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
 
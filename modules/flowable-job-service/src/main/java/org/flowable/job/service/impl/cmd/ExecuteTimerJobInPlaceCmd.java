@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes an acquired (i.e. locked) timer job in the same transaction in which it is moved to an executable job.
+ * <p>
+ * The executable job only exists within this transaction: its insert and its delete at the end of the execution
+ * cancel each other out when the session is flushed. Compared to moving the timer job and executing the resulting job
+ * in separate transactions, this saves the insert and delete of the executable job row and the second acquisition round-trip.
+ * <p>
+ * When the execution fails, the transaction is rolled back and the timer job is left untouched (and still locked),
+ * the caller is then responsible for handling the failure (see {@link MoveFailedTimerJobToExecutableJobCmd}).
+ */
+public class ExecuteTimerJobInPlaceCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteTimerJobInPlaceCmd.class);
+
+    protected String timerJobId;
+    protected String lockOwner;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteTimerJobInPlaceCmd(String timerJobId, String lockOwner, JobServiceConfiguration jobServiceConfiguration) {
+        this.timerJobId = timerJobId;
+        this.lockOwner = lockOwner;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (timerJobId == null) {
+            throw new FlowableIllegalArgumentException("timerJobId is null");
+        }
+
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobEntityManager().findById(timerJobId);
+        if (timerJob == null) {
+            LOGGER.debug("Timer job {} does not exist anymore and will not be executed.", timerJobId);
+            return null;
+        }
+
+        if (!Objects.equals(lockOwner, timerJob.getLockOwner())) {
+            LOGGER.debug("Timer job {} is not locked by {} anymore and will not be executed.", timerJobId, lockOwner);
+            return null;
+        }
+
+        JobEntity job = jobServiceConfiguration.getJobManager().createExecutableJobFromOtherJob(timerJob);
+        boolean insertSuccessful = jobServiceConfiguration.getJobEntityManager().insertJobEntity(job);
+        if (!insertSuccessful) {
+            // Same as when moving the timer job: the timer job is kept when the executable job was not inserted
+            LOGGER.debug("Timer job {} could not be moved to an executable job and will not be executed.", timerJobId);
+            return null;
+        }
+        jobServiceConfiguration.getTimerJobEntityManager().delete(timerJob);
+
+        // Same scope locking as the async executor does for exclusive jobs, but as part of the same transaction
+        InternalJobManager internalJobManager = jobServiceConfiguration.getInternalJobManager();
+        boolean lockScope = internalJobManager != null && job.isExclusive() && (job.getExecutionId() != null || job.getScopeId() != null);
+        if (lockScope) {
+            internalJobManager.lockJobScope(job);
+        }
+
+        LOGGER.debug("Executing timer job {} in place", timerJobId);
+        jobServiceConfiguration.getJobManager().execute(job);
+
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
+                    jobServiceConfiguration.getEngineName());
+        }
+
+        if (lockScope) {
+            internalJobManager.clearJobScopeLock(job);
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves timer jobs that were acquired some time ago to executable jobs.
+ * The timer jobs are fetched again, as they could have been deleted (e.g. because their process instance was cancelled)
+ * or acquired by another node (after their lock expired) in the meantime. Those timer jobs are skipped.
+ */
+public class MoveAcquiredTimerJobsToExecutableJobsCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MoveAcquiredTimerJobsToExecutableJobsCmd.class);
+
+    protected JobManager jobManager;
+    protected Collection<String> timerJobIds;
+    protected String lockOwner;
+    protected boolean bulkMove;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public MoveAcquiredTimerJobsToExecutableJobsCmd(JobManager jobManager, Collection<String> timerJobIds, String lockOwner, boolean bulkMove,
+            JobServiceConfiguration jobServiceConfiguration) {
+        this.jobManager = jobManager;
+        this.timerJobIds = timerJobIds;
+        this.lockOwner = lockOwner;
+        this.bulkMove = bulkMove;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        TimerJobEntityManager timerJobEntityManager = jobServiceConfiguration.getTimerJobEntityManager();
+        List<TimerJobEntity> timerJobs = new ArrayList<>(timerJobIds.size());
+        for (String timerJobId : timerJobIds) {
+            TimerJobEntity timerJob = timerJobEntityManager.findById(timerJobId);
+            if (timerJob == null) {
+                LOGGER.debug("Timer job {} does not exist anymore and will not be moved.", timerJobId);
+
+            } else if (!Objects.equals(lockOwner, timerJob.getLockOwner())) {
+                LOGGER.debug("Timer job {} is not locked by {} anymore and will not be moved.", timerJobId, lockOwner);
+
+            } else {
+                timerJobs.add(timerJob);
+            }
+        }
+
+        if (timerJobs.isEmpty()) {
+            return null;
+        }
+
+        if (bulkMove) {
+            jobManager.bulkMoveTimerJobsToExecutableJobs(timerJobs);
+        } else {
+            for (TimerJobEntity timerJob : timerJobs) {
+                jobManager.moveTimerJobToExecutableJob(timerJob);
+            }
+        }
+        return null;
+    }
+
+}
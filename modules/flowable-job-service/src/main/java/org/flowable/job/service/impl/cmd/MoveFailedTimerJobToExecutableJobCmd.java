@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves a timer job of which the execution in place (see {@link ExecuteTimerJobInPlaceCmd}) failed to an executable job,
+ * so the failure can be handled like the failure of any other executable job.
+ * <p>
+ * Unlike a regular move, the async executor is not triggered for the executable job and the job is locked by the async executor
+ * that failed to execute it. This way it isn't executed again before the failed job command has been applied to it.
+ * Returns null when the timer job doesn't exist anymore or isn't locked by the given lock owner.
+ */
+public class MoveFailedTimerJobToExecutableJobCmd implements Command<JobEntity> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MoveFailedTimerJobToExecutableJobCmd.class);
+
+    protected String timerJobId;
+    protected String lockOwner;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public MoveFailedTimerJobToExecutableJobCmd(String timerJobId, String lockOwner, JobServiceConfiguration jobServiceConfiguration) {
+        this.timerJobId = timerJobId;
+        this.lockOwner = lockOwner;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public JobEntity execute(CommandContext commandContext) {
+        if (timerJobId == null) {
+            throw new FlowableIllegalArgumentException("timerJobId is null");
+        }
+
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobEntityManager().findById(timerJobId);
+        if (timerJob == null) {
+            LOGGER.debug("Timer job {} does not exist anymore and will not be moved.", timerJobId);
+            return null;
+        }
+
+        if (!Objects.equals(lockOwner, timerJob.getLockOwner())) {
+            LOGGER.debug("Timer job {} is not locked by {} anymore and will not be moved.", timerJobId, lockOwner);
+            return null;
+        }
+
+        JobEntity job = jobServiceConfiguration.getJobManager().createExecutableJobFromOtherJob(timerJob);
+        if (!jobServiceConfiguration.getJobEntityManager().insertJobEntity(job)) {
+            LOGGER.debug("Timer job {} could not be moved to an executable job.", timerJobId);
+            return null;
+        }
+        jobServiceConfiguration.getTimerJobEntityManager().delete(timerJob);
+
+        return job;
+    }
+
+}
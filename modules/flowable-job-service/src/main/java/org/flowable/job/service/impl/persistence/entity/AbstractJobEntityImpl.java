@@ -50,6 +50,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     protected String scopeType;
     protected String scopeDefinitionId;
     protected String correlationId;
+    protected String traceContext;
 
     protected boolean isExclusive = DEFAULT_EXCLUSIVE;
 
@@ -235,6 +236,16 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
     }
+
+    @Override
+    public String getTraceContext() {
+        return traceContext;
+    }
+
+    @Override
+    public void setTraceContext(String traceContext) {
+        this.traceContext = traceContext;
+    }
     
     @Override
     public String getCategory() {
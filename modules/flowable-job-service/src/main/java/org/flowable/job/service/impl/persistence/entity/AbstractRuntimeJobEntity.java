@@ -44,6 +44,13 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
 
     void setCorrelationId(String correlationId);
 
+    /**
+     * The trace context of the span that created the job, the span of the job execution continues this trace.
+     */
+    String getTraceContext();
+
+    void setTraceContext(String traceContext);
+
     void setDuedate(Date duedate);
 
     void setExclusive(boolean isExclusive);
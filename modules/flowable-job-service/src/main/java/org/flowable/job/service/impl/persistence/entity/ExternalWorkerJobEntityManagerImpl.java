@@ -15,10 +15,17 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobsCreatedTransactionListener;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
 /**
@@ -28,6 +35,8 @@ public class ExternalWorkerJobEntityManagerImpl
         extends JobInfoEntityManagerImpl<ExternalWorkerJobEntity, ExternalWorkerJobDataManager>
         implements ExternalWorkerJobEntityManager {
 
+    protected static final String EXTERNAL_WORKER_JOBS_CREATED_LISTENER_ATTRIBUTE = "ctx.attribute.externalWorkerJobsCreatedListener";
+
     public ExternalWorkerJobEntityManagerImpl(JobServiceConfiguration jobServiceConfiguration, ExternalWorkerJobDataManager jobDataManager) {
         super(jobServiceConfiguration, jobDataManager);
     }
@@ -54,10 +63,31 @@ public class ExternalWorkerJobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getTraceContext() == null && serviceConfiguration.getTracer().isActive()) {
+            jobEntity.setTraceContext(TracingContext.getCurrentTraceContext());
+        }
         super.insert(jobEntity, fireCreateEvent);
+        notifyWaitingAcquisitions(jobEntity);
         return true;
     }
 
+    protected void notifyWaitingAcquisitions(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobAcquireNotifier notifier = serviceConfiguration.getExternalWorkerJobAcquireNotifier();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (notifier != null && transactionContext != null && jobEntity.getJobHandlerConfiguration() != null) {
+            // One listener per transaction, the waiting acquisitions can only see the jobs after the commit
+            CommandContext commandContext = Context.getCommandContext();
+            ExternalWorkerJobsCreatedTransactionListener listener = (ExternalWorkerJobsCreatedTransactionListener) commandContext
+                    .getAttribute(EXTERNAL_WORKER_JOBS_CREATED_LISTENER_ATTRIBUTE);
+            if (listener == null) {
+                listener = new ExternalWorkerJobsCreatedTransactionListener(notifier);
+                commandContext.addAttribute(EXTERNAL_WORKER_JOBS_CREATED_LISTENER_ATTRIBUTE, listener);
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, listener);
+            }
+            listener.addJob(jobEntity.getJobHandlerConfiguration());
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
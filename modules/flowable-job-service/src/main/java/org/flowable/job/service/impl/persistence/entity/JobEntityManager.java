@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -45,5 +46,13 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      * Same as {@link #findJobsByQueryCriteria(JobQueryImpl)}, but only returns a count and not the instances itself.
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
+
+    /**
+     * Locks the given job, unless it was locked or changed by someone else since it was fetched.
+     * This makes it possible to delete a job that another async executor could be acquiring, without failing the transaction when it did.
+     *
+     * @return true if the job was locked, false if it was locked or changed in the meantime
+     */
+    boolean lockJobIfUnlocked(JobEntity job, String lockOwner, Date lockExpirationTime);
     
 }
@@ -13,10 +13,12 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -58,6 +60,9 @@ public class JobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getTraceContext() == null && serviceConfiguration.getTracer().isActive()) {
+            jobEntity.setTraceContext(TracingContext.getCurrentTraceContext());
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -77,6 +82,11 @@ public class JobEntityManagerImpl
         return dataManager.findJobCountByQueryCriteria(jobQuery);
     }
 
+    @Override
+    public boolean lockJobIfUnlocked(JobEntity job, String lockOwner, Date lockExpirationTime) {
+        return dataManager.updateJobLockIfUnlocked(job, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public void delete(JobEntity jobEntity) {
         delete(jobEntity, false);
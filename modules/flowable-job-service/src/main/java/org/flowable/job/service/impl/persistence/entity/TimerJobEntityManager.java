@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -39,6 +41,13 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    /**
+     * The same as {@link #findJobsToExecute(List, Page)}, but also returns the unlocked timer jobs that become due before the given date.
+     * <p>
+     * This is used by the timer job acquisition when a look-ahead time is configured.
+     */
+    List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -19,7 +19,9 @@ import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.tracing.TracingContext;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -89,6 +91,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobsByProcessInstanceId(id);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
+        return dataManager.findJobsToExecuteDueBefore(enabledCategories, dueBefore, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId) {
         return dataManager.findJobsByScopeIdAndSubScopeId(scopeId, subScopeId);
@@ -136,6 +143,9 @@ public class TimerJobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getTraceContext() == null && serviceConfiguration.getTracer().isActive()) {
+            jobEntity.setTraceContext(TracingContext.getCurrentTraceContext());
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -26,10 +28,14 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
 
     JobEntity findJobByCorrelationId(String correlationId);
 
+    List<JobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery);
 
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
+    boolean updateJobLockIfUnlocked(JobEntity jobEntity, String lockOwner, Date lockExpirationTime);
+
     void deleteJobsByExecutionId(String executionId);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -73,8 +74,9 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
         
-        // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // If the execution has been inserted in the same command execution as this query, there can't be any in the database
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isRelatedEntitiesFetched(dbSqlSession, executionId)) {
             return getListFromCache(jobsByExecutionIdMatcher, executionId);
         }
         
@@ -87,6 +89,11 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    public List<JobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getListWithInClause("selectJobsByProcessInstanceIds", processInstanceIds);
+    }
+
     @Override
     public JobEntity findJobByCorrelationId(String correlationId) {
         return getEntity("selectJobByCorrelationId", correlationId, jobByCorrelationIdMatcher, true);
@@ -141,6 +148,16 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         bulkUpdateEntities("updateJobLocks", params, "jobs", jobEntities);
     }
 
+    @Override
+    public boolean updateJobLockIfUnlocked(JobEntity jobEntity, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(4);
+        params.put("id", jobEntity.getId());
+        params.put("revision", jobEntity.getRevision());
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("updateJobLockIfUnlocked", params) == 1;
+    }
+
     @Override
     public void resetExpiredJob(String jobId) {
         Map<String, Object> params = new HashMap<>(2);
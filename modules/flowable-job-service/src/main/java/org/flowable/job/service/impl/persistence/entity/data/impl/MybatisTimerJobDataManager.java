@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -103,12 +104,17 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecuteDueBefore(enabledCategories, jobServiceConfiguration.getClock().getCurrentTime(), page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
         
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", dueBefore);
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
@@ -131,7 +137,8 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isRelatedEntitiesFetched(dbSqlSession, executionId)) {
             return getListFromCache(timerJobsByExecutionIdMatcher, executionId);
         }
         
@@ -144,6 +151,11 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getListWithInClause("selectTimerJobsByProcessInstanceIds", processInstanceIds);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId) {
         Map<String, String> paramMap = new HashMap<>();
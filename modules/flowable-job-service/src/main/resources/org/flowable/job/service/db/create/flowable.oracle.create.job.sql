@@ -16,6 +16,7 @@ create table ACT_RU_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    TRACE_CONTEXT_ NVARCHAR2(255),
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
@@ -47,6 +48,7 @@ create table ACT_RU_TIMER_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    TRACE_CONTEXT_ NVARCHAR2(255),
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
@@ -76,6 +78,7 @@ create table ACT_RU_SUSPENDED_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    TRACE_CONTEXT_ NVARCHAR2(255),
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
@@ -105,6 +108,7 @@ create table ACT_RU_DEADLETTER_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    TRACE_CONTEXT_ NVARCHAR2(255),
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -153,6 +157,7 @@ create table ACT_RU_EXTERNAL_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    TRACE_CONTEXT_ NVARCHAR2(255),
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
@@ -257,4 +262,4 @@ create index ACT_IDX_EJOB_SCOPE on ACT_RU_EXTERNAL_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SUB_SCOPE on ACT_RU_EXTERNAL_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SCOPE_DEF on ACT_RU_EXTERNAL_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '6.7.2.0', 1);
+insert into ACT_GE_PROPERTY values ('job.schema.version', '6.7.2.1', 1);
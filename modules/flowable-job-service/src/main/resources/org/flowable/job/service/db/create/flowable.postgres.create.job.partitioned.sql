@@ -0,0 +1,74 @@
+-- Converts ACT_RU_JOB and ACT_RU_TIMER_JOB into tables that are list partitioned on SCOPE_TYPE_.
+-- It is executed after flowable.postgres.create.job.sql when the "partitioned" database schema profile is used.
+-- The rows are copied, so the script can also be used to migrate an existing schema (see the migration script of the engine for the foreign keys to the engine tables).
+-- Every acquire statement of the async executor filters on SCOPE_TYPE_ (null for the process engine, 'cmmn' for the cmmn engine),
+-- so every engine only scans its own partition.
+-- SCOPE_TYPE_ is nullable and can therefore not be part of a primary key, the uniqueness of ID_ is enforced by a unique index per partition.
+-- Partitions that are added for other scope types need their own unique index on ID_.
+
+alter table ACT_RU_JOB rename to ACT_RU_JOB_UNPARTITIONED;
+
+create table ACT_RU_JOB (like ACT_RU_JOB_UNPARTITIONED including defaults) partition by list (SCOPE_TYPE_);
+create table ACT_RU_JOB_BPMN partition of ACT_RU_JOB for values in (null);
+create table ACT_RU_JOB_CMMN partition of ACT_RU_JOB for values in ('cmmn');
+create table ACT_RU_JOB_DEFAULT partition of ACT_RU_JOB default;
+
+insert into ACT_RU_JOB select * from ACT_RU_JOB_UNPARTITIONED;
+drop table ACT_RU_JOB_UNPARTITIONED;
+
+alter table ACT_RU_TIMER_JOB rename to ACT_RU_TIMER_JOB_UNPARTITIONED;
+
+create table ACT_RU_TIMER_JOB (like ACT_RU_TIMER_JOB_UNPARTITIONED including defaults) partition by list (SCOPE_TYPE_);
+create table ACT_RU_TIMER_JOB_BPMN partition of ACT_RU_TIMER_JOB for values in (null);
+create table ACT_RU_TIMER_JOB_CMMN partition of ACT_RU_TIMER_JOB for values in ('cmmn');
+create table ACT_RU_TIMER_JOB_DEFAULT partition of ACT_RU_TIMER_JOB default;
+
+insert into ACT_RU_TIMER_JOB select * from ACT_RU_TIMER_JOB_UNPARTITIONED;
+drop table ACT_RU_TIMER_JOB_UNPARTITIONED;
+
+create unique index ACT_IDX_JOB_BPMN_ID on ACT_RU_JOB_BPMN(ID_);
+create unique index ACT_IDX_JOB_CMMN_ID on ACT_RU_JOB_CMMN(ID_);
+create unique index ACT_IDX_JOB_DEFAULT_ID on ACT_RU_JOB_DEFAULT(ID_);
+
+create unique index ACT_IDX_TIMER_JOB_BPMN_ID on ACT_RU_TIMER_JOB_BPMN(ID_);
+create unique index ACT_IDX_TIMER_JOB_CMMN_ID on ACT_RU_TIMER_JOB_CMMN(ID_);
+create unique index ACT_IDX_TIMER_JOB_DEFAULT_ID on ACT_RU_TIMER_JOB_DEFAULT(ID_);
+
+-- The indexes and foreign keys of the unpartitioned tables were dropped together with them
+
+create index ACT_IDX_JOB_EXCEPTION_STACK_ID on ACT_RU_JOB(EXCEPTION_STACK_ID_);
+create index ACT_IDX_JOB_CUSTOM_VALUES_ID on ACT_RU_JOB(CUSTOM_VALUES_ID_);
+create index ACT_IDX_JOB_CORRELATION_ID on ACT_RU_JOB(CORRELATION_ID_);
+
+create index ACT_IDX_TIMER_JOB_EXCEPTION_STACK_ID on ACT_RU_TIMER_JOB(EXCEPTION_STACK_ID_);
+create index ACT_IDX_TIMER_JOB_CUSTOM_VALUES_ID on ACT_RU_TIMER_JOB(CUSTOM_VALUES_ID_);
+create index ACT_IDX_TIMER_JOB_CORRELATION_ID on ACT_RU_TIMER_JOB(CORRELATION_ID_);
+create index ACT_IDX_TIMER_JOB_DUEDATE on ACT_RU_TIMER_JOB(DUEDATE_);
+
+alter table ACT_RU_JOB
+    add constraint ACT_FK_JOB_EXCEPTION
+    foreign key (EXCEPTION_STACK_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_JOB
+    add constraint ACT_FK_JOB_CUSTOM_VALUES
+    foreign key (CUSTOM_VALUES_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_TIMER_JOB
+    add constraint ACT_FK_TIMER_JOB_EXCEPTION
+    foreign key (EXCEPTION_STACK_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+alter table ACT_RU_TIMER_JOB
+    add constraint ACT_FK_TIMER_JOB_CUSTOM_VALUES
+    foreign key (CUSTOM_VALUES_ID_)
+    references ACT_GE_BYTEARRAY (ID_);
+
+create index ACT_IDX_JOB_SCOPE on ACT_RU_JOB(SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_JOB_SUB_SCOPE on ACT_RU_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_JOB_SCOPE_DEF on ACT_RU_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
+
+create index ACT_IDX_TJOB_SCOPE on ACT_RU_TIMER_JOB(SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_TJOB_SUB_SCOPE on ACT_RU_TIMER_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_TJOB_SCOPE_DEF on ACT_RU_TIMER_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
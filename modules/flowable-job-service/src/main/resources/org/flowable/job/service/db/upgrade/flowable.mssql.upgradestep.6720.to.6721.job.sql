@@ -0,0 +1,7 @@
+alter table ACT_RU_JOB add TRACE_CONTEXT_ nvarchar(255);
+alter table ACT_RU_TIMER_JOB add TRACE_CONTEXT_ nvarchar(255);
+alter table ACT_RU_SUSPENDED_JOB add TRACE_CONTEXT_ nvarchar(255);
+alter table ACT_RU_DEADLETTER_JOB add TRACE_CONTEXT_ nvarchar(255);
+alter table ACT_RU_EXTERNAL_JOB add TRACE_CONTEXT_ nvarchar(255);
+
+update ACT_GE_PROPERTY set VALUE_ = '6.7.2.1' where NAME_ = 'job.schema.version';
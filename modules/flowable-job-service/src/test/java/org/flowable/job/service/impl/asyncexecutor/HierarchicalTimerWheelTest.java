@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimerWheelTest {
+
+    @Test
+    void elementsAreReturnedWhenDue() {
+        // 3 levels: 100 ms, 1 second and 10 seconds slots
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 10, 60_000, 1_000_000);
+
+        assertThat(wheel.add("inSecondLevel", 1_002_550)).isTrue();
+        assertThat(wheel.add("inFirstLevel", 1_000_250)).isTrue();
+        assertThat(wheel.add("inThirdLevel", 1_045_000)).isTrue();
+        assertThat(wheel.add("overflow", 1_500_000)).isTrue();
+        assertThat(wheel.add("alreadyDue", 999_999)).isFalse();
+        assertThat(wheel.size()).isEqualTo(4);
+
+        assertThat(wheel.advance(1_000_250)).isEmpty();
+        assertThat(wheel.advance(1_000_350)).containsExactly("inFirstLevel");
+
+        assertThat(wheel.advance(1_002_550)).isEmpty();
+        assertThat(wheel.advance(1_002_600)).containsExactly("inSecondLevel");
+
+        assertThat(wheel.advance(1_044_999)).isEmpty();
+        assertThat(wheel.advance(1_045_100)).containsExactly("inThirdLevel");
+
+        assertThat(wheel.advance(1_499_999)).isEmpty();
+        assertThat(wheel.advance(1_500_100)).containsExactly("overflow");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void elementsAreReturnedInDueOrder() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 10, 60_000, 0);
+
+        wheel.add("third", 5_000);
+        wheel.add("first", 150);
+        wheel.add("second", 1_200);
+
+        assertThat(wheel.advance(10_000)).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void timeJumpReturnsAllDueElements() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 10, 60_000, 0);
+
+        wheel.add("first", 1_000);
+        wheel.add("second", 50_000);
+        wheel.add("notDue", 5_000_000);
+
+        assertThat(wheel.advance(4_000_000)).containsExactlyInAnyOrder("first", "second");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(5_000_100)).containsExactly("notDue");
+    }
+
+    @Test
+    void clearRemovesAllElements() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 10, 60_000, 0);
+
+        wheel.add("first", 1_000);
+        wheel.add("second", 50_000);
+
+        assertThat(wheel.clear()).containsExactlyInAnyOrder("first", "second");
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(100_000)).isEmpty();
+    }
+
+}
@@ -0,0 +1,225 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.junit.jupiter.api.Test;
+
+class TenantFairAsyncTaskExecutorTest {
+
+    @Test
+    void tasksAreDispatchedByWeight() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(1);
+        executor.setTenantWeights(Collections.singletonMap("quiet", 2));
+
+        List<String> executed = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            String name = "noisy" + i;
+            executor.execute("noisy", () -> executed.add(name));
+        }
+        executor.execute("quiet", () -> executed.add("quiet1"));
+        executor.execute("quiet", () -> executed.add("quiet2"));
+
+        assertThat(delegate.tasks).hasSize(1);
+        assertThat(executor.getQueuedTasks()).isEqualTo(6);
+
+        delegate.runAll();
+
+        assertThat(executed).containsExactly("noisy1", "quiet1", "quiet2", "noisy2", "noisy3", "noisy4", "noisy5");
+        assertThat(executor.getQueuedTasks()).isZero();
+        assertThat(executor.getRunningTasks()).isZero();
+    }
+
+    @Test
+    void concurrentTasksAreCappedPerTenant() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(4);
+        executor.setDefaultMaxConcurrentTasksPerTenant(2);
+
+        List<String> executed = new ArrayList<>();
+        executor.execute("tenantA", () -> executed.add("a1"));
+        executor.execute("tenantA", () -> executed.add("a2"));
+        executor.execute("tenantA", () -> executed.add("a3"));
+        executor.execute("tenantB", () -> executed.add("b1"));
+
+        assertThat(delegate.tasks).hasSize(3);
+        assertThat(executor.getRunningTasks()).isEqualTo(3);
+        assertThat(executor.getQueuedTasks()).isEqualTo(1);
+
+        delegate.runNext();
+        assertThat(executed).containsExactly("a1");
+        assertThat(delegate.tasks).hasSize(3);
+        assertThat(executor.getQueuedTasks()).isZero();
+
+        delegate.runAll();
+        assertThat(executed).containsExactly("a1", "a2", "b1", "a3");
+    }
+
+    @Test
+    void tasksAreRejectedWhenTenantQueueIsFull() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(1);
+        executor.setMaxQueuedTasksPerTenant(2);
+        executor.setQueueSize(10);
+
+        executor.execute("noisy", () -> {});
+        executor.execute("noisy", () -> {});
+        executor.execute("noisy", () -> {});
+        assertThat(executor.getRemainingCapacity()).isEqualTo(8);
+
+        assertThatThrownBy(() -> executor.execute("noisy", () -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        executor.execute("quiet", () -> {});
+        assertThat(executor.getQueuedTasks()).isEqualTo(3);
+        assertThat(executor.getRemainingCapacity()).isEqualTo(7);
+    }
+
+    @Test
+    void tasksRejectedByDelegateAreNotRequeued() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(1);
+        List<Runnable> rejectedTasks = new ArrayList<>();
+        executor.setRejectedTaskHandler(rejectedTasks::add);
+
+        // A task that is rejected while dispatching it for the caller is rejected to that caller
+        delegate.reject = true;
+        assertThatThrownBy(() -> executor.execute("tenantC", () -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getQueuedTasks()).isZero();
+        assertThat(executor.getRunningTasks()).isZero();
+        assertThat(rejectedTasks).isEmpty();
+
+        delegate.reject = false;
+        List<String> executed = new ArrayList<>();
+        Runnable queuedTask = () -> executed.add("queued");
+        executor.execute("tenantA", () -> executed.add("running"));
+        executor.execute("tenantB", queuedTask);
+        assertThat(executor.getQueuedTasks()).isEqualTo(1);
+
+        // A queued task that is rejected when it gets dispatched after another task completed is handed to the rejected task handler
+        delegate.reject = true;
+        delegate.runNext();
+        assertThat(executed).containsExactly("running");
+        assertThat(rejectedTasks).containsExactly(queuedTask);
+        assertThat(executor.getQueuedTasks()).isZero();
+        assertThat(executor.getRunningTasks()).isZero();
+    }
+
+    @Test
+    void queuedTasksAreRejectedOnShutdown() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(1);
+        List<Runnable> rejectedTasks = new ArrayList<>();
+        executor.setRejectedTaskHandler(rejectedTasks::add);
+
+        Runnable queuedTask1 = () -> {};
+        Runnable queuedTask2 = () -> {};
+        executor.execute("tenantA", () -> {});
+        executor.execute("tenantA", queuedTask1);
+        executor.execute("tenantB", queuedTask2);
+
+        executor.shutdown();
+        assertThat(delegate.shutdown).isTrue();
+        assertThat(rejectedTasks).containsExactlyInAnyOrder(queuedTask1, queuedTask2);
+        assertThat(executor.getQueuedTasks()).isZero();
+
+        assertThatThrownBy(() -> executor.execute("tenantA", () -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void drainingQueuedTasksKeepsAcceptingTasks() {
+        RecordingTaskExecutor delegate = new RecordingTaskExecutor();
+        TenantFairAsyncTaskExecutor executor = new TenantFairAsyncTaskExecutor(delegate);
+        executor.setMaxConcurrentTasks(1);
+
+        List<String> executed = new ArrayList<>();
+        Runnable queuedTask = () -> executed.add("queued");
+        executor.execute("tenantA", () -> executed.add("running"));
+        executor.execute("tenantB", queuedTask);
+
+        assertThat(executor.drainQueuedTasks()).containsExactly(queuedTask);
+        assertThat(executor.getQueuedTasks()).isZero();
+        assertThat(delegate.shutdown).isFalse();
+
+        // The executor is not shut down by draining it, e.g. when the async executor using it is stopped and started again
+        executor.execute("tenantB", () -> executed.add("afterDrain"));
+        delegate.runAll();
+        assertThat(executed).containsExactly("running", "afterDrain");
+        assertThat(executor.getRunningTasks()).isZero();
+    }
+
+    protected static class RecordingTaskExecutor implements AsyncTaskExecutor {
+
+        protected final Deque<Runnable> tasks = new ArrayDeque<>();
+        protected boolean reject;
+        protected boolean shutdown;
+
+        @Override
+        public void execute(Runnable task) {
+            if (reject) {
+                throw new RejectedExecutionException("Rejecting " + task);
+            }
+            tasks.add(task);
+        }
+
+        @Override
+        public CompletableFuture<?> submit(Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submit(Callable<T> task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public int getRemainingCapacity() {
+            return Integer.MAX_VALUE;
+        }
+
+        protected void runNext() {
+            tasks.poll().run();
+        }
+
+        protected void runAll() {
+            while (!tasks.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the Micrometer meters of a CMMN engine. Next to the meters of the {@link FlowableMetricsConfigurator},
+ * this instruments the case definition cache and the async executor.
+ */
+public class CmmnEngineMetricsConfigurator extends FlowableMetricsConfigurator {
+
+    public CmmnEngineMetricsConfigurator(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    @Override
+    public void configure(AbstractEngineConfiguration engineConfiguration) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = (CmmnEngineConfiguration) engineConfiguration;
+        String engineName = engineConfiguration.getEngineName();
+
+        DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = cmmnEngineConfiguration.getCaseDefinitionCache();
+        if (caseDefinitionCache != null && !(caseDefinitionCache instanceof MetricsDeploymentCache)) {
+            MetricsDeploymentCache<CaseDefinitionCacheEntry> metricsCache = new MetricsDeploymentCache<>(caseDefinitionCache,
+                    meterRegistry, engineName, "caseDefinition");
+            cmmnEngineConfiguration.setCaseDefinitionCache(metricsCache);
+            cmmnEngineConfiguration.getDeploymentManager().setCaseDefinitionCache(metricsCache);
+        }
+
+        instrumentAsyncExecutor(cmmnEngineConfiguration.getAsyncExecutor(), engineName);
+    }
+
+}
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the Micrometer meters of a DMN engine. Next to the meters of the {@link FlowableMetricsConfigurator},
+ * this records the evaluation time of decisions (see {@link MetricsRuleEngineExecutor}).
+ *
+ * The DMN engine does not apply its configurators itself, so {@link #beforeInit(AbstractEngineConfiguration)}
+ * has to be invoked before the DMN engine is built.
+ */
+public class DmnEngineMetricsConfigurator extends FlowableMetricsConfigurator {
+
+    public DmnEngineMetricsConfigurator(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    @Override
+    public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
+        super.beforeInit(engineConfiguration);
+
+        DmnEngineConfiguration dmnEngineConfiguration = (DmnEngineConfiguration) engineConfiguration;
+        if (!(dmnEngineConfiguration.getRuleEngineExecutor() instanceof MetricsRuleEngineExecutor)) {
+            // The expression manager, hit policies and object mapper are filled in by the engine when initializing the rule engine executor
+            dmnEngineConfiguration.setRuleEngineExecutor(new MetricsRuleEngineExecutor(dmnEngineConfiguration.getRuleEngineExecutor() != null
+                    ? dmnEngineConfiguration.getRuleEngineExecutor() : new RuleEngineExecutorImpl(null, null, null), meterRegistry, engineConfiguration.getEngineName()));
+        }
+    }
+
+}
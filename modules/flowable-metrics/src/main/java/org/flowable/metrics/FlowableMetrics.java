@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+/**
+ * Names and tag keys of the meters registered by the Flowable metrics instrumentation.
+ */
+public final class FlowableMetrics {
+
+    public static final String COMMAND = "flowable.command";
+    public static final String COMMAND_FAILURES = "flowable.command.failures";
+
+    public static final String DB_FLUSH = "flowable.db.flush";
+    public static final String DB_INSERTS = "flowable.db.inserts";
+    public static final String DB_UPDATES = "flowable.db.updates";
+    public static final String DB_DELETES = "flowable.db.deletes";
+
+    public static final String ASYNC_ACQUIRE = "flowable.async.acquire";
+    public static final String ASYNC_ACQUIRED = "flowable.async.acquired";
+    public static final String ASYNC_REJECTED = "flowable.async.rejected";
+    public static final String ASYNC_QUEUE_SIZE = "flowable.async.queue.size";
+    public static final String ASYNC_JOB_LATENCY = "flowable.async.job.latency";
+
+    public static final String DEPLOYMENT_CACHE = "flowable.deployment.cache";
+
+    public static final String EL_EVALUATION = "flowable.el.evaluation";
+    public static final String DMN_EVALUATION = "flowable.dmn.evaluation";
+
+    public static final String TAG_ENGINE = "engine";
+    public static final String TAG_COMMAND = "command";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_ENTITY = "entity";
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_CACHE = "cache";
+    public static final String TAG_RESULT = "result";
+
+    private FlowableMetrics() {
+    }
+
+}
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.EngineConfigurator;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link EngineConfigurator} registering Micrometer meters for the parts every engine has in common:
+ * the command latency (see {@link MetricsCommandInterceptor}) and the database flushes (see {@link MetricsDbSqlSession}).
+ *
+ * The engine specific subclasses additionally instrument the async executor, the deployment caches and expression or decision evaluation.
+ * All meters are tagged with the name of the engine they belong to.
+ */
+public class FlowableMetricsConfigurator implements EngineConfigurator {
+
+    public static final int DEFAULT_CONFIGURATOR_PRIORITY = 50000;
+
+    protected MeterRegistry meterRegistry;
+    protected boolean commandMetricsEnabled = true;
+    protected boolean dbMetricsEnabled = true;
+
+    public FlowableMetricsConfigurator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
+        String engineName = engineConfiguration.getEngineName();
+
+        if (commandMetricsEnabled) {
+            List<CommandInterceptor> customPreCommandInterceptors = engineConfiguration.getCustomPreCommandInterceptors();
+            if (customPreCommandInterceptors == null) {
+                customPreCommandInterceptors = new ArrayList<>();
+                engineConfiguration.setCustomPreCommandInterceptors(customPreCommandInterceptors);
+            }
+            customPreCommandInterceptors.add(new MetricsCommandInterceptor(meterRegistry, engineName));
+        }
+
+        // A custom db sql session factory is left untouched
+        if (dbMetricsEnabled && engineConfiguration.getDbSqlSessionFactory() == null) {
+            engineConfiguration.setDbSqlSessionFactory(new MetricsDbSqlSessionFactory(engineConfiguration.isUsePrefixId(), meterRegistry, engineName));
+        }
+    }
+
+    @Override
+    public void configure(AbstractEngineConfiguration engineConfiguration) {
+
+    }
+
+    /**
+     * Instruments the acquire cycles, the job latency and the queue size of the given async executor.
+     * Needs to be called before the async executor is started.
+     */
+    protected void instrumentAsyncExecutor(AsyncExecutor asyncExecutor, String engineName) {
+        if (!(asyncExecutor instanceof AbstractAsyncExecutor) || asyncExecutor instanceof DefaultAsyncHistoryJobExecutor) {
+            return;
+        }
+
+        AbstractAsyncExecutor abstractAsyncExecutor = (AbstractAsyncExecutor) asyncExecutor;
+        abstractAsyncExecutor.setAsyncJobsDueLifecycleListener(new MetricsAcquireAsyncJobsDueLifecycleListener(
+                abstractAsyncExecutor.getAsyncJobsDueLifecycleListener(), meterRegistry, engineName));
+        abstractAsyncExecutor.setTimerLifecycleListener(new MetricsAcquireTimerLifecycleListener(
+                abstractAsyncExecutor.getTimerLifecycleListener(), meterRegistry, engineName));
+        abstractAsyncExecutor.setExecuteAsyncRunnableFactory(new MetricsExecuteAsyncRunnableFactory(abstractAsyncExecutor.getExecuteAsyncRunnableFactory(),
+                abstractAsyncExecutor.getAsyncRunnableExecutionExceptionHandler(), meterRegistry, engineName));
+
+        Gauge.builder(FlowableMetrics.ASYNC_QUEUE_SIZE, asyncExecutor, FlowableMetricsConfigurator::getQueueSize)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .register(meterRegistry);
+    }
+
+    protected static double getQueueSize(AsyncExecutor asyncExecutor) {
+        // The task executor is only created when the async executor is started
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor && ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue() != null) {
+            return ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue().size();
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_CONFIGURATOR_PRIORITY;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public FlowableMetricsConfigurator setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        return this;
+    }
+
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public FlowableMetricsConfigurator setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+        return this;
+    }
+
+    public boolean isDbMetricsEnabled() {
+        return dbMetricsEnabled;
+    }
+
+    public FlowableMetricsConfigurator setDbMetricsEnabled(boolean dbMetricsEnabled) {
+        this.dbMetricsEnabled = dbMetricsEnabled;
+        return this;
+    }
+
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the duration of the async job acquire cycles and the number of acquired and rejected jobs.
+ * All callbacks are passed on to the (optional) delegate listener.
+ *
+ * An acquire cycle is always executed by the single acquire thread, so the start time does not need to be thread safe.
+ */
+public class MetricsAcquireAsyncJobsDueLifecycleListener implements AcquireAsyncJobsDueLifecycleListener {
+
+    protected final AcquireAsyncJobsDueLifecycleListener delegate;
+    protected final Timer acquireTimer;
+    protected final Counter acquiredCounter;
+    protected final Counter rejectedCounter;
+
+    protected long acquireStart;
+
+    public MetricsAcquireAsyncJobsDueLifecycleListener(AcquireAsyncJobsDueLifecycleListener delegate, MeterRegistry meterRegistry, String engineName) {
+        this.delegate = delegate;
+        this.acquireTimer = Timer.builder(FlowableMetrics.ASYNC_ACQUIRE)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .tag(FlowableMetrics.TAG_TYPE, "async")
+                .register(meterRegistry);
+        this.acquiredCounter = Counter.builder(FlowableMetrics.ASYNC_ACQUIRED)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .tag(FlowableMetrics.TAG_TYPE, "async")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(FlowableMetrics.ASYNC_REJECTED)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        acquireStart = System.nanoTime();
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, remainingCapacity, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        acquireTimer.record(System.nanoTime() - acquireStart, TimeUnit.NANOSECONDS);
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        acquiredCounter.increment(jobsAcquired);
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        rejectedCounter.increment(jobsRejected);
+        if (delegate != null) {
+            delegate.rejectedJobs(engineName, jobsRejected, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        if (delegate != null) {
+            delegate.optimistLockingException(engineName, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerLifecycleListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the duration of the timer job acquire cycles and the number of acquired timer jobs.
+ * All callbacks are passed on to the (optional) delegate listener.
+ */
+public class MetricsAcquireTimerLifecycleListener implements AcquireTimerLifecycleListener {
+
+    protected final AcquireTimerLifecycleListener delegate;
+    protected final Timer acquireTimer;
+    protected final Counter acquiredCounter;
+
+    protected long acquireStart;
+
+    public MetricsAcquireTimerLifecycleListener(AcquireTimerLifecycleListener delegate, MeterRegistry meterRegistry, String engineName) {
+        this.delegate = delegate;
+        this.acquireTimer = Timer.builder(FlowableMetrics.ASYNC_ACQUIRE)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .tag(FlowableMetrics.TAG_TYPE, "timer")
+                .register(meterRegistry);
+        this.acquiredCounter = Counter.builder(FlowableMetrics.ASYNC_ACQUIRED)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .tag(FlowableMetrics.TAG_TYPE, "timer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int maxTimerJobsPerAcquisition) {
+        acquireStart = System.nanoTime();
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        acquireTimer.record(System.nanoTime() - acquireStart, TimeUnit.NANOSECONDS);
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition) {
+        acquiredCounter.increment(jobsAcquired);
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the latency of every command passing through the interceptor chain in the {@value FlowableMetrics#COMMAND} timer
+ * and counts failed commands in {@value FlowableMetrics#COMMAND_FAILURES}.
+ *
+ * Commands implemented as lambdas or anonymous classes are all tagged as {@code anonymous},
+ * to keep the number of distinct tag values bounded.
+ */
+public class MetricsCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected static final String ANONYMOUS_COMMAND = "anonymous";
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engineName;
+
+    public MetricsCommandInterceptor(MeterRegistry meterRegistry, String engineName) {
+        this.meterRegistry = meterRegistry;
+        this.engineName = engineName;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return next.execute(config, command, commandExecutor);
+
+        } catch (RuntimeException | Error e) {
+            outcome = "failure";
+            Counter.builder(FlowableMetrics.COMMAND_FAILURES)
+                    .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                    .tag(FlowableMetrics.TAG_COMMAND, getCommandName(command))
+                    .tag(FlowableMetrics.TAG_EXCEPTION, e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+
+        } finally {
+            Timer.builder(FlowableMetrics.COMMAND)
+                    .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                    .tag(FlowableMetrics.TAG_COMMAND, getCommandName(command))
+                    .tag(FlowableMetrics.TAG_OUTCOME, outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected String getCommandName(Command<?> command) {
+        Class<?> commandClass = command.getClass();
+        if (commandClass.isAnonymousClass() || commandClass.isSynthetic()) {
+            return ANONYMOUS_COMMAND;
+        }
+        return commandClass.getSimpleName();
+    }
+
+}
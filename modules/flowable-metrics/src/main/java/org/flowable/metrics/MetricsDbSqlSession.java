@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.db.BulkDeleteOperation;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link DbSqlSession} recording the duration of each flush and the number of inserted, updated and deleted entities per entity type.
+ * Bulk deletes are counted as one delete per operation, as the number of affected rows is not known.
+ */
+public class MetricsDbSqlSession extends DbSqlSession {
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engineName;
+
+    public MetricsDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, MeterRegistry meterRegistry, String engineName) {
+        super(dbSqlSessionFactory, entityCache);
+        this.meterRegistry = meterRegistry;
+        this.engineName = engineName;
+    }
+
+    @Override
+    public void flush() {
+        long start = System.nanoTime();
+        try {
+            super.flush();
+        } finally {
+            Timer.builder(FlowableMetrics.DB_FLUSH)
+                    .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected void flushRegularInsert(Entity entity, Class<? extends Entity> clazz) {
+        super.flushRegularInsert(entity, clazz);
+        count(FlowableMetrics.DB_INSERTS, clazz, 1);
+    }
+
+    @Override
+    protected void flushBulkInsert(Collection<Entity> entities, Class<? extends Entity> clazz) {
+        super.flushBulkInsert(entities, clazz);
+        count(FlowableMetrics.DB_INSERTS, clazz, entities.size());
+    }
+
+    @Override
+    protected void flushUpdates() {
+        Map<Class<?>, Integer> updateCounts = new HashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updateCounts.merge(updatedObject.getClass(), 1, Integer::sum);
+        }
+        super.flushUpdates();
+        updateCounts.forEach((entityClass, amount) -> count(FlowableMetrics.DB_UPDATES, entityClass, amount));
+    }
+
+    @Override
+    protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        super.flushDeleteEntities(entityClass, entitiesToDelete);
+        count(FlowableMetrics.DB_DELETES, entityClass, entitiesToDelete.size());
+    }
+
+    @Override
+    protected void flushBulkDeletes(Class<? extends Entity> entityClass, List<BulkDeleteOperation> deleteOperations) {
+        super.flushBulkDeletes(entityClass, deleteOperations);
+        if (deleteOperations != null) {
+            count(FlowableMetrics.DB_DELETES, entityClass, deleteOperations.size());
+        }
+    }
+
+    protected void count(String name, Class<?> entityClass, int amount) {
+        if (amount > 0) {
+            Counter.builder(name)
+                    .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                    .tag(FlowableMetrics.TAG_ENTITY, entityClass.getSimpleName())
+                    .register(meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link DbSqlSessionFactory} creating {@link MetricsDbSqlSession} instances, so that every flush is measured.
+ * Sessions routed to the read-only data source are not instrumented, as they never flush any changes.
+ */
+public class MetricsDbSqlSessionFactory extends DbSqlSessionFactory {
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engineName;
+
+    public MetricsDbSqlSessionFactory(boolean usePrefixId, MeterRegistry meterRegistry, String engineName) {
+        super(usePrefixId);
+        this.meterRegistry = meterRegistry;
+        this.engineName = engineName;
+    }
+
+    @Override
+    protected DbSqlSession createDbSqlSession() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (isRoutedToReadOnlyDataSource(commandContext)) {
+            return createReadOnlyDbSqlSession(commandContext);
+        }
+        return new MetricsDbSqlSession(this, commandContext.getSession(EntityCache.class), meterRegistry, engineName);
+    }
+
+}
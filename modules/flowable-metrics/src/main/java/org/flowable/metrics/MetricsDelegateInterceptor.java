@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.delegate.invocation.DelegateInvocation;
+import org.flowable.engine.impl.delegate.invocation.ExpressionInvocation;
+import org.flowable.engine.impl.interceptor.DelegateInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link DelegateInterceptor} recording the evaluation time of expressions in the {@value FlowableMetrics#EL_EVALUATION} timer.
+ * All invocations are handled by the delegate interceptor.
+ */
+public class MetricsDelegateInterceptor implements DelegateInterceptor {
+
+    protected final DelegateInterceptor delegate;
+    protected final Timer expressionTimer;
+
+    public MetricsDelegateInterceptor(DelegateInterceptor delegate, MeterRegistry meterRegistry, String engineName) {
+        this.delegate = delegate;
+        this.expressionTimer = Timer.builder(FlowableMetrics.EL_EVALUATION)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void handleInvocation(DelegateInvocation invocation) {
+        if (!(invocation instanceof ExpressionInvocation)) {
+            delegate.handleInvocation(invocation);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            delegate.handleInvocation(invocation);
+        } finally {
+            expressionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public DelegateInterceptor getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link DeploymentCache} wrapper counting the cache hits and misses of {@link #get(String)}
+ * in the {@value FlowableMetrics#DEPLOYMENT_CACHE} counter.
+ */
+public class MetricsDeploymentCache<T> implements DeploymentCache<T> {
+
+    protected final DeploymentCache<T> delegate;
+    protected final Counter hits;
+    protected final Counter misses;
+
+    public MetricsDeploymentCache(DeploymentCache<T> delegate, MeterRegistry meterRegistry, String engineName, String cacheName) {
+        this.delegate = delegate;
+        this.hits = createCounter(meterRegistry, engineName, cacheName, "hit");
+        this.misses = createCounter(meterRegistry, engineName, cacheName, "miss");
+    }
+
+    protected Counter createCounter(MeterRegistry meterRegistry, String engineName, String cacheName, String result) {
+        return Counter.builder(FlowableMetrics.DEPLOYMENT_CACHE)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .tag(FlowableMetrics.TAG_CACHE, cacheName)
+                .tag(FlowableMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public T get(String id) {
+        T object = delegate.get(id);
+        if (object != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return object;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return delegate.contains(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        delegate.add(id, object);
+    }
+
+    @Override
+    public void remove(String id) {
+        delegate.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    public DeploymentCache<T> getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link ExecuteAsyncRunnableFactory} recording, when the execution of a job starts,
+ * the time between the due date of the job (or its create time when there is no due date) and now.
+ */
+public class MetricsExecuteAsyncRunnableFactory implements ExecuteAsyncRunnableFactory {
+
+    protected final ExecuteAsyncRunnableFactory delegate;
+    protected final AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+    protected final Timer latencyTimer;
+
+    public MetricsExecuteAsyncRunnableFactory(ExecuteAsyncRunnableFactory delegate, AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler,
+            MeterRegistry meterRegistry, String engineName) {
+        this.delegate = delegate;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+        this.latencyTimer = Timer.builder(FlowableMetrics.ASYNC_JOB_LATENCY)
+                .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable createExecuteAsyncRunnable(JobInfo job, JobServiceConfiguration jobServiceConfiguration) {
+        Runnable runnable;
+        if (delegate != null) {
+            runnable = delegate.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+        } else {
+            runnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), asyncRunnableExecutionExceptionHandler);
+        }
+
+        Date readyTime = getReadyTime(job);
+        if (readyTime == null) {
+            return runnable;
+        }
+
+        return () -> {
+            long latency = jobServiceConfiguration.getClock().getCurrentTime().getTime() - readyTime.getTime();
+            latencyTimer.record(Math.max(latency, 0), TimeUnit.MILLISECONDS);
+            runnable.run();
+        };
+    }
+
+    protected Date getReadyTime(JobInfo job) {
+        if (job instanceof Job) {
+            Job jobWithDates = (Job) job;
+            return jobWithDates.getDuedate() != null ? jobWithDates.getDuedate() : jobWithDates.getCreateTime();
+        }
+        return null;
+    }
+
+}
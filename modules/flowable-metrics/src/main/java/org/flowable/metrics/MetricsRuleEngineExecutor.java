@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
+import org.flowable.dmn.model.Decision;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link RuleEngineExecutor} recording the evaluation time of each decision in the {@value FlowableMetrics#DMN_EVALUATION} timer.
+ */
+public class MetricsRuleEngineExecutor implements RuleEngineExecutor {
+
+    protected final RuleEngineExecutor delegate;
+    protected final MeterRegistry meterRegistry;
+    protected final String engineName;
+
+    public MetricsRuleEngineExecutor(RuleEngineExecutor delegate, MeterRegistry meterRegistry, String engineName) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.engineName = engineName;
+    }
+
+    @Override
+    public DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionContext executeDecisionInfo) {
+        long start = System.nanoTime();
+        DecisionExecutionAuditContainer auditContainer = null;
+        try {
+            auditContainer = delegate.execute(decision, executeDecisionInfo);
+            return auditContainer;
+
+        } finally {
+            Timer.builder(FlowableMetrics.DMN_EVALUATION)
+                    .tag(FlowableMetrics.TAG_ENGINE, engineName)
+                    .tag(FlowableMetrics.TAG_OUTCOME, auditContainer != null && !Boolean.TRUE.equals(auditContainer.isFailed()) ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Map<String, AbstractHitPolicy> getHitPolicyBehaviors() {
+        return delegate.getHitPolicyBehaviors();
+    }
+
+    @Override
+    public void setHitPolicyBehaviors(Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
+        delegate.setHitPolicyBehaviors(hitPolicyBehaviors);
+    }
+
+    @Override
+    public ExpressionManager getExpressionManager() {
+        return delegate.getExpressionManager();
+    }
+
+    @Override
+    public void setExpressionManager(ExpressionManager expressionManager) {
+        delegate.setExpressionManager(expressionManager);
+    }
+
+    @Override
+    public ObjectMapper getObjectMapper() {
+        return delegate.getObjectMapper();
+    }
+
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        delegate.setObjectMapper(objectMapper);
+    }
+
+    public RuleEngineExecutor getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the Micrometer meters of a process engine. Next to the meters of the {@link FlowableMetricsConfigurator}, this instruments
+ * the expression evaluation (see {@link MetricsDelegateInterceptor}), the process definition cache and the async executor.
+ */
+public class ProcessEngineMetricsConfigurator extends FlowableMetricsConfigurator {
+
+    public ProcessEngineMetricsConfigurator(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    @Override
+    public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
+        super.beforeInit(engineConfiguration);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) engineConfiguration;
+        processEngineConfiguration.setDelegateInterceptor(new MetricsDelegateInterceptor(processEngineConfiguration.getDelegateInterceptor() != null
+                ? processEngineConfiguration.getDelegateInterceptor() : new DefaultDelegateInterceptor(), meterRegistry, engineConfiguration.getEngineName()));
+    }
+
+    @Override
+    public void configure(AbstractEngineConfiguration engineConfiguration) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) engineConfiguration;
+        String engineName = engineConfiguration.getEngineName();
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        if (processDefinitionCache != null && !(processDefinitionCache instanceof MetricsDeploymentCache)) {
+            MetricsDeploymentCache<ProcessDefinitionCacheEntry> metricsCache = new MetricsDeploymentCache<>(processDefinitionCache,
+                    meterRegistry, engineName, "processDefinition");
+            processEngineConfiguration.setProcessDefinitionCache(metricsCache);
+            processEngineConfiguration.getDeploymentManager().setProcessDefinitionCache(metricsCache);
+        }
+
+        instrumentAsyncExecutor(processEngineConfiguration.getAsyncExecutor(), engineName);
+    }
+
+}
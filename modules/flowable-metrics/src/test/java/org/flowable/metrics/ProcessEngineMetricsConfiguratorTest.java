@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProcessEngineMetricsConfiguratorTest {
+
+    protected SimpleMeterRegistry meterRegistry;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("metricsProcessEngine");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-metrics;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.addConfigurator(new ProcessEngineMetricsConfigurator(meterRegistry));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    void metricsAreRecorded() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/metrics/oneTask.bpmn20.xml")
+                .deploy();
+
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTask",
+                Collections.singletonMap("taskName", "My Task"));
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getName()).isEqualTo("My Task");
+        processEngine.getTaskService().complete(task.getId());
+
+        assertThat(meterRegistry.get(FlowableMetrics.COMMAND)
+                .tag(FlowableMetrics.TAG_ENGINE, "metricsProcessEngine")
+                .tag(FlowableMetrics.TAG_COMMAND, "CompleteTaskCmd")
+                .tag(FlowableMetrics.TAG_OUTCOME, "success")
+                .timer().count()).isEqualTo(1);
+
+        assertThat(meterRegistry.get(FlowableMetrics.DB_INSERTS)
+                .tag(FlowableMetrics.TAG_ENTITY, "TaskEntityImpl")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(FlowableMetrics.DB_DELETES)
+                .tag(FlowableMetrics.TAG_ENTITY, "TaskEntityImpl")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(FlowableMetrics.DB_FLUSH).timer().count()).isPositive();
+
+        assertThat(meterRegistry.get(FlowableMetrics.DEPLOYMENT_CACHE)
+                .tag(FlowableMetrics.TAG_CACHE, "processDefinition")
+                .tag(FlowableMetrics.TAG_RESULT, "hit")
+                .counter().count()).isPositive();
+
+        assertThat(meterRegistry.get(FlowableMetrics.EL_EVALUATION).timer().count()).isPositive();
+    }
+
+}
@@ -15,9 +15,16 @@ package org.flowable.rest.service.api.history;
 
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
 import org.flowable.engine.HistoryService;
@@ -27,6 +34,8 @@ import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -53,11 +62,52 @@ public class HistoricActivityInstanceBaseResource {
 
     @Autowired
     protected HistoryService historyService;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
     
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricActivityInstanceResponse> getQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricActivityInstanceQuery query = createQuery(queryRequest);
+
+        return paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties,
+            restResponseFactory::createHistoricActivityInstanceResponseList);
+    }
+
+    protected void streamQueryResponse(HistoricActivityInstanceQueryRequest queryRequest, HttpServletResponse response) throws IOException {
+        HistoricActivityInstanceQuery query = createQuery(queryRequest);
+
+        String sort = queryRequest.getSort() != null ? queryRequest.getSort() : "startTime";
+        QueryProperty queryProperty = allowedSortProperties.get(sort);
+        if (queryProperty == null) {
+            throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid, '" + sort + "' is not a valid property");
+        }
+        query.orderBy(queryProperty);
+        if (queryRequest.getOrder() == null || "asc".equals(queryRequest.getOrder())) {
+            query.asc();
+        } else if ("desc".equals(queryRequest.getOrder())) {
+            query.desc();
+        } else {
+            throw new FlowableIllegalArgumentException("Value for param 'order' is not valid : '" + queryRequest.getOrder() + "', must be 'asc' or 'desc'");
+        }
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream outputStream = response.getOutputStream();
+        query.forEach(activityInstance -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(restResponseFactory.createHistoricActivityInstanceResponse(activityInstance)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new FlowableException("Could not write historic activity instance " + activityInstance.getId(), e);
+            }
+        });
+        outputStream.flush();
+    }
+
+    protected HistoricActivityInstanceQuery createQuery(HistoricActivityInstanceQueryRequest queryRequest) {
         HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery();
 
         // Populate query based on request
@@ -118,7 +168,6 @@ public class HistoricActivityInstanceBaseResource {
             restApiInterceptor.accessHistoryActivityInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties,
-            restResponseFactory::createHistoricActivityInstanceResponseList);
+        return query;
     }
 }
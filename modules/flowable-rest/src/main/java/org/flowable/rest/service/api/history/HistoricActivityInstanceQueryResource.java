@@ -13,9 +13,11 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.common.rest.api.DataResponse;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -47,4 +49,15 @@ public class HistoricActivityInstanceQueryResource extends HistoricActivityInsta
 
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Stream historic activity instances", tags = {"History", "Query" },
+            notes = "Accepts the same JSON-body as querying for historic activity instances, but returns all matching activities as newline-delimited JSON, one activity per line. "
+                    + "The activities are read from the database with a cursor and written to the response as they are read, so no paging is applied and no total is calculated.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the activities are streamed"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information") })
+    @PostMapping(value = "/query/historic-activity-instances/stream", produces = "application/x-ndjson")
+    public void streamActivityInstances(@RequestBody HistoricActivityInstanceQueryRequest queryRequest, HttpServletResponse response) throws IOException {
+        streamQueryResponse(queryRequest, response);
+    }
 }
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import java.util.Comparator;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.engine.ManagementService;
+import org.flowable.rest.service.api.BpmnRestApiInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Engine" }, description = "Manage Engine", authorizations = { @Authorization(value = "basicAuth") })
+public class SqlProfileCollectionResource {
+
+    @Autowired
+    protected ManagementService managementService;
+
+    @Autowired(required = false)
+    protected BpmnRestApiInterceptor restApiInterceptor;
+
+    @ApiOperation(value = "List the SQL profiles of the profiled commands", tags = { "Engine" },
+            notes = "The profiles are ordered by the total execution time of the command, descending. The list is empty when the SQL profiler is not enabled.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the SQL profiles are returned."),
+    })
+    @GetMapping(value = "/management/sql-profiles", produces = "application/json")
+    public List<CommandSqlProfile> getSqlProfiles() {
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessManagementInfo();
+        }
+
+        List<CommandSqlProfile> profiles = managementService.getCommandSqlProfiles();
+        profiles.sort(Comparator.comparingLong(CommandSqlProfile::getTotalTimeMillis).reversed());
+        return profiles;
+    }
+
+    @ApiOperation(value = "Reset the SQL profiler", tags = { "Engine" })
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Indicates the collected SQL profiles have been cleared. Response-body is intentionally empty."),
+    })
+    @DeleteMapping("/management/sql-profiles")
+    public void resetSqlProfiles(HttpServletResponse response) {
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessManagementInfo();
+        }
+
+        managementService.resetSqlProfiler();
+        response.setStatus(HttpStatus.NO_CONTENT.value());
+    }
+}
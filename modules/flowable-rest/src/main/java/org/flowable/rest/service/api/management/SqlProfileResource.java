@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.management;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.management.CommandSqlProfile;
+import org.flowable.engine.ManagementService;
+import org.flowable.rest.service.api.BpmnRestApiInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Engine" }, description = "Manage Engine", authorizations = { @Authorization(value = "basicAuth") })
+public class SqlProfileResource {
+
+    @Autowired
+    protected ManagementService managementService;
+
+    @Autowired(required = false)
+    protected BpmnRestApiInterceptor restApiInterceptor;
+
+    @ApiOperation(value = "Get the SQL profile of a single command", tags = { "Engine" })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the command has been profiled and its SQL profile is returned."),
+            @ApiResponse(code = 404, message = "Indicates the command has not been profiled.")
+    })
+    @GetMapping(value = "/management/sql-profiles/{commandName:.+}", produces = "application/json")
+    public CommandSqlProfile getSqlProfile(@ApiParam(name = "commandName", value = "The fully qualified class name of the command") @PathVariable String commandName) {
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessManagementInfo();
+        }
+
+        CommandSqlProfile profile = managementService.getCommandSqlProfile(commandName);
+        if (profile == null) {
+            throw new FlowableObjectNotFoundException("Could not find a SQL profile for command '" + commandName + "'.", CommandSqlProfile.class);
+        }
+        return profile;
+    }
+}
@@ -15,9 +15,13 @@ package org.flowable.rest.service.api.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -134,6 +138,61 @@ public class HistoricActivityInstanceQueryResourceTest extends BaseSpringRestTes
         assertResultsPresentInDataResponse(url, requestNode, 0);
     }
 
+    /**
+     * Test streaming historic activity instances. POST query/historic-activity-instances/stream
+     */
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/history/HistoricActivityInstanceQueryResourceTest.testQueryActivityInstances.bpmn20.xml")
+    public void testStreamActivityInstances() throws Exception {
+        String processDefinitionId = null;
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            processDefinitionId = processInstance.getProcessDefinitionId();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.complete(task.getId());
+        }
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_ACTIVITY_INSTANCE_QUERY) + "/stream";
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("processDefinitionId", processDefinitionId);
+        requestNode.put("sort", "activityId");
+        requestNode.put("order", "desc");
+        HttpPost post = new HttpPost(SERVER_URL_PREFIX + url);
+        post.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(post, 200);
+        assertThat(response.getEntity().getContentType().getValue()).startsWith("application/x-ndjson");
+
+        List<JsonNode> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        closeResponse(response);
+
+        // Every activity is streamed, in the requested order and without the paging of the regular query
+        List<String> expectedIds = new ArrayList<>();
+        historyService.createHistoricActivityInstanceQuery().processDefinitionId(processDefinitionId)
+                .orderByActivityId().desc()
+                .list().forEach(activityInstance -> expectedIds.add(activityInstance.getId()));
+        assertThat(expectedIds).hasSize(15);
+        assertThat(lines)
+                .extracting(line -> line.get("id").textValue())
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(lines)
+                .extracting(line -> line.get("activityId").textValue())
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(lines.get(0).get("processDefinitionUrl").textValue()).isNotNull();
+
+        // Invalid sort values are rejected before anything is streamed
+        requestNode.put("sort", "unknown");
+        post = new HttpPost(SERVER_URL_PREFIX + url);
+        post.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(post, 400));
+    }
+
     protected void assertResultsPresentInDataResponse(String url, ObjectNode body, int numberOfResultsExpected, String... expectedActivityIds) throws JsonProcessingException, IOException {
 
         // Do the actual call
@@ -17,6 +17,7 @@ import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.lang.reflect.Proxy;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -26,16 +27,21 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.PaginateListUtil;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.cmd.ChangeDeploymentTenantIdCmd;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.test.Deployment;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.api.FormDeployment;
@@ -775,4 +781,75 @@ public class ProcessInstanceCollectionResourceTest extends BaseSpringRestTestCas
                 + "} ]"
                 + "}");
     }
+
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceResourceTest.process-one.bpmn20.xml" })
+    public void testGetProcessInstancesWithoutTotal() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("processOne");
+        }
+
+        // Default behaviour: the total is counted
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?size=2";
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+        JsonNode rootNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(rootNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ total: 3, start: 0, size: 2 }");
+
+        // Without total, the total is unknown as long as the last page is not reached
+        url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?size=2&includeTotal=false";
+        response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+        rootNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(rootNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ total: -1, totalApproximate: false, start: 0, size: 2 }");
+
+        url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?start=2&size=2&includeTotal=false";
+        response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+        rootNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(rootNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ total: 3, start: 2, size: 1 }");
+
+        // The count query is only executed when the total is included
+        AtomicInteger countQueries = new AtomicInteger();
+        ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
+        ProcessInstanceQuery countingQuery = (ProcessInstanceQuery) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ProcessInstanceQuery.class }, (proxy, method, args) -> {
+                    if ("count".equals(method.getName())) {
+                        countQueries.incrementAndGet();
+                    }
+                    Object result = method.invoke(query, args);
+                    return result == query ? proxy : result;
+                });
+
+        Map<String, String> requestParams = new HashMap<>();
+        requestParams.put("size", "2");
+        requestParams.put("includeTotal", "false");
+        DataResponse<ProcessInstance> dataResponse = PaginateListUtil.paginateList(requestParams, countingQuery, null, null, list -> list);
+        // H2 cannot estimate the count of a query, so the total stays unknown
+        assertThat(dataResponse.getTotal()).isEqualTo(PaginateListUtil.UNKNOWN_TOTAL);
+        assertThat(dataResponse.isTotalApproximate()).isFalse();
+        assertThat(dataResponse.getData()).hasSize(2);
+        assertThat(countQueries).hasValue(0);
+        assertThat(runtimeService.createProcessInstanceQuery().approximateCount()).isEqualTo(Query.UNKNOWN_COUNT);
+
+        requestParams.remove("includeTotal");
+        dataResponse = PaginateListUtil.paginateList(requestParams, countingQuery, null, null, list -> list);
+        assertThat(dataResponse.getTotal()).isEqualTo(3);
+        assertThat(dataResponse.getData()).hasSize(2);
+        assertThat(countQueries).hasValue(1);
+
+        // The exact total can be requested on demand without fetching any results
+        requestParams.put("size", "0");
+        dataResponse = PaginateListUtil.paginateList(requestParams, countingQuery, null, null, list -> list);
+        assertThat(dataResponse.getTotal()).isEqualTo(3);
+        assertThat(dataResponse.isTotalApproximate()).isFalse();
+        assertThat(dataResponse.getData()).isEmpty();
+        assertThat(countQueries).hasValue(2);
+    }
 }
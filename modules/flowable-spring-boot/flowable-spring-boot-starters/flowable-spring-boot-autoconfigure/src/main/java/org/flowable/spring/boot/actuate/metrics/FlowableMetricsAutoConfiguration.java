@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.dmn.spring.SpringDmnEngineConfiguration;
+import org.flowable.metrics.CmmnEngineMetricsConfigurator;
+import org.flowable.metrics.DmnEngineMetricsConfigurator;
+import org.flowable.metrics.FlowableMetricsConfigurator;
+import org.flowable.metrics.ProcessEngineMetricsConfigurator;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnDmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration} registering the Flowable Micrometer meters
+ * (see {@link FlowableMetricsConfigurator}) in the application {@link MeterRegistry}.
+ *
+ * Can be disabled with {@code flowable.metrics.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ MeterRegistry.class, FlowableMetricsConfigurator.class })
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@AutoConfigureAfter(name = {
+    "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+    "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+public class FlowableMetricsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            return processEngineConfiguration -> processEngineConfiguration.addConfigurator(new ProcessEngineMetricsConfigurator(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            return cmmnEngineConfiguration -> cmmnEngineConfiguration.addConfigurator(new CmmnEngineMetricsConfigurator(meterRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnDmnEngine
+    public static class DmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsDmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringDmnEngineConfiguration> metricsDmnEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            // The DMN engine does not apply its configurators, so the instrumentation is applied directly
+            return dmnEngineConfiguration -> new DmnEngineMetricsConfigurator(meterRegistry).beforeInit(dmnEngineConfiguration);
+        }
+    }
+
+}
@@ -49,6 +49,12 @@ public class SpringTransactionInterceptor extends AbstractCommandInterceptor {
 
         int transactionPropagation = getPropagation(config);
         if (transactionPropagation == TransactionTemplate.PROPAGATION_REQUIRED && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The active transaction can contain uncommitted writes that a read-only (replica) data source can't see
+            CommandConfig joinedConfig = config.isReadReplica() ? config.setReadReplica(false) : config;
+            return next.execute(joinedConfig, command, commandExecutor);
+
+        } else if (config.isReadReplica()) {
+            // The command reads from the read replica, so there is no need for a transaction (and connection) on the primary data source
             return next.execute(config, command, commandExecutor);
 
         } else {
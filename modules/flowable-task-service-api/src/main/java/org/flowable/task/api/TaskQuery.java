@@ -45,4 +45,12 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * Include only the global process variables with the given names in the task query result.
+     * The tasks are fetched first, and the variables of all the returned tasks are fetched afterwards in a separate query.
+     *
+     * @param variableNames cannot be null or empty.
+     */
+    TaskQuery includeProcessVariables(Collection<String> variableNames);
 }
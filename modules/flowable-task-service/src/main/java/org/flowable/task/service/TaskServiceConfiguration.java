@@ -67,6 +67,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableTwoPhaseQueryVariableFetching;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -247,6 +248,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableTwoPhaseQueryVariableFetching() {
+        return enableTwoPhaseQueryVariableFetching;
+    }
+
+    public TaskServiceConfiguration setEnableTwoPhaseQueryVariableFetching(boolean enableTwoPhaseQueryVariableFetching) {
+        this.enableTwoPhaseQueryVariableFetching = enableTwoPhaseQueryVariableFetching;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
@@ -15,8 +15,13 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -37,6 +42,7 @@ import org.flowable.task.service.impl.util.TaskVariableUtils;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -136,6 +142,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean excludeSubtasks;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> processVariableNames;
     protected boolean includeCaseVariables;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
@@ -1682,6 +1689,16 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNames = new LinkedHashSet<>(variableNames);
+        return this;
+    }
+
     @Override
     public TaskQuery includeCaseVariables() {
         this.includeCaseVariables = true;
@@ -1874,12 +1891,13 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                     .beforeTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+        boolean joinProcessVariables = isJoinProcessVariables();
+        if (includeTaskLocalVariables || joinProcessVariables || includeIdentityLinks || includeCaseVariables) {
             tasks = taskServiceConfiguration.getTaskEntityManager()
                     .findTasksWithRelatedEntitiesByQueryCriteria(this);
 
             if (taskId != null) {
-                if (includeProcessVariables|| includeCaseVariables) {
+                if (joinProcessVariables || includeCaseVariables) {
                     addCachedVariableForQueryById(commandContext, tasks, false);
                 } else if (includeTaskLocalVariables) {
                     addCachedVariableForQueryById(commandContext, tasks, true);
@@ -1891,6 +1909,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                     .findTasksByQueryCriteria(this);
         }
 
+        if (isTwoPhaseProcessVariablesFetch() && tasks != null && !tasks.isEmpty()) {
+            fetchProcessVariables(tasks);
+        }
+
         if (tasks != null && taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
             for (Task task : tasks) {
                 taskServiceConfiguration.getInternalTaskLocalizationManager()
@@ -1928,9 +1950,67 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    protected void fetchProcessVariables(List<Task> tasks) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (Task task : tasks) {
+            if (task.getProcessInstanceId() != null) {
+                processInstanceIds.add(task.getProcessInstanceId());
+            }
+        }
+
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        List<VariableInstanceEntity> variables = variableServiceConfiguration.getVariableService()
+                .findProcessVariableInstancesByProcessInstanceIds(processInstanceIds, processVariableNames);
+        for (VariableInstanceEntity variable : variables) {
+            // Byte-array values are not initialized, they are only fetched when they are read
+            VariableInitializingList.initializeJpaVariable(variable);
+            variablesByProcessInstanceId.computeIfAbsent(variable.getExecutionId(), key -> new ArrayList<>()).add(variable);
+        }
+
+        for (Task task : tasks) {
+            List<VariableInstanceEntity> processVariables = variablesByProcessInstanceId.get(task.getProcessInstanceId());
+            if (processVariables != null) {
+                TaskEntity taskEntity = (TaskEntity) task;
+
+                // The task can already have query variables (e.g. the local ones), make sure every variable is only added once
+                List<VariableInstanceEntity> queryVariables = new ArrayList<>();
+                Set<String> variableIds = new HashSet<>();
+                if (taskEntity.getQueryVariables() != null) {
+                    for (VariableInstanceEntity queryVariable : taskEntity.getQueryVariables()) {
+                        if (variableIds.add(queryVariable.getId())) {
+                            queryVariables.add(queryVariable);
+                        }
+                    }
+                }
+                for (VariableInstanceEntity processVariable : processVariables) {
+                    if (variableIds.add(processVariable.getId())) {
+                        queryVariables.add(processVariable);
+                    }
+                }
+                taskEntity.setQueryVariables(queryVariables);
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(TaskEntity task) {
-        if (includeProcessVariables && task.getProcessInstanceId() != null) {
+        if (isTwoPhaseProcessVariablesFetch()) {
+            // the process variables are fetched after the query in that case
+            if (includeCaseVariables && TaskVariableUtils.isCaseRelated(task)) {
+                task.getQueryVariables()
+                        .addAll((variableServiceConfiguration.getVariableService()
+                                .findVariableInstanceByScopeIdAndScopeType(task.getScopeId(), task.getScopeType())));
+            } else if (includeTaskLocalVariables) {
+                task.getQueryVariables()
+                        .addAll(task.getVariableInstanceEntities()
+                                .values());
+            }
+
+        } else if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
                     .addAll(variableServiceConfiguration.getVariableService()
                             .findVariableInstancesByExecutionId(task.getProcessInstanceId()));
@@ -2265,6 +2345,23 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public Collection<String> getProcessVariableNames() {
+        return processVariableNames;
+    }
+
+    /**
+     * Whether the process variables are fetched in a separate query after the tasks have been fetched,
+     * instead of being joined into the task query.
+     */
+    public boolean isTwoPhaseProcessVariablesFetch() {
+        return includeProcessVariables && (processVariableNames != null
+                || (taskServiceConfiguration != null && taskServiceConfiguration.isEnableTwoPhaseQueryVariableFetching()));
+    }
+
+    public boolean isJoinProcessVariables() {
+        return includeProcessVariables && !isTwoPhaseProcessVariablesFetch();
+    }
+
     public boolean isIncludeCaseVariables() {
         return includeCaseVariables;
     }
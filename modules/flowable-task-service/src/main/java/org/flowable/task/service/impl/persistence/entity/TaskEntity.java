@@ -78,4 +78,6 @@ public interface TaskEntity extends VariableScope, Task, DelegateTask, Entity, H
     void setOwnerValue(String owner);
 
     List<VariableInstanceEntity> getQueryVariables();
+
+    void setQueryVariables(List<VariableInstanceEntity> queryVariables);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,7 +66,8 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isRelatedEntitiesFetched(dbSqlSession, executionId)) {
             return getListFromCache(tasksByExecutionIdMatcher, executionId);
         }
         
@@ -78,12 +80,18 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         DbSqlSession dbSqlSession = getDbSqlSession();
 
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+        // and if they were fetched together with the execution tree before, they are all in the cache already
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId) || isRelatedEntitiesFetched(dbSqlSession, processInstanceId)) {
             return getListFromCache(tasksByProcessInstanceIdMatcher, processInstanceId);
         }
 
         return getList(dbSqlSession, "selectTasksByProcessInstanceId", processInstanceId, tasksByProcessInstanceIdMatcher, true);
     }
+
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getListWithInClause("selectTasksByProcessInstanceIds", processInstanceIds);
+    }
     
     @Override
     public List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -12,8 +12,12 @@
  */
 package org.flowable.variable.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -31,6 +35,22 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().executionId(executionId).withoutTaskId().list();
     }
 
+    /**
+     * Fetches the global variables of all the given process instances, with one query per {@link AbstractDataManager#MAX_ENTRIES_IN_CLAUSE}
+     * process instances. When variable names are given, only the variables with those names are returned.
+     */
+    default List<VariableInstanceEntity> findProcessVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds, Collection<String> variableNames) {
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        CollectionUtil.consumePartitions(processInstanceIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE, processInstanceIdsPartition -> {
+            InternalVariableInstanceQuery query = createInternalVariableInstanceQuery().executionIds(processInstanceIdsPartition).withoutTaskId();
+            if (variableNames != null && !variableNames.isEmpty()) {
+                query.names(variableNames);
+            }
+            variables.addAll(query.list());
+        });
+        return variables;
+    }
+
     default List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         return createInternalVariableInstanceQuery().scopeId(scopeId).withoutSubScopeId().scopeType(scopeType).list();
     }
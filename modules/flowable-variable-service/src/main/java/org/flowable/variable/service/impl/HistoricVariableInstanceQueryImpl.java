@@ -16,6 +16,7 @@ package org.flowable.variable.service.impl;
 import java.util.List;
 import java.util.Set;
 
+import java.util.function.Consumer;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -261,22 +262,38 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
 
         if (!excludeVariableInitialization) {
             for (HistoricVariableInstance historicVariableInstance : historicVariableInstances) {
-                if (historicVariableInstance instanceof HistoricVariableInstanceEntity) {
-                    HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
-                    if (variableEntity.getVariableType() != null) {
-                        variableEntity.getValue();
-
-                        // make sure JPA entities are cached for later retrieval
-                        if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName())) {
-                            ((CacheableVariable) variableEntity.getVariableType()).setForceCacheable(true);
-                        }
-                    }
-                }
+                initializeVariable(historicVariableInstance);
             }
         }
         return historicVariableInstances;
     }
 
+    @Override
+    public void executeForEach(CommandContext commandContext, Consumer<? super HistoricVariableInstance> consumer) {
+        ensureVariablesInitialized();
+
+        variableServiceConfiguration.getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(this, historicVariableInstance -> {
+            if (!excludeVariableInitialization) {
+                initializeVariable(historicVariableInstance);
+            }
+            consumer.accept(historicVariableInstance);
+        });
+    }
+
+    protected void initializeVariable(HistoricVariableInstance historicVariableInstance) {
+        if (historicVariableInstance instanceof HistoricVariableInstanceEntity) {
+            HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
+            if (variableEntity.getVariableType() != null) {
+                variableEntity.getValue();
+
+                // make sure JPA entities are cached for later retrieval
+                if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName())) {
+                    ((CacheableVariable) variableEntity.getVariableType()).setForceCacheable(true);
+                }
+            }
+        }
+    }
+
     // order by
     // /////////////////////////////////////////////////////////////////
 
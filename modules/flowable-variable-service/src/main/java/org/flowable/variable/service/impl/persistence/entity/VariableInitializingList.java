@@ -66,9 +66,24 @@ public class VariableInitializingList extends ArrayList<VariableInstanceEntity>
             e.getValue();
 
             // make sure JPA entities are cached for later retrieval
-            if (JPAEntityVariableType.TYPE_NAME.equals(e.getType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(e.getType().getTypeName())) {
+            if (isJpaVariable(e)) {
                 ((CacheableVariable) e.getType()).setForceCacheable(true);
             }
         }
     }
+
+    /**
+     * Only initializes the given variable if it is a JPA entity variable (which can't be fetched once the command-context is closed).
+     * Other values, such as byte-arrays, are fetched when they are read.
+     */
+    public static void initializeJpaVariable(VariableInstanceEntity e) {
+        if (Context.getCommandContext() != null && e != null && e.getType() != null && isJpaVariable(e)) {
+            e.getValue();
+            ((CacheableVariable) e.getType()).setForceCacheable(true);
+        }
+    }
+
+    protected static boolean isJpaVariable(VariableInstanceEntity e) {
+        return JPAEntityVariableType.TYPE_NAME.equals(e.getType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(e.getType().getTypeName());
+    }
 }
\ No newline at end of file
@@ -90,6 +90,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * @return true if the variable instances of this scope have been fetched or set already.
+     */
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());